@@ -23,11 +23,13 @@ package de.quantummaid.mapmaid;
 
 import de.quantummaid.mapmaid.builder.MapMaidBuilder;
 import de.quantummaid.mapmaid.debug.DebugInformation;
+import de.quantummaid.mapmaid.mapper.definitions.Definitions;
 import de.quantummaid.mapmaid.mapper.deserialization.Deserializer;
 import de.quantummaid.mapmaid.mapper.injector.InjectorLambda;
 import de.quantummaid.mapmaid.mapper.marshalling.MarshallingType;
 import de.quantummaid.mapmaid.mapper.serialization.Serializer;
 import de.quantummaid.mapmaid.mapper.universal.Universal;
+import de.quantummaid.mapmaid.snapshot.DefinitionsSnapshot;
 import de.quantummaid.reflectmaid.GenericType;
 import de.quantummaid.reflectmaid.ReflectMaid;
 import de.quantummaid.reflectmaid.resolvedtype.ResolvedType;
@@ -37,15 +39,28 @@ import lombok.EqualsAndHashCode;
 import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static de.quantummaid.mapmaid.mapper.injector.InjectorLambda.noop;
 import static de.quantummaid.mapmaid.mapper.marshalling.MarshallingType.JSON;
+import static de.quantummaid.mapmaid.mapper.marshalling.MarshallingType.JSON_BYTES;
 import static de.quantummaid.mapmaid.mapper.marshalling.MarshallingType.UNIVERSAL_OBJECT;
+import static de.quantummaid.mapmaid.snapshot.DefinitionsSnapshot.snapshotOf;
 import static de.quantummaid.mapmaid.shared.validators.NotNullValidator.validateNotNull;
 import static de.quantummaid.reflectmaid.GenericType.genericType;
 import static de.quantummaid.reflectmaid.typescanner.TypeIdentifier.typeIdentifierFor;
+import static java.nio.charset.StandardCharsets.UTF_8;
 
 @ToString
 @EqualsAndHashCode
@@ -56,6 +71,7 @@ public final class MapMaid {
     private final Serializer serializer;
     private final Deserializer deserializer;
     private final DebugInformation debugInformation;
+    private final Definitions definitions;
 
     public static MapMaidBuilder aMapMaid() {
         final ReflectMaid reflectMaid = ReflectMaid.aReflectMaid();
@@ -70,7 +86,15 @@ public final class MapMaid {
                                   final Serializer serializer,
                                   final Deserializer deserializer,
                                   final DebugInformation debugInformation) {
-        return new MapMaid(reflectMaid, serializer, deserializer, debugInformation);
+        return mapMaid(reflectMaid, serializer, deserializer, debugInformation, serializer.getDefinitions());
+    }
+
+    public static MapMaid mapMaid(final ReflectMaid reflectMaid,
+                                  final Serializer serializer,
+                                  final Deserializer deserializer,
+                                  final DebugInformation debugInformation,
+                                  final Definitions definitions) {
+        return new MapMaid(reflectMaid, serializer, deserializer, debugInformation, definitions);
     }
 
     public Serializer serializer() {
@@ -105,6 +129,30 @@ public final class MapMaid {
         return serializeTo(object, JSON, type);
     }
 
+    public byte[] serializeToJsonBytes(final Object object) {
+        validateNotNull(object, "object");
+        final Class<?> type = object.getClass();
+        return serializeToJsonBytes(object, type);
+    }
+
+    public byte[] serializeToJsonBytes(final Object object,
+                                       final Class<?> type) {
+        final GenericType<?> genericType = genericType(type);
+        return serializeToJsonBytes(object, genericType);
+    }
+
+    public byte[] serializeToJsonBytes(final Object object,
+                                       final GenericType<?> type) {
+        final ResolvedType resolvedType = reflectMaid.resolve(type);
+        final TypeIdentifier typeIdentifier = typeIdentifierFor(resolvedType);
+        return serializeToJsonBytes(object, typeIdentifier);
+    }
+
+    public byte[] serializeToJsonBytes(final Object object,
+                                       final TypeIdentifier type) {
+        return serializeTo(object, JSON_BYTES, type);
+    }
+
     public String serializeToYaml(final Object object) {
         validateNotNull(object, "object");
         final Class<?> type = object.getClass();
@@ -178,7 +226,177 @@ public final class MapMaid {
     public <T> T serializeTo(final Object object,
                              final MarshallingType<T> marshallingType,
                              final TypeIdentifier type) {
-        return serializer.serialize(object, type, marshallingType, input -> input);
+        return serializer.serialize(object, type, marshallingType);
+    }
+
+    public void serializeTo(final Object object,
+                            final Class<?> type,
+                            final Writer writer,
+                            final MarshallingType<?> marshallingType) {
+        final GenericType<?> genericType = genericType(type);
+        serializeTo(object, genericType, writer, marshallingType);
+    }
+
+    public void serializeTo(final Object object,
+                            final GenericType<?> type,
+                            final Writer writer,
+                            final MarshallingType<?> marshallingType) {
+        final ResolvedType resolvedType = reflectMaid.resolve(type);
+        final TypeIdentifier typeIdentifier = typeIdentifierFor(resolvedType);
+        serializeTo(object, typeIdentifier, writer, marshallingType);
+    }
+
+    public void serializeTo(final Object object,
+                            final TypeIdentifier type,
+                            final Writer writer,
+                            final MarshallingType<?> marshallingType) {
+        serializer.serializeStreaming(object, type, marshallingType, writer);
+    }
+
+    public void serializeTo(final Object object,
+                            final Class<?> type,
+                            final OutputStream outputStream,
+                            final MarshallingType<?> marshallingType) {
+        final GenericType<?> genericType = genericType(type);
+        serializeTo(object, genericType, outputStream, marshallingType);
+    }
+
+    public void serializeTo(final Object object,
+                            final GenericType<?> type,
+                            final OutputStream outputStream,
+                            final MarshallingType<?> marshallingType) {
+        final ResolvedType resolvedType = reflectMaid.resolve(type);
+        final TypeIdentifier typeIdentifier = typeIdentifierFor(resolvedType);
+        serializeTo(object, typeIdentifier, outputStream, marshallingType);
+    }
+
+    public void serializeTo(final Object object,
+                            final TypeIdentifier type,
+                            final OutputStream outputStream,
+                            final MarshallingType<?> marshallingType) {
+        serializer.serializeStreaming(object, type, marshallingType, outputStream);
+    }
+
+    public <T> T serializeBatch(final Iterable<?> objects,
+                                final Class<?> elementType,
+                                final MarshallingType<T> marshallingType) {
+        final GenericType<?> genericType = genericType(elementType);
+        return serializeBatch(objects, genericType, marshallingType);
+    }
+
+    public <T> T serializeBatch(final Iterable<?> objects,
+                                final GenericType<?> elementType,
+                                final MarshallingType<T> marshallingType) {
+        final ResolvedType resolvedType = reflectMaid.resolve(elementType);
+        final TypeIdentifier typeIdentifier = typeIdentifierFor(resolvedType);
+        return serializeBatch(objects, typeIdentifier, marshallingType);
+    }
+
+    public <T> T serializeBatch(final Iterable<?> objects,
+                                final TypeIdentifier elementType,
+                                final MarshallingType<T> marshallingType) {
+        validateNotNull(objects, "objects");
+        return serializer.serializeBatch(objects.iterator(), elementType, marshallingType);
+    }
+
+    public void serializeBatchTo(final Stream<?> objects,
+                                 final Class<?> elementType,
+                                 final Writer writer,
+                                 final MarshallingType<?> marshallingType) {
+        final GenericType<?> genericType = genericType(elementType);
+        serializeBatchTo(objects, genericType, writer, marshallingType);
+    }
+
+    public void serializeBatchTo(final Stream<?> objects,
+                                 final GenericType<?> elementType,
+                                 final Writer writer,
+                                 final MarshallingType<?> marshallingType) {
+        final ResolvedType resolvedType = reflectMaid.resolve(elementType);
+        final TypeIdentifier typeIdentifier = typeIdentifierFor(resolvedType);
+        serializeBatchTo(objects, typeIdentifier, writer, marshallingType);
+    }
+
+    public void serializeBatchTo(final Stream<?> objects,
+                                 final TypeIdentifier elementType,
+                                 final Writer writer,
+                                 final MarshallingType<?> marshallingType) {
+        validateNotNull(objects, "objects");
+        serializer.serializeBatchStreaming(objects.iterator(), elementType, marshallingType, writer);
+    }
+
+    public void serializeBatchTo(final Stream<?> objects,
+                                 final Class<?> elementType,
+                                 final OutputStream outputStream,
+                                 final MarshallingType<?> marshallingType) {
+        final GenericType<?> genericType = genericType(elementType);
+        serializeBatchTo(objects, genericType, outputStream, marshallingType);
+    }
+
+    public void serializeBatchTo(final Stream<?> objects,
+                                 final GenericType<?> elementType,
+                                 final OutputStream outputStream,
+                                 final MarshallingType<?> marshallingType) {
+        final ResolvedType resolvedType = reflectMaid.resolve(elementType);
+        final TypeIdentifier typeIdentifier = typeIdentifierFor(resolvedType);
+        serializeBatchTo(objects, typeIdentifier, outputStream, marshallingType);
+    }
+
+    public void serializeBatchTo(final Stream<?> objects,
+                                 final TypeIdentifier elementType,
+                                 final OutputStream outputStream,
+                                 final MarshallingType<?> marshallingType) {
+        validateNotNull(objects, "objects");
+        serializer.serializeBatchStreaming(objects.iterator(), elementType, marshallingType, outputStream);
+    }
+
+    public void serializeLinesTo(final Stream<?> objects,
+                                 final Class<?> elementType,
+                                 final Writer writer,
+                                 final MarshallingType<?> marshallingType) {
+        final GenericType<?> genericType = genericType(elementType);
+        serializeLinesTo(objects, genericType, writer, marshallingType);
+    }
+
+    public void serializeLinesTo(final Stream<?> objects,
+                                 final GenericType<?> elementType,
+                                 final Writer writer,
+                                 final MarshallingType<?> marshallingType) {
+        final ResolvedType resolvedType = reflectMaid.resolve(elementType);
+        final TypeIdentifier typeIdentifier = typeIdentifierFor(resolvedType);
+        serializeLinesTo(objects, typeIdentifier, writer, marshallingType);
+    }
+
+    public void serializeLinesTo(final Stream<?> objects,
+                                 final TypeIdentifier elementType,
+                                 final Writer writer,
+                                 final MarshallingType<?> marshallingType) {
+        validateNotNull(objects, "objects");
+        serializer.serializeLines(objects.iterator(), elementType, marshallingType, writer);
+    }
+
+    public void serializeLinesTo(final Stream<?> objects,
+                                 final Class<?> elementType,
+                                 final OutputStream outputStream,
+                                 final MarshallingType<?> marshallingType) {
+        final GenericType<?> genericType = genericType(elementType);
+        serializeLinesTo(objects, genericType, outputStream, marshallingType);
+    }
+
+    public void serializeLinesTo(final Stream<?> objects,
+                                 final GenericType<?> elementType,
+                                 final OutputStream outputStream,
+                                 final MarshallingType<?> marshallingType) {
+        final ResolvedType resolvedType = reflectMaid.resolve(elementType);
+        final TypeIdentifier typeIdentifier = typeIdentifierFor(resolvedType);
+        serializeLinesTo(objects, typeIdentifier, outputStream, marshallingType);
+    }
+
+    public void serializeLinesTo(final Stream<?> objects,
+                                 final TypeIdentifier elementType,
+                                 final OutputStream outputStream,
+                                 final MarshallingType<?> marshallingType) {
+        validateNotNull(objects, "objects");
+        serializer.serializeLines(objects.iterator(), elementType, marshallingType, outputStream);
     }
 
     public <T> T serialize(final Object object,
@@ -252,6 +470,46 @@ public final class MapMaid {
         return (T) this.deserialize(json, targetType, JSON, injector);
     }
 
+    public <T> T deserializeJson(final byte[] json,
+                                 final Class<T> targetType) {
+        final GenericType<T> genericType = genericType(targetType);
+        return this.deserializeJson(json, genericType);
+    }
+
+    public <T> T deserializeJson(final byte[] json,
+                                 final GenericType<T> targetType) {
+        final ResolvedType resolvedType = reflectMaid.resolve(targetType);
+        final TypeIdentifier typeIdentifier = typeIdentifierFor(resolvedType);
+        return this.deserializeJson(json, typeIdentifier);
+    }
+
+    public <T> T deserializeJson(final byte[] json,
+                                 final TypeIdentifier targetType) {
+        return this.deserializeJson(json, targetType, noop());
+    }
+
+    public <T> T deserializeJson(final byte[] json,
+                                 final Class<T> targetType,
+                                 final InjectorLambda injector) {
+        final GenericType<T> genericType = genericType(targetType);
+        return this.deserializeJson(json, genericType, injector);
+    }
+
+    public <T> T deserializeJson(final byte[] json,
+                                 final GenericType<T> targetType,
+                                 final InjectorLambda injector) {
+        final ResolvedType resolvedType = reflectMaid.resolve(targetType);
+        final TypeIdentifier typeIdentifier = typeIdentifierFor(resolvedType);
+        return this.deserializeJson(json, typeIdentifier, injector);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T deserializeJson(final byte[] json,
+                                 final TypeIdentifier targetType,
+                                 final InjectorLambda injector) {
+        return (T) this.deserialize(json, targetType, JSON_BYTES, injector);
+    }
+
     public <T> T deserializeYaml(final String yaml,
                                  final Class<T> targetType) {
         final GenericType<T> genericType = genericType(targetType);
@@ -378,6 +636,220 @@ public final class MapMaid {
         return (T) this.deserializer.deserialize(input, targetType, marshallingType, injector);
     }
 
+    public <T> T deserialize(final ByteBuffer input,
+                             final Class<T> targetType,
+                             final MarshallingType<byte[]> marshallingType) {
+        final GenericType<T> genericType = genericType(targetType);
+        return this.deserialize(input, genericType, marshallingType);
+    }
+
+    public <T> T deserialize(final ByteBuffer input,
+                             final GenericType<T> targetType,
+                             final MarshallingType<byte[]> marshallingType) {
+        final ResolvedType resolvedType = reflectMaid.resolve(targetType);
+        final TypeIdentifier typeIdentifier = typeIdentifierFor(resolvedType);
+        return this.deserialize(input, typeIdentifier, marshallingType, noop());
+    }
+
+    public <T> T deserialize(final ByteBuffer input,
+                             final TypeIdentifier targetType,
+                             final MarshallingType<byte[]> marshallingType,
+                             final InjectorLambda injector) {
+        validateNotNull(input, "input");
+        return this.deserialize(bytesOf(input), targetType, marshallingType, injector);
+    }
+
+    public <T> T deserializeFrom(final Reader reader,
+                                 final Class<T> targetType,
+                                 final MarshallingType<String> marshallingType) {
+        final GenericType<T> genericType = genericType(targetType);
+        return deserializeFrom(reader, genericType, marshallingType);
+    }
+
+    public <T> T deserializeFrom(final Reader reader,
+                                 final GenericType<T> targetType,
+                                 final MarshallingType<String> marshallingType) {
+        final ResolvedType resolvedType = reflectMaid.resolve(targetType);
+        final TypeIdentifier typeIdentifier = typeIdentifierFor(resolvedType);
+        return deserializeFrom(reader, typeIdentifier, marshallingType, noop());
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T deserializeFrom(final Reader reader,
+                                 final TypeIdentifier targetType,
+                                 final MarshallingType<String> marshallingType,
+                                 final InjectorLambda injector) {
+        return (T) this.deserializer.deserializeStreaming(reader, targetType, marshallingType, injector);
+    }
+
+    public <T> T deserializeFrom(final InputStream inputStream,
+                                 final Class<T> targetType,
+                                 final MarshallingType<String> marshallingType) {
+        final GenericType<T> genericType = genericType(targetType);
+        return deserializeFrom(inputStream, genericType, marshallingType);
+    }
+
+    public <T> T deserializeFrom(final InputStream inputStream,
+                                 final GenericType<T> targetType,
+                                 final MarshallingType<String> marshallingType) {
+        final ResolvedType resolvedType = reflectMaid.resolve(targetType);
+        final TypeIdentifier typeIdentifier = typeIdentifierFor(resolvedType);
+        return deserializeFrom(inputStream, typeIdentifier, marshallingType, noop());
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T deserializeFrom(final InputStream inputStream,
+                                 final TypeIdentifier targetType,
+                                 final MarshallingType<String> marshallingType,
+                                 final InjectorLambda injector) {
+        return (T) this.deserializer.deserializeStreaming(inputStream, targetType, marshallingType, injector);
+    }
+
+    public <T, M> List<T> deserializeBatch(final M input,
+                                           final Class<T> elementType,
+                                           final MarshallingType<M> marshallingType) {
+        final GenericType<T> genericType = genericType(elementType);
+        return deserializeBatch(input, genericType, marshallingType);
+    }
+
+    public <T, M> List<T> deserializeBatch(final M input,
+                                           final GenericType<T> elementType,
+                                           final MarshallingType<M> marshallingType) {
+        final ResolvedType resolvedType = reflectMaid.resolve(elementType);
+        final TypeIdentifier typeIdentifier = typeIdentifierFor(resolvedType);
+        return deserializeBatch(input, typeIdentifier, marshallingType, noop());
+    }
+
+    public <T, M> List<T> deserializeBatch(final M input,
+                                           final TypeIdentifier elementType,
+                                           final MarshallingType<M> marshallingType,
+                                           final InjectorLambda injector) {
+        return this.deserializer.deserializeBatch(input, elementType, marshallingType, injector);
+    }
+
+    public <T> Stream<T> deserializeBatchFrom(final Reader reader,
+                                              final Class<T> elementType,
+                                              final MarshallingType<String> marshallingType) {
+        final GenericType<T> genericType = genericType(elementType);
+        return deserializeBatchFrom(reader, genericType, marshallingType);
+    }
+
+    public <T> Stream<T> deserializeBatchFrom(final Reader reader,
+                                              final GenericType<T> elementType,
+                                              final MarshallingType<String> marshallingType) {
+        final ResolvedType resolvedType = reflectMaid.resolve(elementType);
+        final TypeIdentifier typeIdentifier = typeIdentifierFor(resolvedType);
+        return deserializeBatchFrom(reader, typeIdentifier, marshallingType, noop());
+    }
+
+    public <T> Stream<T> deserializeBatchFrom(final Reader reader,
+                                              final TypeIdentifier elementType,
+                                              final MarshallingType<String> marshallingType,
+                                              final InjectorLambda injector) {
+        final Iterator<T> iterator = this.deserializer.deserializeBatchStreaming(reader, elementType, marshallingType, injector);
+        return streamOf(iterator).onClose(() -> close(reader));
+    }
+
+    public <T> Stream<T> deserializeBatchFrom(final InputStream inputStream,
+                                              final Class<T> elementType,
+                                              final MarshallingType<String> marshallingType) {
+        final GenericType<T> genericType = genericType(elementType);
+        return deserializeBatchFrom(inputStream, genericType, marshallingType);
+    }
+
+    public <T> Stream<T> deserializeBatchFrom(final InputStream inputStream,
+                                              final GenericType<T> elementType,
+                                              final MarshallingType<String> marshallingType) {
+        final ResolvedType resolvedType = reflectMaid.resolve(elementType);
+        final TypeIdentifier typeIdentifier = typeIdentifierFor(resolvedType);
+        return deserializeBatchFrom(inputStream, typeIdentifier, marshallingType, noop());
+    }
+
+    public <T> Stream<T> deserializeBatchFrom(final InputStream inputStream,
+                                              final TypeIdentifier elementType,
+                                              final MarshallingType<String> marshallingType,
+                                              final InjectorLambda injector) {
+        final Iterator<T> iterator = this.deserializer.deserializeBatchStreaming(inputStream, elementType, marshallingType, injector);
+        return streamOf(iterator).onClose(() -> close(inputStream));
+    }
+
+    public <T> Stream<T> deserializeLinesFrom(final Reader reader,
+                                              final Class<T> elementType,
+                                              final MarshallingType<String> marshallingType) {
+        final GenericType<T> genericType = genericType(elementType);
+        return deserializeLinesFrom(reader, genericType, marshallingType);
+    }
+
+    public <T> Stream<T> deserializeLinesFrom(final Reader reader,
+                                              final GenericType<T> elementType,
+                                              final MarshallingType<String> marshallingType) {
+        final ResolvedType resolvedType = reflectMaid.resolve(elementType);
+        final TypeIdentifier typeIdentifier = typeIdentifierFor(resolvedType);
+        return deserializeLinesFrom(reader, typeIdentifier, marshallingType, noop());
+    }
+
+    public <T> Stream<T> deserializeLinesFrom(final Reader reader,
+                                              final TypeIdentifier elementType,
+                                              final MarshallingType<String> marshallingType,
+                                              final InjectorLambda injector) {
+        final Iterator<T> iterator = this.deserializer.deserializeLines(reader, elementType, marshallingType, injector);
+        return streamOf(iterator);
+    }
+
+    public <T> Stream<T> deserializeLinesFrom(final InputStream inputStream,
+                                              final Class<T> elementType,
+                                              final MarshallingType<String> marshallingType) {
+        final GenericType<T> genericType = genericType(elementType);
+        return deserializeLinesFrom(inputStream, genericType, marshallingType);
+    }
+
+    public <T> Stream<T> deserializeLinesFrom(final InputStream inputStream,
+                                              final GenericType<T> elementType,
+                                              final MarshallingType<String> marshallingType) {
+        final ResolvedType resolvedType = reflectMaid.resolve(elementType);
+        final TypeIdentifier typeIdentifier = typeIdentifierFor(resolvedType);
+        return deserializeLinesFrom(inputStream, typeIdentifier, marshallingType, noop());
+    }
+
+    public <T> Stream<T> deserializeLinesFrom(final InputStream inputStream,
+                                              final TypeIdentifier elementType,
+                                              final MarshallingType<String> marshallingType,
+                                              final InjectorLambda injector) {
+        validateNotNull(inputStream, "inputStream");
+        final Reader reader = new InputStreamReader(inputStream, UTF_8);
+        return deserializeLinesFrom(reader, elementType, marshallingType, injector);
+    }
+
+    public <T> Stream<T> deserializeLinesFrom(final Path path,
+                                              final Class<T> elementType,
+                                              final MarshallingType<String> marshallingType) {
+        final GenericType<T> genericType = genericType(elementType);
+        return deserializeLinesFrom(path, genericType, marshallingType);
+    }
+
+    public <T> Stream<T> deserializeLinesFrom(final Path path,
+                                              final GenericType<T> elementType,
+                                              final MarshallingType<String> marshallingType) {
+        final ResolvedType resolvedType = reflectMaid.resolve(elementType);
+        final TypeIdentifier typeIdentifier = typeIdentifierFor(resolvedType);
+        return deserializeLinesFrom(path, typeIdentifier, marshallingType, noop());
+    }
+
+    public <T> Stream<T> deserializeLinesFrom(final Path path,
+                                              final TypeIdentifier elementType,
+                                              final MarshallingType<String> marshallingType,
+                                              final InjectorLambda injector) {
+        validateNotNull(path, "path");
+        final BufferedReader reader;
+        try {
+            reader = Files.newBufferedReader(path, UTF_8);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        final Stream<T> stream = deserializeLinesFrom(reader, elementType, marshallingType, injector);
+        return stream.onClose(() -> close(reader));
+    }
+
     public <T> T deserializeFromUniversalObject(final Object input,
                                                 final Class<T> targetType) {
         final GenericType<T> genericType = genericType(targetType);
@@ -404,6 +876,15 @@ public final class MapMaid {
         return deserialize(input, targetType, UNIVERSAL_OBJECT, injectorProducer);
     }
 
+    public DefinitionsSnapshot snapshot() {
+        return snapshotOf(definitions);
+    }
+
+    public void exportSnapshot(final OutputStream outputStream) {
+        validateNotNull(outputStream, "outputStream");
+        snapshot().writeTo(outputStream);
+    }
+
     public DebugInformation debugInformation() {
         return this.debugInformation;
     }
@@ -449,4 +930,27 @@ public final class MapMaid {
     public ReflectMaid reflectMaid() {
         return reflectMaid;
     }
+
+    private static <T> Stream<T> streamOf(final Iterator<T> iterator) {
+        final Spliterator<T> spliterator = Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED);
+        return StreamSupport.stream(spliterator, false);
+    }
+
+    private static void close(final Closeable closeable) {
+        try {
+            closeable.close();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static byte[] bytesOf(final ByteBuffer buffer) {
+        if (buffer.hasArray() && buffer.arrayOffset() == 0 && buffer.position() == 0
+                && buffer.remaining() == buffer.array().length) {
+            return buffer.array();
+        }
+        final byte[] bytes = new byte[buffer.remaining()];
+        buffer.duplicate().get(bytes);
+        return bytes;
+    }
 }
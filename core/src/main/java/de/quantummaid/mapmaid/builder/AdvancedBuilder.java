@@ -28,18 +28,26 @@ import de.quantummaid.mapmaid.builder.resolving.disambiguator.Disambiguator;
 import de.quantummaid.mapmaid.builder.resolving.disambiguator.Disambiguators;
 import de.quantummaid.mapmaid.builder.resolving.disambiguator.normal.DisambiguatorBuilder;
 import de.quantummaid.mapmaid.builder.resolving.disambiguator.normal.NormalDisambiguator;
+import de.quantummaid.mapmaid.builder.resolving.factories.customtype.CustomTypeFactory;
+import de.quantummaid.mapmaid.debug.DebugInformation;
+import de.quantummaid.mapmaid.debug.DebugInformationFactory;
 import de.quantummaid.mapmaid.mapper.marshalling.Marshaller;
 import de.quantummaid.mapmaid.mapper.marshalling.MarshallingType;
 import de.quantummaid.mapmaid.mapper.marshalling.UniversalObjectMarshallerAndUnmarshaller;
 import de.quantummaid.mapmaid.mapper.marshalling.Unmarshaller;
 import de.quantummaid.mapmaid.mapper.marshalling.registry.MarshallerRegistry;
 import de.quantummaid.mapmaid.mapper.marshalling.registry.Marshallers;
+import de.quantummaid.mapmaid.mapper.marshalling.registry.StreamingMarshallerRegistry;
+import de.quantummaid.mapmaid.mapper.marshalling.registry.StreamingUnmarshallerRegistry;
 import de.quantummaid.mapmaid.mapper.marshalling.registry.UnmarshallerRegistry;
 import de.quantummaid.mapmaid.mapper.marshalling.registry.modifier.MarshallingModifier;
+import de.quantummaid.mapmaid.mapper.marshalling.streaming.StreamingMarshaller;
+import de.quantummaid.mapmaid.mapper.marshalling.streaming.StreamingUnmarshaller;
 import de.quantummaid.mapmaid.mapper.marshalling.string.StringUnmarshaller;
 import de.quantummaid.mapmaid.mapper.serialization.serializers.TypeSerializer;
 import de.quantummaid.mapmaid.mapper.serialization.supertypes.SupertypeSerializers;
 import de.quantummaid.mapmaid.polymorphy.PolymorphicTypeIdentifierExtractor;
+import de.quantummaid.mapmaid.shared.generation.AccessorStrategy;
 import de.quantummaid.reflectmaid.ReflectMaid;
 import de.quantummaid.reflectmaid.resolvedtype.ResolvedType;
 import de.quantummaid.reflectmaid.typescanner.Processor;
@@ -74,9 +82,13 @@ import static de.quantummaid.mapmaid.mapper.marshalling.MarshallingType.UNIVERSA
 import static de.quantummaid.mapmaid.mapper.marshalling.UniversalObjectMarshallerAndUnmarshaller.universalObjectMarshallerAndUnmarshaller;
 import static de.quantummaid.mapmaid.mapper.marshalling.registry.MarshallerRegistry.marshallerRegistry;
 import static de.quantummaid.mapmaid.mapper.marshalling.registry.Marshallers.marshallers;
+import static de.quantummaid.mapmaid.mapper.marshalling.registry.StreamingMarshallerRegistry.streamingMarshallerRegistry;
+import static de.quantummaid.mapmaid.mapper.marshalling.registry.StreamingUnmarshallerRegistry.streamingUnmarshallerRegistry;
 import static de.quantummaid.mapmaid.mapper.marshalling.registry.UnmarshallerRegistry.unmarshallerRegistry;
 import static de.quantummaid.mapmaid.mapper.marshalling.registry.modifier.EmptyCollectionStrippingMarshallingModifier.emptyCollectionStrippingMarshallingModifier;
 import static de.quantummaid.mapmaid.mapper.serialization.supertypes.SupertypeSerializers.superTypeSerializers;
+import static de.quantummaid.mapmaid.shared.generation.GeneratedAccessors.generatedAccessors;
+import static de.quantummaid.mapmaid.shared.generation.ReflectiveAccessors.reflectiveAccessors;
 import static de.quantummaid.mapmaid.shared.validators.NotNullValidator.validateNotNull;
 import static de.quantummaid.reflectmaid.typescanner.scopes.Scope.rootScope;
 import static java.util.stream.Collectors.groupingBy;
@@ -88,7 +100,9 @@ public final class AdvancedBuilder {
     private static final int DEFAULT_MAX_STACK_FRAME_COUNT = 32;
 
     private static final List<Autoloadable<MarshallerAndUnmarshaller<?>>> AUTOLOADABLE_MARSHALLERS = List.of(
-            autoloadIfClassPresent("de.quantummaid.mapmaid.minimaljson.MinimalJsonMarshallerAndUnmarshaller")
+            autoloadIfClassPresent("de.quantummaid.mapmaid.minimaljson.MinimalJsonMarshallerAndUnmarshaller"),
+            autoloadIfClassPresent("de.quantummaid.mapmaid.fastjson.FastJsonMarshallerAndUnmarshaller"),
+            autoloadIfClassPresent("de.quantummaid.mapmaid.fastjson.FastJsonBytesMarshallerAndUnmarshaller")
     );
     private final ReflectMaid reflectMaid;
     private final List<Recipe> recipes = smallList();
@@ -97,6 +111,8 @@ public final class AdvancedBuilder {
     private Map<MarshallingType<?>, Marshaller<?>> marshallerMap = smallMap();
     private final List<MarshallingModifier> marshallingModifiers = smallList();
     private Map<MarshallingType<?>, Unmarshaller<?>> unmarshallerMap = smallMap();
+    private final Map<MarshallingType<?>, StreamingMarshaller> streamingMarshallerMap = smallMap();
+    private final Map<MarshallingType<?>, StreamingUnmarshaller> streamingUnmarshallerMap = smallMap();
     private boolean autoloadMarshallers = true;
     private List<MarshallerAndUnmarshaller<?>> autoloadedMarshallers = null;
     private Supplier<List<MarshallerAndUnmarshaller<?>>> autoloadMethod = this::autoloadMarshallers;
@@ -104,6 +120,9 @@ public final class AdvancedBuilder {
     private final Map<TypeIdentifier, TypeSerializer> superTypeSerializers = new LinkedHashMap<>();
     private int maxStackFrameCount = DEFAULT_MAX_STACK_FRAME_COUNT;
     private boolean registerThrowableSerializationSupport = true;
+    private AccessorStrategy accessorStrategy = reflectiveAccessors();
+    private boolean trackCyclesForAllTypes;
+    private DebugInformationFactory debugInformationFactory = DebugInformation::debugInformation;
 
     public static AdvancedBuilder advancedBuilder(final ReflectMaid reflectMaid) {
         final AdvancedBuilder advancedBuilder = new AdvancedBuilder(reflectMaid);
@@ -176,7 +195,12 @@ public final class AdvancedBuilder {
         final MarshallingType<M> marshallingType = marshallerAndUnmarshaller.marshallingType();
         final Marshaller<M> marshaller = marshallerAndUnmarshaller.marshaller();
         final Unmarshaller<M> unmarshaller = marshallerAndUnmarshaller.unmarshaller();
-        return usingMarshaller(marshallingType, marshaller, unmarshaller);
+        usingMarshaller(marshallingType, marshaller, unmarshaller);
+        marshallerAndUnmarshaller.streamingMarshaller()
+                .ifPresent(streamingMarshaller -> usingStreamingMarshaller(marshallingType, streamingMarshaller));
+        marshallerAndUnmarshaller.streamingUnmarshaller()
+                .ifPresent(streamingUnmarshaller -> usingStreamingUnmarshaller(marshallingType, streamingUnmarshaller));
+        return this;
     }
 
     public <M> AdvancedBuilder usingMarshaller(final MarshallingType<M> marshallingType,
@@ -187,6 +211,8 @@ public final class AdvancedBuilder {
         validateNotNull(marshallingType, "marshallingType");
         this.marshallerMap.put(marshallingType, marshaller);
         this.unmarshallerMap.put(marshallingType, unmarshaller);
+        this.streamingMarshallerMap.remove(marshallingType);
+        this.streamingUnmarshallerMap.remove(marshallingType);
         return doNotAutoloadMarshallers();
     }
 
@@ -194,9 +220,27 @@ public final class AdvancedBuilder {
                                            final Map<MarshallingType<?>, Unmarshaller<?>> unmarshallerMap) {
         this.marshallerMap = new HashMap<>(marshallerMap);
         this.unmarshallerMap = new HashMap<>(unmarshallerMap);
+        this.streamingMarshallerMap.clear();
+        this.streamingUnmarshallerMap.clear();
         return doNotAutoloadMarshallers();
     }
 
+    public AdvancedBuilder usingStreamingMarshaller(final MarshallingType<?> marshallingType,
+                                                    final StreamingMarshaller streamingMarshaller) {
+        validateNotNull(marshallingType, "marshallingType");
+        validateNotNull(streamingMarshaller, "streamingMarshaller");
+        this.streamingMarshallerMap.put(marshallingType, streamingMarshaller);
+        return this;
+    }
+
+    public AdvancedBuilder usingStreamingUnmarshaller(final MarshallingType<?> marshallingType,
+                                                      final StreamingUnmarshaller streamingUnmarshaller) {
+        validateNotNull(marshallingType, "marshallingType");
+        validateNotNull(streamingUnmarshaller, "streamingUnmarshaller");
+        this.streamingUnmarshallerMap.put(marshallingType, streamingUnmarshaller);
+        return this;
+    }
+
     public AdvancedBuilder usingJsonMarshaller(final Marshaller<String> marshaller, final StringUnmarshaller unmarshaller) {
         return usingMarshaller(MarshallingType.JSON, marshaller, unmarshaller);
     }
@@ -229,6 +273,26 @@ public final class AdvancedBuilder {
         return this;
     }
 
+    public AdvancedBuilder usingGeneratedAccessors() {
+        accessorStrategy = generatedAccessors();
+        return this;
+    }
+
+    public AdvancedBuilder trackingCyclesForAllTypes() {
+        trackCyclesForAllTypes = true;
+        return this;
+    }
+
+    public AdvancedBuilder computingDebugInformationLazily() {
+        debugInformationFactory = DebugInformation::lazyDebugInformation;
+        return this;
+    }
+
+    public AdvancedBuilder withoutDebugInformation() {
+        debugInformationFactory = DebugInformation::noDebugInformation;
+        return this;
+    }
+
     List<Recipe> buildRecipes() {
         return recipes;
     }
@@ -258,10 +322,13 @@ public final class AdvancedBuilder {
                 final MarshallingType<?> marshallingType = autoloadableMarshaller.marshallingType();
                 final Marshaller<?> marshaller = autoloadableMarshaller.marshaller();
                 marshallerMap.put(marshallingType, marshaller);
+                autoloadableMarshaller.streamingMarshaller()
+                        .ifPresent(streamingMarshaller -> streamingMarshallerMap.putIfAbsent(marshallingType, streamingMarshaller));
             });
         }
         final MarshallerRegistry marshallerRegistry = marshallerRegistry(marshallerMap);
-        return marshallers(marshallerRegistry, marshallingModifiers);
+        final StreamingMarshallerRegistry streamingMarshallerRegistry = streamingMarshallerRegistry(streamingMarshallerMap);
+        return marshallers(marshallerRegistry, streamingMarshallerRegistry, marshallingModifiers);
     }
 
     UnmarshallerRegistry buildUnmarshallerRegistry() {
@@ -276,10 +343,39 @@ public final class AdvancedBuilder {
         return unmarshallerRegistry(unmarshallerMap);
     }
 
+    StreamingUnmarshallerRegistry buildStreamingUnmarshallerRegistry() {
+        if (autoloadMarshallers) {
+            autoload();
+            autoloadedMarshallers.forEach(autoloadableMarshaller -> {
+                final MarshallingType<?> marshallingType = autoloadableMarshaller.marshallingType();
+                autoloadableMarshaller.streamingUnmarshaller()
+                        .ifPresent(streamingUnmarshaller -> streamingUnmarshallerMap.putIfAbsent(marshallingType, streamingUnmarshaller));
+            });
+        }
+        return streamingUnmarshallerRegistry(streamingUnmarshallerMap);
+    }
+
+    AccessorStrategy accessorStrategy() {
+        return accessorStrategy;
+    }
+
+    boolean tracksCyclesForAllTypes() {
+        return trackCyclesForAllTypes;
+    }
+
+    DebugInformationFactory debugInformationFactory() {
+        return debugInformationFactory;
+    }
+
     MapMaidConfiguration mapMaidConfiguration() {
         return mapMaidConfiguration;
     }
 
+    boolean registersOnlyCustomTypes() {
+        return stateFactories.stream()
+                .allMatch(CustomTypeFactory.class::isInstance);
+    }
+
     Processor<MapMaidTypeScannerResult> processor() {
         List.of(
                 builtInPrimitivesFactory(reflectMaid),
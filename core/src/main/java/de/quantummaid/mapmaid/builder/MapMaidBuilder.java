@@ -40,6 +40,7 @@ import de.quantummaid.mapmaid.builder.customtypes.serializedobject.serialization
 import de.quantummaid.mapmaid.builder.injection.FixedInjector;
 import de.quantummaid.mapmaid.builder.recipes.Recipe;
 import de.quantummaid.mapmaid.builder.resolving.MapMaidTypeScannerResult;
+import de.quantummaid.mapmaid.builder.resolving.disambiguator.DisambiguationResult;
 import de.quantummaid.mapmaid.builder.resolving.disambiguator.Disambiguators;
 import de.quantummaid.mapmaid.mapper.definitions.Definitions;
 import de.quantummaid.mapmaid.mapper.deserialization.Deserializer;
@@ -47,9 +48,12 @@ import de.quantummaid.mapmaid.mapper.deserialization.deserializers.TypeDeseriali
 import de.quantummaid.mapmaid.mapper.deserialization.validation.*;
 import de.quantummaid.mapmaid.mapper.injector.InjectorFactory;
 import de.quantummaid.mapmaid.mapper.marshalling.registry.Marshallers;
+import de.quantummaid.mapmaid.mapper.marshalling.registry.StreamingUnmarshallerRegistry;
 import de.quantummaid.mapmaid.mapper.marshalling.registry.UnmarshallerRegistry;
 import de.quantummaid.mapmaid.mapper.serialization.Serializer;
+import de.quantummaid.mapmaid.mapper.serialization.serializers.TypeSerializer;
 import de.quantummaid.mapmaid.mapper.serialization.supertypes.SupertypeSerializers;
+import de.quantummaid.mapmaid.snapshot.DefinitionsSnapshot;
 import de.quantummaid.reflectmaid.GenericType;
 import de.quantummaid.reflectmaid.ReflectMaid;
 import de.quantummaid.reflectmaid.resolvedtype.ResolvedType;
@@ -62,9 +66,9 @@ import lombok.EqualsAndHashCode;
 import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 
+import java.io.InputStream;
 import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.List;
+import java.util.*;
 import java.util.function.Consumer;
 
 import static de.quantummaid.mapmaid.MapMaid.mapMaid;
@@ -75,15 +79,18 @@ import static de.quantummaid.mapmaid.builder.customtypes.DeserializationOnlyType
 import static de.quantummaid.mapmaid.builder.customtypes.SerializationOnlyType.createCustomPrimitive;
 import static de.quantummaid.mapmaid.builder.customtypes.serializedobject.deserialization_only.Builder00.serializedObjectBuilder00;
 import static de.quantummaid.mapmaid.builder.customtypes.serializedobject.serialization_only.SerializationOnlySerializedObject.serializationOnlySerializedObject;
+import static de.quantummaid.mapmaid.builder.resolving.CustomTypeDefinitions.customTypeDefinitions;
 import static de.quantummaid.mapmaid.builder.resolving.Requirements.DESERIALIZATION;
 import static de.quantummaid.mapmaid.builder.resolving.Requirements.SERIALIZATION;
 import static de.quantummaid.mapmaid.builder.resolving.TypeScannerHandler.handleStateMachine;
+import static de.quantummaid.mapmaid.builder.resolving.disambiguator.DisambiguationResult.disambiguationResult;
 import static de.quantummaid.mapmaid.builder.resolving.factories.customtype.CustomTypeFactory.customTypeFactory;
 import static de.quantummaid.mapmaid.builder.resolving.factories.injecting.InjectingFactory.injectingFactory;
 import static de.quantummaid.mapmaid.builder.resolving.factories.polymorphy.PolymorphicFactory.polymorphicFactory;
 import static de.quantummaid.mapmaid.mapper.deserialization.Deserializer.deserializer;
 import static de.quantummaid.mapmaid.mapper.serialization.Serializer.serializer;
 import static de.quantummaid.mapmaid.shared.validators.NotNullValidator.validateNotNull;
+import static de.quantummaid.mapmaid.snapshot.DefinitionsSnapshot.readSnapshot;
 import static de.quantummaid.reflectmaid.GenericType.genericType;
 import static de.quantummaid.reflectmaid.typescanner.Reason.manuallyAdded;
 import static de.quantummaid.reflectmaid.typescanner.TypeIdentifier.typeIdentifierFor;
@@ -105,6 +112,10 @@ public final class MapMaidBuilder implements
     private final ReflectMaid reflectMaid;
     private final List<Signal<MapMaidTypeScannerResult>> signals = new ArrayList<>();
     private final List<TypeIdentifier> injectionTypes = new ArrayList<>();
+    private final Set<TypeIdentifier> serializedTypes = new HashSet<>();
+    private final Set<TypeIdentifier> deserializedTypes = new HashSet<>();
+    private final Map<TypeIdentifier, DisambiguationResult> customTypes = new HashMap<>();
+    private boolean requiresTypeScan;
     private final AdvancedBuilder advancedBuilder;
     private final ValidationMappings validationMappings = ValidationMappings.empty();
     private final ValidationErrorsMapping validationErrorsMapping = validationErrors -> {
@@ -204,6 +215,7 @@ public final class MapMaidBuilder implements
                                        final TypeIdentifier superType,
                                        final List<ResolvedType> subTypes) {
         advancedBuilder.withStateFactory(polymorphicFactory(superType, subTypes, advancedBuilder.mapMaidConfiguration(), capabilities));
+        requiresTypeScan = true;
         return withType(capabilities, superType, manuallyAdded());
     }
 
@@ -211,6 +223,7 @@ public final class MapMaidBuilder implements
     public MapMaidBuilder injecting(final TypeIdentifier typeIdentifier, final TypeDeserializer deserializer) {
         injectionTypes.add(typeIdentifier);
         advancedBuilder.withStateFactory(injectingFactory(typeIdentifier, deserializer));
+        requiresTypeScan = true;
         return withType(duplex(), typeIdentifier, manuallyAdded());
     }
 
@@ -249,9 +262,11 @@ public final class MapMaidBuilder implements
     private MapMaidBuilder withType(final RequiredCapabilities capabilities, final TypeIdentifier typeIdentifier, final Reason reason) {
         if (capabilities.hasSerialization()) {
             signals.add(addReasonSignal(typeIdentifier, SERIALIZATION, reason));
+            serializedTypes.add(typeIdentifier);
         }
         if (capabilities.hasDeserialization()) {
             signals.add(addReasonSignal(typeIdentifier, DESERIALIZATION, reason));
+            deserializedTypes.add(typeIdentifier);
         }
         return this;
     }
@@ -262,9 +277,24 @@ public final class MapMaidBuilder implements
         validateNotNull(capabilities, "capabilities");
         validateNotNull(customType, "customType");
         advancedBuilder.withStateFactory(customTypeFactory(customType, capabilities));
+        rememberCustomType(capabilities, customType);
         return withType(capabilities, customType.type(), manuallyAdded());
     }
 
+    private void rememberCustomType(final RequiredCapabilities capabilities,
+                                    final CustomType<?> customType) {
+        final TypeIdentifier typeIdentifier = customType.type();
+        final TypeSerializer serializer = capabilities.hasSerialization() ? customType.serializer().orElse(null) : null;
+        final TypeDeserializer deserializer = capabilities.hasDeserialization() ? customType.deserializer().orElse(null) : null;
+        final boolean complete = (serializer != null || !capabilities.hasSerialization()) &&
+                (deserializer != null || !capabilities.hasDeserialization());
+        if (!complete || customTypes.containsKey(typeIdentifier)) {
+            requiresTypeScan = true;
+            return;
+        }
+        customTypes.put(typeIdentifier, disambiguationResult(serializer, deserializer));
+    }
+
     @Override
     public <T, B> MapMaidBuilder serializingCustomPrimitive(final GenericType<T> type,
                                                             final Class<B> baseType,
@@ -420,6 +450,17 @@ public final class MapMaidBuilder implements
         return this;
     }
 
+    public MapMaidBuilder fromSnapshot(final InputStream inputStream) {
+        validateNotNull(inputStream, "inputStream");
+        return fromSnapshot(readSnapshot(inputStream));
+    }
+
+    public MapMaidBuilder fromSnapshot(final DefinitionsSnapshot snapshot) {
+        validateNotNull(snapshot, "snapshot");
+        snapshot.registerIn(this);
+        return this;
+    }
+
     public MapMaidBuilder withAdvancedSettings(final Consumer<AdvancedBuilder> configurator) {
         configurator.accept(advancedBuilder);
         return this;
@@ -436,21 +477,35 @@ public final class MapMaidBuilder implements
         recipesConfiguredThroughBuilder.forEach(recipe -> recipe.apply(this));
 
         final SupertypeSerializers supertypeSerializers = advancedBuilder.buildSupertypeSerializers();
-        final Processor<MapMaidTypeScannerResult> processor = advancedBuilder.processor();
-        final Disambiguators disambiguators = advancedBuilder.buildDisambiguators();
-        final Definitions definitions = handleStateMachine(
-                processor, disambiguators, injectionTypes, signals, supertypeSerializers, reflectMaid);
+        final Definitions definitions = resolveDefinitions(supertypeSerializers);
 
         final Marshallers marshallers = advancedBuilder.buildMarshallers();
         final Serializer serializer = serializer(
-                marshallers, definitions, supertypeSerializers, CUSTOM_PRIMITIVE_MAPPINGS);
+                marshallers, definitions, supertypeSerializers, CUSTOM_PRIMITIVE_MAPPINGS,
+                advancedBuilder.accessorStrategy(), advancedBuilder.tracksCyclesForAllTypes());
 
         final UnmarshallerRegistry unmarshallerRegistry = advancedBuilder.buildUnmarshallerRegistry();
+        final StreamingUnmarshallerRegistry streamingUnmarshallerRegistry = advancedBuilder.buildStreamingUnmarshallerRegistry();
         final InjectorFactory injectorFactory = InjectorFactory.emptyInjectorFactory(reflectMaid);
         final Deserializer deserializer = deserializer(
-                unmarshallerRegistry, definitions, CUSTOM_PRIMITIVE_MAPPINGS,
-                validationMappings, validationErrorsMapping, injectorFactory
+                unmarshallerRegistry, streamingUnmarshallerRegistry, definitions, CUSTOM_PRIMITIVE_MAPPINGS,
+                validationMappings, validationErrorsMapping, injectorFactory, advancedBuilder.accessorStrategy()
         );
-        return mapMaid(reflectMaid, serializer, deserializer, definitions.debugInformation());
+        return mapMaid(reflectMaid, serializer, deserializer, definitions.debugInformation(), definitions);
+    }
+
+    private Definitions resolveDefinitions(final SupertypeSerializers supertypeSerializers) {
+        if (!requiresTypeScan && advancedBuilder.registersOnlyCustomTypes()) {
+            final Optional<Definitions> definitions = customTypeDefinitions(
+                    serializedTypes, deserializedTypes, customTypes, supertypeSerializers, reflectMaid);
+            if (definitions.isPresent()) {
+                return definitions.get();
+            }
+        }
+        final Processor<MapMaidTypeScannerResult> processor = advancedBuilder.processor();
+        final Disambiguators disambiguators = advancedBuilder.buildDisambiguators();
+        return handleStateMachine(
+                processor, disambiguators, injectionTypes, signals, supertypeSerializers, reflectMaid,
+                advancedBuilder.debugInformationFactory());
     }
 }
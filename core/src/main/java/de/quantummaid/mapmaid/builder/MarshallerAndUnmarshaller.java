@@ -24,6 +24,10 @@ package de.quantummaid.mapmaid.builder;
 import de.quantummaid.mapmaid.mapper.marshalling.Marshaller;
 import de.quantummaid.mapmaid.mapper.marshalling.MarshallingType;
 import de.quantummaid.mapmaid.mapper.marshalling.Unmarshaller;
+import de.quantummaid.mapmaid.mapper.marshalling.streaming.StreamingMarshaller;
+import de.quantummaid.mapmaid.mapper.marshalling.streaming.StreamingUnmarshaller;
+
+import java.util.Optional;
 
 public interface MarshallerAndUnmarshaller<M> {
     MarshallingType<M> marshallingType();
@@ -31,4 +35,12 @@ public interface MarshallerAndUnmarshaller<M> {
     Marshaller<M> marshaller();
 
     Unmarshaller<M> unmarshaller();
+
+    default Optional<StreamingMarshaller> streamingMarshaller() {
+        return Optional.empty();
+    }
+
+    default Optional<StreamingUnmarshaller> streamingUnmarshaller() {
+        return Optional.empty();
+    }
 }
@@ -22,7 +22,7 @@
 package de.quantummaid.mapmaid.builder.customtypes.serializedobject;
 
 import de.quantummaid.mapmaid.mapper.deserialization.DeserializationFields;
-import de.quantummaid.mapmaid.mapper.deserialization.deserializers.serializedobjects.SerializedObjectDeserializer;
+import de.quantummaid.mapmaid.mapper.deserialization.deserializers.serializedobjects.PositionalSerializedObjectDeserializer;
 import de.quantummaid.reflectmaid.typescanner.TypeIdentifier;
 import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
@@ -34,12 +34,13 @@ import java.util.Map;
 
 import static de.quantummaid.mapmaid.mapper.deserialization.DeserializationFields.deserializationFields;
 import static de.quantummaid.reflectmaid.typescanner.TypeIdentifier.typeIdentifierFor;
+import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toMap;
 
 @ToString
 @EqualsAndHashCode
 @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
-public final class CustomDeserializer implements SerializedObjectDeserializer {
+public final class CustomDeserializer implements PositionalSerializedObjectDeserializer {
     private final InvocableDeserializer<?> invocableDeserializer;
     private final List<CustomDeserializationField> fields;
     private final DeserializationFields deserializationFields;
@@ -72,6 +73,18 @@ public final class CustomDeserializer implements SerializedObjectDeserializer {
         return this.invocableDeserializer.invoke(arguments);
     }
 
+    @Override
+    public Object deserialize(final Object[] arguments) {
+        return this.invocableDeserializer.invoke(arguments);
+    }
+
+    @Override
+    public List<String> parameterNames() {
+        return this.fields.stream()
+                .map(CustomDeserializationField::name)
+                .collect(toList());
+    }
+
     @Override
     public String description() {
         return "user provided";
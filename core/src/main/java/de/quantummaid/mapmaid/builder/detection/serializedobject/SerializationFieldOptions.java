@@ -31,14 +31,13 @@ import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 
 import java.util.Collection;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Predicate;
 
 import static de.quantummaid.mapmaid.builder.detection.serializedobject.SerializationFieldInstantiation.serializationFieldInstantiation;
 import static de.quantummaid.mapmaid.collections.Collection.smallList;
-import static de.quantummaid.mapmaid.collections.Collection.smallMap;
 import static de.quantummaid.mapmaid.shared.validators.NotNullValidator.validateNotNull;
 import static de.quantummaid.reflectmaid.typescanner.states.DetectionResult.failure;
 import static de.quantummaid.reflectmaid.typescanner.states.DetectionResult.success;
@@ -52,7 +51,7 @@ public final class SerializationFieldOptions {
     private final Map<String, List<SerializationField>> options;
 
     public static SerializationFieldOptions serializationFieldOptions() {
-        return new SerializationFieldOptions(smallMap());
+        return new SerializationFieldOptions(new LinkedHashMap<>());
     }
 
     public List<SerializationField> allFields() {
@@ -62,7 +61,7 @@ public final class SerializationFieldOptions {
     }
 
     public SerializationFieldOptions filter(final Predicate<SerializationField> filter) {
-        final Map<String, List<SerializationField>> filtered = new HashMap<>(this.options.size());
+        final Map<String, List<SerializationField>> filtered = new LinkedHashMap<>(this.options.size());
         this.options.forEach((name, serializationFields) -> {
             final List<SerializationField> filteredFields = serializationFields.stream()
                     .filter(filter)
@@ -99,22 +98,24 @@ public final class SerializationFieldOptions {
     }
 
     public DetectionResult<SerializationFieldInstantiation> instantiate(final Map<String, TypeIdentifier> fields) {
-        final Map<String, List<SerializationField>> instantiableFields = new HashMap<>(fields.size());
+        final Map<String, List<SerializationField>> instantiableFields = new LinkedHashMap<>(fields.size());
         final List<String> problems = smallList();
-        for (final Map.Entry<String, TypeIdentifier> entry : fields.entrySet()) {
-            final String name = entry.getKey();
+        for (final String name : fields.keySet()) {
             if (!this.options.containsKey(name)) {
                 problems.add(format("No field under the name '%s'", name));
-                continue;
             }
-            final List<SerializationField> fieldsByName = this.options.get(name);
-            final TypeIdentifier type = entry.getValue();
+        }
+        this.options.forEach((name, fieldsByName) -> {
+            if (!fields.containsKey(name)) {
+                return;
+            }
+            final TypeIdentifier type = fields.get(name);
             final List<SerializationField> mirroredFields = mirroredFields(type, fieldsByName);
             if (mirroredFields.isEmpty()) {
                 problems.add(format("No field under name '%s' of a type similar to '%s'", name, type.description()));
             }
             instantiableFields.put(name, mirroredFields);
-        }
+        });
 
         if (!problems.isEmpty()) {
             return failure(problems);
@@ -28,12 +28,15 @@ import de.quantummaid.reflectmaid.resolvedtype.ResolvedType;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 
+import java.lang.reflect.Field;
 import java.util.List;
 
 import static de.quantummaid.mapmaid.builder.detection.serializedobject.fields.GetterFieldQuery.getterFieldQuery;
 import static java.lang.String.valueOf;
 import static java.lang.Void.TYPE;
+import static java.util.Arrays.stream;
 import static java.util.Collections.emptyList;
+import static java.util.Comparator.comparingInt;
 import static java.util.Locale.US;
 import static java.util.stream.Collectors.toList;
 
@@ -49,6 +52,9 @@ public final class GetterFieldDetector implements FieldDetector {
         if (!(type instanceof ClassType)) {
             return emptyList();
         }
+        final List<String> declaredFields = stream(type.assignableType().getDeclaredFields())
+                .map(Field::getName)
+                .collect(toList());
         return type.methods().stream()
                 .filter(resolvedMethod -> resolvedMethod.name().startsWith("get"))
                 .filter(resolvedMethod -> !resolvedMethod.isStatic())
@@ -60,9 +66,19 @@ public final class GetterFieldDetector implements FieldDetector {
                     final SerializationFieldQuery query = getterFieldQuery(resolvedMethod);
                     return SerializationField.serializationField(resolvedType, name, query);
                 })
+                .sorted(comparingInt((SerializationField field) -> declarationIndex(declaredFields, field.name()))
+                        .thenComparing(SerializationField::name))
                 .collect(toList());
     }
 
+    private static int declarationIndex(final List<String> declaredFields, final String name) {
+        final int index = declaredFields.indexOf(name);
+        if (index < 0) {
+            return declaredFields.size();
+        }
+        return index;
+    }
+
     private static String extractGetterFieldName(final String methodName) {
         final String withoutGet = methodName.substring(3);
         final String firstCharacter = valueOf(withoutGet.charAt(0));
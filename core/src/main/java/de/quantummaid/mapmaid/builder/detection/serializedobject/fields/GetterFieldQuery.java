@@ -22,33 +22,40 @@
 package de.quantummaid.mapmaid.builder.detection.serializedobject.fields;
 
 import de.quantummaid.mapmaid.mapper.serialization.serializers.serializedobject.queries.SerializationFieldQuery;
-import de.quantummaid.reflectmaid.Executor;
+import de.quantummaid.mapmaid.shared.generation.AccessorStrategy;
 import de.quantummaid.reflectmaid.resolvedtype.resolver.ResolvedMethod;
 import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 
+import java.util.function.Function;
+
+import static de.quantummaid.mapmaid.shared.generation.ReflectiveAccessors.reflectiveAccessors;
 import static de.quantummaid.mapmaid.shared.validators.NotNullValidator.validateNotNull;
 import static java.lang.String.format;
-import static java.util.Collections.emptyList;
 
 @ToString
 @EqualsAndHashCode
 @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
 public final class GetterFieldQuery implements SerializationFieldQuery {
     private final ResolvedMethod method;
-    private final Executor executor;
+    private final Function<Object, Object> getter;
 
     public static SerializationFieldQuery getterFieldQuery(final ResolvedMethod method) {
         validateNotNull(method, "method");
-        final Executor executor = method.createExecutor();
-        return new GetterFieldQuery(method, executor);
+        final Function<Object, Object> getter = reflectiveAccessors().getter(method);
+        return new GetterFieldQuery(method, getter);
     }
 
     @Override
     public Object query(final Object object) {
-        return executor.execute(object, emptyList());
+        return getter.apply(object);
+    }
+
+    @Override
+    public SerializationFieldQuery withAccessorStrategy(final AccessorStrategy accessorStrategy) {
+        return new GetterFieldQuery(method, accessorStrategy.getter(method));
     }
 
     public ResolvedMethod method() {
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2020 Richard Hauswald - https://quantummaid.de/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package de.quantummaid.mapmaid.builder.resolving;
+
+import de.quantummaid.mapmaid.builder.resolving.disambiguator.DisambiguationResult;
+import de.quantummaid.mapmaid.builder.resolving.factories.primitives.BuiltInPrimitivesFactory;
+import de.quantummaid.mapmaid.mapper.definitions.Definition;
+import de.quantummaid.mapmaid.mapper.definitions.Definitions;
+import de.quantummaid.mapmaid.mapper.deserialization.deserializers.TypeDeserializer;
+import de.quantummaid.mapmaid.mapper.serialization.serializers.TypeSerializer;
+import de.quantummaid.mapmaid.mapper.serialization.supertypes.SupertypeSerializers;
+import de.quantummaid.reflectmaid.ReflectMaid;
+import de.quantummaid.reflectmaid.typescanner.TypeIdentifier;
+
+import java.util.*;
+
+import static de.quantummaid.mapmaid.builder.resolving.factories.primitives.BuiltInPrimitivesFactory.builtInPrimitivesFactory;
+import static de.quantummaid.mapmaid.debug.DebugInformation.noDebugInformation;
+import static de.quantummaid.mapmaid.mapper.definitions.CycleAnalysis.markAcyclicDefinitions;
+import static de.quantummaid.mapmaid.mapper.definitions.Definition.definition;
+import static de.quantummaid.mapmaid.mapper.definitions.Definitions.definitions;
+import static java.util.Collections.emptyMap;
+
+public final class CustomTypeDefinitions {
+
+    private CustomTypeDefinitions() {
+    }
+
+    public static Optional<Definitions> customTypeDefinitions(final Collection<TypeIdentifier> serializedTypes,
+                                                              final Collection<TypeIdentifier> deserializedTypes,
+                                                              final Map<TypeIdentifier, DisambiguationResult> customTypes,
+                                                              final SupertypeSerializers supertypeSerializers,
+                                                              final ReflectMaid reflectMaid) {
+        final BuiltInPrimitivesFactory builtInPrimitives = builtInPrimitivesFactory(reflectMaid);
+        final Deque<TypeIdentifier> serializationQueue = new ArrayDeque<>(serializedTypes);
+        final Deque<TypeIdentifier> deserializationQueue = new ArrayDeque<>(deserializedTypes);
+
+        final Map<TypeIdentifier, TypeSerializer> serializers = new HashMap<>();
+        while (!serializationQueue.isEmpty()) {
+            final TypeIdentifier type = serializationQueue.poll();
+            if (serializers.containsKey(type)) {
+                continue;
+            }
+            final TypeSerializer serializer = resolve(type, customTypes, builtInPrimitives)
+                    .map(DisambiguationResult::serializer)
+                    .orElse(null);
+            if (serializer == null || serializer.forcesDependenciesToBeObjects()) {
+                return Optional.empty();
+            }
+            serializers.put(type, serializer);
+            serializationQueue.addAll(serializer.requiredTypes());
+        }
+
+        final Map<TypeIdentifier, TypeDeserializer> deserializers = new HashMap<>();
+        while (!deserializationQueue.isEmpty()) {
+            final TypeIdentifier type = deserializationQueue.poll();
+            if (deserializers.containsKey(type)) {
+                continue;
+            }
+            final TypeDeserializer deserializer = resolve(type, customTypes, builtInPrimitives)
+                    .map(DisambiguationResult::deserializer)
+                    .orElse(null);
+            if (deserializer == null || deserializer.forcesDependenciesToBeObjects()) {
+                return Optional.empty();
+            }
+            deserializers.put(type, deserializer);
+            deserializationQueue.addAll(deserializer.requiredTypes());
+        }
+
+        final Set<TypeIdentifier> types = new HashSet<>(serializers.keySet());
+        types.addAll(deserializers.keySet());
+        final Map<TypeIdentifier, Definition> definitionsMap = new HashMap<>(types.size());
+        for (final TypeIdentifier type : types) {
+            final List<TypeIdentifier> superTypeSerializers = supertypeSerializers.detectSuperTypeSerializersFor(type);
+            if (!superTypeSerializers.isEmpty()) {
+                return Optional.empty();
+            }
+            definitionsMap.put(type, definition(type, serializers.get(type), deserializers.get(type), superTypeSerializers));
+        }
+        final Map<TypeIdentifier, Definition> markedDefinitions = markAcyclicDefinitions(definitionsMap, supertypeSerializers);
+        return Optional.of(definitions(markedDefinitions, noDebugInformation(emptyMap(), null, reflectMaid)));
+    }
+
+    private static Optional<DisambiguationResult> resolve(final TypeIdentifier type,
+                                                          final Map<TypeIdentifier, DisambiguationResult> customTypes,
+                                                          final BuiltInPrimitivesFactory builtInPrimitives) {
+        final DisambiguationResult customType = customTypes.get(type);
+        if (customType != null) {
+            return Optional.of(customType);
+        }
+        if (builtInPrimitives.applies(type)) {
+            return Optional.of(builtInPrimitives.builtInPrimitive(type));
+        }
+        return Optional.empty();
+    }
+}
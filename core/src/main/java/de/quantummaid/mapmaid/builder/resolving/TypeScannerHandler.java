@@ -23,6 +23,7 @@ package de.quantummaid.mapmaid.builder.resolving;
 
 import de.quantummaid.mapmaid.builder.resolving.disambiguator.Disambiguators;
 import de.quantummaid.mapmaid.debug.DebugInformation;
+import de.quantummaid.mapmaid.debug.DebugInformationFactory;
 import de.quantummaid.mapmaid.debug.Lingo;
 import de.quantummaid.mapmaid.mapper.definitions.Definition;
 import de.quantummaid.mapmaid.mapper.definitions.Definitions;
@@ -46,7 +47,7 @@ import static de.quantummaid.mapmaid.builder.resolving.MapMaidOnCollectionError.
 import static de.quantummaid.mapmaid.builder.resolving.MapMaidResolver.mapMaidResolver;
 import static de.quantummaid.mapmaid.builder.resolving.Requirements.DESERIALIZATION;
 import static de.quantummaid.mapmaid.builder.resolving.Requirements.SERIALIZATION;
-import static de.quantummaid.mapmaid.debug.DebugInformation.debugInformation;
+import static de.quantummaid.mapmaid.mapper.definitions.CycleAnalysis.markAcyclicDefinitions;
 import static de.quantummaid.mapmaid.mapper.definitions.Definition.definition;
 import static de.quantummaid.mapmaid.mapper.definitions.Definitions.definitions;
 import static de.quantummaid.reflectmaid.typescanner.scopes.Scope.rootScope;
@@ -61,15 +62,17 @@ public final class TypeScannerHandler {
                                                  final List<TypeIdentifier> injectionTypes,
                                                  final List<Signal<MapMaidTypeScannerResult>> signals,
                                                  final SupertypeSerializers supertypeSerializers,
-                                                 final ReflectMaid reflectMaid) {
+                                                 final ReflectMaid reflectMaid,
+                                                 final DebugInformationFactory debugInformationFactory) {
         signals.forEach(processor::dispatch);
         final MapMaidDetector detector = mapMaidDetector(disambiguators, injectionTypes, supertypeSerializers);
         final MapMaidResolver resolver = mapMaidResolver(supertypeSerializers);
         final MapMaidOnCollectionError onError = mapMaidOnCollectionError(reflectMaid);
         final Map<TypeIdentifier, Map<Scope, CollectionResult<MapMaidTypeScannerResult>>> result =
                 processor.collect(detector, resolver, onError, Lingo::mode);
-        final Map<TypeIdentifier, Definition> definitionsMap = buildDefinitionsMap(result, supertypeSerializers);
-        final DebugInformation debugInformation = debugInformation(result, processor.log(), reflectMaid);
+        final Map<TypeIdentifier, Definition> definitionsMap = markAcyclicDefinitions(
+                buildDefinitionsMap(result, supertypeSerializers), supertypeSerializers);
+        final DebugInformation debugInformation = debugInformationFactory.create(result, processor.log(), reflectMaid);
         return definitions(definitionsMap, debugInformation);
     }
 
@@ -73,7 +73,8 @@ public final class MapDeserializer implements TypeDeserializer {
         universalMap.forEach((key, universalValue) -> {
             final UniversalString universalKey = universalString(key);
             final Object deserializedKey = callback.deserializeRecursive(universalKey, keyType, exceptionTracker, injector, debugInformation);
-            final Object deserializedValue = callback.deserializeRecursive(universalValue, valueType, exceptionTracker.stepInto(key), injector, debugInformation);
+            final Object deserializedValue = callback.deserializeRecursive(universalValue, valueType, exceptionTracker.pushField(key), injector, debugInformation);
+            exceptionTracker.pop();
             resultMap.put(deserializedKey, deserializedValue);
         });
         return (T) resultMap;
@@ -22,6 +22,7 @@
 package de.quantummaid.mapmaid.builder.resolving.factories.maps;
 
 import de.quantummaid.mapmaid.debug.DebugInformation;
+import de.quantummaid.mapmaid.mapper.marshalling.streaming.SerializationSink;
 import de.quantummaid.mapmaid.mapper.serialization.SerializationCallback;
 import de.quantummaid.mapmaid.mapper.serialization.serializers.TypeSerializer;
 import de.quantummaid.mapmaid.mapper.serialization.tracker.SerializationTracker;
@@ -36,8 +37,10 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
+import static de.quantummaid.mapmaid.debug.MapMaidException.mapMaidException;
 import static de.quantummaid.mapmaid.mapper.universal.UniversalObject.universalObject;
 import static de.quantummaid.mapmaid.shared.validators.NotNullValidator.validateNotNull;
+import static java.lang.String.format;
 
 @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
 public final class MapSerializer implements TypeSerializer {
@@ -65,13 +68,40 @@ public final class MapSerializer implements TypeSerializer {
         final Map<?, ?> map = (Map<?, ?>) object;
         final Map<String, Universal> resultMap = new LinkedHashMap<>();
         map.forEach((key, value) -> {
-            final UniversalString serializedKey = (UniversalString) callback.serializeDefinition(keyType, key, tracker);
+            final String serializedKey = serializeKey(key, callback, tracker);
             final Universal serializedValue = callback.serializeDefinition(valueType, value, tracker);
-            resultMap.put(serializedKey.toNativeStringValue(), serializedValue);
+            resultMap.put(serializedKey, serializedValue);
         });
         return universalObject(resultMap);
     }
 
+    @Override
+    public void serializeStreaming(final Object object,
+                                   final SerializationCallback callback,
+                                   final SerializationTracker tracker,
+                                   final CustomPrimitiveMappings customPrimitiveMappings,
+                                   final DebugInformation debugInformation,
+                                   final SerializationSink sink) {
+        final Map<?, ?> map = (Map<?, ?>) object;
+        sink.startObject();
+        map.forEach((key, value) -> {
+            sink.field(serializeKey(key, callback, tracker));
+            callback.serializeDefinitionStreaming(valueType, value, tracker, sink);
+        });
+        sink.endObject();
+    }
+
+    private String serializeKey(final Object key,
+                                final SerializationCallback callback,
+                                final SerializationTracker tracker) {
+        final Universal serializedKey = callback.serializeDefinition(keyType, key, tracker);
+        if (!(serializedKey instanceof UniversalString)) {
+            throw mapMaidException(format("map key '%s' of type '%s' has been serialized to '%s' but map keys need to be serialized to strings",
+                    key, keyType.description(), serializedKey.toNativeJava()));
+        }
+        return ((UniversalString) serializedKey).toNativeStringValue();
+    }
+
     @Override
     public String description() {
         return "serializing as map";
@@ -21,7 +21,19 @@
 
 package de.quantummaid.mapmaid.builder.resolving.factories.primitives;
 
+import de.quantummaid.mapmaid.debug.DebugInformation;
+import de.quantummaid.mapmaid.mapper.deserialization.DeserializerCallback;
 import de.quantummaid.mapmaid.mapper.deserialization.deserializers.customprimitives.CustomPrimitiveDeserializer;
+import de.quantummaid.mapmaid.mapper.deserialization.validation.ExceptionTracker;
+import de.quantummaid.mapmaid.mapper.injector.Injector;
+import de.quantummaid.mapmaid.mapper.marshalling.streaming.Token;
+import de.quantummaid.mapmaid.mapper.marshalling.streaming.TokenCursor;
+import de.quantummaid.mapmaid.mapper.universal.Universal;
+import de.quantummaid.mapmaid.mapper.universal.UniversalBoolean;
+import de.quantummaid.mapmaid.mapper.universal.UniversalDouble;
+import de.quantummaid.mapmaid.mapper.universal.UniversalLong;
+import de.quantummaid.mapmaid.mapper.universal.UniversalString;
+import de.quantummaid.mapmaid.shared.mapping.CustomPrimitiveMappings;
 import de.quantummaid.reflectmaid.typescanner.TypeIdentifier;
 import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
@@ -30,16 +42,38 @@ import lombok.ToString;
 
 import java.util.List;
 
+import static de.quantummaid.mapmaid.mapper.marshalling.streaming.Token.BOOLEAN;
+import static de.quantummaid.mapmaid.mapper.marshalling.streaming.Token.DOUBLE;
+import static de.quantummaid.mapmaid.mapper.marshalling.streaming.Token.LONG;
+import static de.quantummaid.mapmaid.mapper.marshalling.streaming.Token.STRING;
+
 @ToString
 @EqualsAndHashCode
 @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
 public final class BuiltInPrimitiveDeserializer implements CustomPrimitiveDeserializer {
     private final Class<?> baseType;
     private final List<TypeIdentifier> alsoRegister;
+    private final Class<? extends Universal> directUniversalType;
 
     public static CustomPrimitiveDeserializer builtInPrimitiveDeserializer(final Class<?> baseType,
                                                                            final List<TypeIdentifier> alsoRegister) {
-        return new BuiltInPrimitiveDeserializer(baseType, alsoRegister);
+        return new BuiltInPrimitiveDeserializer(baseType, alsoRegister, directUniversalType(baseType));
+    }
+
+    private static Class<? extends Universal> directUniversalType(final Class<?> baseType) {
+        if (baseType == long.class || baseType == Long.class) {
+            return UniversalLong.class;
+        }
+        if (baseType == double.class || baseType == Double.class) {
+            return UniversalDouble.class;
+        }
+        if (baseType == boolean.class || baseType == Boolean.class) {
+            return UniversalBoolean.class;
+        }
+        if (baseType == String.class) {
+            return UniversalString.class;
+        }
+        return null;
     }
 
     @Override
@@ -57,6 +91,49 @@ public final class BuiltInPrimitiveDeserializer implements CustomPrimitiveDeseri
         return value;
     }
 
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> T deserialize(final Universal input,
+                             final ExceptionTracker exceptionTracker,
+                             final Injector injector,
+                             final DeserializerCallback callback,
+                             final CustomPrimitiveMappings customPrimitiveMappings,
+                             final TypeIdentifier typeIdentifier,
+                             final DebugInformation debugInformation) {
+        if (input.getClass() == directUniversalType) {
+            return (T) input.toNativeJava();
+        }
+        return CustomPrimitiveDeserializer.super.deserialize(
+                input, exceptionTracker, injector, callback, customPrimitiveMappings, typeIdentifier, debugInformation);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> T deserializeStreaming(final TokenCursor cursor,
+                                      final ExceptionTracker exceptionTracker,
+                                      final Injector injector,
+                                      final DeserializerCallback callback,
+                                      final CustomPrimitiveMappings customPrimitiveMappings,
+                                      final TypeIdentifier typeIdentifier,
+                                      final DebugInformation debugInformation) {
+        final Token token = cursor.currentToken();
+        final Object value;
+        if (token == LONG && directUniversalType == UniversalLong.class) {
+            value = cursor.longValue();
+        } else if (token == DOUBLE && directUniversalType == UniversalDouble.class) {
+            value = cursor.doubleValue();
+        } else if (token == BOOLEAN && directUniversalType == UniversalBoolean.class) {
+            value = cursor.booleanValue();
+        } else if (token == STRING && directUniversalType == UniversalString.class) {
+            value = cursor.stringValue();
+        } else {
+            return CustomPrimitiveDeserializer.super.deserializeStreaming(
+                    cursor, exceptionTracker, injector, callback, customPrimitiveMappings, typeIdentifier, debugInformation);
+        }
+        cursor.advance();
+        return (T) value;
+    }
+
     @Override
     public String description() {
         return "does not require deserialization";
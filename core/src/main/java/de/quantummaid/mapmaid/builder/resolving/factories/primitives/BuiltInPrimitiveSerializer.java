@@ -21,7 +21,12 @@
 
 package de.quantummaid.mapmaid.builder.resolving.factories.primitives;
 
+import de.quantummaid.mapmaid.debug.DebugInformation;
+import de.quantummaid.mapmaid.mapper.serialization.SerializationCallback;
 import de.quantummaid.mapmaid.mapper.serialization.serializers.customprimitives.CustomPrimitiveSerializer;
+import de.quantummaid.mapmaid.mapper.serialization.tracker.SerializationTracker;
+import de.quantummaid.mapmaid.mapper.universal.Universal;
+import de.quantummaid.mapmaid.shared.mapping.CustomPrimitiveMappings;
 import de.quantummaid.reflectmaid.typescanner.TypeIdentifier;
 import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
@@ -30,6 +35,11 @@ import lombok.ToString;
 
 import java.util.List;
 
+import static de.quantummaid.mapmaid.mapper.universal.UniversalBoolean.universalBoolean;
+import static de.quantummaid.mapmaid.mapper.universal.UniversalDouble.universalDouble;
+import static de.quantummaid.mapmaid.mapper.universal.UniversalLong.universalLong;
+import static de.quantummaid.mapmaid.mapper.universal.UniversalString.universalString;
+
 @ToString
 @EqualsAndHashCode
 @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
@@ -52,6 +62,27 @@ public final class BuiltInPrimitiveSerializer implements CustomPrimitiveSerializ
         return object;
     }
 
+    @Override
+    public Universal serialize(final Object object,
+                               final SerializationCallback callback,
+                               final SerializationTracker tracker,
+                               final CustomPrimitiveMappings customPrimitiveMappings,
+                               final DebugInformation debugInformation) {
+        if (object instanceof Long || object instanceof Integer || object instanceof Short || object instanceof Byte) {
+            return universalLong(((Number) object).longValue());
+        }
+        if (object instanceof Double) {
+            return universalDouble((Double) object);
+        }
+        if (object instanceof Boolean) {
+            return universalBoolean((Boolean) object);
+        }
+        if (object instanceof String) {
+            return universalString((String) object);
+        }
+        return customPrimitiveMappings.toUniversal(object);
+    }
+
     @Override
     public String description() {
         return "toString()";
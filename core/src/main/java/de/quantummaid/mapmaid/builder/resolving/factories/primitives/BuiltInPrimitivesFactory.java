@@ -22,6 +22,7 @@
 package de.quantummaid.mapmaid.builder.resolving.factories.primitives;
 
 import de.quantummaid.mapmaid.builder.resolving.MapMaidTypeScannerResult;
+import de.quantummaid.mapmaid.builder.resolving.disambiguator.DisambiguationResult;
 import de.quantummaid.mapmaid.mapper.deserialization.deserializers.customprimitives.CustomPrimitiveDeserializer;
 import de.quantummaid.mapmaid.mapper.serialization.serializers.customprimitives.CustomPrimitiveSerializer;
 import de.quantummaid.reflectmaid.ReflectMaid;
@@ -88,6 +89,10 @@ public final class BuiltInPrimitivesFactory implements StateFactory<MapMaidTypeS
     @Override
     public void create(final TypeIdentifier type,
                        final Context<MapMaidTypeScannerResult> context) {
+        context.setManuallyConfiguredResult(result(builtInPrimitive(type), type));
+    }
+
+    public DisambiguationResult builtInPrimitive(final TypeIdentifier type) {
         final ResolvedType realType = type.realType();
         final Class<?> assignableType = realType.assignableType();
         final List<TypeIdentifier> alsoRegister = ofNullable(ALSO_REGISTER.get(assignableType))
@@ -97,6 +102,6 @@ public final class BuiltInPrimitivesFactory implements StateFactory<MapMaidTypeS
                 .orElseGet(List::of);
         final CustomPrimitiveSerializer serializer = builtInPrimitiveSerializer(assignableType, alsoRegister);
         final CustomPrimitiveDeserializer deserializer = builtInPrimitiveDeserializer(assignableType, alsoRegister);
-        context.setManuallyConfiguredResult(result(duplexResult(serializer, deserializer), type));
+        return duplexResult(serializer, deserializer);
     }
 }
@@ -33,34 +33,59 @@ import de.quantummaid.reflectmaid.typescanner.log.StateLog;
 import de.quantummaid.reflectmaid.typescanner.requirements.DetectionRequirements;
 import de.quantummaid.reflectmaid.typescanner.scopes.Scope;
 import lombok.AccessLevel;
-import lombok.EqualsAndHashCode;
-import lombok.RequiredArgsConstructor;
+import lombok.AllArgsConstructor;
 import lombok.ToString;
 
 import java.util.*;
 import java.util.Map.Entry;
 
+import static de.quantummaid.mapmaid.debug.MapMaidException.mapMaidException;
+import static de.quantummaid.mapmaid.debug.scaninformation.DisabledScanInformation.debugInformationDisabled;
 import static de.quantummaid.mapmaid.debug.scaninformation.NeverScannedScanInformation.neverScanned;
 import static de.quantummaid.reflectmaid.GenericType.genericType;
 import static de.quantummaid.reflectmaid.typescanner.TypeIdentifier.typeIdentifierFor;
 import static de.quantummaid.reflectmaid.typescanner.scopes.Scope.rootScope;
+import static java.util.Collections.emptyMap;
 import static java.util.Optional.empty;
 import static java.util.Optional.of;
 import static java.util.stream.Collectors.joining;
 import static java.util.stream.Collectors.toMap;
 
 @ToString
-@EqualsAndHashCode
-@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
 public final class DebugInformation {
     private final ReflectMaid reflectMaid;
-    private final Map<TypeIdentifier, ScanInformation> scanInformations;
     private final StateLog<MapMaidTypeScannerResult> stateLog;
+    private Map<TypeIdentifier, ? extends Map<Scope, CollectionResult<MapMaidTypeScannerResult>>> resultsByScope;
+    private Map<TypeIdentifier, ScanInformation> scanInformations;
 
     public static DebugInformation debugInformation(
             final Map<TypeIdentifier, ? extends Map<Scope, CollectionResult<MapMaidTypeScannerResult>>> resultsByScope,
             final StateLog<MapMaidTypeScannerResult> stateLog,
             final ReflectMaid reflectMaid
+    ) {
+        final Map<TypeIdentifier, ScanInformation> scanInformations = buildScanInformations(resultsByScope);
+        return new DebugInformation(reflectMaid, stateLog, null, scanInformations);
+    }
+
+    public static DebugInformation lazyDebugInformation(
+            final Map<TypeIdentifier, ? extends Map<Scope, CollectionResult<MapMaidTypeScannerResult>>> resultsByScope,
+            final StateLog<MapMaidTypeScannerResult> stateLog,
+            final ReflectMaid reflectMaid
+    ) {
+        return new DebugInformation(reflectMaid, stateLog, resultsByScope, null);
+    }
+
+    public static DebugInformation noDebugInformation(
+            final Map<TypeIdentifier, ? extends Map<Scope, CollectionResult<MapMaidTypeScannerResult>>> resultsByScope,
+            final StateLog<MapMaidTypeScannerResult> stateLog,
+            final ReflectMaid reflectMaid
+    ) {
+        return new DebugInformation(reflectMaid, null, null, null);
+    }
+
+    private static Map<TypeIdentifier, ScanInformation> buildScanInformations(
+            final Map<TypeIdentifier, ? extends Map<Scope, CollectionResult<MapMaidTypeScannerResult>>> resultsByScope
     ) {
         final Map<TypeIdentifier, CollectionResult<MapMaidTypeScannerResult>> results = resultsByScope.entrySet().stream()
                 .collect(toMap(Entry::getKey, entry -> {
@@ -86,7 +111,11 @@ public final class DebugInformation {
                     scanInformations.put(typeIdentifier, scanInformation);
                 }
         );
-        return new DebugInformation(reflectMaid, scanInformations, stateLog);
+        return scanInformations;
+    }
+
+    public boolean isAvailable() {
+        return stateLog != null;
     }
 
     public ScanInformation scanInformationFor(final Class<?> type) {
@@ -102,6 +131,9 @@ public final class DebugInformation {
     }
 
     public ScanInformation scanInformationFor(final TypeIdentifier type) {
+        if (!isAvailable()) {
+            return debugInformationDisabled(type);
+        }
         return optionalScanInformationFor(type)
                 .orElseGet(() -> neverScanned(type));
     }
@@ -115,23 +147,42 @@ public final class DebugInformation {
     }
 
     public Optional<ScanInformation> optionalScanInformationFor(final TypeIdentifier type) {
-        if (!this.scanInformations.containsKey(type)) {
+        final Map<TypeIdentifier, ScanInformation> scanInformations = scanInformations();
+        if (!scanInformations.containsKey(type)) {
             return empty();
         }
-        return of(this.scanInformations.get(type));
+        return of(scanInformations.get(type));
     }
 
     public List<ScanInformation> allScanInformations() {
-        return new ArrayList<>(this.scanInformations.values());
+        return new ArrayList<>(scanInformations().values());
     }
 
     public StateLog<MapMaidTypeScannerResult> stateLog() {
+        if (!isAvailable()) {
+            throw mapMaidException("The state log is not available because debug information has been disabled");
+        }
         return stateLog;
     }
 
     public String dumpAll() {
+        if (!isAvailable()) {
+            return "Debug information has been disabled";
+        }
         return allScanInformations().stream()
                 .map(ScanInformation::render)
                 .collect(joining("\n\n\n"));
     }
+
+    private synchronized Map<TypeIdentifier, ScanInformation> scanInformations() {
+        if (scanInformations == null) {
+            if (resultsByScope == null) {
+                scanInformations = emptyMap();
+            } else {
+                scanInformations = buildScanInformations(resultsByScope);
+                resultsByScope = null;
+            }
+        }
+        return scanInformations;
+    }
 }
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2020 Richard Hauswald - https://quantummaid.de/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package de.quantummaid.mapmaid.mapper.definitions;
+
+import de.quantummaid.mapmaid.mapper.serialization.supertypes.SupertypeSerializers;
+import de.quantummaid.reflectmaid.typescanner.TypeIdentifier;
+
+import java.util.*;
+
+import static java.util.Collections.emptyList;
+
+public final class CycleAnalysis {
+    private final Map<TypeIdentifier, List<TypeIdentifier>> graph;
+    private final Map<TypeIdentifier, Integer> indices;
+    private final Map<TypeIdentifier, Integer> lowLinks;
+    private final Deque<TypeIdentifier> stack = new ArrayDeque<>();
+    private final Set<TypeIdentifier> onStack = new HashSet<>();
+    private final Set<TypeIdentifier> cyclicTypes = new HashSet<>();
+    private int index;
+
+    private CycleAnalysis(final Map<TypeIdentifier, List<TypeIdentifier>> graph) {
+        this.graph = graph;
+        this.indices = new HashMap<>(graph.size());
+        this.lowLinks = new HashMap<>(graph.size());
+    }
+
+    public static Map<TypeIdentifier, Definition> markAcyclicDefinitions(final Map<TypeIdentifier, Definition> definitions,
+                                                                         final SupertypeSerializers supertypeSerializers) {
+        final Map<TypeIdentifier, List<TypeIdentifier>> graph = new HashMap<>(definitions.size());
+        definitions.forEach((type, definition) -> {
+            final List<TypeIdentifier> requiredTypes = new ArrayList<>();
+            definition.serializer().ifPresent(serializer -> requiredTypes.addAll(serializer.requiredTypes()));
+            definition.superTypeSerializers().forEach(superType ->
+                    requiredTypes.addAll(supertypeSerializers.superTypeSerializer(superType).requiredTypes()));
+            graph.put(type, requiredTypes);
+        });
+        final CycleAnalysis cycleAnalysis = new CycleAnalysis(graph);
+        graph.keySet().forEach(type -> {
+            if (!cycleAnalysis.indices.containsKey(type)) {
+                cycleAnalysis.connect(type);
+            }
+        });
+        final Map<TypeIdentifier, Definition> markedDefinitions = new HashMap<>(definitions.size());
+        definitions.forEach((type, definition) -> {
+            if (cycleAnalysis.cyclicTypes.contains(type)) {
+                markedDefinitions.put(type, definition);
+            } else {
+                markedDefinitions.put(type, definition.markedAsAcyclic());
+            }
+        });
+        return markedDefinitions;
+    }
+
+    private void connect(final TypeIdentifier root) {
+        final Deque<Frame> callStack = new ArrayDeque<>();
+        callStack.push(visit(root));
+        while (!callStack.isEmpty()) {
+            final Frame frame = callStack.peek();
+            final TypeIdentifier type = frame.type;
+            if (frame.requiredTypes.hasNext()) {
+                final TypeIdentifier requiredType = frame.requiredTypes.next();
+                if (!indices.containsKey(requiredType)) {
+                    callStack.push(visit(requiredType));
+                } else if (onStack.contains(requiredType)) {
+                    lowLinks.put(type, Math.min(lowLinks.get(type), indices.get(requiredType)));
+                }
+                continue;
+            }
+            callStack.pop();
+            final Frame caller = callStack.peek();
+            if (caller != null) {
+                lowLinks.put(caller.type, Math.min(lowLinks.get(caller.type), lowLinks.get(type)));
+            }
+            if (lowLinks.get(type).equals(indices.get(type))) {
+                collectComponent(type);
+            }
+        }
+    }
+
+    private Frame visit(final TypeIdentifier type) {
+        indices.put(type, index);
+        lowLinks.put(type, index);
+        index = index + 1;
+        stack.push(type);
+        onStack.add(type);
+        return new Frame(type, graph.getOrDefault(type, emptyList()).iterator());
+    }
+
+    private void collectComponent(final TypeIdentifier type) {
+        final List<TypeIdentifier> component = new ArrayList<>();
+        TypeIdentifier member;
+        do {
+            member = stack.pop();
+            onStack.remove(member);
+            component.add(member);
+        } while (!member.equals(type));
+        if (component.size() > 1 || graph.getOrDefault(type, emptyList()).contains(type)) {
+            cyclicTypes.addAll(component);
+        }
+    }
+
+    private static final class Frame {
+        private final TypeIdentifier type;
+        private final Iterator<TypeIdentifier> requiredTypes;
+
+        private Frame(final TypeIdentifier type,
+                      final Iterator<TypeIdentifier> requiredTypes) {
+            this.type = type;
+            this.requiredTypes = requiredTypes;
+        }
+    }
+}
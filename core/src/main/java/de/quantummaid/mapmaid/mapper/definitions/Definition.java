@@ -43,6 +43,7 @@ public final class Definition {
     private final TypeSerializer serializer;
     private final TypeDeserializer deserializer;
     private final List<TypeIdentifier> superTypeSerializers;
+    private final boolean cyclic;
 
     public static Definition definition(final TypeIdentifier type,
                                         final TypeSerializer serializer,
@@ -56,7 +57,11 @@ public final class Definition {
             validateNotNull(serializer, "serializer");
         }
         validateNotNull(superTypeSerializers, "superTypeSerializers");
-        return new Definition(type, serializer, deserializer, superTypeSerializers);
+        return new Definition(type, serializer, deserializer, superTypeSerializers, true);
+    }
+
+    public Definition markedAsAcyclic() {
+        return new Definition(type, serializer, deserializer, superTypeSerializers, false);
     }
 
     public Optional<TypeSerializer> serializer() {
@@ -74,4 +79,8 @@ public final class Definition {
     public List<TypeIdentifier> superTypeSerializers() {
         return superTypeSerializers;
     }
+
+    public boolean isCyclic() {
+        return cyclic;
+    }
 }
@@ -28,6 +28,7 @@ import lombok.EqualsAndHashCode;
 import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 
+import java.util.Collection;
 import java.util.Map;
 import java.util.Optional;
 
@@ -58,6 +59,10 @@ public final class Definitions {
         return of(definitions.get(targetType));
     }
 
+    public Collection<Definition> allDefinitions() {
+        return definitions.values();
+    }
+
     public DebugInformation debugInformation() {
         return debugInformation;
     }
@@ -26,6 +26,7 @@ import de.quantummaid.mapmaid.debug.scaninformation.ScanInformation;
 import de.quantummaid.mapmaid.mapper.definitions.Definition;
 import de.quantummaid.mapmaid.mapper.definitions.Definitions;
 import de.quantummaid.mapmaid.mapper.deserialization.deserializers.TypeDeserializer;
+import de.quantummaid.mapmaid.mapper.deserialization.plan.DeserializationPlan;
 import de.quantummaid.mapmaid.mapper.deserialization.validation.ExceptionTracker;
 import de.quantummaid.mapmaid.mapper.deserialization.validation.ValidationErrorsMapping;
 import de.quantummaid.mapmaid.mapper.deserialization.validation.ValidationMappings;
@@ -33,8 +34,14 @@ import de.quantummaid.mapmaid.mapper.injector.Injector;
 import de.quantummaid.mapmaid.mapper.injector.InjectorFactory;
 import de.quantummaid.mapmaid.mapper.injector.InjectorLambda;
 import de.quantummaid.mapmaid.mapper.marshalling.MarshallingType;
+import de.quantummaid.mapmaid.mapper.marshalling.registry.StreamingUnmarshallerRegistry;
 import de.quantummaid.mapmaid.mapper.marshalling.registry.UnmarshallerRegistry;
+import de.quantummaid.mapmaid.mapper.marshalling.streaming.ResettableTokenCursor;
+import de.quantummaid.mapmaid.mapper.marshalling.streaming.StreamingUnmarshaller;
+import de.quantummaid.mapmaid.mapper.marshalling.streaming.TokenCursor;
 import de.quantummaid.mapmaid.mapper.universal.Universal;
+import de.quantummaid.mapmaid.mapper.universal.UniversalCollection;
+import de.quantummaid.mapmaid.shared.generation.AccessorStrategy;
 import de.quantummaid.mapmaid.shared.mapping.CustomPrimitiveMappings;
 import de.quantummaid.reflectmaid.typescanner.TypeIdentifier;
 import lombok.AccessLevel;
@@ -42,12 +49,30 @@ import lombok.EqualsAndHashCode;
 import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
 import java.util.Set;
+import java.util.function.Supplier;
 
+import static de.quantummaid.mapmaid.debug.MapMaidException.mapMaidException;
 import static de.quantummaid.mapmaid.mapper.deserialization.InternalDeserializer.internalDeserializer;
+import static de.quantummaid.mapmaid.mapper.deserialization.LineRecordIterator.lineRecordIterator;
+import static de.quantummaid.mapmaid.mapper.deserialization.StreamingBatchIterator.streamingBatchIterator;
 import static de.quantummaid.mapmaid.mapper.deserialization.UnexpectedExceptionThrownDuringUnmarshallingException.unexpectedExceptionThrownDuringUnmarshallingException;
 import static de.quantummaid.mapmaid.mapper.deserialization.Unmarshallers.unmarshallers;
+import static de.quantummaid.mapmaid.mapper.marshalling.streaming.Token.START_ARRAY;
+import static de.quantummaid.mapmaid.mapper.universal.UniversalNull.universalNull;
 import static de.quantummaid.mapmaid.shared.validators.NotNullValidator.validateNotNull;
+import static java.lang.String.format;
+import static java.nio.charset.StandardCharsets.UTF_8;
 
 @ToString
 @EqualsAndHashCode
@@ -57,29 +82,34 @@ public final class Deserializer {
     private final Definitions definitions;
     private final ValidationMappings validationMappings;
     private final Unmarshallers unmarshallers;
+    private final StreamingUnmarshallerRegistry streamingUnmarshallerRegistry;
     private final InternalDeserializer internalDeserializer;
     private final DebugInformation debugInformation;
     private final InjectorFactory injectorFactory;
 
     public static Deserializer deserializer(final UnmarshallerRegistry unmarshallerRegistry,
+                                            final StreamingUnmarshallerRegistry streamingUnmarshallerRegistry,
                                             final Definitions definitions,
                                             final CustomPrimitiveMappings customPrimitiveMappings,
                                             final ValidationMappings exceptionMapping,
                                             final ValidationErrorsMapping onValidationErrors,
-                                            final InjectorFactory injectorFactory) {
+                                            final InjectorFactory injectorFactory,
+                                            final AccessorStrategy accessorStrategy) {
         validateNotNull(unmarshallerRegistry, "unmarshallerRegistry");
+        validateNotNull(streamingUnmarshallerRegistry, "streamingUnmarshallerRegistry");
         validateNotNull(definitions, "definitions");
         validateNotNull(customPrimitiveMappings, "customPrimitiveMappings");
         validateNotNull(exceptionMapping, "validationMappings");
         validateNotNull(onValidationErrors, "onValidationErrors");
         final Unmarshallers unmarshallers = unmarshallers(unmarshallerRegistry);
         final InternalDeserializer internalDeserializer = internalDeserializer(
-                definitions, customPrimitiveMappings, onValidationErrors);
+                definitions, customPrimitiveMappings, onValidationErrors, accessorStrategy);
         final DebugInformation debugInformation = definitions.debugInformation();
         return new Deserializer(
                 definitions,
                 exceptionMapping,
                 unmarshallers,
+                streamingUnmarshallerRegistry,
                 internalDeserializer,
                 debugInformation,
                 injectorFactory
@@ -109,6 +139,197 @@ public final class Deserializer {
         }
     }
 
+    public Object deserializeStreaming(final Reader input,
+                                       final TypeIdentifier targetType,
+                                       final MarshallingType<String> marshallingType,
+                                       final InjectorLambda injectorProducer) {
+        validateNotNull(input, "input");
+        validateNotNull(targetType, "targetType");
+        validateNotNull(marshallingType, "marshallingType");
+        validateNotNull(injectorProducer, "jsonInjector");
+        final Optional<StreamingUnmarshaller> streamingUnmarshaller =
+                this.streamingUnmarshallerRegistry.getOptionalForType(marshallingType);
+        if (!streamingUnmarshaller.isPresent()) {
+            return deserialize(readFully(input), targetType, marshallingType, injectorProducer);
+        }
+        return deserializeFromCursor(() -> streamingUnmarshaller.get().cursor(input), targetType, injectorProducer);
+    }
+
+    public Object deserializeStreaming(final InputStream input,
+                                       final TypeIdentifier targetType,
+                                       final MarshallingType<String> marshallingType,
+                                       final InjectorLambda injectorProducer) {
+        validateNotNull(input, "input");
+        validateNotNull(targetType, "targetType");
+        validateNotNull(marshallingType, "marshallingType");
+        validateNotNull(injectorProducer, "jsonInjector");
+        final Optional<StreamingUnmarshaller> streamingUnmarshaller =
+                this.streamingUnmarshallerRegistry.getOptionalForType(marshallingType);
+        if (!streamingUnmarshaller.isPresent()) {
+            return deserialize(readFully(input), targetType, marshallingType, injectorProducer);
+        }
+        return deserializeFromCursor(() -> streamingUnmarshaller.get().cursor(input), targetType, injectorProducer);
+    }
+
+    public <T, M> List<T> deserializeBatch(final M input,
+                                           final TypeIdentifier elementType,
+                                           final MarshallingType<M> marshallingType,
+                                           final InjectorLambda injectorProducer) {
+        validateNotNull(elementType, "elementType");
+        validateNotNull(injectorProducer, "jsonInjector");
+        try {
+            final Universal unmarshalled = this.unmarshallers.unmarshall(input, marshallingType);
+            if (!(unmarshalled instanceof UniversalCollection)) {
+                throw mapMaidException(format("Expected a collection of '%s' but got '%s'",
+                        elementType.description(), unmarshalled.toNativeJava()));
+            }
+            final DeserializationPlan plan = this.internalDeserializer.planFor(elementType);
+            final Injector injector = this.injectorFactory.create();
+            injectorProducer.setupInjector(injector);
+            final List<Universal> elements = ((UniversalCollection) unmarshalled).content();
+            final List<T> result = new ArrayList<>(elements.size());
+            for (final Universal element : elements) {
+                final ExceptionTracker exceptionTracker = ExceptionTracker.emptyTracker(element, this.validationMappings);
+                result.add(this.internalDeserializer.deserialize(plan, element, exceptionTracker, injector, this.debugInformation));
+            }
+            return result;
+        } catch (final InternalUnmarshallingException e) {
+            throw translate(e, elementType);
+        }
+    }
+
+    public <T> Iterator<T> deserializeBatchStreaming(final Reader input,
+                                                     final TypeIdentifier elementType,
+                                                     final MarshallingType<String> marshallingType,
+                                                     final InjectorLambda injectorProducer) {
+        validateNotNull(input, "input");
+        validateNotNull(marshallingType, "marshallingType");
+        final Optional<StreamingUnmarshaller> streamingUnmarshaller =
+                this.streamingUnmarshallerRegistry.getOptionalForType(marshallingType);
+        if (!streamingUnmarshaller.isPresent()) {
+            final List<T> batch = deserializeBatch(readFully(input), elementType, marshallingType, injectorProducer);
+            return batch.iterator();
+        }
+        return batchIterator(() -> streamingUnmarshaller.get().cursor(input), elementType, injectorProducer);
+    }
+
+    public <T> Iterator<T> deserializeBatchStreaming(final InputStream input,
+                                                     final TypeIdentifier elementType,
+                                                     final MarshallingType<String> marshallingType,
+                                                     final InjectorLambda injectorProducer) {
+        validateNotNull(input, "input");
+        validateNotNull(marshallingType, "marshallingType");
+        final Optional<StreamingUnmarshaller> streamingUnmarshaller =
+                this.streamingUnmarshallerRegistry.getOptionalForType(marshallingType);
+        if (!streamingUnmarshaller.isPresent()) {
+            final List<T> batch = deserializeBatch(readFully(input), elementType, marshallingType, injectorProducer);
+            return batch.iterator();
+        }
+        return batchIterator(() -> streamingUnmarshaller.get().cursor(input), elementType, injectorProducer);
+    }
+
+    public <T> Iterator<T> deserializeLines(final Reader input,
+                                            final TypeIdentifier elementType,
+                                            final MarshallingType<String> marshallingType,
+                                            final InjectorLambda injectorProducer) {
+        validateNotNull(input, "input");
+        validateNotNull(elementType, "elementType");
+        validateNotNull(marshallingType, "marshallingType");
+        validateNotNull(injectorProducer, "jsonInjector");
+        final DeserializationPlan plan = this.internalDeserializer.planFor(elementType);
+        final Injector injector = this.injectorFactory.create();
+        injectorProducer.setupInjector(injector);
+        final ResettableTokenCursor cursor = this.streamingUnmarshallerRegistry.getOptionalForType(marshallingType)
+                .map(StreamingUnmarshaller::resettableCursor)
+                .orElse(null);
+        final BufferedReader reader = input instanceof BufferedReader ? (BufferedReader) input : new BufferedReader(input);
+        return lineRecordIterator(reader, line -> {
+            try {
+                if (cursor != null) {
+                    cursor.reset(line);
+                    final ExceptionTracker exceptionTracker = ExceptionTracker.emptyTracker(universalNull(), this.validationMappings);
+                    return this.internalDeserializer.deserializeStreaming(plan, cursor, exceptionTracker, injector, this.debugInformation);
+                }
+                final Universal unmarshalled = this.unmarshallers.unmarshall(line, marshallingType);
+                final ExceptionTracker exceptionTracker = ExceptionTracker.emptyTracker(unmarshalled, this.validationMappings);
+                return this.internalDeserializer.deserialize(plan, unmarshalled, exceptionTracker, injector, this.debugInformation);
+            } catch (final InternalUnmarshallingException e) {
+                throw translate(e, elementType);
+            }
+        });
+    }
+
+    private <T> Iterator<T> batchIterator(final Supplier<TokenCursor> cursorSupplier,
+                                          final TypeIdentifier elementType,
+                                          final InjectorLambda injectorProducer) {
+        validateNotNull(elementType, "elementType");
+        validateNotNull(injectorProducer, "jsonInjector");
+        final DeserializationPlan plan = this.internalDeserializer.planFor(elementType);
+        final Injector injector = this.injectorFactory.create();
+        injectorProducer.setupInjector(injector);
+        final TokenCursor cursor;
+        try {
+            cursor = cursorSupplier.get();
+            if (cursor.currentToken() != START_ARRAY) {
+                throw mapMaidException(format("Expected a collection of '%s' but got %s",
+                        elementType.description(), cursor.currentToken().describe()));
+            }
+            cursor.advance();
+        } catch (final InternalUnmarshallingException e) {
+            throw translate(e, elementType);
+        }
+        return streamingBatchIterator(cursor, elementCursor -> {
+            final ExceptionTracker exceptionTracker = ExceptionTracker.emptyTracker(universalNull(), this.validationMappings);
+            return this.internalDeserializer.deserializeStreaming(plan, elementCursor, exceptionTracker, injector, this.debugInformation);
+        }, e -> translate(e, elementType));
+    }
+
+    private RuntimeException translate(final InternalUnmarshallingException exception,
+                                       final TypeIdentifier targetType) {
+        final ScanInformation scanInformation = this.debugInformation.scanInformationFor(targetType);
+        return unexpectedExceptionThrownDuringUnmarshallingException(
+                exception.objectToUnmarshall(), exception.getCause(), scanInformation);
+    }
+
+    private Object deserializeFromCursor(final Supplier<TokenCursor> cursorSupplier,
+                                         final TypeIdentifier targetType,
+                                         final InjectorLambda injectorProducer) {
+        try {
+            final TokenCursor cursor = cursorSupplier.get();
+            final ExceptionTracker exceptionTracker = ExceptionTracker.emptyTracker(universalNull(), this.validationMappings);
+            final Injector injector = this.injectorFactory.create();
+            injectorProducer.setupInjector(injector);
+            return this.internalDeserializer.deserializeStreaming(
+                    cursor,
+                    targetType,
+                    exceptionTracker,
+                    injector,
+                    this.debugInformation
+            );
+        } catch (final InternalUnmarshallingException e) {
+            final ScanInformation scanInformation = this.debugInformation.scanInformationFor(targetType);
+            throw unexpectedExceptionThrownDuringUnmarshallingException(e.objectToUnmarshall(), e.getCause(), scanInformation);
+        }
+    }
+
+    private static String readFully(final InputStream inputStream) {
+        try {
+            return new String(inputStream.readAllBytes(), UTF_8);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String readFully(final Reader reader) {
+        final StringWriter writer = new StringWriter();
+        try {
+            reader.transferTo(writer);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return writer.toString();
+    }
+
     private <T> T deserialize(final Universal input,
                               final TypeIdentifier targetType,
                               final InjectorLambda injectorProducer) {
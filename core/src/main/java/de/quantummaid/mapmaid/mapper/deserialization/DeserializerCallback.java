@@ -22,11 +22,15 @@
 package de.quantummaid.mapmaid.mapper.deserialization;
 
 import de.quantummaid.mapmaid.debug.DebugInformation;
+import de.quantummaid.mapmaid.mapper.deserialization.plan.DeserializationPlan;
 import de.quantummaid.mapmaid.mapper.deserialization.validation.ExceptionTracker;
 import de.quantummaid.mapmaid.mapper.injector.Injector;
+import de.quantummaid.mapmaid.mapper.marshalling.streaming.TokenCursor;
 import de.quantummaid.mapmaid.mapper.universal.Universal;
 import de.quantummaid.reflectmaid.typescanner.TypeIdentifier;
 
+import static de.quantummaid.mapmaid.mapper.marshalling.streaming.UniversalReader.readUniversal;
+
 @FunctionalInterface
 public interface DeserializerCallback {
 
@@ -35,4 +39,29 @@ public interface DeserializerCallback {
                                 ExceptionTracker exceptionTracker,
                                 Injector injector,
                                 DebugInformation debugInformation);
+
+    default Object deserializeRecursiveStreaming(final TokenCursor cursor,
+                                                 final TypeIdentifier targetType,
+                                                 final ExceptionTracker exceptionTracker,
+                                                 final Injector injector,
+                                                 final DebugInformation debugInformation) {
+        final Universal input = readUniversal(cursor);
+        return deserializeRecursive(input, targetType, exceptionTracker, injector, debugInformation);
+    }
+
+    default Object deserializeWithPlan(final DeserializationPlan plan,
+                                       final Universal input,
+                                       final ExceptionTracker exceptionTracker,
+                                       final Injector injector,
+                                       final DebugInformation debugInformation) {
+        return deserializeRecursive(input, plan.type(), exceptionTracker, injector, debugInformation);
+    }
+
+    default Object deserializeWithPlanStreaming(final DeserializationPlan plan,
+                                                final TokenCursor cursor,
+                                                final ExceptionTracker exceptionTracker,
+                                                final Injector injector,
+                                                final DebugInformation debugInformation) {
+        return deserializeRecursiveStreaming(cursor, plan.type(), exceptionTracker, injector, debugInformation);
+    }
 }
@@ -23,15 +23,18 @@ package de.quantummaid.mapmaid.mapper.deserialization;
 
 import de.quantummaid.mapmaid.debug.DebugInformation;
 import de.quantummaid.mapmaid.debug.scaninformation.ScanInformation;
-import de.quantummaid.mapmaid.mapper.definitions.Definition;
 import de.quantummaid.mapmaid.mapper.definitions.Definitions;
 import de.quantummaid.mapmaid.mapper.deserialization.deserializers.TypeDeserializer;
+import de.quantummaid.mapmaid.mapper.deserialization.plan.DeserializationPlan;
+import de.quantummaid.mapmaid.mapper.deserialization.plan.DeserializationPlans;
 import de.quantummaid.mapmaid.mapper.deserialization.validation.ExceptionTracker;
 import de.quantummaid.mapmaid.mapper.deserialization.validation.ValidationErrorsMapping;
 import de.quantummaid.mapmaid.mapper.deserialization.validation.ValidationResult;
 import de.quantummaid.mapmaid.mapper.injector.Injector;
+import de.quantummaid.mapmaid.mapper.marshalling.streaming.TokenCursor;
 import de.quantummaid.mapmaid.mapper.universal.Universal;
 import de.quantummaid.mapmaid.mapper.universal.UniversalInjection;
+import de.quantummaid.mapmaid.shared.generation.AccessorStrategy;
 import de.quantummaid.mapmaid.shared.mapping.CustomPrimitiveMappings;
 import de.quantummaid.reflectmaid.typescanner.TypeIdentifier;
 import lombok.AccessLevel;
@@ -43,6 +46,8 @@ import java.util.Optional;
 
 import static de.quantummaid.mapmaid.debug.MapMaidException.mapMaidException;
 import static de.quantummaid.mapmaid.mapper.deserialization.PredeserializedObjectCannotBeDeserialized.predeserializedObjectCannotBeDeserialized;
+import static de.quantummaid.mapmaid.mapper.deserialization.plan.DeserializationPlans.compileDeserializationPlans;
+import static de.quantummaid.mapmaid.mapper.marshalling.streaming.UniversalReader.skipValue;
 import static de.quantummaid.mapmaid.shared.validators.NotNullValidator.validateNotNull;
 import static java.lang.String.format;
 
@@ -50,17 +55,19 @@ import static java.lang.String.format;
 @EqualsAndHashCode
 @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
 final class InternalDeserializer implements DeserializerCallback {
-    private final Definitions definitions;
+    private final DeserializationPlans deserializationPlans;
     private final CustomPrimitiveMappings customPrimitiveMappings;
     private final ValidationErrorsMapping onValidationErrors;
 
     static InternalDeserializer internalDeserializer(final Definitions definitions,
                                                      final CustomPrimitiveMappings customPrimitiveMappings,
-                                                     final ValidationErrorsMapping validationErrorsMapping) {
+                                                     final ValidationErrorsMapping validationErrorsMapping,
+                                                     final AccessorStrategy accessorStrategy) {
         validateNotNull(definitions, "definitions");
         validateNotNull(customPrimitiveMappings, "customPrimitiveMappings");
         validateNotNull(validationErrorsMapping, "validationErrorsMapping");
-        return new InternalDeserializer(definitions, customPrimitiveMappings, validationErrorsMapping);
+        final DeserializationPlans deserializationPlans = compileDeserializationPlans(definitions, accessorStrategy);
+        return new InternalDeserializer(deserializationPlans, customPrimitiveMappings, validationErrorsMapping);
     }
 
     @SuppressWarnings("unchecked")
@@ -70,6 +77,44 @@ final class InternalDeserializer implements DeserializerCallback {
                       final Injector injector,
                       final DebugInformation debugInformation) {
         final T result = (T) this.deserializeRecursive(input, targetType, exceptionTracker, injector, debugInformation);
+        return checkValidation(result, exceptionTracker);
+    }
+
+    @SuppressWarnings("unchecked")
+    <T> T deserializeStreaming(final TokenCursor cursor,
+                               final TypeIdentifier targetType,
+                               final ExceptionTracker exceptionTracker,
+                               final Injector injector,
+                               final DebugInformation debugInformation) {
+        final T result = (T) this.deserializeRecursiveStreaming(cursor, targetType, exceptionTracker, injector, debugInformation);
+        return checkValidation(result, exceptionTracker);
+    }
+
+    DeserializationPlan planFor(final TypeIdentifier targetType) {
+        return this.deserializationPlans.planFor(targetType);
+    }
+
+    @SuppressWarnings("unchecked")
+    <T> T deserialize(final DeserializationPlan plan,
+                      final Universal input,
+                      final ExceptionTracker exceptionTracker,
+                      final Injector injector,
+                      final DebugInformation debugInformation) {
+        final T result = (T) this.deserializeWithPlan(plan, input, exceptionTracker, injector, debugInformation);
+        return checkValidation(result, exceptionTracker);
+    }
+
+    @SuppressWarnings("unchecked")
+    <T> T deserializeStreaming(final DeserializationPlan plan,
+                               final TokenCursor cursor,
+                               final ExceptionTracker exceptionTracker,
+                               final Injector injector,
+                               final DebugInformation debugInformation) {
+        final T result = (T) this.deserializeWithPlanStreaming(plan, cursor, exceptionTracker, injector, debugInformation);
+        return checkValidation(result, exceptionTracker);
+    }
+
+    private <T> T checkValidation(final T result, final ExceptionTracker exceptionTracker) {
         final ValidationResult validationResult = exceptionTracker.validationResult();
         if (validationResult.hasValidationErrors()) {
             this.onValidationErrors.map(validationResult.validationErrors());
@@ -83,28 +128,38 @@ final class InternalDeserializer implements DeserializerCallback {
                                        final ExceptionTracker exceptionTracker,
                                        final Injector injector,
                                        final DebugInformation debugInformation) {
-        final Optional<Object> namedDirectInjection = injector.getDirectInjectionForPropertyPath(
-                exceptionTracker.getPosition());
-        if (namedDirectInjection.isPresent()) {
-            return namedDirectInjection.get();
-        }
+        final DeserializationPlan plan = this.deserializationPlans.planFor(targetType);
+        return deserializeWithPlan(plan, input, exceptionTracker, injector, debugInformation);
+    }
 
-        final Optional<Object> typedDirectInjection = injector.getDirectInjectionForType(targetType);
-        if (typedDirectInjection.isPresent()) {
-            return typedDirectInjection.get();
+    @Override
+    public Object deserializeRecursiveStreaming(final TokenCursor cursor,
+                                                final TypeIdentifier targetType,
+                                                final ExceptionTracker exceptionTracker,
+                                                final Injector injector,
+                                                final DebugInformation debugInformation) {
+        final DeserializationPlan plan = this.deserializationPlans.planFor(targetType);
+        return deserializeWithPlanStreaming(plan, cursor, exceptionTracker, injector, debugInformation);
+    }
+
+    @Override
+    public Object deserializeWithPlan(final DeserializationPlan plan,
+                                      final Universal input,
+                                      final ExceptionTracker exceptionTracker,
+                                      final Injector injector,
+                                      final DebugInformation debugInformation) {
+        final TypeIdentifier targetType = plan.type();
+        final Optional<Object> directInjection = directInjectionFor(targetType, exceptionTracker, injector);
+        if (directInjection.isPresent()) {
+            return directInjection.get();
         }
         if (input instanceof UniversalInjection) {
             final ScanInformation scanInformation = debugInformation.scanInformationFor(targetType);
             throw predeserializedObjectCannotBeDeserialized(scanInformation, input.toNativeJava());
         }
 
-        final Definition definition = this.definitions.getDefinitionForType(targetType);
-        final TypeDeserializer deserializer = definition.deserializer().orElseThrow(() -> {
-            final ScanInformation scanInformation = debugInformation.scanInformationFor(targetType);
-            return mapMaidException(format("No deserializer configured for '%s'",
-                    definition.type().description()), scanInformation);
-        });
-        final Universal resolved = injector.getUniversalInjectionFor(exceptionTracker.getPosition()).orElse(input);
+        final TypeDeserializer deserializer = deserializerFor(plan, debugInformation);
+        final Universal resolved = universalInjectionFor(exceptionTracker, injector).orElse(input);
         return deserializer.deserialize(
                 resolved,
                 exceptionTracker,
@@ -115,4 +170,77 @@ final class InternalDeserializer implements DeserializerCallback {
                 debugInformation
         );
     }
+
+    @Override
+    public Object deserializeWithPlanStreaming(final DeserializationPlan plan,
+                                               final TokenCursor cursor,
+                                               final ExceptionTracker exceptionTracker,
+                                               final Injector injector,
+                                               final DebugInformation debugInformation) {
+        final TypeIdentifier targetType = plan.type();
+        final Optional<Object> directInjection = directInjectionFor(targetType, exceptionTracker, injector);
+        if (directInjection.isPresent()) {
+            skipValue(cursor);
+            return directInjection.get();
+        }
+
+        final TypeDeserializer deserializer = deserializerFor(plan, debugInformation);
+        final Optional<Universal> universalInjection = universalInjectionFor(exceptionTracker, injector);
+        if (universalInjection.isPresent()) {
+            skipValue(cursor);
+            return deserializer.deserialize(
+                    universalInjection.get(),
+                    exceptionTracker,
+                    injector,
+                    this,
+                    this.customPrimitiveMappings,
+                    targetType,
+                    debugInformation
+            );
+        }
+        return deserializer.deserializeStreaming(
+                cursor,
+                exceptionTracker,
+                injector,
+                this,
+                this.customPrimitiveMappings,
+                targetType,
+                debugInformation
+        );
+    }
+
+    private static Optional<Object> directInjectionFor(final TypeIdentifier targetType,
+                                                       final ExceptionTracker exceptionTracker,
+                                                       final Injector injector) {
+        if (injector.isEmpty()) {
+            return Optional.empty();
+        }
+        if (injector.hasNamedDirectInjections()) {
+            final Optional<Object> namedDirectInjection = injector.getDirectInjectionForPropertyPath(
+                    exceptionTracker.getPosition());
+            if (namedDirectInjection.isPresent()) {
+                return namedDirectInjection;
+            }
+        }
+        return injector.getDirectInjectionForType(targetType);
+    }
+
+    private static Optional<Universal> universalInjectionFor(final ExceptionTracker exceptionTracker,
+                                                             final Injector injector) {
+        if (!injector.hasUniversalInjections()) {
+            return Optional.empty();
+        }
+        return injector.getUniversalInjectionFor(exceptionTracker.getPosition());
+    }
+
+    private TypeDeserializer deserializerFor(final DeserializationPlan plan,
+                                             final DebugInformation debugInformation) {
+        if (!plan.isDeserializable()) {
+            final TypeIdentifier targetType = plan.type();
+            final ScanInformation scanInformation = debugInformation.scanInformationFor(targetType);
+            throw mapMaidException(format("No deserializer configured for '%s'",
+                    targetType.description()), scanInformation);
+        }
+        return plan.deserializer();
+    }
 }
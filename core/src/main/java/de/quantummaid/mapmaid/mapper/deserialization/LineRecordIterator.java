@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2020 Richard Hauswald - https://quantummaid.de/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package de.quantummaid.mapmaid.mapper.deserialization;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+
+final class LineRecordIterator<T> implements Iterator<T> {
+    private final BufferedReader reader;
+    private final Function<String, T> recordReader;
+    private String nextLine;
+    private boolean finished;
+
+    private LineRecordIterator(final BufferedReader reader,
+                               final Function<String, T> recordReader) {
+        this.reader = reader;
+        this.recordReader = recordReader;
+    }
+
+    static <T> LineRecordIterator<T> lineRecordIterator(final BufferedReader reader,
+                                                        final Function<String, T> recordReader) {
+        return new LineRecordIterator<>(reader, recordReader);
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (nextLine == null && !finished) {
+            final String line = readLine();
+            if (line == null) {
+                finished = true;
+            } else if (!line.isBlank()) {
+                nextLine = line;
+            }
+        }
+        return nextLine != null;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        final String line = nextLine;
+        nextLine = null;
+        return recordReader.apply(line);
+    }
+
+    private String readLine() {
+        try {
+            return reader.readLine();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2020 Richard Hauswald - https://quantummaid.de/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package de.quantummaid.mapmaid.mapper.deserialization;
+
+import de.quantummaid.mapmaid.mapper.marshalling.streaming.TokenCursor;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+
+import static de.quantummaid.mapmaid.mapper.marshalling.streaming.Token.END_ARRAY;
+
+final class StreamingBatchIterator<T> implements Iterator<T> {
+    private final TokenCursor cursor;
+    private final Function<TokenCursor, T> elementReader;
+    private final Function<InternalUnmarshallingException, RuntimeException> exceptionTranslator;
+    private boolean finished;
+
+    private StreamingBatchIterator(final TokenCursor cursor,
+                                   final Function<TokenCursor, T> elementReader,
+                                   final Function<InternalUnmarshallingException, RuntimeException> exceptionTranslator) {
+        this.cursor = cursor;
+        this.elementReader = elementReader;
+        this.exceptionTranslator = exceptionTranslator;
+    }
+
+    static <T> StreamingBatchIterator<T> streamingBatchIterator(
+            final TokenCursor cursor,
+            final Function<TokenCursor, T> elementReader,
+            final Function<InternalUnmarshallingException, RuntimeException> exceptionTranslator) {
+        return new StreamingBatchIterator<>(cursor, elementReader, exceptionTranslator);
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (finished) {
+            return false;
+        }
+        try {
+            if (cursor.currentToken() != END_ARRAY) {
+                return true;
+            }
+            finished = true;
+            cursor.advance();
+            return false;
+        } catch (final InternalUnmarshallingException e) {
+            throw exceptionTranslator.apply(e);
+        }
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        try {
+            return elementReader.apply(cursor);
+        } catch (final InternalUnmarshallingException e) {
+            throw exceptionTranslator.apply(e);
+        }
+    }
+}
@@ -25,8 +25,10 @@ import de.quantummaid.mapmaid.debug.DebugInformation;
 import de.quantummaid.mapmaid.debug.scaninformation.ScanInformation;
 import de.quantummaid.mapmaid.mapper.MappingFunction;
 import de.quantummaid.mapmaid.mapper.deserialization.DeserializerCallback;
+import de.quantummaid.mapmaid.mapper.deserialization.plan.DeserializationPlans;
 import de.quantummaid.mapmaid.mapper.deserialization.validation.ExceptionTracker;
 import de.quantummaid.mapmaid.mapper.injector.Injector;
+import de.quantummaid.mapmaid.mapper.marshalling.streaming.TokenCursor;
 import de.quantummaid.mapmaid.mapper.schema.SchemaCallback;
 import de.quantummaid.mapmaid.mapper.universal.Universal;
 import de.quantummaid.mapmaid.shared.mapping.CustomPrimitiveMappings;
@@ -35,6 +37,7 @@ import de.quantummaid.reflectmaid.typescanner.TypeIdentifier;
 import java.util.List;
 
 import static de.quantummaid.mapmaid.mapper.deserialization.WrongInputStructureException.wrongInputStructureException;
+import static de.quantummaid.mapmaid.mapper.marshalling.streaming.UniversalReader.readUniversal;
 import static java.lang.String.format;
 
 public interface TypeDeserializer extends MappingFunction {
@@ -48,6 +51,21 @@ public interface TypeDeserializer extends MappingFunction {
                       TypeIdentifier typeIdentifier,
                       DebugInformation debugInformation);
 
+    default <T> T deserializeStreaming(final TokenCursor cursor,
+                                       final ExceptionTracker exceptionTracker,
+                                       final Injector injector,
+                                       final DeserializerCallback callback,
+                                       final CustomPrimitiveMappings customPrimitiveMappings,
+                                       final TypeIdentifier typeIdentifier,
+                                       final DebugInformation debugInformation) {
+        final Universal input = readUniversal(cursor);
+        return deserialize(input, exceptionTracker, injector, callback, customPrimitiveMappings, typeIdentifier, debugInformation);
+    }
+
+    default TypeDeserializer compile(final DeserializationPlans deserializationPlans) {
+        return this;
+    }
+
     String description();
 
     default boolean forcesDependenciesToBeObjects() {
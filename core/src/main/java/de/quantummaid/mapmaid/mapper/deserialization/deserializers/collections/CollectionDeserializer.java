@@ -24,8 +24,10 @@ package de.quantummaid.mapmaid.mapper.deserialization.deserializers.collections;
 import de.quantummaid.mapmaid.debug.DebugInformation;
 import de.quantummaid.mapmaid.mapper.deserialization.DeserializerCallback;
 import de.quantummaid.mapmaid.mapper.deserialization.deserializers.TypeDeserializer;
+import de.quantummaid.mapmaid.mapper.deserialization.plan.DeserializationPlans;
 import de.quantummaid.mapmaid.mapper.deserialization.validation.ExceptionTracker;
 import de.quantummaid.mapmaid.mapper.injector.Injector;
+import de.quantummaid.mapmaid.mapper.marshalling.streaming.TokenCursor;
 import de.quantummaid.mapmaid.mapper.schema.SchemaCallback;
 import de.quantummaid.mapmaid.mapper.universal.Universal;
 import de.quantummaid.mapmaid.mapper.universal.UniversalCollection;
@@ -37,6 +39,10 @@ import java.util.ArrayList;
 import java.util.List;
 
 import static de.quantummaid.mapmaid.mapper.deserialization.deserializers.TypeDeserializer.castSafely;
+import static de.quantummaid.mapmaid.mapper.deserialization.deserializers.collections.CompiledCollectionDeserializer.compiledCollectionDeserializer;
+import static de.quantummaid.mapmaid.mapper.marshalling.streaming.Token.END_ARRAY;
+import static de.quantummaid.mapmaid.mapper.marshalling.streaming.Token.START_ARRAY;
+import static de.quantummaid.mapmaid.mapper.marshalling.streaming.UniversalReader.readUniversal;
 import static de.quantummaid.mapmaid.mapper.schema.SchemaSupport.schemaForCollection;
 import static java.util.Collections.singletonList;
 
@@ -52,6 +58,13 @@ public interface CollectionDeserializer extends TypeDeserializer {
 
     Object listToCollection(List<Object> deserializedElements);
 
+    @Override
+    default TypeDeserializer compile(final DeserializationPlans deserializationPlans) {
+        return deserializationPlans.optionalPlanFor(contentType())
+                .<TypeDeserializer>map(contentPlan -> compiledCollectionDeserializer(this, contentPlan))
+                .orElse(this);
+    }
+
     @Override
     default <T> T deserialize(final Universal input,
                               final ExceptionTracker exceptionTracker,
@@ -70,10 +83,38 @@ public interface CollectionDeserializer extends TypeDeserializer {
         int index = 0;
         for (final Universal element : universalCollection.content()) {
             final Object deserialized = callback.deserializeRecursive(
-                    element, contentType, exceptionTracker.stepIntoArray(index), injector, debugInformation);
+                    element, contentType, exceptionTracker.pushArrayIndex(index), injector, debugInformation);
+            exceptionTracker.pop();
+            deserializedList.add(deserialized);
+            index = index + 1;
+        }
+        return (T) listToCollection(deserializedList);
+    }
+
+    @Override
+    default <T> T deserializeStreaming(final TokenCursor cursor,
+                                       final ExceptionTracker exceptionTracker,
+                                       final Injector injector,
+                                       final DeserializerCallback callback,
+                                       final CustomPrimitiveMappings customPrimitiveMappings,
+                                       final TypeIdentifier typeIdentifier,
+                                       final DebugInformation debugInformation) {
+        if (cursor.currentToken() != START_ARRAY) {
+            final Universal input = readUniversal(cursor);
+            return deserialize(input, exceptionTracker, injector, callback, customPrimitiveMappings, typeIdentifier, debugInformation);
+        }
+        cursor.advance();
+        final List<Object> deserializedList = new ArrayList<>(10);
+        final TypeIdentifier contentType = contentType();
+        int index = 0;
+        while (cursor.currentToken() != END_ARRAY) {
+            final Object deserialized = callback.deserializeRecursiveStreaming(
+                    cursor, contentType, exceptionTracker.pushArrayIndex(index), injector, debugInformation);
+            exceptionTracker.pop();
             deserializedList.add(deserialized);
             index = index + 1;
         }
+        cursor.advance();
         return (T) listToCollection(deserializedList);
     }
 
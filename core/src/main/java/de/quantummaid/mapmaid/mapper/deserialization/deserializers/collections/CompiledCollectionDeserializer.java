@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2020 Richard Hauswald - https://quantummaid.de/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package de.quantummaid.mapmaid.mapper.deserialization.deserializers.collections;
+
+import de.quantummaid.mapmaid.debug.DebugInformation;
+import de.quantummaid.mapmaid.mapper.deserialization.DeserializerCallback;
+import de.quantummaid.mapmaid.mapper.deserialization.deserializers.TypeDeserializer;
+import de.quantummaid.mapmaid.mapper.deserialization.plan.DeserializationPlan;
+import de.quantummaid.mapmaid.mapper.deserialization.plan.DeserializationPlans;
+import de.quantummaid.mapmaid.mapper.deserialization.validation.ExceptionTracker;
+import de.quantummaid.mapmaid.mapper.injector.Injector;
+import de.quantummaid.mapmaid.mapper.marshalling.streaming.TokenCursor;
+import de.quantummaid.mapmaid.mapper.schema.SchemaCallback;
+import de.quantummaid.mapmaid.mapper.universal.Universal;
+import de.quantummaid.mapmaid.mapper.universal.UniversalCollection;
+import de.quantummaid.mapmaid.mapper.universal.UniversalNull;
+import de.quantummaid.mapmaid.shared.mapping.CustomPrimitiveMappings;
+import de.quantummaid.reflectmaid.typescanner.TypeIdentifier;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static de.quantummaid.mapmaid.mapper.deserialization.deserializers.TypeDeserializer.castSafely;
+import static de.quantummaid.mapmaid.mapper.marshalling.streaming.Token.END_ARRAY;
+import static de.quantummaid.mapmaid.mapper.marshalling.streaming.Token.START_ARRAY;
+import static de.quantummaid.mapmaid.mapper.marshalling.streaming.UniversalReader.readUniversal;
+import static de.quantummaid.mapmaid.shared.validators.NotNullValidator.validateNotNull;
+
+@ToString
+@EqualsAndHashCode
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+@SuppressWarnings("unchecked")
+public final class CompiledCollectionDeserializer implements CollectionDeserializer {
+    private final CollectionDeserializer deserializer;
+    private final TypeIdentifier contentType;
+    private final DeserializationPlan contentPlan;
+
+    public static CompiledCollectionDeserializer compiledCollectionDeserializer(final CollectionDeserializer deserializer,
+                                                                               final DeserializationPlan contentPlan) {
+        validateNotNull(deserializer, "deserializer");
+        validateNotNull(contentPlan, "contentPlan");
+        return new CompiledCollectionDeserializer(deserializer, deserializer.contentType(), contentPlan);
+    }
+
+    @Override
+    public TypeIdentifier contentType() {
+        return contentType;
+    }
+
+    @Override
+    public Object listToCollection(final List<Object> deserializedElements) {
+        return deserializer.listToCollection(deserializedElements);
+    }
+
+    @Override
+    public <T> T deserialize(final Universal input,
+                             final ExceptionTracker exceptionTracker,
+                             final Injector injector,
+                             final DeserializerCallback callback,
+                             final CustomPrimitiveMappings customPrimitiveMappings,
+                             final TypeIdentifier typeIdentifier,
+                             final DebugInformation debugInformation) {
+        if (input instanceof UniversalNull) {
+            return null;
+        }
+        final UniversalCollection universalCollection = castSafely(
+                input, UniversalCollection.class, exceptionTracker, typeIdentifier, debugInformation);
+        final List<Universal> content = universalCollection.content();
+        final List<Object> deserializedList = new ArrayList<>(content.size());
+        int index = 0;
+        for (final Universal element : content) {
+            final Object deserialized = callback.deserializeWithPlan(
+                    contentPlan, element, exceptionTracker.pushArrayIndex(index), injector, debugInformation);
+            exceptionTracker.pop();
+            deserializedList.add(deserialized);
+            index = index + 1;
+        }
+        return (T) listToCollection(deserializedList);
+    }
+
+    @Override
+    public <T> T deserializeStreaming(final TokenCursor cursor,
+                                      final ExceptionTracker exceptionTracker,
+                                      final Injector injector,
+                                      final DeserializerCallback callback,
+                                      final CustomPrimitiveMappings customPrimitiveMappings,
+                                      final TypeIdentifier typeIdentifier,
+                                      final DebugInformation debugInformation) {
+        if (cursor.currentToken() != START_ARRAY) {
+            final Universal input = readUniversal(cursor);
+            return deserialize(input, exceptionTracker, injector, callback, customPrimitiveMappings, typeIdentifier, debugInformation);
+        }
+        cursor.advance();
+        final List<Object> deserializedList = new ArrayList<>(10);
+        int index = 0;
+        while (cursor.currentToken() != END_ARRAY) {
+            final Object deserialized = callback.deserializeWithPlanStreaming(
+                    contentPlan, cursor, exceptionTracker.pushArrayIndex(index), injector, debugInformation);
+            exceptionTracker.pop();
+            deserializedList.add(deserialized);
+            index = index + 1;
+        }
+        cursor.advance();
+        return (T) listToCollection(deserializedList);
+    }
+
+    @Override
+    public TypeDeserializer compile(final DeserializationPlans deserializationPlans) {
+        return this;
+    }
+
+    @Override
+    public String description() {
+        return deserializer.description();
+    }
+
+    @Override
+    public Universal schema(final SchemaCallback schemaCallback) {
+        return deserializer.schema(schemaCallback);
+    }
+}
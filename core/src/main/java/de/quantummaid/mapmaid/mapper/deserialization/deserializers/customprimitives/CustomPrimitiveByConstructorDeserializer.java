@@ -22,7 +22,8 @@
 package de.quantummaid.mapmaid.mapper.deserialization.deserializers.customprimitives;
 
 import de.quantummaid.mapmaid.mapper.deserialization.deserializers.TypeDeserializer;
-import de.quantummaid.reflectmaid.Executor;
+import de.quantummaid.mapmaid.mapper.deserialization.plan.DeserializationPlans;
+import de.quantummaid.mapmaid.shared.generation.AccessorStrategy;
 import de.quantummaid.reflectmaid.resolvedtype.ResolvedType;
 import de.quantummaid.reflectmaid.resolvedtype.resolver.ResolvedConstructor;
 import de.quantummaid.reflectmaid.resolvedtype.resolver.ResolvedParameter;
@@ -32,9 +33,11 @@ import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 
 import java.util.List;
+import java.util.function.Function;
 
 import static de.quantummaid.mapmaid.debug.MapMaidException.mapMaidException;
 import static de.quantummaid.mapmaid.mapper.deserialization.deserializers.customprimitives.CustomPrimitiveDeserializer.createDescription;
+import static de.quantummaid.mapmaid.shared.generation.ReflectiveAccessors.reflectiveAccessors;
 import static java.lang.String.format;
 import static java.lang.reflect.Modifier.isAbstract;
 
@@ -45,7 +48,7 @@ import static java.lang.reflect.Modifier.isAbstract;
 public final class CustomPrimitiveByConstructorDeserializer implements CustomPrimitiveDeserializer {
     private final ResolvedType baseType;
     private final ResolvedConstructor constructor;
-    private final Executor executor;
+    private final Function<Object, Object> deserializer;
 
     public static TypeDeserializer createDeserializer(final ResolvedType type,
                                                       final ResolvedConstructor constructor) {
@@ -65,8 +68,8 @@ public final class CustomPrimitiveByConstructorDeserializer implements CustomPri
         }
 
         final ResolvedType baseType = parameterTypes.get(0).getType();
-        final Executor executor = constructor.createExecutor();
-        return new CustomPrimitiveByConstructorDeserializer(baseType, constructor, executor);
+        final Function<Object, Object> deserializer = reflectiveAccessors().singleArgumentFactory(constructor);
+        return new CustomPrimitiveByConstructorDeserializer(baseType, constructor, deserializer);
     }
 
     @Override
@@ -76,7 +79,14 @@ public final class CustomPrimitiveByConstructorDeserializer implements CustomPri
 
     @Override
     public Object deserialize(final Object value) throws Exception {
-        return executor.execute(null, List.of(value));
+        return deserializer.apply(value);
+    }
+
+    @Override
+    public TypeDeserializer compile(final DeserializationPlans deserializationPlans) {
+        final AccessorStrategy accessorStrategy = deserializationPlans.accessorStrategy();
+        return new CustomPrimitiveByConstructorDeserializer(
+                baseType, constructor, accessorStrategy.singleArgumentFactory(constructor));
     }
 
     @Override
@@ -22,7 +22,8 @@
 package de.quantummaid.mapmaid.mapper.deserialization.deserializers.customprimitives;
 
 import de.quantummaid.mapmaid.mapper.deserialization.deserializers.TypeDeserializer;
-import de.quantummaid.reflectmaid.Executor;
+import de.quantummaid.mapmaid.mapper.deserialization.plan.DeserializationPlans;
+import de.quantummaid.mapmaid.shared.generation.AccessorStrategy;
 import de.quantummaid.reflectmaid.resolvedtype.ResolvedType;
 import de.quantummaid.reflectmaid.resolvedtype.resolver.ResolvedMethod;
 import de.quantummaid.reflectmaid.resolvedtype.resolver.ResolvedParameter;
@@ -33,9 +34,11 @@ import lombok.ToString;
 
 import java.lang.reflect.Modifier;
 import java.util.List;
+import java.util.function.Function;
 
 import static de.quantummaid.mapmaid.debug.MapMaidException.mapMaidException;
 import static de.quantummaid.mapmaid.mapper.deserialization.deserializers.customprimitives.CustomPrimitiveDeserializer.createDescription;
+import static de.quantummaid.mapmaid.shared.generation.ReflectiveAccessors.reflectiveAccessors;
 import static java.lang.String.format;
 
 @ToString
@@ -45,7 +48,7 @@ import static java.lang.String.format;
 public final class CustomPrimitiveByMethodDeserializer implements CustomPrimitiveDeserializer {
     private final ResolvedType baseType;
     private final ResolvedMethod deserializationMethod;
-    private final Executor executor;
+    private final Function<Object, Object> deserializer;
 
     public static TypeDeserializer createDeserializer(final ResolvedType type,
                                                       final ResolvedMethod deserializationMethod) {
@@ -72,8 +75,8 @@ public final class CustomPrimitiveByMethodDeserializer implements CustomPrimitiv
         }
 
         final ResolvedType baseType = parameters.get(0).getType();
-        final Executor executor = deserializationMethod.createExecutor();
-        return new CustomPrimitiveByMethodDeserializer(baseType, deserializationMethod, executor);
+        final Function<Object, Object> deserializer = reflectiveAccessors().singleArgumentFactory(deserializationMethod);
+        return new CustomPrimitiveByMethodDeserializer(baseType, deserializationMethod, deserializer);
     }
 
     @Override
@@ -83,7 +86,14 @@ public final class CustomPrimitiveByMethodDeserializer implements CustomPrimitiv
 
     @Override
     public Object deserialize(final Object value) throws Exception {
-        return executor.execute(null, List.of(value));
+        return deserializer.apply(value);
+    }
+
+    @Override
+    public TypeDeserializer compile(final DeserializationPlans deserializationPlans) {
+        final AccessorStrategy accessorStrategy = deserializationPlans.accessorStrategy();
+        return new CustomPrimitiveByMethodDeserializer(
+                baseType, deserializationMethod, accessorStrategy.singleArgumentFactory(deserializationMethod));
     }
 
     public ResolvedMethod method() {
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2020 Richard Hauswald - https://quantummaid.de/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package de.quantummaid.mapmaid.mapper.deserialization.deserializers.serializedobjects;
+
+import de.quantummaid.mapmaid.debug.DebugInformation;
+import de.quantummaid.mapmaid.mapper.deserialization.DeserializerCallback;
+import de.quantummaid.mapmaid.mapper.deserialization.plan.DeserializationPlan;
+import de.quantummaid.mapmaid.mapper.deserialization.plan.DeserializationPlans;
+import de.quantummaid.mapmaid.mapper.deserialization.validation.ExceptionTracker;
+import de.quantummaid.mapmaid.mapper.injector.Injector;
+import de.quantummaid.mapmaid.mapper.marshalling.streaming.TokenCursor;
+import de.quantummaid.mapmaid.mapper.universal.Universal;
+import de.quantummaid.reflectmaid.typescanner.TypeIdentifier;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import static de.quantummaid.mapmaid.shared.validators.NotNullValidator.validateNotNull;
+
+@ToString
+@EqualsAndHashCode
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class CompiledDeserializationField {
+    private final String name;
+    private final TypeIdentifier type;
+    private final DeserializationPlan plan;
+    private final int index;
+    private final int slot;
+
+    public static CompiledDeserializationField compiledDeserializationField(final String name,
+                                                                            final TypeIdentifier type,
+                                                                            final DeserializationPlans deserializationPlans,
+                                                                            final int index,
+                                                                            final int slot) {
+        validateNotNull(name, "name");
+        validateNotNull(type, "type");
+        validateNotNull(deserializationPlans, "deserializationPlans");
+        final DeserializationPlan plan = deserializationPlans.optionalPlanFor(type).orElse(null);
+        return new CompiledDeserializationField(name, type, plan, index, slot);
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public int index() {
+        return index;
+    }
+
+    public Object deserialize(final Universal input,
+                              final ExceptionTracker exceptionTracker,
+                              final Injector injector,
+                              final DeserializerCallback callback,
+                              final DebugInformation debugInformation) {
+        final ExceptionTracker fieldTracker = exceptionTracker.pushField(name);
+        final Object deserialized;
+        if (plan == null) {
+            deserialized = callback.deserializeRecursive(input, type, fieldTracker, injector, debugInformation);
+        } else {
+            deserialized = callback.deserializeWithPlan(plan, input, fieldTracker, injector, debugInformation);
+        }
+        fieldTracker.pop();
+        return deserialized;
+    }
+
+    public Object deserializeStreaming(final TokenCursor cursor,
+                                       final ExceptionTracker exceptionTracker,
+                                       final Injector injector,
+                                       final DeserializerCallback callback,
+                                       final DebugInformation debugInformation) {
+        final ExceptionTracker fieldTracker = exceptionTracker.pushField(name);
+        final Object deserialized;
+        if (plan == null) {
+            deserialized = callback.deserializeRecursiveStreaming(cursor, type, fieldTracker, injector, debugInformation);
+        } else {
+            deserialized = callback.deserializeWithPlanStreaming(plan, cursor, fieldTracker, injector, debugInformation);
+        }
+        fieldTracker.pop();
+        return deserialized;
+    }
+
+    public void store(final Object value, final Object[] arguments) {
+        if (slot >= 0) {
+            arguments[slot] = value;
+        }
+    }
+
+    public Object argument(final Object[] arguments) {
+        if (slot < 0) {
+            return null;
+        }
+        return arguments[slot];
+    }
+}
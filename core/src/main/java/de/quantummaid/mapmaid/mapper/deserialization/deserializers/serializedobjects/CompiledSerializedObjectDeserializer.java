@@ -0,0 +1,222 @@
+/*
+ * Copyright (c) 2020 Richard Hauswald - https://quantummaid.de/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package de.quantummaid.mapmaid.mapper.deserialization.deserializers.serializedobjects;
+
+import de.quantummaid.mapmaid.debug.DebugInformation;
+import de.quantummaid.mapmaid.mapper.deserialization.DeserializerCallback;
+import de.quantummaid.mapmaid.mapper.deserialization.deserializers.TypeDeserializer;
+import de.quantummaid.mapmaid.mapper.deserialization.plan.DeserializationPlans;
+import de.quantummaid.mapmaid.mapper.deserialization.validation.ExceptionTracker;
+import de.quantummaid.mapmaid.mapper.injector.Injector;
+import de.quantummaid.mapmaid.mapper.marshalling.streaming.TokenCursor;
+import de.quantummaid.mapmaid.mapper.schema.SchemaCallback;
+import de.quantummaid.mapmaid.mapper.universal.Universal;
+import de.quantummaid.mapmaid.mapper.universal.UniversalNull;
+import de.quantummaid.mapmaid.mapper.universal.UniversalObject;
+import de.quantummaid.mapmaid.shared.mapping.CustomPrimitiveMappings;
+import de.quantummaid.reflectmaid.typescanner.TypeIdentifier;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.function.Supplier;
+
+import static de.quantummaid.mapmaid.collections.Collection.smallMap;
+import static de.quantummaid.mapmaid.mapper.deserialization.deserializers.TypeDeserializer.castSafely;
+import static de.quantummaid.mapmaid.mapper.deserialization.deserializers.serializedobjects.CompiledDeserializationField.compiledDeserializationField;
+import static de.quantummaid.mapmaid.mapper.deserialization.deserializers.serializedobjects.Util.closeObject;
+import static de.quantummaid.mapmaid.mapper.marshalling.streaming.Token.FIELD_NAME;
+import static de.quantummaid.mapmaid.mapper.marshalling.streaming.Token.START_OBJECT;
+import static de.quantummaid.mapmaid.mapper.marshalling.streaming.UniversalReader.readUniversal;
+import static de.quantummaid.mapmaid.mapper.marshalling.streaming.UniversalReader.skipValue;
+import static de.quantummaid.mapmaid.mapper.universal.UniversalNull.universalNull;
+import static de.quantummaid.mapmaid.shared.validators.NotNullValidator.validateNotNull;
+import static java.lang.String.format;
+
+@ToString
+@EqualsAndHashCode
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class CompiledSerializedObjectDeserializer implements TypeDeserializer {
+    private final SerializedObjectDeserializer deserializer;
+    private final PositionalSerializedObjectDeserializer positionalDeserializer;
+    private final List<CompiledDeserializationField> fields;
+    private final Map<String, CompiledDeserializationField> fieldsByName;
+    private final int argumentCount;
+
+    public static CompiledSerializedObjectDeserializer compiledSerializedObjectDeserializer(
+            final SerializedObjectDeserializer deserializer,
+            final DeserializationPlans deserializationPlans) {
+        validateNotNull(deserializer, "deserializer");
+        validateNotNull(deserializationPlans, "deserializationPlans");
+        final Map<String, TypeIdentifier> fieldTypes = deserializer.fields().fields();
+        final PositionalSerializedObjectDeserializer positionalDeserializer;
+        final List<String> slots;
+        if (deserializer instanceof PositionalSerializedObjectDeserializer) {
+            positionalDeserializer = (PositionalSerializedObjectDeserializer) deserializer;
+            slots = positionalDeserializer.parameterNames();
+        } else {
+            positionalDeserializer = null;
+            slots = new ArrayList<>(fieldTypes.keySet());
+        }
+        final List<CompiledDeserializationField> fields = new ArrayList<>(fieldTypes.size());
+        final Map<String, CompiledDeserializationField> fieldsByName = new HashMap<>(fieldTypes.size() * 2);
+        for (final Entry<String, TypeIdentifier> entry : fieldTypes.entrySet()) {
+            final String name = entry.getKey();
+            final CompiledDeserializationField field = compiledDeserializationField(
+                    name, entry.getValue(), deserializationPlans, fields.size(), slots.indexOf(name));
+            fields.add(field);
+            fieldsByName.put(name, field);
+        }
+        return new CompiledSerializedObjectDeserializer(
+                deserializer, positionalDeserializer, fields, fieldsByName, slots.size());
+    }
+
+    @Override
+    public List<TypeIdentifier> requiredTypes() {
+        return deserializer.requiredTypes();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> T deserialize(final Universal input,
+                             final ExceptionTracker exceptionTracker,
+                             final Injector injector,
+                             final DeserializerCallback callback,
+                             final CustomPrimitiveMappings customPrimitiveMappings,
+                             final TypeIdentifier typeIdentifier,
+                             final DebugInformation debugInformation) {
+        if (input instanceof UniversalNull) {
+            return null;
+        }
+        final UniversalObject universalObject = castSafely(input, UniversalObject.class, exceptionTracker, typeIdentifier, debugInformation);
+        final int previousErrorCount = exceptionTracker.errorCount();
+        final Object[] arguments = new Object[argumentCount];
+        for (final CompiledDeserializationField field : fields) {
+            final Universal elementInput = universalObject.getField(field.name()).orElse(universalNull());
+            final Object elementObject = field.deserialize(elementInput, exceptionTracker, injector, callback, debugInformation);
+            field.store(elementObject, arguments);
+        }
+        return (T) instantiate(arguments, exceptionTracker, previousErrorCount, () -> input.toNativeJava().toString());
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> T deserializeStreaming(final TokenCursor cursor,
+                                      final ExceptionTracker exceptionTracker,
+                                      final Injector injector,
+                                      final DeserializerCallback callback,
+                                      final CustomPrimitiveMappings customPrimitiveMappings,
+                                      final TypeIdentifier typeIdentifier,
+                                      final DebugInformation debugInformation) {
+        if (cursor.currentToken() != START_OBJECT) {
+            final Universal input = readUniversal(cursor);
+            return deserialize(input, exceptionTracker, injector, callback, customPrimitiveMappings, typeIdentifier, debugInformation);
+        }
+        cursor.advance();
+        final int previousErrorCount = exceptionTracker.errorCount();
+        final Object[] arguments = new Object[argumentCount];
+        final boolean[] seen = new boolean[fields.size()];
+        while (cursor.currentToken() == FIELD_NAME) {
+            final CompiledDeserializationField field = fieldsByName.get(cursor.stringValue());
+            cursor.advance();
+            if (field == null) {
+                skipValue(cursor);
+            } else {
+                final Object elementObject = field.deserializeStreaming(cursor, exceptionTracker, injector, callback, debugInformation);
+                field.store(elementObject, arguments);
+                seen[field.index()] = true;
+            }
+        }
+        closeObject(cursor, typeIdentifier, () -> elements(arguments).toString());
+        for (final CompiledDeserializationField field : fields) {
+            if (!seen[field.index()]) {
+                final Object elementObject = field.deserialize(universalNull(), exceptionTracker, injector, callback, debugInformation);
+                field.store(elementObject, arguments);
+            }
+        }
+        return (T) instantiate(arguments, exceptionTracker, previousErrorCount, () -> elements(arguments).toString());
+    }
+
+    private Object instantiate(final Object[] arguments,
+                               final ExceptionTracker exceptionTracker,
+                               final int previousErrorCount,
+                               final Supplier<String> deserializerInput) {
+        if (exceptionTracker.hasErrorsSince(previousErrorCount)) {
+            return null;
+        }
+        try {
+            if (positionalDeserializer != null) {
+                return positionalDeserializer.deserialize(arguments);
+            }
+            return deserializer.deserialize(elements(arguments));
+        } catch (final Exception e) {
+            final String message = format("Exception calling deserialize(elements: %s) on deserializationMethod %s",
+                    elements(arguments), deserializer);
+            exceptionTracker.track(e, message, deserializerInput.get());
+            return null;
+        }
+    }
+
+    private Map<String, Object> elements(final Object[] arguments) {
+        final Map<String, Object> elements = smallMap();
+        for (final CompiledDeserializationField field : fields) {
+            elements.put(field.name(), field.argument(arguments));
+        }
+        return elements;
+    }
+
+    @Override
+    public String description() {
+        return deserializer.description();
+    }
+
+    @Override
+    public Universal schema(final SchemaCallback schemaCallback) {
+        return deserializer.schema(schemaCallback);
+    }
+
+    public Collection<String> fieldNames() {
+        return deserializer.fields().fields().keySet();
+    }
+
+    @Override
+    public boolean forcesDependenciesToBeObjects() {
+        return deserializer.forcesDependenciesToBeObjects();
+    }
+
+    @Override
+    public int numberOfParameters() {
+        return deserializer.numberOfParameters();
+    }
+
+    @Override
+    public TypeDeserializer compile(final DeserializationPlans deserializationPlans) {
+        return this;
+    }
+}
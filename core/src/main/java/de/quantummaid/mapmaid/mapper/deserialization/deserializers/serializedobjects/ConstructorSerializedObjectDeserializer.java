@@ -22,7 +22,10 @@
 package de.quantummaid.mapmaid.mapper.deserialization.deserializers.serializedobjects;
 
 import de.quantummaid.mapmaid.mapper.deserialization.DeserializationFields;
-import de.quantummaid.reflectmaid.Executor;
+import de.quantummaid.mapmaid.mapper.deserialization.deserializers.TypeDeserializer;
+import de.quantummaid.mapmaid.mapper.deserialization.plan.DeserializationPlans;
+import de.quantummaid.mapmaid.shared.generation.AccessorStrategy;
+import de.quantummaid.mapmaid.shared.generation.ObjectFactory;
 import de.quantummaid.reflectmaid.resolvedtype.ClassType;
 import de.quantummaid.reflectmaid.resolvedtype.resolver.ResolvedConstructor;
 import de.quantummaid.reflectmaid.resolvedtype.resolver.ResolvedParameter;
@@ -38,7 +41,9 @@ import java.util.Map;
 
 import static de.quantummaid.mapmaid.debug.MapMaidException.mapMaidException;
 import static de.quantummaid.mapmaid.mapper.deserialization.DeserializationFields.deserializationFields;
+import static de.quantummaid.mapmaid.mapper.deserialization.deserializers.serializedobjects.CompiledSerializedObjectDeserializer.compiledSerializedObjectDeserializer;
 import static de.quantummaid.mapmaid.mapper.deserialization.deserializers.serializedobjects.SerializedObjectDeserializer.createDescription;
+import static de.quantummaid.mapmaid.shared.generation.ReflectiveAccessors.reflectiveAccessors;
 import static de.quantummaid.reflectmaid.typescanner.TypeIdentifier.typeIdentifierFor;
 import static java.lang.String.format;
 import static java.lang.reflect.Modifier.isAbstract;
@@ -48,11 +53,11 @@ import static java.util.stream.Collectors.toMap;
 @ToString
 @EqualsAndHashCode
 @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
-public final class ConstructorSerializedObjectDeserializer implements SerializedObjectDeserializer {
+public final class ConstructorSerializedObjectDeserializer implements PositionalSerializedObjectDeserializer {
     private final DeserializationFields fields;
     private final ResolvedConstructor factoryConstructor;
-    private final Executor executor;
     private final List<String> parameterNames;
+    private final ObjectFactory factory;
 
     public static SerializedObjectDeserializer createDeserializer(final ClassType type,
                                                                   final ResolvedConstructor deserializationConstructor) {
@@ -72,13 +77,31 @@ public final class ConstructorSerializedObjectDeserializer implements Serialized
                         ResolvedParameter::name,
                         parameter -> typeIdentifierFor(parameter.getType())
                 ));
-        final Executor executor = factoryConstructor.createExecutor();
-        return new ConstructorSerializedObjectDeserializer(deserializationFields(parameterFields), factoryConstructor, executor, parameterNames);
+        final ObjectFactory factory = reflectiveAccessors().factory(factoryConstructor);
+        return new ConstructorSerializedObjectDeserializer(deserializationFields(parameterFields), factoryConstructor, parameterNames, factory);
     }
 
     @Override
     public Object deserialize(final Map<String, Object> elements) throws Exception {
-        return Util.deserialize(elements, parameterNames, executor);
+        return factory.create(Util.arguments(elements, parameterNames));
+    }
+
+    @Override
+    public Object deserialize(final Object[] arguments) throws Exception {
+        return factory.create(arguments);
+    }
+
+    @Override
+    public TypeDeserializer compile(final DeserializationPlans deserializationPlans) {
+        final AccessorStrategy accessorStrategy = deserializationPlans.accessorStrategy();
+        final ConstructorSerializedObjectDeserializer deserializer = new ConstructorSerializedObjectDeserializer(
+                fields, factoryConstructor, parameterNames, accessorStrategy.factory(factoryConstructor));
+        return compiledSerializedObjectDeserializer(deserializer, deserializationPlans);
+    }
+
+    @Override
+    public List<String> parameterNames() {
+        return this.parameterNames;
     }
 
     @Override
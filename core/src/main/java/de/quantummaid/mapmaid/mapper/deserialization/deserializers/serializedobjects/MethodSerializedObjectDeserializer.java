@@ -22,7 +22,10 @@
 package de.quantummaid.mapmaid.mapper.deserialization.deserializers.serializedobjects;
 
 import de.quantummaid.mapmaid.mapper.deserialization.DeserializationFields;
-import de.quantummaid.reflectmaid.Executor;
+import de.quantummaid.mapmaid.mapper.deserialization.deserializers.TypeDeserializer;
+import de.quantummaid.mapmaid.mapper.deserialization.plan.DeserializationPlans;
+import de.quantummaid.mapmaid.shared.generation.AccessorStrategy;
+import de.quantummaid.mapmaid.shared.generation.ObjectFactory;
 import de.quantummaid.reflectmaid.resolvedtype.ClassType;
 import de.quantummaid.reflectmaid.resolvedtype.resolver.ResolvedMethod;
 import de.quantummaid.reflectmaid.resolvedtype.resolver.ResolvedParameter;
@@ -39,7 +42,9 @@ import java.util.stream.Collectors;
 
 import static de.quantummaid.mapmaid.debug.MapMaidException.mapMaidException;
 import static de.quantummaid.mapmaid.mapper.deserialization.DeserializationFields.deserializationFields;
+import static de.quantummaid.mapmaid.mapper.deserialization.deserializers.serializedobjects.CompiledSerializedObjectDeserializer.compiledSerializedObjectDeserializer;
 import static de.quantummaid.mapmaid.mapper.deserialization.deserializers.serializedobjects.SerializedObjectDeserializer.createDescription;
+import static de.quantummaid.mapmaid.shared.generation.ReflectiveAccessors.reflectiveAccessors;
 import static de.quantummaid.reflectmaid.typescanner.TypeIdentifier.typeIdentifierFor;
 import static java.lang.String.format;
 import static java.lang.reflect.Modifier.isAbstract;
@@ -49,11 +54,11 @@ import static java.util.stream.Collectors.toList;
 @ToString
 @EqualsAndHashCode
 @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
-public final class MethodSerializedObjectDeserializer implements SerializedObjectDeserializer {
+public final class MethodSerializedObjectDeserializer implements PositionalSerializedObjectDeserializer {
     private final DeserializationFields fields;
     private final ResolvedMethod factoryMethod;
-    private final Executor executor;
     private final List<String> parameterNames;
+    private final ObjectFactory factory;
 
     public static SerializedObjectDeserializer methodDeserializer(final ClassType type,
                                                                   final ResolvedMethod deserializationMethod) {
@@ -72,13 +77,31 @@ public final class MethodSerializedObjectDeserializer implements SerializedObjec
                         ResolvedParameter::name,
                         resolvedParameter -> typeIdentifierFor(resolvedParameter.getType())
                 ));
-        final Executor executor = factoryMethod.createExecutor();
-        return new MethodSerializedObjectDeserializer(deserializationFields(parameterFields), factoryMethod, executor, parameterNames);
+        final ObjectFactory factory = reflectiveAccessors().factory(factoryMethod);
+        return new MethodSerializedObjectDeserializer(deserializationFields(parameterFields), factoryMethod, parameterNames, factory);
     }
 
     @Override
     public Object deserialize(final Map<String, Object> elements) throws Exception {
-        return Util.deserialize(elements, parameterNames, executor);
+        return factory.create(Util.arguments(elements, parameterNames));
+    }
+
+    @Override
+    public Object deserialize(final Object[] arguments) throws Exception {
+        return factory.create(arguments);
+    }
+
+    @Override
+    public TypeDeserializer compile(final DeserializationPlans deserializationPlans) {
+        final AccessorStrategy accessorStrategy = deserializationPlans.accessorStrategy();
+        final MethodSerializedObjectDeserializer deserializer = new MethodSerializedObjectDeserializer(
+                fields, factoryMethod, parameterNames, accessorStrategy.factory(factoryMethod));
+        return compiledSerializedObjectDeserializer(deserializer, deserializationPlans);
+    }
+
+    @Override
+    public List<String> parameterNames() {
+        return this.parameterNames;
     }
 
     @Override
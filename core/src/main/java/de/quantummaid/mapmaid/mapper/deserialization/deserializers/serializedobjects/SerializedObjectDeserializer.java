@@ -25,8 +25,10 @@ import de.quantummaid.mapmaid.debug.DebugInformation;
 import de.quantummaid.mapmaid.mapper.deserialization.DeserializationFields;
 import de.quantummaid.mapmaid.mapper.deserialization.DeserializerCallback;
 import de.quantummaid.mapmaid.mapper.deserialization.deserializers.TypeDeserializer;
+import de.quantummaid.mapmaid.mapper.deserialization.plan.DeserializationPlans;
 import de.quantummaid.mapmaid.mapper.deserialization.validation.ExceptionTracker;
 import de.quantummaid.mapmaid.mapper.injector.Injector;
+import de.quantummaid.mapmaid.mapper.marshalling.streaming.TokenCursor;
 import de.quantummaid.mapmaid.mapper.schema.SchemaCallback;
 import de.quantummaid.mapmaid.mapper.universal.Universal;
 import de.quantummaid.mapmaid.mapper.universal.UniversalNull;
@@ -40,6 +42,12 @@ import java.util.Map.Entry;
 
 import static de.quantummaid.mapmaid.collections.Collection.smallMap;
 import static de.quantummaid.mapmaid.mapper.deserialization.deserializers.TypeDeserializer.castSafely;
+import static de.quantummaid.mapmaid.mapper.deserialization.deserializers.serializedobjects.CompiledSerializedObjectDeserializer.compiledSerializedObjectDeserializer;
+import static de.quantummaid.mapmaid.mapper.deserialization.deserializers.serializedobjects.Util.closeObject;
+import static de.quantummaid.mapmaid.mapper.marshalling.streaming.Token.FIELD_NAME;
+import static de.quantummaid.mapmaid.mapper.marshalling.streaming.Token.START_OBJECT;
+import static de.quantummaid.mapmaid.mapper.marshalling.streaming.UniversalReader.readUniversal;
+import static de.quantummaid.mapmaid.mapper.marshalling.streaming.UniversalReader.skipValue;
 import static de.quantummaid.mapmaid.mapper.schema.SchemaSupport.schemaForObject;
 import static de.quantummaid.mapmaid.mapper.universal.UniversalNull.universalNull;
 import static java.lang.String.format;
@@ -57,6 +65,11 @@ public interface SerializedObjectDeserializer extends TypeDeserializer {
 
     DeserializationFields fields();
 
+    @Override
+    default TypeDeserializer compile(final DeserializationPlans deserializationPlans) {
+        return compiledSerializedObjectDeserializer(this, deserializationPlans);
+    }
+
     Object deserialize(Map<String, Object> elements) throws Exception; // NOSONAR
 
     @SuppressWarnings("unchecked")
@@ -72,6 +85,7 @@ public interface SerializedObjectDeserializer extends TypeDeserializer {
             return null;
         }
         final UniversalObject universalObject = castSafely(input, UniversalObject.class, exceptionTracker, typeIdentifier, debugInformation);
+        final int previousErrorCount = exceptionTracker.errorCount();
         final DeserializationFields deserializationFields = fields();
         final Map<String, Object> elements = smallMap();
         for (final Entry<String, TypeIdentifier> entry : deserializationFields.fields().entrySet()) {
@@ -82,13 +96,71 @@ public interface SerializedObjectDeserializer extends TypeDeserializer {
             final Object elementObject = callback.deserializeRecursive(
                     elementInput,
                     elementType,
-                    exceptionTracker.stepInto(elementName),
+                    exceptionTracker.pushField(elementName),
                     injector,
                     debugInformation);
+            exceptionTracker.pop();
             elements.put(elementName, elementObject);
         }
+        return instantiate(elements, exceptionTracker, previousErrorCount, input.toNativeJava().toString());
+    }
 
-        if (exceptionTracker.validationResult().hasValidationErrors()) {
+    @Override
+    default <T> T deserializeStreaming(final TokenCursor cursor,
+                                       final ExceptionTracker exceptionTracker,
+                                       final Injector injector,
+                                       final DeserializerCallback callback,
+                                       final CustomPrimitiveMappings customPrimitiveMappings,
+                                       final TypeIdentifier typeIdentifier,
+                                       final DebugInformation debugInformation) {
+        if (cursor.currentToken() != START_OBJECT) {
+            final Universal input = readUniversal(cursor);
+            return deserialize(input, exceptionTracker, injector, callback, customPrimitiveMappings, typeIdentifier, debugInformation);
+        }
+        cursor.advance();
+        final int previousErrorCount = exceptionTracker.errorCount();
+        final Map<String, TypeIdentifier> fields = fields().fields();
+        final Map<String, Object> elements = smallMap();
+        while (cursor.currentToken() == FIELD_NAME) {
+            final String elementName = cursor.stringValue();
+            cursor.advance();
+            final TypeIdentifier elementType = fields.get(elementName);
+            if (elementType == null) {
+                skipValue(cursor);
+            } else {
+                final Object elementObject = callback.deserializeRecursiveStreaming(
+                        cursor,
+                        elementType,
+                        exceptionTracker.pushField(elementName),
+                        injector,
+                        debugInformation);
+                exceptionTracker.pop();
+                elements.put(elementName, elementObject);
+            }
+        }
+        closeObject(cursor, typeIdentifier, elements::toString);
+        for (final Entry<String, TypeIdentifier> entry : fields.entrySet()) {
+            final String elementName = entry.getKey();
+            if (!elements.containsKey(elementName)) {
+                final Object elementObject = callback.deserializeRecursive(
+                        universalNull(),
+                        entry.getValue(),
+                        exceptionTracker.pushField(elementName),
+                        injector,
+                        debugInformation);
+                exceptionTracker.pop();
+                elements.put(elementName, elementObject);
+            }
+        }
+        return instantiate(elements, exceptionTracker, previousErrorCount, elements.toString());
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T instantiate(final Map<String, Object> elements,
+                              final ExceptionTracker exceptionTracker,
+                              final int previousErrorCount,
+                              final String deserializerInput) {
+        if (exceptionTracker.hasErrorsSince(previousErrorCount)) {
             return null;
         } else {
             try {
@@ -96,7 +168,6 @@ public interface SerializedObjectDeserializer extends TypeDeserializer {
             } catch (final Exception e) {
                 final String message = format("Exception calling deserialize(elements: %s) on deserializationMethod %s",
                         elements, this);
-                final String deserializerInput = input.toNativeJava().toString();
                 exceptionTracker.track(e, message, deserializerInput);
                 return null;
             }
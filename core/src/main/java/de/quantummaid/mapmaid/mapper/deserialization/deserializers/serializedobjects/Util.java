@@ -21,25 +21,39 @@
 
 package de.quantummaid.mapmaid.mapper.deserialization.deserializers.serializedobjects;
 
-import de.quantummaid.reflectmaid.Executor;
+import de.quantummaid.mapmaid.mapper.marshalling.streaming.TokenCursor;
+import de.quantummaid.reflectmaid.typescanner.TypeIdentifier;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
+
+import static de.quantummaid.mapmaid.mapper.deserialization.InternalUnmarshallingException.internalUnmarshallingException;
+import static de.quantummaid.mapmaid.mapper.marshalling.streaming.Token.END_OBJECT;
+import static java.lang.String.format;
 
 final class Util {
 
     private Util() {
     }
 
-    static Object deserialize(final Map<String, Object> elements,
-                              final List<String> parameterNames,
-                              final Executor executor) {
-        final List<Object> parameters = new ArrayList<>(parameterNames.size());
-        for (final String parameterName : parameterNames) {
-            final Object parameter = elements.get(parameterName);
-            parameters.add(parameter);
+    static Object[] arguments(final Map<String, Object> elements,
+                              final List<String> parameterNames) {
+        final Object[] arguments = new Object[parameterNames.size()];
+        for (int i = 0; i < arguments.length; ++i) {
+            arguments[i] = elements.get(parameterNames.get(i));
+        }
+        return arguments;
+    }
+
+    static void closeObject(final TokenCursor cursor,
+                            final TypeIdentifier typeIdentifier,
+                            final Supplier<String> input) {
+        if (cursor.currentToken() != END_OBJECT) {
+            final String message = format("expected %s of %s but found %s",
+                    END_OBJECT.describe(), typeIdentifier.description(), cursor.currentToken().describe());
+            throw internalUnmarshallingException(input.get(), new IllegalArgumentException(message));
         }
-        return executor.execute(null, parameters);
+        cursor.advance();
     }
 }
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2020 Richard Hauswald - https://quantummaid.de/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package de.quantummaid.mapmaid.mapper.deserialization.plan;
+
+import de.quantummaid.mapmaid.mapper.deserialization.deserializers.TypeDeserializer;
+import de.quantummaid.reflectmaid.typescanner.TypeIdentifier;
+
+import static de.quantummaid.mapmaid.debug.MapMaidException.mapMaidException;
+import static de.quantummaid.mapmaid.shared.validators.NotNullValidator.validateNotNull;
+import static java.lang.String.format;
+
+public final class DeserializationPlan {
+    private final TypeIdentifier type;
+    private TypeDeserializer deserializer;
+    private boolean linked;
+
+    private DeserializationPlan(final TypeIdentifier type) {
+        this.type = type;
+    }
+
+    static DeserializationPlan deserializationPlan(final TypeIdentifier type) {
+        validateNotNull(type, "type");
+        return new DeserializationPlan(type);
+    }
+
+    void link(final TypeDeserializer deserializer) {
+        if (linked) {
+            throw mapMaidException(format("deserialization plan for %s has already been linked - this should never happen",
+                    type.description()));
+        }
+        this.deserializer = deserializer;
+        this.linked = true;
+    }
+
+    public TypeIdentifier type() {
+        return type;
+    }
+
+    public boolean isDeserializable() {
+        return deserializer != null;
+    }
+
+    public TypeDeserializer deserializer() {
+        return deserializer;
+    }
+
+    @Override
+    public String toString() {
+        return format("DeserializationPlan(%s)", type.description());
+    }
+}
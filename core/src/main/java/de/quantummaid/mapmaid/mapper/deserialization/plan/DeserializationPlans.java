@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2020 Richard Hauswald - https://quantummaid.de/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package de.quantummaid.mapmaid.mapper.deserialization.plan;
+
+import de.quantummaid.mapmaid.debug.DebugInformation;
+import de.quantummaid.mapmaid.mapper.definitions.Definition;
+import de.quantummaid.mapmaid.mapper.definitions.Definitions;
+import de.quantummaid.mapmaid.mapper.deserialization.deserializers.TypeDeserializer;
+import de.quantummaid.mapmaid.shared.generation.AccessorStrategy;
+import de.quantummaid.reflectmaid.typescanner.TypeIdentifier;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import static de.quantummaid.mapmaid.mapper.definitions.DefinitionNotFoundException.definitionNotFound;
+import static de.quantummaid.mapmaid.mapper.deserialization.plan.DeserializationPlan.deserializationPlan;
+import static de.quantummaid.mapmaid.shared.validators.NotNullValidator.validateNotNull;
+import static java.util.Optional.ofNullable;
+
+@ToString
+@EqualsAndHashCode
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class DeserializationPlans {
+    private final Map<TypeIdentifier, DeserializationPlan> plans;
+    private final DebugInformation debugInformation;
+    private final AccessorStrategy accessorStrategy;
+
+    public static DeserializationPlans compileDeserializationPlans(final Definitions definitions,
+                                                                   final AccessorStrategy accessorStrategy) {
+        validateNotNull(definitions, "definitions");
+        validateNotNull(accessorStrategy, "accessorStrategy");
+        final Map<TypeIdentifier, DeserializationPlan> plans = new HashMap<>();
+        definitions.allDefinitions().forEach(definition -> {
+            final TypeIdentifier type = definition.type();
+            plans.put(type, deserializationPlan(type));
+        });
+        final DeserializationPlans deserializationPlans = new DeserializationPlans(plans, definitions.debugInformation(), accessorStrategy);
+        definitions.allDefinitions().forEach(deserializationPlans::link);
+        return deserializationPlans;
+    }
+
+    private void link(final Definition definition) {
+        final TypeDeserializer deserializer = definition.deserializer()
+                .map(typeDeserializer -> typeDeserializer.compile(this))
+                .orElse(null);
+        final DeserializationPlan plan = plans.get(definition.type());
+        plan.link(deserializer);
+    }
+
+    public AccessorStrategy accessorStrategy() {
+        return accessorStrategy;
+    }
+
+    public DeserializationPlan planFor(final TypeIdentifier type) {
+        final DeserializationPlan plan = plans.get(type);
+        if (plan == null) {
+            throw definitionNotFound(type, debugInformation.dumpAll());
+        }
+        return plan;
+    }
+
+    public Optional<DeserializationPlan> optionalPlanFor(final TypeIdentifier type) {
+        return ofNullable(plans.get(type));
+    }
+}
@@ -23,7 +23,6 @@ package de.quantummaid.mapmaid.mapper.deserialization.validation;
 
 import de.quantummaid.mapmaid.mapper.universal.Universal;
 import lombok.AccessLevel;
-import lombok.EqualsAndHashCode;
 import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 import lombok.extern.slf4j.Slf4j;
@@ -34,28 +33,28 @@ import java.util.ArrayList;
 import java.util.List;
 
 import static de.quantummaid.mapmaid.mapper.deserialization.DeserializationContext.deserializationContext;
-import static java.lang.String.format;
+import static java.util.Collections.emptyList;
 
 @Slf4j
 @ToString
-@EqualsAndHashCode
 @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
 public final class ExceptionTracker {
     private final TrackingPosition position;
     private final ValidationMappings validationMappings;
     private final Universal originalInput;
+    private final ExceptionTracker parent;
 
-    private final List<ValidationError> validationErrors = new ArrayList<>(3);
-    private final List<ExceptionTracker> children = new ArrayList<>(3);
+    private List<ValidationError> validationErrors;
 
     public static ExceptionTracker emptyTracker(final Universal originalInput, final ValidationMappings validationMappings) {
-        return initializedTracker(TrackingPosition.empty(), validationMappings, originalInput);
+        return initializedTracker(TrackingPosition.empty(), validationMappings, originalInput, null);
     }
 
     private static ExceptionTracker initializedTracker(final TrackingPosition position,
                                                        final ValidationMappings validationMappings,
-                                                       final Universal originalInput) {
-        return new ExceptionTracker(position, validationMappings, originalInput);
+                                                       final Universal originalInput,
+                                                       final ExceptionTracker parent) {
+        return new ExceptionTracker(position, validationMappings, originalInput, parent);
     }
 
     private static Throwable resolveThrowable(final Throwable raw) {
@@ -78,7 +77,17 @@ public final class ExceptionTracker {
         final String propertyPath = this.position.render();
         log.debug("Aggregating deserialization exception at {}", propertyPath, e);
         final List<ValidationError> mapped = exceptionMapping.map(resolvedThrowable, propertyPath);
-        this.validationErrors.addAll(mapped);
+        record(mapped);
+    }
+
+    private void record(final List<ValidationError> errors) {
+        if (this.validationErrors == null) {
+            this.validationErrors = new ArrayList<>(3);
+        }
+        this.validationErrors.addAll(errors);
+        if (this.parent != null) {
+            this.parent.record(errors);
+        }
     }
 
     @NotNull
@@ -97,24 +106,47 @@ public final class ExceptionTracker {
     }
 
     public ExceptionTracker stepInto(final String name) {
-        final ExceptionTracker exceptionTracker = initializedTracker(
-                this.position.next(name), this.validationMappings, this.originalInput);
-        this.children.add(exceptionTracker);
-        return exceptionTracker;
+        final TrackingPosition childPosition = this.position.copy();
+        childPosition.push(name);
+        return initializedTracker(childPosition, this.validationMappings, this.originalInput, this);
     }
 
     public ExceptionTracker stepIntoArray(final int index) {
-        return this.stepInto(format("[%d]", index));
+        final TrackingPosition childPosition = this.position.copy();
+        childPosition.pushIndex(index);
+        return initializedTracker(childPosition, this.validationMappings, this.originalInput, this);
     }
 
-    public ValidationResult validationResult() {
-        return ValidationResult.validationResult(this.allValidationErrors());
+    public ExceptionTracker pushField(final String name) {
+        this.position.push(name);
+        return this;
+    }
+
+    public ExceptionTracker pushArrayIndex(final int index) {
+        this.position.pushIndex(index);
+        return this;
+    }
+
+    public void pop() {
+        this.position.pop();
+    }
+
+    public int errorCount() {
+        if (this.validationErrors == null) {
+            return 0;
+        }
+        return this.validationErrors.size();
     }
 
-    private List<ValidationError> allValidationErrors() {
-        final List<ValidationError> allValidationErrors = new ArrayList<>(this.validationErrors);
-        this.children.forEach(child -> allValidationErrors.addAll(child.allValidationErrors()));
-        return allValidationErrors;
+    public boolean hasErrorsSince(final int previousErrorCount) {
+        return errorCount() > previousErrorCount;
+    }
+
+    public ValidationResult validationResult() {
+        if (this.validationErrors == null) {
+            return ValidationResult.validationResult(emptyList());
+        }
+        return ValidationResult.validationResult(new ArrayList<>(this.validationErrors));
     }
 
     public String getPosition() {
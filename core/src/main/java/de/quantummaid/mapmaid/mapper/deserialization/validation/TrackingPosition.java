@@ -19,35 +19,79 @@
  * under the License.
  */
 
+
 package de.quantummaid.mapmaid.mapper.deserialization.validation;
 
-import lombok.EqualsAndHashCode;
-import lombok.RequiredArgsConstructor;
-import lombok.ToString;
+import static java.util.Arrays.copyOf;
 
-import java.util.ArrayList;
-import java.util.List;
+final class TrackingPosition {
+    private static final int INITIAL_CAPACITY = 16;
 
-import static de.quantummaid.mapmaid.collections.Collection.smallList;
-import static java.lang.String.join;
+    private String[] names;
+    private int[] indices;
+    private int depth;
 
-@ToString
-@EqualsAndHashCode
-@RequiredArgsConstructor
-final class TrackingPosition {
-    private final List<String> positions;
+    private TrackingPosition(final String[] names, final int[] indices) {
+        this.names = names;
+        this.indices = indices;
+    }
 
     static TrackingPosition empty() {
-        return new TrackingPosition(smallList());
+        return new TrackingPosition(new String[INITIAL_CAPACITY], new int[INITIAL_CAPACITY]);
+    }
+
+    TrackingPosition copy() {
+        final TrackingPosition copy = new TrackingPosition(copyOf(this.names, this.names.length), copyOf(this.indices, this.indices.length));
+        copy.depth = this.depth;
+        return copy;
+    }
+
+    void push(final String name) {
+        ensureCapacity();
+        this.names[this.depth] = name;
+        this.depth = this.depth + 1;
+    }
+
+    void pushIndex(final int index) {
+        ensureCapacity();
+        this.names[this.depth] = null;
+        this.indices[this.depth] = index;
+        this.depth = this.depth + 1;
     }
 
-    TrackingPosition next(final String name) {
-        final List<String> newPositions = new ArrayList<>(this.positions);
-        newPositions.add(name);
-        return new TrackingPosition(newPositions);
+    void pop() {
+        this.depth = this.depth - 1;
+        this.names[this.depth] = null;
     }
 
     String render() {
-        return join(".", this.positions);
+        if (this.depth == 0) {
+            return "";
+        }
+        final StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < this.depth; ++i) {
+            if (i > 0) {
+                builder.append('.');
+            }
+            final String name = this.names[i];
+            if (name == null) {
+                builder.append('[').append(this.indices[i]).append(']');
+            } else {
+                builder.append(name);
+            }
+        }
+        return builder.toString();
+    }
+
+    private void ensureCapacity() {
+        if (this.depth == this.names.length) {
+            this.names = copyOf(this.names, this.depth * 2);
+            this.indices = copyOf(this.indices, this.depth * 2);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "TrackingPosition(" + render() + ")";
     }
 }
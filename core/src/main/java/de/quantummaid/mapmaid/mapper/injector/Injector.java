@@ -32,9 +32,11 @@ import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static de.quantummaid.mapmaid.collections.Collection.smallList;
+import static de.quantummaid.mapmaid.collections.Collection.smallMap;
 import static de.quantummaid.mapmaid.mapper.injector.NamedDirectInjection.namedDirectInjection;
 import static de.quantummaid.mapmaid.mapper.injector.PropertyName.propertyName;
 import static de.quantummaid.mapmaid.mapper.injector.TypedDirectInjection.typedDirectInjection;
@@ -45,21 +47,23 @@ import static de.quantummaid.mapmaid.mapper.injector.UniversalInjection.universa
 @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
 public final class Injector {
     private final ReflectMaid reflectMaid;
-    private final List<UniversalInjection> universalInjections = smallList();
-    private final List<NamedDirectInjection> namedDirectInjections = smallList();
+    private final Map<String, UniversalInjection> universalInjections = smallMap();
+    private final Map<String, NamedDirectInjection> namedDirectInjections = smallMap();
     private final List<TypedDirectInjection> typedDirectInjections = smallList();
+    private final Map<TypeIdentifier, Optional<Object>> typedDirectInjectionsByType = smallMap();
 
     static Injector empty(final ReflectMaid reflectMaid) {
         return new Injector(reflectMaid);
     }
 
     public Injector put(final String propertyName, final String value) {
-        this.universalInjections.add(universalInjection(propertyName(propertyName), UniversalPrimitive.universalPrimitive(value)));
+        this.universalInjections.putIfAbsent(propertyName, universalInjection(
+                propertyName(propertyName), UniversalPrimitive.universalPrimitive(value)));
         return this;
     }
 
     public Injector put(final String propertyName, final Object instance) {
-        this.namedDirectInjections.add(namedDirectInjection(propertyName(propertyName), instance));
+        this.namedDirectInjections.putIfAbsent(propertyName, namedDirectInjection(propertyName(propertyName), instance));
         return this;
     }
 
@@ -74,29 +78,48 @@ public final class Injector {
 
     public Injector put(final ResolvedType type, final Object instance) {
         this.typedDirectInjections.add(typedDirectInjection(type, instance));
+        this.typedDirectInjectionsByType.clear();
         return this;
     }
 
+    public boolean isEmpty() {
+        return this.universalInjections.isEmpty() &&
+                this.namedDirectInjections.isEmpty() &&
+                this.typedDirectInjections.isEmpty();
+    }
+
+    public boolean hasUniversalInjections() {
+        return !this.universalInjections.isEmpty();
+    }
+
+    public boolean hasNamedDirectInjections() {
+        return !this.namedDirectInjections.isEmpty();
+    }
+
     public Optional<Universal> getUniversalInjectionFor(final String position) {
-        final PropertyName propertyName = propertyName(position);
-        return this.universalInjections.stream()
-                .filter(injection -> injection.propertyName().equals(propertyName))
-                .findFirst()
-                .map(UniversalInjection::value);
+        final UniversalInjection injection = this.universalInjections.get(position);
+        if (injection == null) {
+            return Optional.empty();
+        }
+        return Optional.of(injection.value());
     }
 
     public Optional<Object> getDirectInjectionForPropertyPath(final String position) {
-        final PropertyName propertyName = propertyName(position);
-        return this.namedDirectInjections.stream()
-                .filter(injection -> injection.propertyName().equals(propertyName))
-                .findFirst()
-                .map(NamedDirectInjection::value);
+        final NamedDirectInjection injection = this.namedDirectInjections.get(position);
+        if (injection == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(injection.value());
     }
 
     public Optional<Object> getDirectInjectionForType(final TypeIdentifier typeIdentifier) {
-        if (typeIdentifier.isVirtual()) {
+        if (this.typedDirectInjections.isEmpty() || typeIdentifier.isVirtual()) {
             return Optional.empty();
         }
+        return this.typedDirectInjectionsByType.computeIfAbsent(typeIdentifier, this::lookupDirectInjectionForType);
+    }
+
+    private Optional<Object> lookupDirectInjectionForType(final TypeIdentifier typeIdentifier) {
         final ResolvedType type = typeIdentifier.realType();
         final Class<?> clazz = type.assignableType();
         return this.typedDirectInjections.stream()
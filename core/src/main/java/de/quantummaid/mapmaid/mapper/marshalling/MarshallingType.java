@@ -26,6 +26,9 @@ import lombok.EqualsAndHashCode;
 import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 
+import java.util.Optional;
+
+import static de.quantummaid.mapmaid.shared.validators.NotNullValidator.validateNotNull;
 import static de.quantummaid.mapmaid.shared.validators.RequiredStringValidator.validateNotNullNorEmpty;
 
 @ToString
@@ -37,15 +40,30 @@ public final class MarshallingType<T> {
     public static final MarshallingType<String> JSON = marshallingType("json");
     public static final MarshallingType<String> XML = marshallingType("xml");
     public static final MarshallingType<String> YAML = marshallingType("yaml");
+    public static final MarshallingType<byte[]> JSON_BYTES = bytesMarshallingType("jsonbytes", JSON);
+    public static final MarshallingType<byte[]> XML_BYTES = bytesMarshallingType("xmlbytes", XML);
+    public static final MarshallingType<byte[]> YAML_BYTES = bytesMarshallingType("yamlbytes", YAML);
 
     private final String type;
+    private final MarshallingType<String> textualCounterpart;
 
     public static <T> MarshallingType<T> marshallingType(final String type) {
         validateNotNullNorEmpty(type, "type");
-        return new MarshallingType<>(type);
+        return new MarshallingType<>(type, null);
+    }
+
+    public static MarshallingType<byte[]> bytesMarshallingType(final String type,
+                                                               final MarshallingType<String> textualCounterpart) {
+        validateNotNullNorEmpty(type, "type");
+        validateNotNull(textualCounterpart, "textualCounterpart");
+        return new MarshallingType<>(type, textualCounterpart);
     }
 
     public String internalValueForMapping() {
         return this.type;
     }
+
+    public Optional<MarshallingType<String>> textualCounterpart() {
+        return Optional.ofNullable(this.textualCounterpart);
+    }
 }
@@ -24,19 +24,47 @@ package de.quantummaid.mapmaid.mapper.marshalling.registry;
 import de.quantummaid.mapmaid.mapper.marshalling.Marshaller;
 import de.quantummaid.mapmaid.mapper.marshalling.MarshallingType;
 import de.quantummaid.mapmaid.mapper.marshalling.registry.modifier.MarshallingModifier;
+import de.quantummaid.mapmaid.mapper.marshalling.registry.modifier.StreamingMarshallingModifier;
+import de.quantummaid.mapmaid.mapper.marshalling.streaming.NativeBuildingSink;
+import de.quantummaid.mapmaid.mapper.marshalling.streaming.SerializationSink;
+import de.quantummaid.mapmaid.mapper.marshalling.streaming.StreamingMarshaller;
+import de.quantummaid.mapmaid.mapper.universal.Universal;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
 import java.util.List;
+import java.util.Optional;
+
+import static de.quantummaid.mapmaid.debug.MapMaidException.mapMaidException;
+import static de.quantummaid.mapmaid.mapper.marshalling.MarshallingType.UNIVERSAL_OBJECT;
+import static de.quantummaid.mapmaid.mapper.marshalling.streaming.NativeBuildingSink.nativeBuildingSink;
+import static de.quantummaid.mapmaid.mapper.marshalling.streaming.SinkEmitter.emitNative;
+import static de.quantummaid.mapmaid.mapper.marshalling.streaming.SinkEmitter.emitUniversal;
+import static java.lang.String.format;
+import static java.util.Optional.empty;
+import static java.util.stream.Collectors.toList;
 
 @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
 public final class Marshallers {
     private final MarshallerRegistry marshallerRegistry;
+    private final StreamingMarshallerRegistry streamingMarshallerRegistry;
     private final List<MarshallingModifier> modifiers;
+    private final List<StreamingMarshallingModifier> streamingModifiers;
+    private final boolean modifiersCanBeStreamed;
 
     public static Marshallers marshallers(final MarshallerRegistry marshallerRegistry,
+                                          final StreamingMarshallerRegistry streamingMarshallerRegistry,
                                           final List<MarshallingModifier> modifiers) {
-        return new Marshallers(marshallerRegistry, modifiers);
+        final List<StreamingMarshallingModifier> streamingModifiers = modifiers.stream()
+                .filter(StreamingMarshallingModifier.class::isInstance)
+                .map(StreamingMarshallingModifier.class::cast)
+                .collect(toList());
+        final boolean modifiersCanBeStreamed = streamingModifiers.size() == modifiers.size();
+        return new Marshallers(marshallerRegistry, streamingMarshallerRegistry,
+                modifiers, streamingModifiers, modifiersCanBeStreamed);
     }
 
     public <T> T marshal(final MarshallingType<T> marshallingType, final Object object) {
@@ -45,6 +73,61 @@ public final class Marshallers {
         return doMarshal(marshaller, modified);
     }
 
+    public <T> T marshalUniversal(final MarshallingType<T> marshallingType, final Universal universal) {
+        if (marshallingType.equals(UNIVERSAL_OBJECT) || !modifiersCanBeStreamed || modifiers.isEmpty()) {
+            return marshal(marshallingType, universal.toNativeJava());
+        }
+        final Marshaller<T> marshaller = marshallerRegistry.getForType(marshallingType);
+        final NativeBuildingSink nativeBuildingSink = nativeBuildingSink();
+        emitUniversal(universal, filtered(nativeBuildingSink));
+        return doMarshal(marshaller, nativeBuildingSink.result());
+    }
+
+    public Optional<SerializationSink> directSinkFor(final MarshallingType<?> marshallingType,
+                                                     final Writer writer) {
+        if (!modifiersCanBeStreamed) {
+            return empty();
+        }
+        return streamingMarshallerRegistry.getOptionalForType(marshallingType)
+                .map(streamingMarshaller -> filtered(streamingMarshaller.sink(writer)));
+    }
+
+    public Optional<SerializationSink> directByteSinkFor(final MarshallingType<?> marshallingType,
+                                                         final OutputStream outputStream) {
+        if (!modifiersCanBeStreamed) {
+            return empty();
+        }
+        return streamingMarshallerRegistry.getOptionalForType(marshallingType)
+                .flatMap(streamingMarshaller -> streamingMarshaller.byteSink(outputStream))
+                .map(this::filtered);
+    }
+
+    public void marshalTo(final MarshallingType<?> marshallingType,
+                          final Object object,
+                          final Writer writer) {
+        final Optional<StreamingMarshaller> streamingMarshaller =
+                streamingMarshallerRegistry.getOptionalForType(marshallingType);
+        if (streamingMarshaller.isPresent()) {
+            final SerializationSink sink = streamingMarshaller.get().sink(writer);
+            if (!modifiersCanBeStreamed) {
+                emitNative(modify(object), sink);
+            } else {
+                emitNative(object, filtered(sink));
+            }
+            return;
+        }
+        final Object marshalled = marshal(marshallingType, object);
+        if (!(marshalled instanceof CharSequence)) {
+            throw mapMaidException(format("Marshalling type '%s' does not produce text and can therefore not be written",
+                    marshallingType.internalValueForMapping()));
+        }
+        try {
+            writer.append((CharSequence) marshalled);
+        } catch (final IOException e) {
+            throw UnexpectedExceptionThrownDuringMarshallingException.fromException(e, object);
+        }
+    }
+
     private Object modify(final Object input) {
         Object result = input;
         for (final MarshallingModifier modifier : modifiers) {
@@ -53,6 +136,14 @@ public final class Marshallers {
         return result;
     }
 
+    private SerializationSink filtered(final SerializationSink sink) {
+        SerializationSink filtered = sink;
+        for (int i = streamingModifiers.size() - 1; i >= 0; --i) {
+            filtered = streamingModifiers.get(i).filter(filtered);
+        }
+        return filtered;
+    }
+
     private <T> T doMarshal(final Marshaller<T> marshaller, final Object object) {
         try {
             return marshaller.marshal(object);
@@ -64,4 +155,8 @@ public final class Marshallers {
     public MarshallerRegistry marshallerRegistry() {
         return marshallerRegistry;
     }
+
+    public StreamingMarshallerRegistry streamingMarshallerRegistry() {
+        return streamingMarshallerRegistry;
+    }
 }
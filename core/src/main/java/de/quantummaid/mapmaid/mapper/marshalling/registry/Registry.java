@@ -50,6 +50,11 @@ final class Registry<T> {
         return entry;
     }
 
+    boolean supportsType(final MarshallingType<?> type) {
+        validateNotNull(type, "type");
+        return this.map.containsKey(type);
+    }
+
     Set<MarshallingType<?>> supportedTypes() {
         return this.map.keySet();
     }
@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2020 Richard Hauswald - https://quantummaid.de/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package de.quantummaid.mapmaid.mapper.marshalling.registry;
+
+import de.quantummaid.mapmaid.mapper.marshalling.MarshallingType;
+import de.quantummaid.mapmaid.mapper.marshalling.streaming.StreamingUnmarshaller;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static de.quantummaid.mapmaid.mapper.marshalling.registry.Registry.registry;
+import static de.quantummaid.mapmaid.shared.validators.NotNullValidator.validateNotNull;
+import static java.util.Optional.empty;
+import static java.util.Optional.of;
+
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+@SuppressWarnings("java:S1452")
+public final class StreamingUnmarshallerRegistry {
+    private final Registry<StreamingUnmarshaller> registry;
+
+    public static StreamingUnmarshallerRegistry streamingUnmarshallerRegistry(
+            final Map<MarshallingType<?>, StreamingUnmarshaller> map) {
+        validateNotNull(map, "map");
+        final Registry<StreamingUnmarshaller> registry = registry(map);
+        return new StreamingUnmarshallerRegistry(registry);
+    }
+
+    public Optional<StreamingUnmarshaller> getOptionalForType(final MarshallingType<?> type) {
+        validateNotNull(type, "type");
+        if (!registry.supportsType(type)) {
+            return empty();
+        }
+        return of(registry.getForType(type));
+    }
+
+    public Set<MarshallingType<?>> supportedTypes() {
+        return registry.supportedTypes();
+    }
+}
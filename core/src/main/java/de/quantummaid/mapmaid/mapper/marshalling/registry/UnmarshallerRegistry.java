@@ -27,9 +27,11 @@ import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 
 import static de.quantummaid.mapmaid.mapper.marshalling.registry.Registry.registry;
+import static de.quantummaid.mapmaid.mapper.marshalling.registry.Utf8DecodingUnmarshaller.utf8DecodingUnmarshaller;
 import static de.quantummaid.mapmaid.shared.validators.NotNullValidator.validateNotNull;
 
 @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
@@ -46,6 +48,14 @@ public final class UnmarshallerRegistry {
     @SuppressWarnings("unchecked")
     public <M> Unmarshaller<M> getForType(final MarshallingType<M> type) {
         validateNotNull(type, "type");
+        if (!registry.supportsType(type)) {
+            final Optional<MarshallingType<String>> textualCounterpart = type.textualCounterpart()
+                    .filter(registry::supportsType);
+            if (textualCounterpart.isPresent()) {
+                final Unmarshaller<String> textualUnmarshaller = (Unmarshaller<String>) registry.getForType(textualCounterpart.get());
+                return (Unmarshaller<M>) utf8DecodingUnmarshaller(textualUnmarshaller);
+            }
+        }
         return (Unmarshaller<M>) registry.getForType(type);
     }
 
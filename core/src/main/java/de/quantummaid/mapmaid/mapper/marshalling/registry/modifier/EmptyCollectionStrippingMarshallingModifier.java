@@ -21,12 +21,17 @@
 
 package de.quantummaid.mapmaid.mapper.marshalling.registry.modifier;
 
+import de.quantummaid.mapmaid.mapper.marshalling.streaming.SerializationSink;
+
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
-public final class EmptyCollectionStrippingMarshallingModifier implements DestructuringMarshallingModifier {
+import static de.quantummaid.mapmaid.mapper.marshalling.registry.modifier.EmptyCollectionStrippingSink.emptyCollectionStrippingSink;
+
+public final class EmptyCollectionStrippingMarshallingModifier implements DestructuringMarshallingModifier,
+        StreamingMarshallingModifier {
 
     public static MarshallingModifier emptyCollectionStrippingMarshallingModifier() {
         return new EmptyCollectionStrippingMarshallingModifier();
@@ -68,4 +73,9 @@ public final class EmptyCollectionStrippingMarshallingModifier implements Destru
     public Object modifyScalar(final Object input) {
         return input;
     }
+
+    @Override
+    public SerializationSink filter(final SerializationSink sink) {
+        return emptyCollectionStrippingSink(sink);
+    }
 }
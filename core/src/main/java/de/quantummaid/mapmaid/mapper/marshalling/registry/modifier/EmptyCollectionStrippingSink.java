@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2020 Richard Hauswald - https://quantummaid.de/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package de.quantummaid.mapmaid.mapper.marshalling.registry.modifier;
+
+import de.quantummaid.mapmaid.mapper.marshalling.streaming.SerializationSink;
+
+import java.util.ArrayList;
+import java.util.List;
+
+final class EmptyCollectionStrippingSink implements SerializationSink {
+    private final SerializationSink delegate;
+    private final List<PendingContainer> containers;
+    private int openedContainers;
+    private String pendingField;
+
+    private EmptyCollectionStrippingSink(final SerializationSink delegate) {
+        this.delegate = delegate;
+        this.containers = new ArrayList<>();
+    }
+
+    static SerializationSink emptyCollectionStrippingSink(final SerializationSink delegate) {
+        return new EmptyCollectionStrippingSink(delegate);
+    }
+
+    @Override
+    public void startObject() {
+        containers.add(new PendingContainer(pendingField, true));
+        pendingField = null;
+    }
+
+    @Override
+    public void field(final String name) {
+        pendingField = name;
+    }
+
+    @Override
+    public void endObject() {
+        endContainer();
+    }
+
+    @Override
+    public void startArray() {
+        containers.add(new PendingContainer(pendingField, false));
+        pendingField = null;
+    }
+
+    @Override
+    public void endArray() {
+        endContainer();
+    }
+
+    @Override
+    public void stringValue(final String value) {
+        openPendingContainers();
+        delegate.stringValue(value);
+    }
+
+    @Override
+    public void longValue(final long value) {
+        openPendingContainers();
+        delegate.longValue(value);
+    }
+
+    @Override
+    public void doubleValue(final double value) {
+        openPendingContainers();
+        delegate.doubleValue(value);
+    }
+
+    @Override
+    public void booleanValue(final boolean value) {
+        openPendingContainers();
+        delegate.booleanValue(value);
+    }
+
+    @Override
+    public void nullValue() {
+        pendingField = null;
+        if (containers.isEmpty()) {
+            delegate.nullValue();
+        }
+    }
+
+    private void openPendingContainers() {
+        for (int i = openedContainers; i < containers.size(); ++i) {
+            final PendingContainer container = containers.get(i);
+            if (container.field != null) {
+                delegate.field(container.field);
+            }
+            if (container.object) {
+                delegate.startObject();
+            } else {
+                delegate.startArray();
+            }
+        }
+        openedContainers = containers.size();
+        if (pendingField != null) {
+            delegate.field(pendingField);
+            pendingField = null;
+        }
+    }
+
+    private void endContainer() {
+        final PendingContainer container = containers.remove(containers.size() - 1);
+        pendingField = null;
+        if (openedContainers > containers.size()) {
+            openedContainers = containers.size();
+            if (container.object) {
+                delegate.endObject();
+            } else {
+                delegate.endArray();
+            }
+        } else if (containers.isEmpty()) {
+            delegate.nullValue();
+        }
+    }
+
+    private static final class PendingContainer {
+        private final String field;
+        private final boolean object;
+
+        private PendingContainer(final String field, final boolean object) {
+            this.field = field;
+            this.object = object;
+        }
+    }
+}
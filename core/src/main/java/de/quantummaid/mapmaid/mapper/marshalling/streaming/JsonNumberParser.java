@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2020 Richard Hauswald - https://quantummaid.de/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package de.quantummaid.mapmaid.mapper.marshalling.streaming;
+
+import static java.lang.Long.compareUnsigned;
+import static java.lang.Long.divideUnsigned;
+import static java.lang.Long.remainderUnsigned;
+
+public final class JsonNumberParser {
+    private static final int MAX_SIGNIFICANT_DIGITS = 19;
+    private static final int MAX_EXPONENT = 100_000;
+    private static final long MAX_EXACT_DOUBLE_SIGNIFICAND = 1L << 53;
+    private static final long MAX_NEGATIVE_MAGNITUDE = Long.MIN_VALUE;
+    private static final long[] LONG_POWERS_OF_TEN = new long[MAX_SIGNIFICANT_DIGITS + 1];
+    private static final double[] DOUBLE_POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    static {
+        long power = 1;
+        for (int i = 0; i < LONG_POWERS_OF_TEN.length; ++i) {
+            LONG_POWERS_OF_TEN[i] = power;
+            power = power * 10;
+        }
+    }
+
+    private long longValue;
+    private double doubleValue;
+
+    private JsonNumberParser() {
+    }
+
+    public static JsonNumberParser jsonNumberParser() {
+        return new JsonNumberParser();
+    }
+
+    public long longValue() {
+        return longValue;
+    }
+
+    public double doubleValue() {
+        return doubleValue;
+    }
+
+    @SuppressWarnings("java:S3776")
+    public boolean parse(final CharSequence literal) {
+        final int length = literal.length();
+        final boolean negative = literal.charAt(0) == '-';
+        int index = negative ? 1 : 0;
+        long significand = 0;
+        int significantDigits = 0;
+        int scale = 0;
+        boolean truncated = false;
+        boolean inFraction = false;
+        for (; index < length; ++index) {
+            final char character = literal.charAt(index);
+            if (character == '.') {
+                inFraction = true;
+                continue;
+            }
+            if (character == 'e' || character == 'E') {
+                break;
+            }
+            final int digit = character - '0';
+            if (significantDigits == 0 && digit == 0) {
+                if (inFraction) {
+                    scale = scale - 1;
+                }
+            } else if (significantDigits < MAX_SIGNIFICANT_DIGITS) {
+                significand = significand * 10 + digit;
+                significantDigits = significantDigits + 1;
+                if (inFraction) {
+                    scale = scale - 1;
+                }
+            } else {
+                truncated = truncated || digit != 0;
+                if (!inFraction) {
+                    scale = scale + 1;
+                }
+            }
+        }
+        if (index < length) {
+            index = index + 1;
+            final char sign = literal.charAt(index);
+            final boolean negativeExponent = sign == '-';
+            if (sign == '-' || sign == '+') {
+                index = index + 1;
+            }
+            int exponent = 0;
+            for (; index < length; ++index) {
+                if (exponent < MAX_EXPONENT) {
+                    exponent = exponent * 10 + (literal.charAt(index) - '0');
+                }
+            }
+            scale = negativeExponent ? scale - exponent : scale + exponent;
+        }
+        if (significand == 0) {
+            longValue = 0;
+            return true;
+        }
+        if (truncated) {
+            return parseSlowly(literal);
+        }
+        while (scale < 0 && remainderUnsigned(significand, 10) == 0) {
+            significand = divideUnsigned(significand, 10);
+            scale = scale + 1;
+        }
+        if (scale >= 0 && fitsIntoLong(significand, scale, negative)) {
+            final long value = significand * LONG_POWERS_OF_TEN[scale];
+            longValue = negative ? -value : value;
+            return true;
+        }
+        if (compareUnsigned(significand, MAX_EXACT_DOUBLE_SIGNIFICAND) > 0
+                || Math.abs(scale) >= DOUBLE_POWERS_OF_TEN.length) {
+            return parseSlowly(literal);
+        }
+        final double value;
+        if (scale < 0) {
+            value = significand / DOUBLE_POWERS_OF_TEN[-scale];
+        } else {
+            value = significand * DOUBLE_POWERS_OF_TEN[scale];
+        }
+        doubleValue = negative ? -value : value;
+        return false;
+    }
+
+    private static boolean fitsIntoLong(final long significand, final int scale, final boolean negative) {
+        if (scale >= LONG_POWERS_OF_TEN.length) {
+            return false;
+        }
+        final long maximum = negative ? MAX_NEGATIVE_MAGNITUDE : Long.MAX_VALUE;
+        return compareUnsigned(significand, divideUnsigned(maximum, LONG_POWERS_OF_TEN[scale])) <= 0;
+    }
+
+    private boolean parseSlowly(final CharSequence literal) {
+        doubleValue = Double.parseDouble(literal.toString());
+        return false;
+    }
+}
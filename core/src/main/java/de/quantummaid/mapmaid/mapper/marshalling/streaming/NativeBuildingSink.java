@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2020 Richard Hauswald - https://quantummaid.de/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package de.quantummaid.mapmaid.mapper.marshalling.streaming;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public final class NativeBuildingSink implements SerializationSink {
+    private final Deque<Object> containers;
+    private String field;
+    private Object result;
+
+    private NativeBuildingSink() {
+        this.containers = new ArrayDeque<>();
+    }
+
+    public static NativeBuildingSink nativeBuildingSink() {
+        return new NativeBuildingSink();
+    }
+
+    public Object result() {
+        return result;
+    }
+
+    @Override
+    public void startObject() {
+        final Map<String, Object> map = new LinkedHashMap<>();
+        value(map);
+        containers.push(map);
+    }
+
+    @Override
+    public void field(final String name) {
+        field = name;
+    }
+
+    @Override
+    public void endObject() {
+        containers.pop();
+    }
+
+    @Override
+    public void startArray() {
+        final List<Object> list = new ArrayList<>();
+        value(list);
+        containers.push(list);
+    }
+
+    @Override
+    public void endArray() {
+        containers.pop();
+    }
+
+    @Override
+    public void stringValue(final String value) {
+        value(value);
+    }
+
+    @Override
+    public void longValue(final long value) {
+        value(value);
+    }
+
+    @Override
+    public void doubleValue(final double value) {
+        value(value);
+    }
+
+    @Override
+    public void booleanValue(final boolean value) {
+        value(value);
+    }
+
+    @Override
+    public void nullValue() {
+        value(null);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void value(final Object value) {
+        final Object container = containers.peek();
+        if (container == null) {
+            result = value;
+        } else if (container instanceof Map) {
+            ((Map<String, Object>) container).put(field, value);
+        } else {
+            ((List<Object>) container).add(value);
+        }
+    }
+}
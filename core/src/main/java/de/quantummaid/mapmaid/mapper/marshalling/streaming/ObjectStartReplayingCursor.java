@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2020 Richard Hauswald - https://quantummaid.de/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package de.quantummaid.mapmaid.mapper.marshalling.streaming;
+
+import static de.quantummaid.mapmaid.mapper.marshalling.streaming.Token.START_OBJECT;
+
+public final class ObjectStartReplayingCursor implements TokenCursor {
+    private final TokenCursor delegate;
+    private boolean replaying;
+
+    private ObjectStartReplayingCursor(final TokenCursor delegate) {
+        this.delegate = delegate;
+        this.replaying = true;
+    }
+
+    public static TokenCursor replayingObjectStart(final TokenCursor delegate) {
+        return new ObjectStartReplayingCursor(delegate);
+    }
+
+    @Override
+    public Token currentToken() {
+        if (replaying) {
+            return START_OBJECT;
+        }
+        return delegate.currentToken();
+    }
+
+    @Override
+    public void advance() {
+        if (replaying) {
+            replaying = false;
+            return;
+        }
+        delegate.advance();
+    }
+
+    @Override
+    public String stringValue() {
+        return delegate.stringValue();
+    }
+
+    @Override
+    public long longValue() {
+        return delegate.longValue();
+    }
+
+    @Override
+    public double doubleValue() {
+        return delegate.doubleValue();
+    }
+
+    @Override
+    public boolean booleanValue() {
+        return delegate.booleanValue();
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2020 Richard Hauswald - https://quantummaid.de/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package de.quantummaid.mapmaid.mapper.marshalling.streaming;
+
+import java.io.StringReader;
+
+import static de.quantummaid.mapmaid.shared.validators.NotNullValidator.validateNotNull;
+
+final class RecreatingTokenCursor implements ResettableTokenCursor {
+    private final StreamingUnmarshaller unmarshaller;
+    private TokenCursor delegate;
+
+    private RecreatingTokenCursor(final StreamingUnmarshaller unmarshaller) {
+        this.unmarshaller = unmarshaller;
+    }
+
+    static ResettableTokenCursor recreatingTokenCursor(final StreamingUnmarshaller unmarshaller) {
+        validateNotNull(unmarshaller, "unmarshaller");
+        return new RecreatingTokenCursor(unmarshaller);
+    }
+
+    @Override
+    public void reset(final CharSequence input) {
+        validateNotNull(input, "input");
+        delegate = unmarshaller.cursor(new StringReader(input.toString()));
+    }
+
+    @Override
+    public Token currentToken() {
+        return delegate.currentToken();
+    }
+
+    @Override
+    public void advance() {
+        delegate.advance();
+    }
+
+    @Override
+    public String stringValue() {
+        return delegate.stringValue();
+    }
+
+    @Override
+    public long longValue() {
+        return delegate.longValue();
+    }
+
+    @Override
+    public double doubleValue() {
+        return delegate.doubleValue();
+    }
+
+    @Override
+    public boolean booleanValue() {
+        return delegate.booleanValue();
+    }
+}
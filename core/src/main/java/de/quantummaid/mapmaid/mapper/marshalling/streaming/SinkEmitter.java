@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2020 Richard Hauswald - https://quantummaid.de/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package de.quantummaid.mapmaid.mapper.marshalling.streaming;
+
+import de.quantummaid.mapmaid.mapper.universal.*;
+
+import java.util.List;
+import java.util.Map;
+
+import static de.quantummaid.mapmaid.debug.MapMaidException.mapMaidException;
+import static java.lang.String.format;
+import static java.util.Objects.isNull;
+
+public final class SinkEmitter {
+
+    private SinkEmitter() {
+    }
+
+    public static void emitUniversal(final Universal universal,
+                                     final SerializationSink sink) {
+        if (universal instanceof UniversalObject) {
+            sink.startObject();
+            ((UniversalObject) universal).toUniversalMap().forEach((key, value) -> {
+                sink.field(key);
+                emitUniversal(value, sink);
+            });
+            sink.endObject();
+        } else if (universal instanceof UniversalCollection) {
+            sink.startArray();
+            ((UniversalCollection) universal).content()
+                    .forEach(element -> emitUniversal(element, sink));
+            sink.endArray();
+        } else if (universal instanceof UniversalString) {
+            sink.stringValue(((UniversalString) universal).toNativeStringValue());
+        } else if (universal instanceof UniversalLong) {
+            sink.longValue(((UniversalLong) universal).toNativeLong());
+        } else if (universal instanceof UniversalDouble) {
+            sink.doubleValue(((UniversalDouble) universal).toNativeDouble());
+        } else if (universal instanceof UniversalBoolean) {
+            sink.booleanValue(((UniversalBoolean) universal).toNativeBoolean());
+        } else if (universal instanceof UniversalNull) {
+            sink.nullValue();
+        } else {
+            emitNative(universal.toNativeJava(), sink);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public static void emitNative(final Object object,
+                                  final SerializationSink sink) {
+        if (isNull(object)) {
+            sink.nullValue();
+        } else if (object instanceof Map) {
+            sink.startObject();
+            ((Map<String, Object>) object).forEach((key, value) -> {
+                sink.field(key);
+                emitNative(value, sink);
+            });
+            sink.endObject();
+        } else if (object instanceof List) {
+            sink.startArray();
+            ((List<Object>) object).forEach(element -> emitNative(element, sink));
+            sink.endArray();
+        } else if (object instanceof String) {
+            sink.stringValue((String) object);
+        } else if (object instanceof Long) {
+            sink.longValue((Long) object);
+        } else if (object instanceof Double) {
+            sink.doubleValue((Double) object);
+        } else if (object instanceof Boolean) {
+            sink.booleanValue((Boolean) object);
+        } else {
+            throw mapMaidException(format("Unable to stream object '%s' of type '%s'", object, object.getClass()));
+        }
+    }
+}
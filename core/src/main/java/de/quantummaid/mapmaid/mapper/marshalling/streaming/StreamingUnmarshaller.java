@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2020 Richard Hauswald - https://quantummaid.de/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package de.quantummaid.mapmaid.mapper.marshalling.streaming;
+
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+
+import static de.quantummaid.mapmaid.mapper.marshalling.streaming.RecreatingTokenCursor.recreatingTokenCursor;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+public interface StreamingUnmarshaller {
+    TokenCursor cursor(Reader reader);
+
+    default TokenCursor cursor(final InputStream inputStream) {
+        return cursor(new InputStreamReader(inputStream, UTF_8));
+    }
+
+    default ResettableTokenCursor resettableCursor() {
+        return recreatingTokenCursor(this);
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2020 Richard Hauswald - https://quantummaid.de/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package de.quantummaid.mapmaid.mapper.marshalling.streaming;
+
+public enum Token {
+    START_OBJECT("start of object"),
+    FIELD_NAME("field name"),
+    END_OBJECT("end of object"),
+    START_ARRAY("start of array"),
+    END_ARRAY("end of array"),
+    STRING("string"),
+    LONG("integer number"),
+    DOUBLE("decimal number"),
+    BOOLEAN("boolean"),
+    NULL("null"),
+    END_OF_INPUT("end of input");
+
+    private final String name;
+
+    Token(final String name) {
+        this.name = name;
+    }
+
+    public String describe() {
+        return name;
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2020 Richard Hauswald - https://quantummaid.de/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package de.quantummaid.mapmaid.mapper.marshalling.streaming;
+
+import de.quantummaid.mapmaid.mapper.universal.Universal;
+import de.quantummaid.mapmaid.mapper.universal.UniversalObject;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static de.quantummaid.mapmaid.debug.MapMaidException.mapMaidException;
+import static de.quantummaid.mapmaid.mapper.marshalling.streaming.Token.*;
+import static de.quantummaid.mapmaid.mapper.universal.UniversalBoolean.universalBoolean;
+import static de.quantummaid.mapmaid.mapper.universal.UniversalCollection.universalCollection;
+import static de.quantummaid.mapmaid.mapper.universal.UniversalDouble.universalDouble;
+import static de.quantummaid.mapmaid.mapper.universal.UniversalLong.universalLong;
+import static de.quantummaid.mapmaid.mapper.universal.UniversalNull.universalNull;
+import static de.quantummaid.mapmaid.mapper.universal.UniversalObject.universalObject;
+import static de.quantummaid.mapmaid.mapper.universal.UniversalString.universalString;
+import static java.lang.String.format;
+
+public final class UniversalReader {
+
+    private UniversalReader() {
+    }
+
+    public static Universal readUniversal(final TokenCursor cursor) {
+        final Token token = cursor.currentToken();
+        final Universal universal;
+        if (token == START_OBJECT) {
+            return readObject(cursor);
+        } else if (token == START_ARRAY) {
+            return readArray(cursor);
+        } else if (token == STRING) {
+            universal = universalString(cursor.stringValue());
+        } else if (token == LONG) {
+            universal = universalLong(cursor.longValue());
+        } else if (token == DOUBLE) {
+            universal = universalDouble(cursor.doubleValue());
+        } else if (token == BOOLEAN) {
+            universal = universalBoolean(cursor.booleanValue());
+        } else if (token == NULL) {
+            universal = universalNull();
+        } else {
+            throw unexpectedToken(token);
+        }
+        cursor.advance();
+        return universal;
+    }
+
+    public static void skipValue(final TokenCursor cursor) {
+        int depth = 0;
+        do {
+            final Token token = cursor.currentToken();
+            if (token == START_OBJECT || token == START_ARRAY) {
+                depth = depth + 1;
+            } else if (token == END_OBJECT || token == END_ARRAY) {
+                depth = depth - 1;
+            } else if (token == END_OF_INPUT) {
+                throw unexpectedToken(token);
+            }
+            cursor.advance();
+        } while (depth > 0);
+    }
+
+    private static Universal readObject(final TokenCursor cursor) {
+        cursor.advance();
+        return readRemainingFields(cursor, new LinkedHashMap<>());
+    }
+
+    public static UniversalObject readRemainingFields(final TokenCursor cursor, final Map<String, Universal> map) {
+        while (cursor.currentToken() == FIELD_NAME) {
+            final String name = cursor.stringValue();
+            cursor.advance();
+            map.put(name, readUniversal(cursor));
+        }
+        expect(cursor, END_OBJECT);
+        cursor.advance();
+        return universalObject(map);
+    }
+
+    private static Universal readArray(final TokenCursor cursor) {
+        cursor.advance();
+        final List<Universal> list = new ArrayList<>();
+        while (cursor.currentToken() != END_ARRAY) {
+            list.add(readUniversal(cursor));
+        }
+        cursor.advance();
+        return universalCollection(list);
+    }
+
+    private static void expect(final TokenCursor cursor, final Token expected) {
+        final Token token = cursor.currentToken();
+        if (token != expected) {
+            throw unexpectedToken(token);
+        }
+    }
+
+    private static RuntimeException unexpectedToken(final Token token) {
+        return mapMaidException(format("Unexpected %s in input", token.describe()));
+    }
+}
@@ -21,10 +21,30 @@
 
 package de.quantummaid.mapmaid.mapper.serialization;
 
+import de.quantummaid.mapmaid.mapper.marshalling.streaming.SerializationSink;
+import de.quantummaid.mapmaid.mapper.serialization.plan.SerializationPlan;
 import de.quantummaid.mapmaid.mapper.serialization.tracker.SerializationTracker;
 import de.quantummaid.mapmaid.mapper.universal.Universal;
 import de.quantummaid.reflectmaid.typescanner.TypeIdentifier;
 
 public interface SerializationCallback {
     Universal serializeDefinition(TypeIdentifier type, Object object, SerializationTracker tracker);
+
+    void serializeDefinitionStreaming(TypeIdentifier type,
+                                      Object object,
+                                      SerializationTracker tracker,
+                                      SerializationSink sink);
+
+    Universal serializeWithPlan(SerializationPlan plan, Object object, SerializationTracker tracker);
+
+    default Universal serializeAlreadyTrackedWithPlan(final SerializationPlan plan,
+                                                      final Object object,
+                                                      final SerializationTracker tracker) {
+        return serializeWithPlan(plan, object, tracker);
+    }
+
+    void serializeWithPlanStreaming(SerializationPlan plan,
+                                    Object object,
+                                    SerializationTracker tracker,
+                                    SerializationSink sink);
 }
@@ -28,10 +28,14 @@ import de.quantummaid.mapmaid.mapper.definitions.Definitions;
 import de.quantummaid.mapmaid.mapper.marshalling.MarshallingType;
 import de.quantummaid.mapmaid.mapper.marshalling.registry.MarshallerRegistry;
 import de.quantummaid.mapmaid.mapper.marshalling.registry.Marshallers;
+import de.quantummaid.mapmaid.mapper.marshalling.streaming.SerializationSink;
+import de.quantummaid.mapmaid.mapper.serialization.plan.SerializationPlan;
+import de.quantummaid.mapmaid.mapper.serialization.plan.SerializationPlans;
 import de.quantummaid.mapmaid.mapper.serialization.serializers.TypeSerializer;
 import de.quantummaid.mapmaid.mapper.serialization.supertypes.SupertypeSerializers;
 import de.quantummaid.mapmaid.mapper.serialization.tracker.SerializationTracker;
 import de.quantummaid.mapmaid.mapper.universal.Universal;
+import de.quantummaid.mapmaid.shared.generation.AccessorStrategy;
 import de.quantummaid.mapmaid.shared.mapping.CustomPrimitiveMappings;
 import de.quantummaid.reflectmaid.typescanner.TypeIdentifier;
 import lombok.AccessLevel;
@@ -39,19 +43,34 @@ import lombok.EqualsAndHashCode;
 import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 
+import java.io.BufferedWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.function.UnaryOperator;
 
 import static de.quantummaid.mapmaid.debug.MapMaidException.mapMaidException;
+import static de.quantummaid.mapmaid.mapper.marshalling.streaming.SinkEmitter.emitUniversal;
+import static de.quantummaid.mapmaid.mapper.serialization.plan.SerializationPlans.compileSerializationPlans;
 import static de.quantummaid.mapmaid.mapper.serialization.universalmerger.UniversalMerger.mergeUniversal;
 import static de.quantummaid.mapmaid.mapper.serialization.tracker.SerializationTracker.serializationTracker;
+import static de.quantummaid.mapmaid.mapper.universal.UniversalCollection.universalCollection;
 import static de.quantummaid.mapmaid.mapper.universal.UniversalNull.universalNull;
 import static de.quantummaid.mapmaid.shared.validators.NotNullValidator.validateNotNull;
 import static java.lang.String.format;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Objects.isNull;
-import static java.util.stream.Collectors.toList;
 
 @ToString
 @EqualsAndHashCode
@@ -60,16 +79,20 @@ import static java.util.stream.Collectors.toList;
 public final class Serializer implements SerializationCallback {
     private final Marshallers marshallers;
     private final Definitions definitions;
-    private final SupertypeSerializers supertypeSerializers;
+    private final SerializationPlans serializationPlans;
     private final CustomPrimitiveMappings customPrimitiveMappings;
     private final DebugInformation debugInformation;
 
     public static Serializer serializer(final Marshallers marshallers,
                                         final Definitions definitions,
                                         final SupertypeSerializers supertypeSerializers,
-                                        final CustomPrimitiveMappings customPrimitiveMappings) {
+                                        final CustomPrimitiveMappings customPrimitiveMappings,
+                                        final AccessorStrategy accessorStrategy,
+                                        final boolean trackCyclesForAllTypes) {
         final DebugInformation debugInformation = definitions.debugInformation();
-        return new Serializer(marshallers, definitions, supertypeSerializers, customPrimitiveMappings, debugInformation);
+        final SerializationPlans serializationPlans = compileSerializationPlans(
+                definitions, supertypeSerializers, accessorStrategy, trackCyclesForAllTypes);
+        return new Serializer(marshallers, definitions, serializationPlans, customPrimitiveMappings, debugInformation);
     }
 
     public Set<MarshallingType<?>> supportedMarshallingTypes() {
@@ -77,6 +100,14 @@ public final class Serializer implements SerializationCallback {
         return marshallerRegistry.supportedTypes();
     }
 
+    public <T> T serialize(final Object object,
+                           final TypeIdentifier type,
+                           final MarshallingType<T> marshallingType) {
+        validateNotNull(object, "object");
+        final Universal universal = serializeDefinition(type, object, serializationTracker());
+        return marshallers.marshalUniversal(marshallingType, universal);
+    }
+
     @SuppressWarnings("unchecked")
     public <T> T serialize(final Object object,
                            final TypeIdentifier type,
@@ -85,16 +116,212 @@ public final class Serializer implements SerializationCallback {
         validateNotNull(object, "object");
         Object normalized = normalize(object, type);
         if (normalized instanceof Map) {
-            normalized = serializedPropertyInjector.apply((Map<String, Object>) normalized);
+            normalized = serializedPropertyInjector.apply(mutableCopy((Map<String, Object>) normalized));
         }
         return marshallers.marshal(marshallingType, normalized);
     }
 
+    public void serializeStreaming(final Object object,
+                                   final TypeIdentifier type,
+                                   final MarshallingType<?> marshallingType,
+                                   final Writer writer) {
+        validateNotNull(object, "object");
+        validateNotNull(writer, "writer");
+        final Optional<SerializationSink> directSink = marshallers.directSinkFor(marshallingType, writer);
+        if (directSink.isPresent()) {
+            serializeDefinitionStreaming(type, object, serializationTracker(), directSink.get());
+        } else {
+            final Object normalized = normalize(object, type);
+            marshallers.marshalTo(marshallingType, normalized, writer);
+        }
+    }
+
+    public void serializeStreaming(final Object object,
+                                   final TypeIdentifier type,
+                                   final MarshallingType<?> marshallingType,
+                                   final OutputStream outputStream) {
+        validateNotNull(object, "object");
+        validateNotNull(outputStream, "outputStream");
+        final Optional<SerializationSink> directSink = marshallers.directByteSinkFor(marshallingType, outputStream);
+        try {
+            if (directSink.isPresent()) {
+                serializeDefinitionStreaming(type, object, serializationTracker(), directSink.get());
+                outputStream.flush();
+            } else {
+                final Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, UTF_8));
+                serializeStreaming(object, type, marshallingType, writer);
+                writer.flush();
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T serializeBatch(final Iterator<?> objects,
+                                final TypeIdentifier elementType,
+                                final MarshallingType<T> marshallingType) {
+        validateNotNull(objects, "objects");
+        final Optional<MarshallingType<String>> textualCounterpart = marshallingType.textualCounterpart();
+        if (textualCounterpart.isEmpty()) {
+            final StringWriter writer = new StringWriter();
+            final Optional<SerializationSink> directSink = marshallers.directSinkFor(marshallingType, writer);
+            if (directSink.isPresent()) {
+                serializeBatchStreaming(objects, elementType, directSink.get());
+                return (T) writer.toString();
+            }
+        } else if (!supportedMarshallingTypes().contains(marshallingType)) {
+            final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            final Optional<SerializationSink> directSink =
+                    marshallers.directByteSinkFor(textualCounterpart.get(), outputStream);
+            if (directSink.isPresent()) {
+                serializeBatchStreaming(objects, elementType, directSink.get());
+                return (T) outputStream.toByteArray();
+            }
+        }
+        final SerializationPlan plan = serializationPlans.planFor(elementType);
+        final SerializationTracker tracker = serializationTracker();
+        final List<Universal> elements = new ArrayList<>();
+        while (objects.hasNext()) {
+            elements.add(serializeWithPlan(plan, objects.next(), tracker));
+        }
+        return marshallers.marshalUniversal(marshallingType, universalCollection(elements));
+    }
+
+    public void serializeBatchStreaming(final Iterator<?> objects,
+                                        final TypeIdentifier elementType,
+                                        final MarshallingType<?> marshallingType,
+                                        final Writer writer) {
+        validateNotNull(objects, "objects");
+        validateNotNull(writer, "writer");
+        final Optional<SerializationSink> directSink = marshallers.directSinkFor(marshallingType, writer);
+        if (directSink.isPresent()) {
+            serializeBatchStreaming(objects, elementType, directSink.get());
+        } else {
+            final Object normalized = normalizeBatch(objects, elementType);
+            marshallers.marshalTo(marshallingType, normalized, writer);
+        }
+    }
+
+    public void serializeBatchStreaming(final Iterator<?> objects,
+                                        final TypeIdentifier elementType,
+                                        final MarshallingType<?> marshallingType,
+                                        final OutputStream outputStream) {
+        validateNotNull(objects, "objects");
+        validateNotNull(outputStream, "outputStream");
+        final Optional<SerializationSink> directSink = marshallers.directByteSinkFor(marshallingType, outputStream);
+        try {
+            if (directSink.isPresent()) {
+                serializeBatchStreaming(objects, elementType, directSink.get());
+                outputStream.flush();
+            } else {
+                final Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, UTF_8));
+                serializeBatchStreaming(objects, elementType, marshallingType, writer);
+                writer.flush();
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void serializeLines(final Iterator<?> objects,
+                               final TypeIdentifier elementType,
+                               final MarshallingType<?> marshallingType,
+                               final Writer writer) {
+        validateNotNull(objects, "objects");
+        validateNotNull(elementType, "elementType");
+        validateNotNull(marshallingType, "marshallingType");
+        validateNotNull(writer, "writer");
+        final SerializationPlan plan = serializationPlans.planFor(elementType);
+        final SerializationTracker tracker = serializationTracker();
+        final Optional<SerializationSink> directSink = marshallers.directSinkFor(marshallingType, writer);
+        try {
+            while (objects.hasNext()) {
+                final Object object = objects.next();
+                if (directSink.isPresent()) {
+                    serializeWithPlanStreaming(plan, object, tracker, directSink.get());
+                } else {
+                    writer.write(marshalLine(plan, object, tracker, marshallingType));
+                }
+                writer.write('\n');
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void serializeLines(final Iterator<?> objects,
+                               final TypeIdentifier elementType,
+                               final MarshallingType<?> marshallingType,
+                               final OutputStream outputStream) {
+        validateNotNull(objects, "objects");
+        validateNotNull(elementType, "elementType");
+        validateNotNull(marshallingType, "marshallingType");
+        validateNotNull(outputStream, "outputStream");
+        final Optional<SerializationSink> directSink = marshallers.directByteSinkFor(marshallingType, outputStream);
+        try {
+            if (directSink.isPresent()) {
+                final SerializationPlan plan = serializationPlans.planFor(elementType);
+                final SerializationTracker tracker = serializationTracker();
+                while (objects.hasNext()) {
+                    serializeWithPlanStreaming(plan, objects.next(), tracker, directSink.get());
+                    outputStream.write('\n');
+                }
+                outputStream.flush();
+            } else {
+                final Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, UTF_8));
+                serializeLines(objects, elementType, marshallingType, writer);
+                writer.flush();
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private String marshalLine(final SerializationPlan plan,
+                               final Object object,
+                               final SerializationTracker tracker,
+                               final MarshallingType<?> marshallingType) {
+        final Universal universal = serializeWithPlan(plan, object, tracker);
+        final Object marshalled = marshallers.marshalUniversal(marshallingType, universal);
+        if (!(marshalled instanceof CharSequence)) {
+            throw mapMaidException(format("Marshalling type '%s' does not produce text and can therefore not be written line by line",
+                    marshallingType.internalValueForMapping()));
+        }
+        return marshalled.toString();
+    }
+
+    private void serializeBatchStreaming(final Iterator<?> objects,
+                                         final TypeIdentifier elementType,
+                                         final SerializationSink sink) {
+        final SerializationPlan plan = serializationPlans.planFor(elementType);
+        final SerializationTracker tracker = serializationTracker();
+        sink.startArray();
+        while (objects.hasNext()) {
+            serializeWithPlanStreaming(plan, objects.next(), tracker, sink);
+        }
+        sink.endArray();
+    }
+
+    private Object normalizeBatch(final Iterator<?> objects, final TypeIdentifier elementType) {
+        final SerializationPlan plan = serializationPlans.planFor(elementType);
+        final SerializationTracker tracker = serializationTracker();
+        final List<Object> elements = new ArrayList<>();
+        while (objects.hasNext()) {
+            elements.add(serializeWithPlan(plan, objects.next(), tracker).toNativeJava());
+        }
+        return elements;
+    }
+
     public <T> T marshalFromUniversalObject(final Object object,
                                             final MarshallingType<T> marshallingType) {
         return marshallers.marshal(marshallingType, object);
     }
 
+    private static Map<String, Object> mutableCopy(final Map<String, Object> map) {
+        return new LinkedHashMap<>(map);
+    }
+
     private Object normalize(final Object object, final TypeIdentifier type) {
         if (isNull(object)) {
             return null;
@@ -111,26 +338,113 @@ public final class Serializer implements SerializationCallback {
         if (isNull(object)) {
             return universalNull();
         }
-        final Definition definition = definitions.getDefinitionForType(type);
-        final TypeSerializer typeSerializer = definition.serializer()
-                .orElseThrow(() -> {
-                    final ScanInformation scanInformation = debugInformation.scanInformationFor(type);
-                    return mapMaidException(
-                            format("No serializer configured for type '%s'", definition.type().description()), scanInformation);
-                });
-        return tracker.trackToProhibitCyclicReferences(object)
-                .map(childTracker -> {
-                    final Universal serialized = typeSerializer
-                            .serialize(object, this, childTracker, customPrimitiveMappings, debugInformation);
-                    final List<Universal> superTypeUniversals = definition.superTypeSerializers().stream()
-                            .map(supertypeSerializers::superTypeSerializer)
-                            .map(serializer -> serializer.serialize(object, this, childTracker, customPrimitiveMappings, debugInformation))
-                            .collect(toList());
-                    return mergeUniversal(serialized, superTypeUniversals);
-                })
-                .orElseGet(() ->
-                        typeSerializer.serializeAlreadySeenObject(object, this, tracker, customPrimitiveMappings, debugInformation)
-                );
+        final SerializationPlan plan = serializationPlans.planFor(type);
+        return serializeWithPlan(plan, object, tracker);
+    }
+
+    @Override
+    public void serializeDefinitionStreaming(final TypeIdentifier type,
+                                             final Object object,
+                                             final SerializationTracker tracker,
+                                             final SerializationSink sink) {
+        if (isNull(object)) {
+            sink.nullValue();
+            return;
+        }
+        final SerializationPlan plan = serializationPlans.planFor(type);
+        serializeWithPlanStreaming(plan, object, tracker, sink);
+    }
+
+    @Override
+    public Universal serializeWithPlan(final SerializationPlan plan,
+                                       final Object object,
+                                       final SerializationTracker tracker) {
+        if (isNull(object)) {
+            return universalNull();
+        }
+        final TypeSerializer typeSerializer = serializerFor(plan);
+        if (!plan.tracksCycles()) {
+            return serializeWithSuperTypes(plan, typeSerializer, object, tracker);
+        }
+        if (!tracker.push(object)) {
+            return typeSerializer.serializeAlreadySeenObject(object, this, tracker, customPrimitiveMappings, debugInformation);
+        }
+        try {
+            return serializeWithSuperTypes(plan, typeSerializer, object, tracker);
+        } finally {
+            tracker.pop();
+        }
+    }
+
+    @Override
+    public Universal serializeAlreadyTrackedWithPlan(final SerializationPlan plan,
+                                                     final Object object,
+                                                     final SerializationTracker tracker) {
+        if (isNull(object)) {
+            return universalNull();
+        }
+        final TypeSerializer typeSerializer = serializerFor(plan);
+        return serializeWithSuperTypes(plan, typeSerializer, object, tracker);
+    }
+
+    private Universal serializeWithSuperTypes(final SerializationPlan plan,
+                                              final TypeSerializer typeSerializer,
+                                              final Object object,
+                                              final SerializationTracker tracker) {
+        final Universal serialized = typeSerializer
+                .serialize(object, this, tracker, customPrimitiveMappings, debugInformation);
+        if (!plan.hasSuperTypeSerializers()) {
+            return serialized;
+        }
+        final List<TypeSerializer> superTypeSerializers = plan.superTypeSerializers();
+        final List<Universal> superTypeUniversals = new ArrayList<>(superTypeSerializers.size());
+        for (final TypeSerializer superTypeSerializer : superTypeSerializers) {
+            superTypeUniversals.add(superTypeSerializer
+                    .serialize(object, this, tracker, customPrimitiveMappings, debugInformation));
+        }
+        return mergeUniversal(serialized, superTypeUniversals);
+    }
+
+    @Override
+    public void serializeWithPlanStreaming(final SerializationPlan plan,
+                                           final Object object,
+                                           final SerializationTracker tracker,
+                                           final SerializationSink sink) {
+        if (isNull(object)) {
+            sink.nullValue();
+            return;
+        }
+        if (plan.hasSuperTypeSerializers()) {
+            final Universal merged = serializeWithPlan(plan, object, tracker);
+            emitUniversal(merged, sink);
+            return;
+        }
+        final TypeSerializer typeSerializer = serializerFor(plan);
+        if (!plan.tracksCycles()) {
+            typeSerializer.serializeStreaming(object, this, tracker, customPrimitiveMappings, debugInformation, sink);
+            return;
+        }
+        if (!tracker.push(object)) {
+            final Universal alreadySeen = typeSerializer
+                    .serializeAlreadySeenObject(object, this, tracker, customPrimitiveMappings, debugInformation);
+            emitUniversal(alreadySeen, sink);
+            return;
+        }
+        try {
+            typeSerializer.serializeStreaming(object, this, tracker, customPrimitiveMappings, debugInformation, sink);
+        } finally {
+            tracker.pop();
+        }
+    }
+
+    private TypeSerializer serializerFor(final SerializationPlan plan) {
+        if (!plan.isSerializable()) {
+            final TypeIdentifier type = plan.type();
+            final ScanInformation scanInformation = debugInformation.scanInformationFor(type);
+            throw mapMaidException(
+                    format("No serializer configured for type '%s'", type.description()), scanInformation);
+        }
+        return plan.serializer();
     }
 
     public Universal schema(final TypeIdentifier typeIdentifier) {
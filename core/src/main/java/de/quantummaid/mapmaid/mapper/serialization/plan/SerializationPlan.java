@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2020 Richard Hauswald - https://quantummaid.de/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package de.quantummaid.mapmaid.mapper.serialization.plan;
+
+import de.quantummaid.mapmaid.mapper.serialization.serializers.TypeSerializer;
+import de.quantummaid.reflectmaid.typescanner.TypeIdentifier;
+
+import java.util.List;
+
+import static de.quantummaid.mapmaid.debug.MapMaidException.mapMaidException;
+import static de.quantummaid.mapmaid.shared.validators.NotNullValidator.validateNotNull;
+import static java.lang.String.format;
+
+public final class SerializationPlan {
+    private final TypeIdentifier type;
+    private TypeSerializer serializer;
+    private List<TypeSerializer> superTypeSerializers;
+    private boolean tracksCycles;
+    private boolean linked;
+
+    private SerializationPlan(final TypeIdentifier type) {
+        this.type = type;
+    }
+
+    static SerializationPlan serializationPlan(final TypeIdentifier type) {
+        validateNotNull(type, "type");
+        return new SerializationPlan(type);
+    }
+
+    void link(final TypeSerializer serializer,
+              final List<TypeSerializer> superTypeSerializers,
+              final boolean tracksCycles) {
+        validateNotNull(superTypeSerializers, "superTypeSerializers");
+        if (linked) {
+            throw mapMaidException(format("serialization plan for %s has already been linked - this should never happen",
+                    type.description()));
+        }
+        this.serializer = serializer;
+        this.superTypeSerializers = superTypeSerializers;
+        this.tracksCycles = tracksCycles;
+        this.linked = true;
+    }
+
+    public TypeIdentifier type() {
+        return type;
+    }
+
+    public boolean isSerializable() {
+        return serializer != null;
+    }
+
+    public TypeSerializer serializer() {
+        return serializer;
+    }
+
+    public boolean hasSuperTypeSerializers() {
+        return !superTypeSerializers.isEmpty();
+    }
+
+    public List<TypeSerializer> superTypeSerializers() {
+        return superTypeSerializers;
+    }
+
+    public boolean tracksCycles() {
+        return tracksCycles;
+    }
+
+    @Override
+    public String toString() {
+        return format("SerializationPlan(%s)", type.description());
+    }
+}
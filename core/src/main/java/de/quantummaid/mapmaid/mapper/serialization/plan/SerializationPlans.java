@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2020 Richard Hauswald - https://quantummaid.de/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package de.quantummaid.mapmaid.mapper.serialization.plan;
+
+import de.quantummaid.mapmaid.debug.DebugInformation;
+import de.quantummaid.mapmaid.mapper.definitions.Definition;
+import de.quantummaid.mapmaid.mapper.definitions.Definitions;
+import de.quantummaid.mapmaid.mapper.serialization.serializers.TypeSerializer;
+import de.quantummaid.mapmaid.mapper.serialization.serializers.serializedobject.CompiledSerializedObjectSerializer;
+import de.quantummaid.mapmaid.mapper.serialization.supertypes.SupertypeSerializers;
+import de.quantummaid.mapmaid.shared.generation.AccessorStrategy;
+import de.quantummaid.reflectmaid.typescanner.TypeIdentifier;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static de.quantummaid.mapmaid.mapper.definitions.DefinitionNotFoundException.definitionNotFound;
+import static de.quantummaid.mapmaid.mapper.serialization.plan.SerializationPlan.serializationPlan;
+import static de.quantummaid.mapmaid.mapper.serialization.serializers.serializedobject.PreMergedSerializedObjectSerializer.preMergedSerializedObjectSerializer;
+import static de.quantummaid.mapmaid.shared.validators.NotNullValidator.validateNotNull;
+import static java.util.Collections.emptyList;
+import static java.util.Optional.ofNullable;
+import static java.util.stream.Collectors.toList;
+
+@ToString
+@EqualsAndHashCode
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SerializationPlans {
+    private final Map<TypeIdentifier, SerializationPlan> plans;
+    private final DebugInformation debugInformation;
+    private final AccessorStrategy accessorStrategy;
+
+    public static SerializationPlans compileSerializationPlans(final Definitions definitions,
+                                                               final SupertypeSerializers supertypeSerializers,
+                                                               final AccessorStrategy accessorStrategy,
+                                                               final boolean trackCyclesForAllTypes) {
+        validateNotNull(definitions, "definitions");
+        validateNotNull(supertypeSerializers, "supertypeSerializers");
+        validateNotNull(accessorStrategy, "accessorStrategy");
+        final Map<TypeIdentifier, SerializationPlan> plans = new HashMap<>();
+        definitions.allDefinitions().forEach(definition -> {
+            final TypeIdentifier type = definition.type();
+            plans.put(type, serializationPlan(type));
+        });
+        final SerializationPlans serializationPlans = new SerializationPlans(
+                plans, definitions.debugInformation(), accessorStrategy);
+        definitions.allDefinitions().forEach(definition -> {
+            final boolean tracksCycles = trackCyclesForAllTypes || definition.isCyclic();
+            serializationPlans.link(definition, supertypeSerializers, tracksCycles);
+        });
+        return serializationPlans;
+    }
+
+    private void link(final Definition definition,
+                      final SupertypeSerializers supertypeSerializers,
+                      final boolean tracksCycles) {
+        final TypeSerializer serializer = definition.serializer()
+                .map(typeSerializer -> typeSerializer.compile(this))
+                .orElse(null);
+        final List<TypeSerializer> superTypeSerializers = definition.superTypeSerializers().stream()
+                .map(supertypeSerializers::superTypeSerializer)
+                .map(typeSerializer -> typeSerializer.compile(this))
+                .collect(toList());
+        final SerializationPlan plan = plans.get(definition.type());
+        if (canBePreMerged(serializer, superTypeSerializers)) {
+            final List<CompiledSerializedObjectSerializer> compiledSuperTypeSerializers = superTypeSerializers.stream()
+                    .map(CompiledSerializedObjectSerializer.class::cast)
+                    .collect(toList());
+            final TypeSerializer preMergedSerializer = preMergedSerializedObjectSerializer(
+                    (CompiledSerializedObjectSerializer) serializer, compiledSuperTypeSerializers);
+            plan.link(preMergedSerializer, emptyList(), tracksCycles);
+        } else {
+            plan.link(serializer, superTypeSerializers, tracksCycles);
+        }
+    }
+
+    private static boolean canBePreMerged(final TypeSerializer serializer,
+                                          final List<TypeSerializer> superTypeSerializers) {
+        if (superTypeSerializers.isEmpty() || !(serializer instanceof CompiledSerializedObjectSerializer)) {
+            return false;
+        }
+        return superTypeSerializers.stream()
+                .allMatch(CompiledSerializedObjectSerializer.class::isInstance);
+    }
+
+    public AccessorStrategy accessorStrategy() {
+        return accessorStrategy;
+    }
+
+    public SerializationPlan planFor(final TypeIdentifier type) {
+        final SerializationPlan plan = plans.get(type);
+        if (plan == null) {
+            throw definitionNotFound(type, debugInformation.dumpAll());
+        }
+        return plan;
+    }
+
+    public Optional<SerializationPlan> optionalPlanFor(final TypeIdentifier type) {
+        return ofNullable(plans.get(type));
+    }
+}
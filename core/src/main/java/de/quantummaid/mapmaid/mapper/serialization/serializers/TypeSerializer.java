@@ -23,8 +23,10 @@ package de.quantummaid.mapmaid.mapper.serialization.serializers;
 
 import de.quantummaid.mapmaid.debug.DebugInformation;
 import de.quantummaid.mapmaid.mapper.MappingFunction;
+import de.quantummaid.mapmaid.mapper.marshalling.streaming.SerializationSink;
 import de.quantummaid.mapmaid.mapper.schema.SchemaCallback;
 import de.quantummaid.mapmaid.mapper.serialization.SerializationCallback;
+import de.quantummaid.mapmaid.mapper.serialization.plan.SerializationPlans;
 import de.quantummaid.mapmaid.mapper.serialization.tracker.SerializationTracker;
 import de.quantummaid.mapmaid.mapper.universal.Universal;
 import de.quantummaid.mapmaid.shared.mapping.CustomPrimitiveMappings;
@@ -32,6 +34,7 @@ import de.quantummaid.reflectmaid.typescanner.TypeIdentifier;
 
 import java.util.List;
 
+import static de.quantummaid.mapmaid.mapper.marshalling.streaming.SinkEmitter.emitUniversal;
 import static de.quantummaid.mapmaid.mapper.serialization.tracker.CircularReferenceException.circularReferenceException;
 import static java.lang.String.format;
 
@@ -44,6 +47,20 @@ public interface TypeSerializer extends MappingFunction {
                         CustomPrimitiveMappings customPrimitiveMappings,
                         DebugInformation debugInformation);
 
+    default void serializeStreaming(final Object object,
+                                    final SerializationCallback callback,
+                                    final SerializationTracker tracker,
+                                    final CustomPrimitiveMappings customPrimitiveMappings,
+                                    final DebugInformation debugInformation,
+                                    final SerializationSink sink) {
+        final Universal universal = serialize(object, callback, tracker, customPrimitiveMappings, debugInformation);
+        emitUniversal(universal, sink);
+    }
+
+    default TypeSerializer compile(final SerializationPlans serializationPlans) {
+        return this;
+    }
+
     String description();
 
     default Universal schema(final SchemaCallback schemaCallback) {
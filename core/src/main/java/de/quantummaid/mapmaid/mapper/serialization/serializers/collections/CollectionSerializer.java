@@ -22,8 +22,10 @@
 package de.quantummaid.mapmaid.mapper.serialization.serializers.collections;
 
 import de.quantummaid.mapmaid.debug.DebugInformation;
+import de.quantummaid.mapmaid.mapper.marshalling.streaming.SerializationSink;
 import de.quantummaid.mapmaid.mapper.schema.SchemaCallback;
 import de.quantummaid.mapmaid.mapper.serialization.SerializationCallback;
+import de.quantummaid.mapmaid.mapper.serialization.plan.SerializationPlans;
 import de.quantummaid.mapmaid.mapper.serialization.serializers.TypeSerializer;
 import de.quantummaid.mapmaid.mapper.serialization.tracker.SerializationTracker;
 import de.quantummaid.mapmaid.mapper.universal.Universal;
@@ -33,6 +35,7 @@ import de.quantummaid.reflectmaid.typescanner.TypeIdentifier;
 import java.util.List;
 
 import static de.quantummaid.mapmaid.mapper.schema.SchemaSupport.schemaForCollection;
+import static de.quantummaid.mapmaid.mapper.serialization.serializers.collections.CompiledCollectionSerializer.compiledCollectionSerializer;
 import static de.quantummaid.mapmaid.mapper.universal.UniversalCollection.universalCollection;
 import static java.util.Collections.singletonList;
 import static java.util.stream.Collectors.toList;
@@ -54,6 +57,28 @@ public interface CollectionSerializer extends TypeSerializer {
         return universalCollection(list);
     }
 
+    @Override
+    default void serializeStreaming(final Object object,
+                                    final SerializationCallback callback,
+                                    final SerializationTracker tracker,
+                                    final CustomPrimitiveMappings customPrimitiveMappings,
+                                    final DebugInformation debugInformation,
+                                    final SerializationSink sink) {
+        final TypeIdentifier contentType = contentType();
+        sink.startArray();
+        for (final Object element : collectionAsList(object)) {
+            callback.serializeDefinitionStreaming(contentType, element, tracker, sink);
+        }
+        sink.endArray();
+    }
+
+    @Override
+    default TypeSerializer compile(final SerializationPlans serializationPlans) {
+        return serializationPlans.optionalPlanFor(contentType())
+                .<TypeSerializer>map(contentPlan -> compiledCollectionSerializer(this, contentPlan))
+                .orElse(this);
+    }
+
     @Override
     default List<TypeIdentifier> requiredTypes() {
         return singletonList(this.contentType());
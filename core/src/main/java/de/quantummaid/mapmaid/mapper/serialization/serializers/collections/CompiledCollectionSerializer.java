@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2020 Richard Hauswald - https://quantummaid.de/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package de.quantummaid.mapmaid.mapper.serialization.serializers.collections;
+
+import de.quantummaid.mapmaid.debug.DebugInformation;
+import de.quantummaid.mapmaid.mapper.marshalling.streaming.SerializationSink;
+import de.quantummaid.mapmaid.mapper.schema.SchemaCallback;
+import de.quantummaid.mapmaid.mapper.serialization.SerializationCallback;
+import de.quantummaid.mapmaid.mapper.serialization.plan.SerializationPlan;
+import de.quantummaid.mapmaid.mapper.serialization.plan.SerializationPlans;
+import de.quantummaid.mapmaid.mapper.serialization.serializers.TypeSerializer;
+import de.quantummaid.mapmaid.mapper.serialization.tracker.SerializationTracker;
+import de.quantummaid.mapmaid.mapper.universal.Universal;
+import de.quantummaid.mapmaid.shared.mapping.CustomPrimitiveMappings;
+import de.quantummaid.reflectmaid.typescanner.TypeIdentifier;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static de.quantummaid.mapmaid.mapper.universal.UniversalCollection.universalCollection;
+import static de.quantummaid.mapmaid.shared.validators.NotNullValidator.validateNotNull;
+
+@ToString
+@EqualsAndHashCode
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class CompiledCollectionSerializer implements CollectionSerializer {
+    private final CollectionSerializer serializer;
+    private final TypeIdentifier contentType;
+    private final SerializationPlan contentPlan;
+
+    public static CompiledCollectionSerializer compiledCollectionSerializer(final CollectionSerializer serializer,
+                                                                           final SerializationPlan contentPlan) {
+        validateNotNull(serializer, "serializer");
+        validateNotNull(contentPlan, "contentPlan");
+        return new CompiledCollectionSerializer(serializer, serializer.contentType(), contentPlan);
+    }
+
+    @Override
+    public List<Object> collectionAsList(final Object collection) {
+        return serializer.collectionAsList(collection);
+    }
+
+    @Override
+    public TypeIdentifier contentType() {
+        return contentType;
+    }
+
+    @Override
+    public Universal serialize(final Object object,
+                               final SerializationCallback callback,
+                               final SerializationTracker tracker,
+                               final CustomPrimitiveMappings customPrimitiveMappings,
+                               final DebugInformation debugInformation) {
+        final List<Object> elements = collectionAsList(object);
+        final List<Universal> list = new ArrayList<>(elements.size());
+        for (final Object element : elements) {
+            list.add(callback.serializeWithPlan(contentPlan, element, tracker));
+        }
+        return universalCollection(list);
+    }
+
+    @Override
+    public void serializeStreaming(final Object object,
+                                   final SerializationCallback callback,
+                                   final SerializationTracker tracker,
+                                   final CustomPrimitiveMappings customPrimitiveMappings,
+                                   final DebugInformation debugInformation,
+                                   final SerializationSink sink) {
+        sink.startArray();
+        for (final Object element : collectionAsList(object)) {
+            callback.serializeWithPlanStreaming(contentPlan, element, tracker, sink);
+        }
+        sink.endArray();
+    }
+
+    @Override
+    public TypeSerializer compile(final SerializationPlans serializationPlans) {
+        return this;
+    }
+
+    @Override
+    public String description() {
+        return serializer.description();
+    }
+
+    @Override
+    public Universal schema(final SchemaCallback schemaCallback) {
+        return serializer.schema(schemaCallback);
+    }
+}
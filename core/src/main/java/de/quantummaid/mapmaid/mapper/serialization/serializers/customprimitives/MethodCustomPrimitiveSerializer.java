@@ -21,7 +21,9 @@
 
 package de.quantummaid.mapmaid.mapper.serialization.serializers.customprimitives;
 
-import de.quantummaid.reflectmaid.Executor;
+import de.quantummaid.mapmaid.mapper.serialization.plan.SerializationPlans;
+import de.quantummaid.mapmaid.mapper.serialization.serializers.TypeSerializer;
+import de.quantummaid.mapmaid.shared.generation.AccessorStrategy;
 import de.quantummaid.reflectmaid.resolvedtype.ResolvedType;
 import de.quantummaid.reflectmaid.resolvedtype.resolver.ResolvedMethod;
 import lombok.AccessLevel;
@@ -30,10 +32,11 @@ import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 
 import java.lang.reflect.Modifier;
+import java.util.function.Function;
 
 import static de.quantummaid.mapmaid.debug.MapMaidException.mapMaidException;
+import static de.quantummaid.mapmaid.shared.generation.ReflectiveAccessors.reflectiveAccessors;
 import static java.lang.String.format;
-import static java.util.Collections.emptyList;
 
 @ToString
 @EqualsAndHashCode
@@ -41,7 +44,7 @@ import static java.util.Collections.emptyList;
 public final class MethodCustomPrimitiveSerializer implements CustomPrimitiveSerializer {
     private final ResolvedType baseType;
     private final ResolvedMethod serializationMethod;
-    private final Executor executor;
+    private final Function<Object, Object> serializer;
 
     public static CustomPrimitiveSerializer createSerializer(final ResolvedType type,
                                                              final ResolvedMethod serializationMethod) {
@@ -58,13 +61,19 @@ public final class MethodCustomPrimitiveSerializer implements CustomPrimitiveSer
         final ResolvedType baseType = serializationMethod.returnType()
                 .orElseThrow(() -> mapMaidException(format("The serialization method %s configured for the custom primitive " +
                         "of type %s must not be void", serializationMethod, type.description())));
-        final Executor executor = serializationMethod.createExecutor();
-        return new MethodCustomPrimitiveSerializer(baseType, serializationMethod, executor);
+        final Function<Object, Object> serializer = reflectiveAccessors().getter(serializationMethod);
+        return new MethodCustomPrimitiveSerializer(baseType, serializationMethod, serializer);
     }
 
     @Override
     public Object serialize(final Object object) {
-        return executor.execute(object, emptyList());
+        return serializer.apply(object);
+    }
+
+    @Override
+    public TypeSerializer compile(final SerializationPlans serializationPlans) {
+        final AccessorStrategy accessorStrategy = serializationPlans.accessorStrategy();
+        return new MethodCustomPrimitiveSerializer(baseType, serializationMethod, accessorStrategy.getter(serializationMethod));
     }
 
     @Override
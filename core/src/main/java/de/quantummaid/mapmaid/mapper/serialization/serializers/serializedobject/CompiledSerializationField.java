@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2020 Richard Hauswald - https://quantummaid.de/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package de.quantummaid.mapmaid.mapper.serialization.serializers.serializedobject;
+
+import de.quantummaid.mapmaid.mapper.marshalling.streaming.SerializationSink;
+import de.quantummaid.mapmaid.mapper.serialization.SerializationCallback;
+import de.quantummaid.mapmaid.mapper.serialization.plan.SerializationPlan;
+import de.quantummaid.mapmaid.mapper.serialization.plan.SerializationPlans;
+import de.quantummaid.mapmaid.mapper.serialization.serializers.serializedobject.queries.SerializationFieldQuery;
+import de.quantummaid.mapmaid.mapper.serialization.tracker.SerializationTracker;
+import de.quantummaid.mapmaid.mapper.universal.Universal;
+import de.quantummaid.reflectmaid.typescanner.TypeIdentifier;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import static de.quantummaid.mapmaid.shared.validators.NotNullValidator.validateNotNull;
+
+@ToString
+@EqualsAndHashCode
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class CompiledSerializationField {
+    private final String name;
+    private final TypeIdentifier type;
+    private final SerializationFieldQuery query;
+    private final SerializationPlan plan;
+
+    public static CompiledSerializationField compiledSerializationField(final SerializationField field,
+                                                                        final SerializationPlans serializationPlans) {
+        validateNotNull(field, "field");
+        validateNotNull(serializationPlans, "serializationPlans");
+        final TypeIdentifier type = field.type();
+        final SerializationPlan plan = serializationPlans.optionalPlanFor(type).orElse(null);
+        final SerializationFieldQuery query = field.getQuery().withAccessorStrategy(serializationPlans.accessorStrategy());
+        return new CompiledSerializationField(field.name(), type, query, plan);
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public Universal serialize(final Object object,
+                               final SerializationCallback callback,
+                               final SerializationTracker tracker) {
+        final Object value = query(object);
+        if (plan == null) {
+            return callback.serializeDefinition(type, value, tracker);
+        }
+        return callback.serializeWithPlan(plan, value, tracker);
+    }
+
+    public void serializeStreaming(final Object object,
+                                   final SerializationCallback callback,
+                                   final SerializationTracker tracker,
+                                   final SerializationSink sink) {
+        final Object value = query(object);
+        if (plan == null) {
+            callback.serializeDefinitionStreaming(type, value, tracker, sink);
+        } else {
+            callback.serializeWithPlanStreaming(plan, value, tracker, sink);
+        }
+    }
+
+    private Object query(final Object object) {
+        if (object == null) {
+            return null;
+        }
+        return query.query(object);
+    }
+}
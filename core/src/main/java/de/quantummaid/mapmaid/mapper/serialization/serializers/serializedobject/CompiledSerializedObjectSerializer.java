@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2020 Richard Hauswald - https://quantummaid.de/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package de.quantummaid.mapmaid.mapper.serialization.serializers.serializedobject;
+
+import de.quantummaid.mapmaid.debug.DebugInformation;
+import de.quantummaid.mapmaid.mapper.marshalling.streaming.SerializationSink;
+import de.quantummaid.mapmaid.mapper.schema.SchemaCallback;
+import de.quantummaid.mapmaid.mapper.serialization.SerializationCallback;
+import de.quantummaid.mapmaid.mapper.serialization.serializers.TypeSerializer;
+import de.quantummaid.mapmaid.mapper.serialization.tracker.SerializationTracker;
+import de.quantummaid.mapmaid.mapper.universal.Universal;
+import de.quantummaid.mapmaid.shared.mapping.CustomPrimitiveMappings;
+import de.quantummaid.reflectmaid.typescanner.TypeIdentifier;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.util.List;
+
+import static de.quantummaid.mapmaid.mapper.universal.UniversalObject.universalObjectFromFieldArrays;
+import static de.quantummaid.mapmaid.shared.validators.NotNullValidator.validateNotNull;
+
+@ToString
+@EqualsAndHashCode
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class CompiledSerializedObjectSerializer implements TypeSerializer {
+    private final SerializedObjectSerializer serializer;
+    private final List<CompiledSerializationField> fields;
+    private final String[] keys;
+
+    public static CompiledSerializedObjectSerializer compiledSerializedObjectSerializer(
+            final SerializedObjectSerializer serializer,
+            final List<CompiledSerializationField> fields) {
+        validateNotNull(serializer, "serializer");
+        validateNotNull(fields, "fields");
+        final String[] keys = fields.stream()
+                .map(CompiledSerializationField::name)
+                .toArray(String[]::new);
+        return new CompiledSerializedObjectSerializer(serializer, fields, keys);
+    }
+
+    @Override
+    public List<TypeIdentifier> requiredTypes() {
+        return serializer.requiredTypes();
+    }
+
+    @Override
+    public Universal serialize(final Object object,
+                               final SerializationCallback callback,
+                               final SerializationTracker tracker,
+                               final CustomPrimitiveMappings customPrimitiveMappings,
+                               final DebugInformation debugInformation) {
+        final Universal[] values = new Universal[keys.length];
+        serializeFields(object, callback, tracker, 0, values);
+        return universalObjectFromFieldArrays(keys, values);
+    }
+
+    @Override
+    public void serializeStreaming(final Object object,
+                                   final SerializationCallback callback,
+                                   final SerializationTracker tracker,
+                                   final CustomPrimitiveMappings customPrimitiveMappings,
+                                   final DebugInformation debugInformation,
+                                   final SerializationSink sink) {
+        sink.startObject();
+        for (final CompiledSerializationField field : fields) {
+            sink.field(field.name());
+            field.serializeStreaming(object, callback, tracker, sink);
+        }
+        sink.endObject();
+    }
+
+    public List<String> fieldNames() {
+        return List.of(keys);
+    }
+
+    void serializeFields(final Object object,
+                         final SerializationCallback callback,
+                         final SerializationTracker tracker,
+                         final int offset,
+                         final Universal[] target) {
+        for (int i = 0; i < keys.length; ++i) {
+            final CompiledSerializationField field = fields.get(i);
+            target[offset + i] = field.serialize(object, callback, tracker);
+        }
+    }
+
+    void serializeFieldsStreaming(final Object object,
+                                  final SerializationCallback callback,
+                                  final SerializationTracker tracker,
+                                  final List<String> keys,
+                                  final SerializationSink sink) {
+        for (int i = 0; i < keys.size(); ++i) {
+            final CompiledSerializationField field = fields.get(i);
+            sink.field(keys.get(i));
+            field.serializeStreaming(object, callback, tracker, sink);
+        }
+    }
+
+    @Override
+    public String description() {
+        return serializer.description();
+    }
+
+    @Override
+    public Universal schema(final SchemaCallback schemaCallback) {
+        return serializer.schema(schemaCallback);
+    }
+
+    @Override
+    public int numberOfParameters() {
+        return serializer.numberOfParameters();
+    }
+}
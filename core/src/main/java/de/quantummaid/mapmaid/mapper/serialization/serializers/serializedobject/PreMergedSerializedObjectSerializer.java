@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2020 Richard Hauswald - https://quantummaid.de/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package de.quantummaid.mapmaid.mapper.serialization.serializers.serializedobject;
+
+import de.quantummaid.mapmaid.debug.DebugInformation;
+import de.quantummaid.mapmaid.mapper.marshalling.streaming.SerializationSink;
+import de.quantummaid.mapmaid.mapper.schema.SchemaCallback;
+import de.quantummaid.mapmaid.mapper.serialization.SerializationCallback;
+import de.quantummaid.mapmaid.mapper.serialization.serializers.TypeSerializer;
+import de.quantummaid.mapmaid.mapper.serialization.tracker.SerializationTracker;
+import de.quantummaid.mapmaid.mapper.universal.Universal;
+import de.quantummaid.mapmaid.shared.mapping.CustomPrimitiveMappings;
+import de.quantummaid.reflectmaid.typescanner.TypeIdentifier;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.util.*;
+
+import static de.quantummaid.mapmaid.mapper.serialization.universalmerger.FieldNormalizer.determineField;
+import static de.quantummaid.mapmaid.mapper.universal.UniversalObject.universalObjectFromFieldArrays;
+import static de.quantummaid.mapmaid.shared.validators.NotNullValidator.validateNotNull;
+
+@ToString
+@EqualsAndHashCode
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class PreMergedSerializedObjectSerializer implements TypeSerializer {
+    private final CompiledSerializedObjectSerializer serializer;
+    private final List<CompiledSerializedObjectSerializer> parts;
+    private final List<List<String>> keys;
+    private final String[] orderedKeys;
+    private final int[] offsets;
+
+    public static PreMergedSerializedObjectSerializer preMergedSerializedObjectSerializer(
+            final CompiledSerializedObjectSerializer serializer,
+            final List<CompiledSerializedObjectSerializer> superTypeSerializers) {
+        validateNotNull(serializer, "serializer");
+        validateNotNull(superTypeSerializers, "superTypeSerializers");
+        final List<CompiledSerializedObjectSerializer> parts = new ArrayList<>(superTypeSerializers.size() + 1);
+        parts.add(serializer);
+        parts.addAll(superTypeSerializers);
+        final Set<String> existingKeys = new LinkedHashSet<>(serializer.fieldNames());
+        final List<List<String>> keys = new ArrayList<>(parts.size());
+        keys.add(serializer.fieldNames());
+        for (final CompiledSerializedObjectSerializer superTypeSerializer : superTypeSerializers) {
+            final List<String> superTypeKeys = new ArrayList<>();
+            for (final String fieldName : superTypeSerializer.fieldNames()) {
+                final String key = determineField(fieldName, existingKeys);
+                existingKeys.add(key);
+                superTypeKeys.add(key);
+            }
+            keys.add(superTypeKeys);
+        }
+        final String[] orderedKeys = existingKeys.toArray(new String[0]);
+        final int[] offsets = new int[parts.size()];
+        for (int i = 1; i < offsets.length; ++i) {
+            offsets[i] = offsets[i - 1] + keys.get(i - 1).size();
+        }
+        return new PreMergedSerializedObjectSerializer(serializer, parts, keys, orderedKeys, offsets);
+    }
+
+    @Override
+    public List<TypeIdentifier> requiredTypes() {
+        final List<TypeIdentifier> requiredTypes = new ArrayList<>();
+        parts.forEach(part -> requiredTypes.addAll(part.requiredTypes()));
+        return requiredTypes;
+    }
+
+    @Override
+    public Universal serialize(final Object object,
+                               final SerializationCallback callback,
+                               final SerializationTracker tracker,
+                               final CustomPrimitiveMappings customPrimitiveMappings,
+                               final DebugInformation debugInformation) {
+        final Universal[] values = new Universal[orderedKeys.length];
+        for (int i = 0; i < parts.size(); ++i) {
+            parts.get(i).serializeFields(object, callback, tracker, offsets[i], values);
+        }
+        return universalObjectFromFieldArrays(orderedKeys, values);
+    }
+
+    @Override
+    public void serializeStreaming(final Object object,
+                                   final SerializationCallback callback,
+                                   final SerializationTracker tracker,
+                                   final CustomPrimitiveMappings customPrimitiveMappings,
+                                   final DebugInformation debugInformation,
+                                   final SerializationSink sink) {
+        sink.startObject();
+        for (int i = 0; i < parts.size(); ++i) {
+            parts.get(i).serializeFieldsStreaming(object, callback, tracker, keys.get(i), sink);
+        }
+        sink.endObject();
+    }
+
+    @Override
+    public String description() {
+        return serializer.description();
+    }
+
+    @Override
+    public Universal schema(final SchemaCallback schemaCallback) {
+        return serializer.schema(schemaCallback);
+    }
+
+    @Override
+    public int numberOfParameters() {
+        return serializer.numberOfParameters();
+    }
+}
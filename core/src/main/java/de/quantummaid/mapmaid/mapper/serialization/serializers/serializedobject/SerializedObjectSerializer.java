@@ -22,8 +22,10 @@
 package de.quantummaid.mapmaid.mapper.serialization.serializers.serializedobject;
 
 import de.quantummaid.mapmaid.debug.DebugInformation;
+import de.quantummaid.mapmaid.mapper.marshalling.streaming.SerializationSink;
 import de.quantummaid.mapmaid.mapper.schema.SchemaCallback;
 import de.quantummaid.mapmaid.mapper.serialization.SerializationCallback;
+import de.quantummaid.mapmaid.mapper.serialization.plan.SerializationPlans;
 import de.quantummaid.mapmaid.mapper.serialization.serializers.TypeSerializer;
 import de.quantummaid.mapmaid.mapper.serialization.tracker.SerializationTracker;
 import de.quantummaid.mapmaid.mapper.universal.Universal;
@@ -34,14 +36,17 @@ import lombok.EqualsAndHashCode;
 import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
 import static de.quantummaid.mapmaid.mapper.schema.SchemaSupport.schemaForObject;
+import static de.quantummaid.mapmaid.mapper.serialization.serializers.serializedobject.CompiledSerializationField.compiledSerializationField;
+import static de.quantummaid.mapmaid.mapper.serialization.serializers.serializedobject.CompiledSerializedObjectSerializer.compiledSerializedObjectSerializer;
 import static de.quantummaid.mapmaid.mapper.universal.UniversalObject.universalObject;
 import static de.quantummaid.mapmaid.shared.validators.NotNullValidator.validateNotNull;
 import static java.util.Optional.ofNullable;
+import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toMap;
 
 @ToString
@@ -70,7 +75,7 @@ public final class SerializedObjectSerializer implements TypeSerializer {
                                final SerializationTracker tracker,
                                final CustomPrimitiveMappings customPrimitiveMappings,
                                final DebugInformation debugInformation) {
-        final Map<String, Universal> map = new HashMap<>(10);
+        final Map<String, Universal> map = new LinkedHashMap<>(10);
         fields.fields().forEach(serializationField -> {
             final TypeIdentifier type = serializationField.type();
             final Object value = ofNullable(object).map(serializationField::query).orElse(null);
@@ -81,6 +86,30 @@ public final class SerializedObjectSerializer implements TypeSerializer {
         return universalObject(map);
     }
 
+    @Override
+    public void serializeStreaming(final Object object,
+                                   final SerializationCallback callback,
+                                   final SerializationTracker tracker,
+                                   final CustomPrimitiveMappings customPrimitiveMappings,
+                                   final DebugInformation debugInformation,
+                                   final SerializationSink sink) {
+        sink.startObject();
+        for (final SerializationField serializationField : fields.fields()) {
+            final Object value = object == null ? null : serializationField.query(object);
+            sink.field(serializationField.name());
+            callback.serializeDefinitionStreaming(serializationField.type(), value, tracker, sink);
+        }
+        sink.endObject();
+    }
+
+    @Override
+    public TypeSerializer compile(final SerializationPlans serializationPlans) {
+        final List<CompiledSerializationField> compiledFields = fields.fields().stream()
+                .map(field -> compiledSerializationField(field, serializationPlans))
+                .collect(toList());
+        return compiledSerializedObjectSerializer(this, compiledFields);
+    }
+
     @Override
     public String description() {
         final StringBuilder stringBuilder = new StringBuilder();
@@ -21,13 +21,16 @@
 
 package de.quantummaid.mapmaid.mapper.serialization.serializers.serializedobject.queries;
 
-import de.quantummaid.reflectmaid.Getter;
+import de.quantummaid.mapmaid.shared.generation.AccessorStrategy;
 import de.quantummaid.reflectmaid.resolvedtype.resolver.ResolvedField;
 import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 
+import java.util.function.Function;
+
+import static de.quantummaid.mapmaid.shared.generation.ReflectiveAccessors.reflectiveAccessors;
 import static java.lang.String.format;
 
 @ToString
@@ -35,16 +38,21 @@ import static java.lang.String.format;
 @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
 public final class PublicFieldQuery implements SerializationFieldQuery {
     private final ResolvedField field;
-    private final Getter getter;
+    private final Function<Object, Object> getter;
 
     public static SerializationFieldQuery publicFieldQuery(final ResolvedField field) {
-        final Getter getter = field.createGetter();
+        final Function<Object, Object> getter = reflectiveAccessors().fieldReader(field);
         return new PublicFieldQuery(field, getter);
     }
 
     @Override
     public Object query(final Object object) {
-        return getter.get(object);
+        return getter.apply(object);
+    }
+
+    @Override
+    public SerializationFieldQuery withAccessorStrategy(final AccessorStrategy accessorStrategy) {
+        return new PublicFieldQuery(field, accessorStrategy.fieldReader(field));
     }
 
     public ResolvedField field() {
@@ -21,9 +21,15 @@
 
 package de.quantummaid.mapmaid.mapper.serialization.serializers.serializedobject.queries;
 
+import de.quantummaid.mapmaid.shared.generation.AccessorStrategy;
+
 public interface SerializationFieldQuery {
     Object query(Object object);
 
+    default SerializationFieldQuery withAccessorStrategy(final AccessorStrategy accessorStrategy) {
+        return this;
+    }
+
     default String describe() {
         return this.toString();
     }
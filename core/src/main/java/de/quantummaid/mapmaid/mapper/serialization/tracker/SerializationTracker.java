@@ -21,35 +21,71 @@
 
 package de.quantummaid.mapmaid.mapper.serialization.tracker;
 
-import de.quantummaid.mapmaid.collections.Collection;
-import de.quantummaid.mapmaid.shared.validators.NotNullValidator;
-import lombok.AccessLevel;
-import lombok.EqualsAndHashCode;
-import lombok.RequiredArgsConstructor;
-import lombok.ToString;
-
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Optional;
-
-@ToString
-@EqualsAndHashCode
-@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+import static de.quantummaid.mapmaid.shared.validators.NotNullValidator.validateNotNull;
+import static java.lang.String.format;
+import static java.util.Collections.newSetFromMap;
+
 public final class SerializationTracker {
-    private final List<TrackedObject> visitedObjects;
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int IDENTITY_SET_THRESHOLD = 32;
+
+    private Object[] stack = new Object[INITIAL_CAPACITY];
+    private int depth;
+    private Set<Object> identitySet;
+
+    private SerializationTracker() {
+    }
 
     public static SerializationTracker serializationTracker() {
-        return new SerializationTracker(Collection.smallList());
+        return new SerializationTracker();
+    }
+
+    public boolean push(final Object object) {
+        validateNotNull(object, "object");
+        if (isBeingSerialized(object)) {
+            return false;
+        }
+        if (depth == stack.length) {
+            stack = Arrays.copyOf(stack, depth * 2);
+        }
+        stack[depth] = object;
+        depth = depth + 1;
+        if (identitySet != null) {
+            identitySet.add(object);
+        } else if (depth > IDENTITY_SET_THRESHOLD) {
+            identitySet = newSetFromMap(new IdentityHashMap<>(depth * 2));
+            identitySet.addAll(Arrays.asList(stack).subList(0, depth));
+        }
+        return true;
+    }
+
+    public void pop() {
+        depth = depth - 1;
+        final Object object = stack[depth];
+        stack[depth] = null;
+        if (identitySet != null) {
+            identitySet.remove(object);
+        }
     }
 
-    public Optional<SerializationTracker> trackToProhibitCyclicReferences(final Object object) {
-        NotNullValidator.validateNotNull(object, "object");
-        final TrackedObject trackedObject = TrackedObject.trackedObject(object);
-        if (visitedObjects.contains(trackedObject)) {
-            return Optional.empty();
+    private boolean isBeingSerialized(final Object object) {
+        if (identitySet != null) {
+            return identitySet.contains(object);
+        }
+        for (int i = 0; i < depth; ++i) {
+            if (stack[i] == object) {
+                return true;
+            }
         }
-        final List<TrackedObject> newVisitedObjects = new ArrayList<>(this.visitedObjects);
-        newVisitedObjects.add(trackedObject);
-        return Optional.of(new SerializationTracker(newVisitedObjects));
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return format("SerializationTracker(depth=%d)", depth);
     }
 }
@@ -23,14 +23,12 @@ package de.quantummaid.mapmaid.mapper.serialization.universalmerger;
 
 import java.util.Collection;
 import java.util.Optional;
-import java.util.function.Predicate;
-import java.util.regex.Pattern;
 
-import static java.util.Comparator.comparing;
+import static java.util.Optional.ofNullable;
 
 public final class FieldNormalizer {
     private static final String PADDING = "_";
-    private static final Predicate<String> IS_PADDING = Pattern.compile("_*").asMatchPredicate();
+    private static final char PADDING_CHARACTER = '_';
 
     private FieldNormalizer() {
     }
@@ -45,16 +43,25 @@ public final class FieldNormalizer {
     }
 
     public static Optional<String> findTypeField(final String base, final Collection<String> fields) {
-        return fields.stream()
-                .filter(s -> isIdentifier(s, base))
-                .max(comparing(String::length));
+        String typeField = null;
+        for (final String field : fields) {
+            if (isIdentifier(field, base) && (typeField == null || field.length() > typeField.length())) {
+                typeField = field;
+            }
+        }
+        return ofNullable(typeField);
     }
 
     public static boolean isIdentifier(final String string, final String base) {
         if (!string.endsWith(base)) {
             return false;
         }
-        final String withoutBase = string.substring(0, string.length() - base.length());
-        return IS_PADDING.test(withoutBase);
+        final int paddingLength = string.length() - base.length();
+        for (int i = 0; i < paddingLength; ++i) {
+            if (string.charAt(i) != PADDING_CHARACTER) {
+                return false;
+            }
+        }
+        return true;
     }
 }
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2020 Richard Hauswald - https://quantummaid.de/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package de.quantummaid.mapmaid.mapper.universal;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+final class FieldArrayMap extends AbstractMap<String, Universal> {
+    private final String[] keys;
+    private final Universal[] values;
+
+    private FieldArrayMap(final String[] keys,
+                          final Universal[] values) {
+        this.keys = keys;
+        this.values = values;
+    }
+
+    static FieldArrayMap universalFieldArrayMap(final String[] keys, final Universal[] values) {
+        return new FieldArrayMap(keys, values);
+    }
+
+    String[] keys() {
+        return this.keys;
+    }
+
+    Universal[] universalValues() {
+        return this.values;
+    }
+
+    @Override
+    public int size() {
+        return this.keys.length;
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return indexOf(key) >= 0;
+    }
+
+    @Override
+    public Universal get(final Object key) {
+        final int index = indexOf(key);
+        if (index < 0) {
+            return null;
+        }
+        return this.values[index];
+    }
+
+    private int indexOf(final Object key) {
+        for (int i = 0; i < this.keys.length; ++i) {
+            if (this.keys[i] == key) {
+                return i;
+            }
+        }
+        for (int i = 0; i < this.keys.length; ++i) {
+            if (this.keys[i].equals(key)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public Set<Entry<String, Universal>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Entry<String, Universal>> iterator() {
+                return new EntryIterator();
+            }
+
+            @Override
+            public int size() {
+                return keys.length;
+            }
+        };
+    }
+
+    private final class EntryIterator implements Iterator<Map.Entry<String, Universal>> {
+        private int index;
+
+        @Override
+        public boolean hasNext() {
+            return this.index < keys.length;
+        }
+
+        @Override
+        public Map.Entry<String, Universal> next() {
+            if (this.index >= keys.length) {
+                throw new NoSuchElementException();
+            }
+            final Map.Entry<String, Universal> entry = new SimpleImmutableEntry<>(
+                    keys[this.index], values[this.index]);
+            this.index = this.index + 1;
+            return entry;
+        }
+    }
+}
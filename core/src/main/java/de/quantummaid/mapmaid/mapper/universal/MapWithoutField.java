@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2020 Richard Hauswald - https://quantummaid.de/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package de.quantummaid.mapmaid.mapper.universal;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+final class MapWithoutField<V> extends AbstractMap<String, V> {
+    private final Map<String, V> map;
+    private final String hiddenField;
+    private final int size;
+
+    private MapWithoutField(final Map<String, V> map,
+                            final String hiddenField,
+                            final int size) {
+        this.map = map;
+        this.hiddenField = hiddenField;
+        this.size = size;
+    }
+
+    static <V> MapWithoutField<V> mapWithoutField(final Map<String, V> map, final String hiddenField) {
+        final int size = map.containsKey(hiddenField) ? map.size() - 1 : map.size();
+        return new MapWithoutField<>(map, hiddenField, size);
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return !this.hiddenField.equals(key) && this.map.containsKey(key);
+    }
+
+    @Override
+    public V get(final Object key) {
+        if (this.hiddenField.equals(key)) {
+            return null;
+        }
+        return this.map.get(key);
+    }
+
+    @Override
+    public Set<Entry<String, V>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Entry<String, V>> iterator() {
+                return new EntryIterator(map.entrySet().iterator());
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    private final class EntryIterator implements Iterator<Map.Entry<String, V>> {
+        private final Iterator<Map.Entry<String, V>> delegate;
+        private Map.Entry<String, V> next;
+
+        private EntryIterator(final Iterator<Map.Entry<String, V>> delegate) {
+            this.delegate = delegate;
+            this.next = findNext();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.next != null;
+        }
+
+        @Override
+        public Map.Entry<String, V> next() {
+            if (this.next == null) {
+                throw new NoSuchElementException();
+            }
+            final Map.Entry<String, V> entry = new SimpleImmutableEntry<>(this.next);
+            this.next = findNext();
+            return entry;
+        }
+
+        private Map.Entry<String, V> findNext() {
+            while (this.delegate.hasNext()) {
+                final Map.Entry<String, V> candidate = this.delegate.next();
+                if (!hiddenField.equals(candidate.getKey())) {
+                    return candidate;
+                }
+            }
+            return null;
+        }
+    }
+}
@@ -32,23 +32,28 @@ import static de.quantummaid.mapmaid.shared.mapping.BooleanFormatException.boole
 @EqualsAndHashCode
 @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
 public final class UniversalBoolean implements UniversalPrimitive {
+    private static final UniversalBoolean TRUE = new UniversalBoolean(true);
+    private static final UniversalBoolean FALSE = new UniversalBoolean(false);
+
     private final boolean value;
 
     public static UniversalBoolean universalBoolean(final boolean value) {
-        return new UniversalBoolean(value);
+        if (value) {
+            return TRUE;
+        }
+        return FALSE;
     }
 
     public static UniversalBoolean universalBooleanFromUniversalString(final UniversalString universalString) {
-        final String stringValue = (String) universalString.toNativeJava();
-        return universalBooleanFromString(stringValue);
+        return universalBooleanFromString(universalString.toNativeStringValue());
     }
 
     private static UniversalBoolean universalBooleanFromString(final String stringValue) {
         switch (stringValue) {
             case "true":
-                return universalBoolean(true);
+                return TRUE;
             case "false":
-                return universalBoolean(false);
+                return FALSE;
             default:
                 throw booleanFormatException(stringValue);
         }
@@ -59,7 +64,7 @@ public final class UniversalBoolean implements UniversalPrimitive {
         return this.value;
     }
 
-    public Boolean toNativeBoolean() {
+    public boolean toNativeBoolean() {
         return this.value;
     }
 }
@@ -27,6 +27,7 @@ import lombok.EqualsAndHashCode;
 import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import static java.util.Collections.unmodifiableList;
@@ -57,8 +58,8 @@ public final class UniversalCollection implements Universal {
 
     @Override
     public Object toNativeJava() {
-        return this.list.stream()
-                .map(Universal::toNativeJava)
-                .collect(toList());
+        final List<Object> nativeList = new ArrayList<>(this.list.size());
+        this.list.forEach(element -> nativeList.add(element.toNativeJava()));
+        return nativeList;
     }
 }
@@ -41,8 +41,7 @@ public final class UniversalDouble implements UniversalPrimitive {
     }
 
     public static UniversalDouble universalDoubleFromUniversalString(final UniversalString universalString) {
-        final String stringValue = (String) universalString.toNativeJava();
-        return universalDoubleFromString(stringValue);
+        return universalDoubleFromString(universalString.toNativeStringValue());
     }
 
     public static UniversalDouble universalDoubleFromFloat(final float floatValue) {
@@ -50,18 +49,11 @@ public final class UniversalDouble implements UniversalPrimitive {
     }
 
     private static UniversalDouble universalDoubleFromString(final String stringValue) {
-        final Double doubleValue = parseDouble(stringValue);
-        return universalDouble(doubleValue);
+        return universalDouble(parseDouble(stringValue));
     }
 
     public static UniversalDouble universalDoubleFromUniversalLong(final UniversalLong universalLong) {
-        final Long longValue = (Long) universalLong.toNativeJava();
-        return universalDoubleFromLong(longValue);
-    }
-
-    private static UniversalDouble universalDoubleFromLong(final Long longValue) {
-        final double value = longValue.doubleValue();
-        return universalDouble(value);
+        return universalDouble((double) universalLong.toNativeLong());
     }
 
     @Override
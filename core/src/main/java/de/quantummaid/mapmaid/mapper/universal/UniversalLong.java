@@ -35,20 +35,32 @@ import static java.lang.String.format;
 @EqualsAndHashCode
 @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
 public final class UniversalLong implements UniversalPrimitive {
+    private static final int CACHE_LOW = -128;
+    private static final int CACHE_HIGH = 1024;
+    private static final UniversalLong[] CACHE = new UniversalLong[CACHE_HIGH - CACHE_LOW + 1];
+
+    static {
+        for (int i = 0; i < CACHE.length; ++i) {
+            CACHE[i] = new UniversalLong(i + CACHE_LOW);
+        }
+    }
+
     private final long value;
 
     public static UniversalLong universalLong(final long value) {
+        if (value >= CACHE_LOW && value <= CACHE_HIGH) {
+            return CACHE[(int) value - CACHE_LOW];
+        }
         return new UniversalLong(value);
     }
 
     public static UniversalLong universalLongFromUniversalDouble(final UniversalDouble universalDouble) {
-        final Double o = (Double) universalDouble.toNativeJava();
-        return universalLongFromDouble(o);
+        return universalLongFromDouble(universalDouble.toNativeDouble());
     }
 
-    public static UniversalLong universalLongFromDouble(final Double value) {
+    public static UniversalLong universalLongFromDouble(final double value) {
         if (isNonFractionalDouble(value)) {
-            return universalLong(value.longValue());
+            return universalLong((long) value);
         } else {
             final String message = format("Cannot cast double '%s' to long", value);
             throw mapMaidException(message);
@@ -56,17 +68,15 @@ public final class UniversalLong implements UniversalPrimitive {
     }
 
     public static UniversalLong universalLongFromUniversalString(final UniversalString universalString) {
-        final String stringValue = (String) universalString.toNativeJava();
-        return universalLongFromString(stringValue);
+        return universalLongFromString(universalString.toNativeStringValue());
     }
 
     public static UniversalLong universalLongFromString(final String value) {
-        final Long longValue = parseLong(value);
-        return universalLong(longValue);
+        return universalLong(parseLong(value));
     }
 
     @SuppressWarnings("java:S1244")
-    private static boolean isNonFractionalDouble(final Double value) {
+    private static boolean isNonFractionalDouble(final double value) {
         return Math.rint(value) == value;
     }
 
@@ -29,6 +29,8 @@ import lombok.ToString;
 import java.util.*;
 import java.util.Map.Entry;
 
+import static de.quantummaid.mapmaid.mapper.universal.FieldArrayMap.universalFieldArrayMap;
+import static de.quantummaid.mapmaid.mapper.universal.MapWithoutField.mapWithoutField;
 import static de.quantummaid.mapmaid.mapper.universal.Universal.fromNativeJava;
 import static de.quantummaid.mapmaid.shared.validators.NotNullValidator.validateNotNull;
 import static java.util.Collections.unmodifiableMap;
@@ -55,10 +57,24 @@ public final class UniversalObject implements Universal {
         return new UniversalObject(map);
     }
 
+    public static UniversalObject universalObjectFromFieldArrays(final String[] keys, final Universal[] values) {
+        validateNotNull(keys, "keys");
+        validateNotNull(values, "values");
+        for (int i = 0; i < keys.length; ++i) {
+            validateNotNull(values[i], keys[i]);
+        }
+        return new UniversalObject(universalFieldArrayMap(keys, values));
+    }
+
     public Collection<String> fields() {
         return map.keySet();
     }
 
+    public boolean hasField(final String name) {
+        validateNotNull(name, "name");
+        return map.containsKey(name);
+    }
+
     public Optional<Universal> getField(final String name) {
         validateNotNull(name, "name");
         if (!map.containsKey(name)) {
@@ -69,9 +85,44 @@ public final class UniversalObject implements Universal {
 
     public UniversalObject withoutField(final String name) {
         validateNotNull(name, "name");
-        final Map<String, Universal> copy = new LinkedHashMap<>(map);
-        copy.remove(name);
-        return universalObject(copy);
+        return new UniversalObject(mapWithoutField(map, name));
+    }
+
+    public String[] fieldKeys() {
+        if (this.map instanceof FieldArrayMap) {
+            return ((FieldArrayMap) this.map).keys().clone();
+        }
+        return this.map.keySet().toArray(new String[0]);
+    }
+
+    public boolean hasFieldKeys(final String[] keys) {
+        if (this.map instanceof FieldArrayMap) {
+            return Arrays.equals(((FieldArrayMap) this.map).keys(), keys);
+        }
+        if (this.map.size() != keys.length) {
+            return false;
+        }
+        int index = 0;
+        for (final String key : this.map.keySet()) {
+            if (!key.equals(keys[index])) {
+                return false;
+            }
+            ++index;
+        }
+        return true;
+    }
+
+    public void copyFieldValues(final Universal[] target, final int offset) {
+        if (this.map instanceof FieldArrayMap) {
+            final Universal[] values = ((FieldArrayMap) this.map).universalValues();
+            System.arraycopy(values, 0, target, offset, values.length);
+            return;
+        }
+        int index = offset;
+        for (final Universal value : this.map.values()) {
+            target[index] = value;
+            ++index;
+        }
     }
 
     public Map<String, Universal> toUniversalMap() {
@@ -80,7 +131,7 @@ public final class UniversalObject implements Universal {
 
     @Override
     public Object toNativeJava() {
-        final Map<String, Object> nativeMap = new HashMap<>(this.map.size());
+        final Map<String, Object> nativeMap = new LinkedHashMap<>(this.map.size());
         this.map.forEach((key, value) -> nativeMap.put(key, value.toNativeJava()));
         return nativeMap;
     }
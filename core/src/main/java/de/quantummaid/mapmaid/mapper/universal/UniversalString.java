@@ -41,8 +41,7 @@ public final class UniversalString implements UniversalPrimitive {
     }
 
     public static UniversalString universalStringFromUniversalDouble(final UniversalDouble universalDouble) {
-        final Double doubleValue = (Double) universalDouble.toNativeJava();
-        return universalStringFromDouble(doubleValue);
+        return universalString(Double.toString(universalDouble.toNativeDouble()));
     }
 
     public static UniversalString universalStringFromDouble(final Double doubleValue) {
@@ -50,8 +49,7 @@ public final class UniversalString implements UniversalPrimitive {
     }
 
     public static UniversalString universalStringFromUniversalLong(final UniversalLong universalLong) {
-        final Long longValue = (Long) universalLong.toNativeJava();
-        return universalStringFromLong(longValue);
+        return universalString(Long.toString(universalLong.toNativeLong()));
     }
 
     public static UniversalString universalStringFromLong(final Long longValue) {
@@ -59,8 +57,7 @@ public final class UniversalString implements UniversalPrimitive {
     }
 
     public static UniversalString universalStringFromUniversalBoolean(final UniversalBoolean universalBoolean) {
-        final Boolean booleanValue = (Boolean) universalBoolean.toNativeJava();
-        return universalStringFromBoolean(booleanValue);
+        return universalString(Boolean.toString(universalBoolean.toNativeBoolean()));
     }
 
     public static UniversalString universalStringFromBoolean(final Boolean booleanValue) {
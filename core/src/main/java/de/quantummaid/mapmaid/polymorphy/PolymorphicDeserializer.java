@@ -26,8 +26,13 @@ import de.quantummaid.mapmaid.debug.DebugInformation;
 import de.quantummaid.mapmaid.debug.scaninformation.ScanInformation;
 import de.quantummaid.mapmaid.mapper.deserialization.DeserializerCallback;
 import de.quantummaid.mapmaid.mapper.deserialization.deserializers.TypeDeserializer;
+import de.quantummaid.mapmaid.mapper.deserialization.deserializers.serializedobjects.CompiledSerializedObjectDeserializer;
+import de.quantummaid.mapmaid.mapper.deserialization.deserializers.serializedobjects.SerializedObjectDeserializer;
+import de.quantummaid.mapmaid.mapper.deserialization.plan.DeserializationPlan;
+import de.quantummaid.mapmaid.mapper.deserialization.plan.DeserializationPlans;
 import de.quantummaid.mapmaid.mapper.deserialization.validation.ExceptionTracker;
 import de.quantummaid.mapmaid.mapper.injector.Injector;
+import de.quantummaid.mapmaid.mapper.marshalling.streaming.TokenCursor;
 import de.quantummaid.mapmaid.mapper.schema.SchemaCallback;
 import de.quantummaid.mapmaid.mapper.universal.Universal;
 import de.quantummaid.mapmaid.mapper.universal.UniversalNull;
@@ -37,26 +42,42 @@ import de.quantummaid.reflectmaid.typescanner.TypeIdentifier;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import static de.quantummaid.mapmaid.mapper.deserialization.WrongInputStructureException.wrongInputStructureException;
+import static de.quantummaid.mapmaid.mapper.marshalling.streaming.ObjectStartReplayingCursor.replayingObjectStart;
+import static de.quantummaid.mapmaid.mapper.marshalling.streaming.Token.FIELD_NAME;
+import static de.quantummaid.mapmaid.mapper.marshalling.streaming.Token.START_OBJECT;
+import static de.quantummaid.mapmaid.mapper.marshalling.streaming.Token.STRING;
+import static de.quantummaid.mapmaid.mapper.marshalling.streaming.UniversalReader.readRemainingFields;
+import static de.quantummaid.mapmaid.mapper.marshalling.streaming.UniversalReader.readUniversal;
 import static de.quantummaid.mapmaid.mapper.schema.SchemaSupport.schemaForPolymorphicParent;
-import static de.quantummaid.mapmaid.polymorphy.MissingPolymorphicTypeFieldException.missingPolymorphicTypeFieldException;
 import static de.quantummaid.mapmaid.mapper.serialization.universalmerger.FieldNormalizer.findTypeField;
+import static de.quantummaid.mapmaid.mapper.serialization.universalmerger.FieldNormalizer.isIdentifier;
+import static de.quantummaid.mapmaid.polymorphy.MissingPolymorphicTypeFieldException.missingPolymorphicTypeFieldException;
+import static de.quantummaid.mapmaid.mapper.universal.UniversalString.universalString;
 import static de.quantummaid.mapmaid.polymorphy.UnknownPolymorphicSubtypeException.unknownPolymorphicSubtypeException;
 import static java.lang.String.format;
+import static java.util.Optional.empty;
+import static java.util.Optional.of;
 
 @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
 public final class PolymorphicDeserializer implements TypeDeserializer {
     private final TypeIdentifier typeIdentifier;
     private final BiMap<String, TypeIdentifier> nameToType;
     private final String typeField;
+    private final DeserializationPlans deserializationPlans;
+    private volatile Boolean firstTypeFieldIsDecisive;
 
     public static PolymorphicDeserializer polymorphicDeserializer(
             final TypeIdentifier typeIdentifier,
             final BiMap<String, TypeIdentifier> nameToType,
             final String typeField) {
-        return new PolymorphicDeserializer(typeIdentifier, nameToType, typeField);
+        return new PolymorphicDeserializer(typeIdentifier, nameToType, typeField, null);
     }
 
     @Override
@@ -77,7 +98,7 @@ public final class PolymorphicDeserializer implements TypeDeserializer {
             return null;
         }
         final UniversalObject universalObject = asUniversalObject(input, exceptionTracker, debugInformation);
-        final String normalizedTypeField = findTypeField(this.typeField, universalObject.fields()).orElseThrow(() -> {
+        final String normalizedTypeField = normalizedTypeField(universalObject).orElseThrow(() -> {
             final ScanInformation scanInformation = debugInformation.scanInformationFor(typeIdentifier);
             return missingPolymorphicTypeFieldException(
                     input,
@@ -105,6 +126,95 @@ public final class PolymorphicDeserializer implements TypeDeserializer {
         );
     }
 
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> T deserializeStreaming(final TokenCursor cursor,
+                                      final ExceptionTracker exceptionTracker,
+                                      final Injector injector,
+                                      final DeserializerCallback callback,
+                                      final CustomPrimitiveMappings customPrimitiveMappings,
+                                      final TypeIdentifier typeIdentifier,
+                                      final DebugInformation debugInformation) {
+        if (cursor.currentToken() != START_OBJECT) {
+            return TypeDeserializer.super.deserializeStreaming(cursor, exceptionTracker, injector, callback,
+                    customPrimitiveMappings, typeIdentifier, debugInformation);
+        }
+        cursor.advance();
+        final Map<String, Universal> bufferedFields = new LinkedHashMap<>();
+        if (cursor.currentToken() == FIELD_NAME
+                && isIdentifier(cursor.stringValue(), typeField)
+                && firstTypeFieldIsDecisive()) {
+            final String fieldName = cursor.stringValue();
+            cursor.advance();
+            if (cursor.currentToken() == STRING) {
+                final String type = cursor.stringValue();
+                cursor.advance();
+                final Optional<TypeIdentifier> implementation = nameToType.lookup(type);
+                if (implementation.isPresent()) {
+                    return (T) callback.deserializeRecursiveStreaming(
+                            replayingObjectStart(cursor),
+                            implementation.get(),
+                            exceptionTracker,
+                            injector,
+                            debugInformation
+                    );
+                }
+                bufferedFields.put(fieldName, universalString(type));
+            } else {
+                bufferedFields.put(fieldName, readUniversal(cursor));
+            }
+        }
+        final UniversalObject input = readRemainingFields(cursor, bufferedFields);
+        return deserialize(input, exceptionTracker, injector, callback, customPrimitiveMappings, typeIdentifier, debugInformation);
+    }
+
+    private Optional<String> normalizedTypeField(final UniversalObject universalObject) {
+        if (firstTypeFieldIsDecisive() && universalObject.hasField(typeField)) {
+            return of(typeField);
+        }
+        return findTypeField(typeField, universalObject.fields());
+    }
+
+    private boolean firstTypeFieldIsDecisive() {
+        Boolean decisive = firstTypeFieldIsDecisive;
+        if (decisive == null) {
+            decisive = noSubtypeDeclaresATypeField();
+            firstTypeFieldIsDecisive = decisive;
+        }
+        return decisive;
+    }
+
+    private boolean noSubtypeDeclaresATypeField() {
+        if (deserializationPlans == null) {
+            return false;
+        }
+        for (final TypeIdentifier subtype : nameToType.values()) {
+            final Optional<Collection<String>> fieldNames = deserializationPlans.optionalPlanFor(subtype)
+                    .filter(DeserializationPlan::isDeserializable)
+                    .map(DeserializationPlan::deserializer)
+                    .flatMap(PolymorphicDeserializer::fieldNames);
+            if (fieldNames.isEmpty() || findTypeField(typeField, fieldNames.get()).isPresent()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Optional<Collection<String>> fieldNames(final TypeDeserializer deserializer) {
+        if (deserializer instanceof CompiledSerializedObjectDeserializer) {
+            return of(((CompiledSerializedObjectDeserializer) deserializer).fieldNames());
+        }
+        if (deserializer instanceof SerializedObjectDeserializer) {
+            return of(((SerializedObjectDeserializer) deserializer).fields().fields().keySet());
+        }
+        return empty();
+    }
+
+    @Override
+    public TypeDeserializer compile(final DeserializationPlans deserializationPlans) {
+        return new PolymorphicDeserializer(typeIdentifier, nameToType, typeField, deserializationPlans);
+    }
+
     private UniversalObject asUniversalObject(final Universal input,
                                               final ExceptionTracker exceptionTracker,
                                               final DebugInformation debugInformation) {
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2020 Richard Hauswald - https://quantummaid.de/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package de.quantummaid.mapmaid.polymorphy;
+
+import de.quantummaid.mapmaid.mapper.universal.Universal;
+import de.quantummaid.mapmaid.mapper.universal.UniversalObject;
+
+import static de.quantummaid.mapmaid.mapper.serialization.universalmerger.FieldNormalizer.determineField;
+import static de.quantummaid.mapmaid.mapper.universal.UniversalObject.universalObjectFromFieldArrays;
+import static java.util.Arrays.asList;
+
+final class PolymorphicLayout {
+    private final String[] sourceKeys;
+    private final String[] keys;
+
+    private PolymorphicLayout(final String[] sourceKeys,
+                              final String[] keys) {
+        this.sourceKeys = sourceKeys;
+        this.keys = keys;
+    }
+
+    static PolymorphicLayout polymorphicLayout(final String[] sourceKeys,
+                                               final String typeField) {
+        final String normalizedTypeField = determineField(typeField, asList(sourceKeys));
+        final String[] keys = new String[sourceKeys.length + 1];
+        keys[0] = normalizedTypeField;
+        System.arraycopy(sourceKeys, 0, keys, 1, sourceKeys.length);
+        return new PolymorphicLayout(sourceKeys, keys);
+    }
+
+    boolean appliesTo(final UniversalObject object) {
+        return object.hasFieldKeys(sourceKeys);
+    }
+
+    UniversalObject withType(final UniversalObject object, final Universal type) {
+        final Universal[] values = new Universal[keys.length];
+        values[0] = type;
+        object.copyFieldValues(values, 1);
+        return universalObjectFromFieldArrays(keys, values);
+    }
+
+}
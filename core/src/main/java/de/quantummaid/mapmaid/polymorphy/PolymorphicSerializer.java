@@ -25,9 +25,12 @@ import de.quantummaid.mapmaid.collections.BiMap;
 import de.quantummaid.mapmaid.debug.DebugInformation;
 import de.quantummaid.mapmaid.mapper.schema.SchemaCallback;
 import de.quantummaid.mapmaid.mapper.serialization.SerializationCallback;
+import de.quantummaid.mapmaid.mapper.serialization.plan.SerializationPlan;
+import de.quantummaid.mapmaid.mapper.serialization.plan.SerializationPlans;
 import de.quantummaid.mapmaid.mapper.serialization.serializers.TypeSerializer;
 import de.quantummaid.mapmaid.mapper.serialization.tracker.SerializationTracker;
 import de.quantummaid.mapmaid.mapper.universal.Universal;
+import de.quantummaid.mapmaid.mapper.universal.UniversalObject;
 import de.quantummaid.mapmaid.polymorphy.finiteresolver.FiniteTypeResolver;
 import de.quantummaid.mapmaid.shared.mapping.CustomPrimitiveMappings;
 import de.quantummaid.reflectmaid.resolvedtype.ResolvedType;
@@ -35,30 +38,72 @@ import de.quantummaid.reflectmaid.typescanner.TypeIdentifier;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 
-import java.util.LinkedHashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 import static de.quantummaid.mapmaid.mapper.schema.SchemaSupport.schemaForPolymorphicParent;
-import static de.quantummaid.mapmaid.mapper.serialization.tracker.SerializationTracker.serializationTracker;
-import static de.quantummaid.mapmaid.mapper.serialization.universalmerger.FieldNormalizer.determineField;
+import static de.quantummaid.mapmaid.mapper.universal.UniversalString.universalString;
+import static de.quantummaid.mapmaid.polymorphy.PolymorphicSubtype.polymorphicSubtype;
 import static de.quantummaid.mapmaid.polymorphy.finiteresolver.FiniteTypeResolver.finiteTypeResolver;
 import static de.quantummaid.reflectmaid.typescanner.TypeIdentifier.typeIdentifierFor;
 import static java.lang.String.format;
+import static java.util.Collections.emptyMap;
+import static java.util.Optional.ofNullable;
 
 @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
 public final class PolymorphicSerializer implements TypeSerializer {
     private final TypeIdentifier superType;
+    private final List<ResolvedType> subTypes;
     private final FiniteTypeResolver resolver;
     private final BiMap<String, TypeIdentifier> nameToType;
     private final String typeField;
+    private final SerializationPlans serializationPlans;
+    private final Map<Class<?>, PolymorphicSubtype> subtypes;
+    private volatile Map<Class<?>, PolymorphicSubtype> resolvedSubclasses = emptyMap();
 
     public static PolymorphicSerializer polymorphicSerializer(final TypeIdentifier superType,
                                                               final List<ResolvedType> subTypes,
                                                               final BiMap<String, TypeIdentifier> nameToType,
                                                               final String typeField) {
         final FiniteTypeResolver typeResolver = finiteTypeResolver(subTypes);
-        return new PolymorphicSerializer(superType, typeResolver, nameToType, typeField);
+        final Map<Class<?>, PolymorphicSubtype> subtypes = subtypes(superType, subTypes, typeResolver, nameToType, null);
+        return new PolymorphicSerializer(superType, subTypes, typeResolver, nameToType, typeField, null, subtypes);
+    }
+
+    private static Map<Class<?>, PolymorphicSubtype> subtypes(final TypeIdentifier superType,
+                                                              final List<ResolvedType> subTypes,
+                                                              final FiniteTypeResolver resolver,
+                                                              final BiMap<String, TypeIdentifier> nameToType,
+                                                              final SerializationPlans serializationPlans) {
+        final Map<Class<?>, PolymorphicSubtype> subtypes = new IdentityHashMap<>(subTypes.size());
+        subTypes.forEach(subType -> {
+            final Class<?> type = subType.assignableType();
+            subtypes.put(type, subtype(type, superType, resolver, nameToType, serializationPlans));
+        });
+        return subtypes;
+    }
+
+    private static PolymorphicSubtype subtype(final Class<?> type,
+                                              final TypeIdentifier superType,
+                                              final FiniteTypeResolver resolver,
+                                              final BiMap<String, TypeIdentifier> nameToType,
+                                              final SerializationPlans serializationPlans) {
+        final ResolvedType resolvedType = resolver.determineTypeOfClass(type);
+        final TypeIdentifier implementationType = typeIdentifierFor(resolvedType);
+        final String name = nameToType.reverseLookup(implementationType)
+                .orElseThrow(() -> new IllegalArgumentException(
+                        format("Unknown event of type '%s'", implementationType.description())));
+        final Optional<SerializationPlans> plans = ofNullable(serializationPlans);
+        final SerializationPlan plan = plans
+                .flatMap(compiledPlans -> compiledPlans.optionalPlanFor(implementationType))
+                .orElse(null);
+        final boolean alreadyTracked = plans
+                .flatMap(compiledPlans -> compiledPlans.optionalPlanFor(superType))
+                .map(SerializationPlan::tracksCycles)
+                .orElse(false);
+        return polymorphicSubtype(implementationType, universalString(name), plan, alreadyTracked);
     }
 
     @Override
@@ -66,23 +111,41 @@ public final class PolymorphicSerializer implements TypeSerializer {
         return nameToType.values();
     }
 
-    @SuppressWarnings("unchecked")
     @Override
     public Universal serialize(final Object object,
                                final SerializationCallback callback,
                                final SerializationTracker tracker,
                                final CustomPrimitiveMappings customPrimitiveMappings,
                                final DebugInformation debugInformation) {
-        final ResolvedType resolvedType = resolver.determineType(object);
-        final TypeIdentifier implementationType = typeIdentifierFor(resolvedType);
-        final Universal universal = callback.serializeDefinition(implementationType, object, serializationTracker());
-        final Map<String, Object> immutableMap = (Map<String, Object>) universal.toNativeJava();
-        final Map<String, Object> mutableMap = new LinkedHashMap<>(immutableMap);
-        final String type = nameToType.reverseLookup(implementationType)
-                .orElseThrow(() -> new IllegalArgumentException(format("Unknown event of type '%s'", implementationType.description())));
-        final String normalizedTypeField = determineField(typeField, mutableMap.keySet());
-        mutableMap.put(normalizedTypeField, type);
-        return Universal.fromNativeJava(mutableMap);
+        final Class<?> type = object.getClass();
+        PolymorphicSubtype subtype = subtypes.get(type);
+        if (subtype == null) {
+            subtype = resolvedSubclass(type);
+        }
+        final UniversalObject universalObject = subtype.serialize(object, callback, tracker);
+        final PolymorphicLayout layout = subtype.layoutFor(universalObject, typeField);
+        return layout.withType(universalObject, subtype.name());
+    }
+
+    private PolymorphicSubtype resolvedSubclass(final Class<?> type) {
+        final Map<Class<?>, PolymorphicSubtype> cached = resolvedSubclasses;
+        final PolymorphicSubtype known = cached.get(type);
+        if (known != null) {
+            return known;
+        }
+        final PolymorphicSubtype resolved = subtype(type, superType, resolver, nameToType, serializationPlans);
+        final Map<Class<?>, PolymorphicSubtype> extended = new IdentityHashMap<>(cached);
+        extended.put(type, resolved);
+        resolvedSubclasses = extended;
+        return resolved;
+    }
+
+    @Override
+    public TypeSerializer compile(final SerializationPlans serializationPlans) {
+        final Map<Class<?>, PolymorphicSubtype> compiledSubtypes =
+                subtypes(superType, subTypes, resolver, nameToType, serializationPlans);
+        return new PolymorphicSerializer(superType, subTypes, resolver, nameToType, typeField,
+                serializationPlans, compiledSubtypes);
     }
 
     @Override
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2020 Richard Hauswald - https://quantummaid.de/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package de.quantummaid.mapmaid.polymorphy;
+
+import de.quantummaid.mapmaid.mapper.serialization.SerializationCallback;
+import de.quantummaid.mapmaid.mapper.serialization.plan.SerializationPlan;
+import de.quantummaid.mapmaid.mapper.serialization.tracker.SerializationTracker;
+import de.quantummaid.mapmaid.mapper.universal.Universal;
+import de.quantummaid.mapmaid.mapper.universal.UniversalObject;
+import de.quantummaid.reflectmaid.typescanner.TypeIdentifier;
+
+import java.util.Arrays;
+
+import static de.quantummaid.mapmaid.debug.MapMaidException.mapMaidException;
+import static de.quantummaid.mapmaid.polymorphy.PolymorphicLayout.polymorphicLayout;
+import static java.lang.String.format;
+
+final class PolymorphicSubtype {
+    private static final int MAX_CACHED_LAYOUTS = 8;
+
+    private final TypeIdentifier type;
+    private final Universal name;
+    private final SerializationPlan plan;
+    private final boolean alreadyTracked;
+    private volatile PolymorphicLayout[] layouts = new PolymorphicLayout[0];
+
+    private PolymorphicSubtype(final TypeIdentifier type,
+                               final Universal name,
+                               final SerializationPlan plan,
+                               final boolean alreadyTracked) {
+        this.type = type;
+        this.name = name;
+        this.plan = plan;
+        this.alreadyTracked = alreadyTracked;
+    }
+
+    static PolymorphicSubtype polymorphicSubtype(final TypeIdentifier type,
+                                                 final Universal name,
+                                                 final SerializationPlan plan,
+                                                 final boolean alreadyTracked) {
+        return new PolymorphicSubtype(type, name, plan, alreadyTracked);
+    }
+
+    Universal name() {
+        return name;
+    }
+
+    UniversalObject serialize(final Object object,
+                              final SerializationCallback callback,
+                              final SerializationTracker tracker) {
+        final Universal universal = serializeUnchecked(object, callback, tracker);
+        if (!(universal instanceof UniversalObject)) {
+            throw mapMaidException(format("polymorphic subtype %s has to be serialized as an object but was serialized as %s",
+                    type.description(), universal.getClass().getSimpleName()));
+        }
+        return (UniversalObject) universal;
+    }
+
+    private Universal serializeUnchecked(final Object object,
+                                         final SerializationCallback callback,
+                                         final SerializationTracker tracker) {
+        if (plan == null) {
+            return callback.serializeDefinition(type, object, tracker);
+        }
+        if (alreadyTracked) {
+            return callback.serializeAlreadyTrackedWithPlan(plan, object, tracker);
+        }
+        return callback.serializeWithPlan(plan, object, tracker);
+    }
+
+    PolymorphicLayout layoutFor(final UniversalObject object,
+                                final String typeField) {
+        final PolymorphicLayout[] cached = layouts;
+        for (final PolymorphicLayout layout : cached) {
+            if (layout.appliesTo(object)) {
+                return layout;
+            }
+        }
+        final PolymorphicLayout computed = polymorphicLayout(object.fieldKeys(), typeField);
+        if (cached.length < MAX_CACHED_LAYOUTS) {
+            final PolymorphicLayout[] extended = Arrays.copyOf(cached, cached.length + 1);
+            extended[cached.length] = computed;
+            layouts = extended;
+        }
+        return computed;
+    }
+}
@@ -26,8 +26,9 @@ import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 
 import java.util.ArrayList;
+import java.util.IdentityHashMap;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
 
 import static de.quantummaid.mapmaid.debug.MapMaidException.mapMaidException;
 import static de.quantummaid.mapmaid.polymorphy.finiteresolver.MappedType.mappedType;
@@ -37,6 +38,7 @@ import static java.util.stream.Collectors.joining;
 @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
 public final class FiniteTypeResolver {
     private final List<MappedType> types;
+    private final Map<Class<?>, ResolvedType> resolvedTypes;
 
     public static FiniteTypeResolver finiteTypeResolver(final List<ResolvedType> types) {
         final List<Class<?>> seenBaseTypes = new ArrayList<>(types.size());
@@ -55,22 +57,35 @@ public final class FiniteTypeResolver {
             final MappedType mappedType = mappedType(baseType, type);
             mappedTypes.add(mappedType);
         });
-        return new FiniteTypeResolver(mappedTypes);
+        final Map<Class<?>, ResolvedType> resolvedTypes = new IdentityHashMap<>(seenBaseTypes.size());
+        seenBaseTypes.forEach(baseType -> resolvedTypes.put(baseType, resolve(mappedTypes, baseType)));
+        return new FiniteTypeResolver(mappedTypes, resolvedTypes);
     }
 
     public ResolvedType determineType(final Object object) {
         validateNotNull(object, "object");
-        final Optional<ResolvedType> type = types.stream()
-                .filter(mappedType -> mappedType.matches(object))
-                .map(MappedType::type)
-                .findFirst();
-        if (type.isEmpty()) {
-            final String typesString = types.stream()
-                    .map(MappedType::type)
-                    .map(ResolvedType::description)
-                    .collect(joining(", "));
-            throw mapMaidException("class " + object.getClass().getName() + " is not part of possible classes [" + typesString + "]");
+        return determineTypeOfClass(object.getClass());
+    }
+
+    public ResolvedType determineTypeOfClass(final Class<?> type) {
+        validateNotNull(type, "type");
+        final ResolvedType resolvedType = resolvedTypes.get(type);
+        if (resolvedType != null) {
+            return resolvedType;
+        }
+        return resolve(types, type);
+    }
+
+    private static ResolvedType resolve(final List<MappedType> types, final Class<?> candidate) {
+        for (final MappedType mappedType : types) {
+            if (mappedType.matches(candidate)) {
+                return mappedType.type();
+            }
         }
-        return type.get();
+        final String typesString = types.stream()
+                .map(MappedType::type)
+                .map(ResolvedType::description)
+                .collect(joining(", "));
+        throw mapMaidException("class " + candidate.getName() + " is not part of possible classes [" + typesString + "]");
     }
 }
@@ -34,8 +34,8 @@ final class MappedType {
         return new MappedType(baseType, type);
     }
 
-    boolean matches(final Object candidate) {
-        return baseType.isInstance(candidate);
+    boolean matches(final Class<?> candidate) {
+        return baseType.isAssignableFrom(candidate);
     }
 
     ResolvedType type() {
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2020 Richard Hauswald - https://quantummaid.de/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package de.quantummaid.mapmaid.shared.generation;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.Optional;
+import java.util.function.Function;
+
+import static de.quantummaid.mapmaid.shared.generation.GeneratedFactory.generatedFactory;
+import static java.lang.invoke.LambdaMetafactory.metafactory;
+import static java.lang.invoke.MethodHandles.lookup;
+import static java.lang.invoke.MethodHandles.privateLookupIn;
+import static java.lang.invoke.MethodType.methodType;
+import static java.util.Optional.empty;
+
+public final class AccessorGenerator {
+    private static final MethodType FUNCTION_FACTORY = methodType(Function.class);
+    private static final MethodType FUNCTION_SIGNATURE = methodType(Object.class, Object.class);
+    private static final MethodType FACTORY_SIGNATURE = methodType(Object.class, Object[].class);
+
+    private AccessorGenerator() {
+    }
+
+    public static Optional<Function<Object, Object>> generateMethodFunction(final Method method) {
+        return generateFunction(method.getDeclaringClass(), lookup -> lookup.unreflect(method));
+    }
+
+    public static Optional<Function<Object, Object>> generateConstructorFunction(final Constructor<?> constructor) {
+        return generateFunction(constructor.getDeclaringClass(), lookup -> lookup.unreflectConstructor(constructor));
+    }
+
+    public static Optional<Function<Object, Object>> generateFieldReader(final Field field) {
+        try {
+            final MethodHandle handle = lookupFor(field.getDeclaringClass())
+                    .unreflectGetter(field)
+                    .asType(FUNCTION_SIGNATURE);
+            return Optional.of(object -> readField(handle, object));
+        } catch (final IllegalAccessException | RuntimeException e) {
+            return empty();
+        }
+    }
+
+    public static Optional<ObjectFactory> generateFactory(final Executable executable) {
+        try {
+            final MethodHandles.Lookup lookup = lookupFor(executable.getDeclaringClass());
+            final MethodHandle handle;
+            if (executable instanceof Constructor) {
+                handle = lookup.unreflectConstructor((Constructor<?>) executable);
+            } else {
+                handle = lookup.unreflect((Method) executable);
+            }
+            final MethodHandle spreader = handle.asFixedArity()
+                    .asSpreader(Object[].class, executable.getParameterCount())
+                    .asType(FACTORY_SIGNATURE);
+            return Optional.of(generatedFactory(spreader));
+        } catch (final IllegalAccessException | RuntimeException e) {
+            return empty();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Optional<Function<Object, Object>> generateFunction(final Class<?> declaringClass,
+                                                                       final HandleResolver resolver) {
+        try {
+            final MethodHandles.Lookup lookup = lookupFor(declaringClass);
+            final MethodHandle handle = resolver.resolve(lookup);
+            final CallSite callSite = metafactory(
+                    lookup, "apply", FUNCTION_FACTORY, FUNCTION_SIGNATURE, handle, handle.type().wrap());
+            return Optional.of((Function<Object, Object>) callSite.getTarget().invoke());
+        } catch (final Throwable throwable) { // NOSONAR
+            return empty();
+        }
+    }
+
+    private static Object readField(final MethodHandle handle, final Object object) {
+        try {
+            return (Object) handle.invokeExact(object);
+        } catch (final RuntimeException | Error e) {
+            throw e;
+        } catch (final Throwable throwable) { // NOSONAR
+            throw new UndeclaredThrowableException(throwable);
+        }
+    }
+
+    private static MethodHandles.Lookup lookupFor(final Class<?> type) throws IllegalAccessException {
+        return privateLookupIn(type, lookup());
+    }
+
+    private interface HandleResolver {
+        MethodHandle resolve(MethodHandles.Lookup lookup) throws IllegalAccessException;
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2020 Richard Hauswald - https://quantummaid.de/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package de.quantummaid.mapmaid.shared.generation;
+
+import de.quantummaid.reflectmaid.resolvedtype.resolver.ResolvedConstructor;
+import de.quantummaid.reflectmaid.resolvedtype.resolver.ResolvedField;
+import de.quantummaid.reflectmaid.resolvedtype.resolver.ResolvedMethod;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.util.function.Function;
+
+import static de.quantummaid.mapmaid.shared.generation.AccessorGenerator.generateConstructorFunction;
+import static de.quantummaid.mapmaid.shared.generation.AccessorGenerator.generateFactory;
+import static de.quantummaid.mapmaid.shared.generation.AccessorGenerator.generateFieldReader;
+import static de.quantummaid.mapmaid.shared.generation.AccessorGenerator.generateMethodFunction;
+import static de.quantummaid.mapmaid.shared.generation.ReflectiveAccessors.reflectiveAccessors;
+
+@ToString
+@EqualsAndHashCode
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class GeneratedAccessors implements AccessorStrategy {
+    private final AccessorStrategy fallback;
+
+    public static AccessorStrategy generatedAccessors() {
+        return new GeneratedAccessors(reflectiveAccessors());
+    }
+
+    @Override
+    public Function<Object, Object> getter(final ResolvedMethod method) {
+        return generateMethodFunction(method.getMethod())
+                .orElseGet(() -> fallback.getter(method));
+    }
+
+    @Override
+    public Function<Object, Object> fieldReader(final ResolvedField field) {
+        return generateFieldReader(field.getField())
+                .orElseGet(() -> fallback.fieldReader(field));
+    }
+
+    @Override
+    public Function<Object, Object> singleArgumentFactory(final ResolvedMethod method) {
+        return generateMethodFunction(method.getMethod())
+                .orElseGet(() -> fallback.singleArgumentFactory(method));
+    }
+
+    @Override
+    public Function<Object, Object> singleArgumentFactory(final ResolvedConstructor constructor) {
+        return generateConstructorFunction(constructor.getConstructor())
+                .orElseGet(() -> fallback.singleArgumentFactory(constructor));
+    }
+
+    @Override
+    public ObjectFactory factory(final ResolvedMethod method) {
+        return generateFactory(method.getMethod())
+                .orElseGet(() -> fallback.factory(method));
+    }
+
+    @Override
+    public ObjectFactory factory(final ResolvedConstructor constructor) {
+        return generateFactory(constructor.getConstructor())
+                .orElseGet(() -> fallback.factory(constructor));
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2020 Richard Hauswald - https://quantummaid.de/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package de.quantummaid.mapmaid.shared.generation;
+
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.InvocationTargetException;
+
+import static de.quantummaid.mapmaid.shared.validators.NotNullValidator.validateNotNull;
+
+@ToString
+@EqualsAndHashCode
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class GeneratedFactory implements ObjectFactory {
+    private final MethodHandle handle;
+
+    public static GeneratedFactory generatedFactory(final MethodHandle handle) {
+        validateNotNull(handle, "handle");
+        return new GeneratedFactory(handle);
+    }
+
+    @Override
+    @SuppressWarnings("java:S112")
+    public Object create(final Object[] arguments) throws Exception {
+        try {
+            return (Object) handle.invokeExact(arguments);
+        } catch (final Exception | Error e) {
+            throw e;
+        } catch (final Throwable throwable) { // NOSONAR
+            throw new InvocationTargetException(throwable);
+        }
+    }
+}
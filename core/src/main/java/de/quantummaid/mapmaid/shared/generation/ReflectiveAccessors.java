@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2020 Richard Hauswald - https://quantummaid.de/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package de.quantummaid.mapmaid.shared.generation;
+
+import de.quantummaid.reflectmaid.Executor;
+import de.quantummaid.reflectmaid.Getter;
+import de.quantummaid.reflectmaid.resolvedtype.resolver.ResolvedConstructor;
+import de.quantummaid.reflectmaid.resolvedtype.resolver.ResolvedField;
+import de.quantummaid.reflectmaid.resolvedtype.resolver.ResolvedMethod;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.util.List;
+import java.util.function.Function;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+
+@ToString
+@EqualsAndHashCode
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ReflectiveAccessors implements AccessorStrategy {
+
+    public static AccessorStrategy reflectiveAccessors() {
+        return new ReflectiveAccessors();
+    }
+
+    @Override
+    public Function<Object, Object> getter(final ResolvedMethod method) {
+        final Executor executor = method.createExecutor();
+        return object -> executor.execute(object, emptyList());
+    }
+
+    @Override
+    public Function<Object, Object> fieldReader(final ResolvedField field) {
+        final Getter getter = field.createGetter();
+        return getter::get;
+    }
+
+    @Override
+    public Function<Object, Object> singleArgumentFactory(final ResolvedMethod method) {
+        return singleArgumentFactory(method.createExecutor());
+    }
+
+    @Override
+    public Function<Object, Object> singleArgumentFactory(final ResolvedConstructor constructor) {
+        return singleArgumentFactory(constructor.createExecutor());
+    }
+
+    @Override
+    public ObjectFactory factory(final ResolvedMethod method) {
+        return factory(method.createExecutor());
+    }
+
+    @Override
+    public ObjectFactory factory(final ResolvedConstructor constructor) {
+        return factory(constructor.createExecutor());
+    }
+
+    private static Function<Object, Object> singleArgumentFactory(final Executor executor) {
+        return value -> executor.execute(null, List.of(value));
+    }
+
+    private static ObjectFactory factory(final Executor executor) {
+        return arguments -> executor.execute(null, asList(arguments));
+    }
+}
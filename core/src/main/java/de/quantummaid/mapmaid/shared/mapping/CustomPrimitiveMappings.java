@@ -88,6 +88,9 @@ public final class CustomPrimitiveMappings {
         }
         final UniversalTypeMapper universalTypeMapper = this.mappings.get(type);
         final Class<? extends UniversalPrimitive> requiredUniversalType = universalTypeMapper.universalType();
+        if (universal.getClass() == requiredUniversalType) {
+            return universalTypeMapper.fromUniversal(universal);
+        }
         final UniversalPrimitive universalPrimitive = this.typeMappings.map(universal, requiredUniversalType).orElseThrow();
         return universalTypeMapper.fromUniversal(universalPrimitive);
     }
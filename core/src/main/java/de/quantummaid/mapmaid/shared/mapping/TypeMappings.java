@@ -44,10 +44,11 @@ public final class TypeMappings {
 
     public <T> Optional<T> map(final Object object, final Class<T> to) {
         final Class<?> from = object.getClass();
-        return this.mappings.stream()
-                .filter(mapping -> mapping.to().equals(to))
-                .filter(mapping -> mapping.from().equals(from))
-                .findFirst()
-                .map(mapping -> mapping.map(object));
+        for (final Mapping mapping : this.mappings) {
+            if (mapping.to().equals(to) && mapping.from().equals(from)) {
+                return Optional.ofNullable(mapping.map(object));
+            }
+        }
+        return Optional.empty();
     }
 }
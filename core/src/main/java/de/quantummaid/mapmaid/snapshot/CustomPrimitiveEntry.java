@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2020 Richard Hauswald - https://quantummaid.de/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package de.quantummaid.mapmaid.snapshot;
+
+import de.quantummaid.mapmaid.builder.MapMaidBuilder;
+import de.quantummaid.mapmaid.mapper.deserialization.deserializers.TypeDeserializer;
+import de.quantummaid.mapmaid.mapper.deserialization.deserializers.customprimitives.CustomPrimitiveByConstructorDeserializer;
+import de.quantummaid.mapmaid.mapper.deserialization.deserializers.customprimitives.CustomPrimitiveByMethodDeserializer;
+import de.quantummaid.mapmaid.mapper.serialization.serializers.TypeSerializer;
+import de.quantummaid.mapmaid.mapper.serialization.serializers.customprimitives.MethodCustomPrimitiveSerializer;
+import de.quantummaid.reflectmaid.resolvedtype.ClassType;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+
+import static de.quantummaid.mapmaid.snapshot.SnapshotFormat.*;
+import static de.quantummaid.reflectmaid.GenericType.genericType;
+import static java.util.Collections.emptyList;
+
+@ToString
+@EqualsAndHashCode
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+final class CustomPrimitiveEntry implements SnapshotEntry {
+    static final int KIND = 2;
+
+    private final String typeName;
+    private final String serializationMethod;
+    private final int deserializationKind;
+    private final String deserializationMethod;
+    private final List<String> deserializationParameters;
+
+    static Optional<SnapshotEntry> customPrimitiveEntry(final String typeName,
+                                                        final TypeSerializer serializer,
+                                                        final TypeDeserializer deserializer) {
+        if (serializer != null && !(serializer instanceof MethodCustomPrimitiveSerializer)) {
+            return Optional.empty();
+        }
+        final String serializationMethod;
+        if (serializer != null) {
+            serializationMethod = ((MethodCustomPrimitiveSerializer) serializer).method().getMethod().getName();
+        } else {
+            serializationMethod = null;
+        }
+        if (deserializer == null) {
+            return Optional.of(new CustomPrimitiveEntry(typeName, serializationMethod, NONE, "", emptyList()));
+        }
+        if (deserializer instanceof CustomPrimitiveByMethodDeserializer) {
+            final CustomPrimitiveByMethodDeserializer byMethod = (CustomPrimitiveByMethodDeserializer) deserializer;
+            return Optional.of(new CustomPrimitiveEntry(typeName, serializationMethod, BY_METHOD,
+                    byMethod.method().getMethod().getName(), parameterTypeNames(byMethod.method().getMethod())));
+        }
+        if (deserializer instanceof CustomPrimitiveByConstructorDeserializer) {
+            final CustomPrimitiveByConstructorDeserializer byConstructor = (CustomPrimitiveByConstructorDeserializer) deserializer;
+            return Optional.of(new CustomPrimitiveEntry(typeName, serializationMethod, BY_CONSTRUCTOR,
+                    "", parameterTypeNames(byConstructor.constructor().getConstructor())));
+        }
+        return Optional.empty();
+    }
+
+    static CustomPrimitiveEntry readCustomPrimitiveEntry(final DataInputStream input) throws IOException {
+        final String typeName = input.readUTF();
+        final String serializationMethod = input.readBoolean() ? input.readUTF() : null;
+        final int deserializationKind = input.readUnsignedByte();
+        final String deserializationMethod = input.readUTF();
+        final List<String> deserializationParameters = readNames(input);
+        return new CustomPrimitiveEntry(typeName, serializationMethod, deserializationKind,
+                deserializationMethod, deserializationParameters);
+    }
+
+    @Override
+    public String typeName() {
+        return typeName;
+    }
+
+    @Override
+    public void write(final DataOutputStream output) throws IOException {
+        output.writeByte(KIND);
+        output.writeUTF(typeName);
+        output.writeBoolean(serializationMethod != null);
+        if (serializationMethod != null) {
+            output.writeUTF(serializationMethod);
+        }
+        output.writeByte(deserializationKind);
+        output.writeUTF(deserializationMethod);
+        writeNames(deserializationParameters, output);
+    }
+
+    @Override
+    public void registerResolved(final MapMaidBuilder builder) {
+        final ClassType type = classType(builder, typeName);
+        final TypeSerializer serializer;
+        if (serializationMethod != null) {
+            serializer = MethodCustomPrimitiveSerializer.createSerializer(type, method(type, serializationMethod, emptyList()));
+        } else {
+            serializer = null;
+        }
+        final TypeDeserializer deserializer;
+        if (deserializationKind == BY_METHOD) {
+            deserializer = CustomPrimitiveByMethodDeserializer.createDeserializer(
+                    type, method(type, deserializationMethod, deserializationParameters));
+        } else if (deserializationKind == BY_CONSTRUCTOR) {
+            deserializer = CustomPrimitiveByConstructorDeserializer.createDeserializer(
+                    type, constructor(type, deserializationParameters));
+        } else {
+            deserializer = null;
+        }
+        registerCustomType(builder, type, serializer, deserializer);
+    }
+
+    @Override
+    public void registerDetected(final MapMaidBuilder builder) {
+        builder.withType(genericType(loadClass(typeName)), capabilities(serializationMethod != null, deserializationKind != NONE));
+    }
+}
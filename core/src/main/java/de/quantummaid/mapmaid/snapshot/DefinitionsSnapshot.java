@@ -0,0 +1,236 @@
+/*
+ * Copyright (c) 2020 Richard Hauswald - https://quantummaid.de/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package de.quantummaid.mapmaid.snapshot;
+
+import de.quantummaid.mapmaid.builder.MapMaidBuilder;
+import de.quantummaid.mapmaid.mapper.definitions.Definition;
+import de.quantummaid.mapmaid.mapper.definitions.Definitions;
+import de.quantummaid.mapmaid.mapper.deserialization.deserializers.TypeDeserializer;
+import de.quantummaid.mapmaid.mapper.serialization.serializers.TypeSerializer;
+import de.quantummaid.mapmaid.polymorphy.PolymorphicDeserializer;
+import de.quantummaid.mapmaid.polymorphy.PolymorphicSerializer;
+import de.quantummaid.reflectmaid.resolvedtype.ClassType;
+import de.quantummaid.reflectmaid.resolvedtype.ResolvedType;
+import de.quantummaid.reflectmaid.typescanner.TypeIdentifier;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.io.*;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+
+import static de.quantummaid.mapmaid.debug.MapMaidException.mapMaidException;
+import static de.quantummaid.mapmaid.shared.validators.NotNullValidator.validateNotNull;
+import static de.quantummaid.mapmaid.snapshot.CustomPrimitiveEntry.customPrimitiveEntry;
+import static de.quantummaid.mapmaid.snapshot.CustomPrimitiveEntry.readCustomPrimitiveEntry;
+import static de.quantummaid.mapmaid.snapshot.DetectedTypeEntry.detectedTypeEntry;
+import static de.quantummaid.mapmaid.snapshot.DetectedTypeEntry.readDetectedTypeEntry;
+import static de.quantummaid.mapmaid.snapshot.SerializedObjectEntry.readSerializedObjectEntry;
+import static de.quantummaid.mapmaid.snapshot.SerializedObjectEntry.serializedObjectEntry;
+import static de.quantummaid.mapmaid.snapshot.SnapshotFormat.capabilities;
+import static de.quantummaid.mapmaid.snapshot.SnapshotFormat.loadClass;
+import static de.quantummaid.mapmaid.snapshot.SubtypesEntry.readSubtypesEntry;
+import static de.quantummaid.mapmaid.snapshot.SubtypesEntry.subtypesEntry;
+import static java.lang.String.format;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+@ToString
+@EqualsAndHashCode
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class DefinitionsSnapshot {
+    private static final int MAGIC = 0x4d4d534e;
+    private static final int VERSION = 1;
+
+    private final byte[] classesHash;
+    private final List<SnapshotEntry> entries;
+
+    public static DefinitionsSnapshot snapshotOf(final Definitions definitions) {
+        validateNotNull(definitions, "definitions");
+        final Collection<Definition> allDefinitions = definitions.allDefinitions();
+        final List<SnapshotEntry> entries = new ArrayList<>(allDefinitions.size());
+        for (final Definition definition : allDefinitions) {
+            snapshotEntry(definition).ifPresent(entries::add);
+        }
+        return new DefinitionsSnapshot(hashClasses(entries), entries);
+    }
+
+    public static DefinitionsSnapshot readSnapshot(final InputStream inputStream) {
+        validateNotNull(inputStream, "inputStream");
+        final DataInputStream input = new DataInputStream(inputStream);
+        try {
+            if (input.readInt() != MAGIC) {
+                throw mapMaidException("Input is not a MapMaid snapshot");
+            }
+            final int version = input.readUnsignedByte();
+            if (version != VERSION) {
+                throw mapMaidException(format("Unsupported MapMaid snapshot version %d", version));
+            }
+            final byte[] classesHash = new byte[input.readUnsignedShort()];
+            input.readFully(classesHash);
+            final int size = input.readInt();
+            final List<SnapshotEntry> entries = new ArrayList<>(size);
+            for (int i = 0; i < size; ++i) {
+                entries.add(readEntry(input));
+            }
+            return new DefinitionsSnapshot(classesHash, entries);
+        } catch (final EOFException e) {
+            throw mapMaidException("MapMaid snapshot is truncated", e);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void writeTo(final OutputStream outputStream) {
+        validateNotNull(outputStream, "outputStream");
+        final DataOutputStream output = new DataOutputStream(outputStream);
+        try {
+            output.writeInt(MAGIC);
+            output.writeByte(VERSION);
+            output.writeShort(classesHash.length);
+            output.write(classesHash);
+            output.writeInt(entries.size());
+            for (final SnapshotEntry entry : entries) {
+                entry.write(output);
+            }
+            output.flush();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public boolean isUpToDate() {
+        return Arrays.equals(classesHash, hashClasses(entries));
+    }
+
+    public void registerIn(final MapMaidBuilder builder) {
+        validateNotNull(builder, "builder");
+        if (isUpToDate()) {
+            entries.forEach(entry -> entry.registerResolved(builder));
+        } else {
+            entries.forEach(entry -> entry.registerDetected(builder));
+        }
+    }
+
+    private static Optional<SnapshotEntry> snapshotEntry(final Definition definition) {
+        final Optional<String> typeName = snapshotTypeName(definition.type());
+        if (!typeName.isPresent()) {
+            return Optional.empty();
+        }
+        final TypeSerializer serializer = definition.serializer().orElse(null);
+        final TypeDeserializer deserializer = definition.deserializer().orElse(null);
+        if (serializer instanceof PolymorphicSerializer || deserializer instanceof PolymorphicDeserializer) {
+            final List<TypeIdentifier> subtypes;
+            if (serializer != null) {
+                subtypes = serializer.requiredTypes();
+            } else {
+                subtypes = deserializer.requiredTypes();
+            }
+            final List<String> subtypeNames = new ArrayList<>(subtypes.size());
+            for (final TypeIdentifier subtype : subtypes) {
+                final Optional<String> subtypeName = snapshotTypeName(subtype);
+                if (!subtypeName.isPresent()) {
+                    return Optional.empty();
+                }
+                subtypeNames.add(subtypeName.get());
+            }
+            return Optional.of(subtypesEntry(typeName.get(), capabilities(serializer != null, deserializer != null), subtypeNames));
+        }
+        final Optional<SnapshotEntry> customPrimitiveEntry = customPrimitiveEntry(typeName.get(), serializer, deserializer);
+        if (customPrimitiveEntry.isPresent()) {
+            return customPrimitiveEntry;
+        }
+        final Optional<SnapshotEntry> serializedObjectEntry = serializedObjectEntry(typeName.get(), serializer, deserializer);
+        if (serializedObjectEntry.isPresent()) {
+            return serializedObjectEntry;
+        }
+        return Optional.of(detectedTypeEntry(typeName.get(), capabilities(serializer != null, deserializer != null)));
+    }
+
+    private static Optional<String> snapshotTypeName(final TypeIdentifier typeIdentifier) {
+        if (typeIdentifier.isVirtual()) {
+            return Optional.empty();
+        }
+        final ResolvedType resolvedType = typeIdentifier.realType();
+        if (!(resolvedType instanceof ClassType) || !resolvedType.typeParameters().isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(resolvedType.assignableType().getName());
+    }
+
+    private static SnapshotEntry readEntry(final DataInputStream input) throws IOException {
+        final int kind = input.readUnsignedByte();
+        if (kind == DetectedTypeEntry.KIND) {
+            return readDetectedTypeEntry(input);
+        } else if (kind == SubtypesEntry.KIND) {
+            return readSubtypesEntry(input);
+        } else if (kind == CustomPrimitiveEntry.KIND) {
+            return readCustomPrimitiveEntry(input);
+        } else if (kind == SerializedObjectEntry.KIND) {
+            return readSerializedObjectEntry(input);
+        }
+        throw mapMaidException(format("Unknown entry kind %d in snapshot", kind));
+    }
+
+    private static byte[] hashClasses(final List<SnapshotEntry> entries) {
+        final SortedSet<String> classNames = new TreeSet<>();
+        for (final SnapshotEntry entry : entries) {
+            classNames.add(entry.typeName());
+            if (entry instanceof SubtypesEntry) {
+                classNames.addAll(((SubtypesEntry) entry).subtypeNames());
+            }
+        }
+        final MessageDigest digest = sha256();
+        for (final String className : classNames) {
+            digest.update(className.getBytes(UTF_8));
+            digest.update(classBytes(className));
+        }
+        return digest.digest();
+    }
+
+    private static byte[] classBytes(final String className) {
+        final Class<?> type = loadClass(className);
+        if (type.isPrimitive()) {
+            return new byte[0];
+        }
+        final String resource = "/" + className.replace('.', '/') + ".class";
+        try (final InputStream inputStream = type.getResourceAsStream(resource)) {
+            if (inputStream == null) {
+                return new byte[0];
+            }
+            return inputStream.readAllBytes();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (final NoSuchAlgorithmException e) {
+            throw mapMaidException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2020 Richard Hauswald - https://quantummaid.de/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package de.quantummaid.mapmaid.snapshot;
+
+import de.quantummaid.mapmaid.builder.MapMaidBuilder;
+import de.quantummaid.mapmaid.builder.RequiredCapabilities;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+import static de.quantummaid.mapmaid.snapshot.SnapshotFormat.*;
+import static de.quantummaid.reflectmaid.GenericType.genericType;
+
+@ToString
+@EqualsAndHashCode
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+final class DetectedTypeEntry implements SnapshotEntry {
+    static final int KIND = 0;
+
+    private final String typeName;
+    private final RequiredCapabilities capabilities;
+
+    static DetectedTypeEntry detectedTypeEntry(final String typeName,
+                                               final RequiredCapabilities capabilities) {
+        return new DetectedTypeEntry(typeName, capabilities);
+    }
+
+    static DetectedTypeEntry readDetectedTypeEntry(final DataInputStream input) throws IOException {
+        final String typeName = input.readUTF();
+        final RequiredCapabilities capabilities = readCapabilities(input);
+        return detectedTypeEntry(typeName, capabilities);
+    }
+
+    @Override
+    public String typeName() {
+        return typeName;
+    }
+
+    @Override
+    public void write(final DataOutputStream output) throws IOException {
+        output.writeByte(KIND);
+        output.writeUTF(typeName);
+        writeCapabilities(capabilities, output);
+    }
+
+    @Override
+    public void registerResolved(final MapMaidBuilder builder) {
+        registerDetected(builder);
+    }
+
+    @Override
+    public void registerDetected(final MapMaidBuilder builder) {
+        builder.withType(genericType(loadClass(typeName)), capabilities);
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2020 Richard Hauswald - https://quantummaid.de/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package de.quantummaid.mapmaid.snapshot;
+
+import de.quantummaid.mapmaid.builder.MapMaidBuilder;
+import de.quantummaid.mapmaid.mapper.deserialization.deserializers.TypeDeserializer;
+import de.quantummaid.mapmaid.mapper.deserialization.deserializers.serializedobjects.ConstructorSerializedObjectDeserializer;
+import de.quantummaid.mapmaid.mapper.deserialization.deserializers.serializedobjects.MethodSerializedObjectDeserializer;
+import de.quantummaid.mapmaid.mapper.serialization.serializers.TypeSerializer;
+import de.quantummaid.mapmaid.mapper.serialization.serializers.serializedobject.SerializationField;
+import de.quantummaid.mapmaid.mapper.serialization.serializers.serializedobject.SerializedObjectSerializer;
+import de.quantummaid.reflectmaid.resolvedtype.ClassType;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static de.quantummaid.mapmaid.mapper.serialization.serializers.serializedobject.SerializationFields.serializationFields;
+import static de.quantummaid.mapmaid.mapper.serialization.serializers.serializedobject.SerializedObjectSerializer.serializedObjectSerializer;
+import static de.quantummaid.mapmaid.snapshot.SnapshotField.readSnapshotField;
+import static de.quantummaid.mapmaid.snapshot.SnapshotField.snapshotField;
+import static de.quantummaid.mapmaid.snapshot.SnapshotFormat.*;
+import static de.quantummaid.reflectmaid.GenericType.genericType;
+import static java.util.Collections.emptyList;
+import static java.util.stream.Collectors.toList;
+
+@ToString
+@EqualsAndHashCode
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+final class SerializedObjectEntry implements SnapshotEntry {
+    static final int KIND = 3;
+
+    private final String typeName;
+    private final List<SnapshotField> fields;
+    private final int deserializationKind;
+    private final String deserializationMethod;
+    private final List<String> deserializationParameters;
+
+    static Optional<SnapshotEntry> serializedObjectEntry(final String typeName,
+                                                         final TypeSerializer serializer,
+                                                         final TypeDeserializer deserializer) {
+        final List<SnapshotField> fields;
+        if (serializer == null) {
+            fields = null;
+        } else if (serializer instanceof SerializedObjectSerializer) {
+            final List<SerializationField> serializationFields = ((SerializedObjectSerializer) serializer).fields().fields();
+            fields = new ArrayList<>(serializationFields.size());
+            for (final SerializationField serializationField : serializationFields) {
+                final Optional<SnapshotField> snapshotField = snapshotField(serializationField);
+                if (!snapshotField.isPresent()) {
+                    return Optional.empty();
+                }
+                fields.add(snapshotField.get());
+            }
+        } else {
+            return Optional.empty();
+        }
+        if (deserializer == null) {
+            return Optional.of(new SerializedObjectEntry(typeName, fields, NONE, "", emptyList()));
+        }
+        if (deserializer instanceof MethodSerializedObjectDeserializer) {
+            final MethodSerializedObjectDeserializer byMethod = (MethodSerializedObjectDeserializer) deserializer;
+            return Optional.of(new SerializedObjectEntry(typeName, fields, BY_METHOD,
+                    byMethod.method().getMethod().getName(), parameterTypeNames(byMethod.method().getMethod())));
+        }
+        if (deserializer instanceof ConstructorSerializedObjectDeserializer) {
+            final ConstructorSerializedObjectDeserializer byConstructor = (ConstructorSerializedObjectDeserializer) deserializer;
+            return Optional.of(new SerializedObjectEntry(typeName, fields, BY_CONSTRUCTOR,
+                    "", parameterTypeNames(byConstructor.constructor().getConstructor())));
+        }
+        return Optional.empty();
+    }
+
+    static SerializedObjectEntry readSerializedObjectEntry(final DataInputStream input) throws IOException {
+        final String typeName = input.readUTF();
+        final List<SnapshotField> fields;
+        if (input.readBoolean()) {
+            final int size = input.readUnsignedShort();
+            fields = new ArrayList<>(size);
+            for (int i = 0; i < size; ++i) {
+                fields.add(readSnapshotField(input));
+            }
+        } else {
+            fields = null;
+        }
+        final int deserializationKind = input.readUnsignedByte();
+        final String deserializationMethod = input.readUTF();
+        final List<String> deserializationParameters = readNames(input);
+        return new SerializedObjectEntry(typeName, fields, deserializationKind,
+                deserializationMethod, deserializationParameters);
+    }
+
+    @Override
+    public String typeName() {
+        return typeName;
+    }
+
+    @Override
+    public void write(final DataOutputStream output) throws IOException {
+        output.writeByte(KIND);
+        output.writeUTF(typeName);
+        output.writeBoolean(fields != null);
+        if (fields != null) {
+            output.writeShort(fields.size());
+            for (final SnapshotField field : fields) {
+                field.write(output);
+            }
+        }
+        output.writeByte(deserializationKind);
+        output.writeUTF(deserializationMethod);
+        writeNames(deserializationParameters, output);
+    }
+
+    @Override
+    public void registerResolved(final MapMaidBuilder builder) {
+        final ClassType type = classType(builder, typeName);
+        final TypeSerializer serializer;
+        if (fields != null) {
+            final List<SerializationField> serializationFields = fields.stream()
+                    .map(field -> field.resolve(type))
+                    .collect(toList());
+            serializer = serializedObjectSerializer(serializationFields(serializationFields));
+        } else {
+            serializer = null;
+        }
+        final TypeDeserializer deserializer;
+        if (deserializationKind == BY_METHOD) {
+            deserializer = MethodSerializedObjectDeserializer.methodDeserializer(
+                    type, method(type, deserializationMethod, deserializationParameters));
+        } else if (deserializationKind == BY_CONSTRUCTOR) {
+            deserializer = ConstructorSerializedObjectDeserializer.createDeserializer(
+                    type, constructor(type, deserializationParameters));
+        } else {
+            deserializer = null;
+        }
+        registerCustomType(builder, type, serializer, deserializer);
+    }
+
+    @Override
+    public void registerDetected(final MapMaidBuilder builder) {
+        builder.withType(genericType(loadClass(typeName)), capabilities(fields != null, deserializationKind != NONE));
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2020 Richard Hauswald - https://quantummaid.de/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package de.quantummaid.mapmaid.snapshot;
+
+import de.quantummaid.mapmaid.builder.detection.serializedobject.fields.GetterFieldQuery;
+import de.quantummaid.mapmaid.mapper.serialization.serializers.serializedobject.SerializationField;
+import de.quantummaid.mapmaid.mapper.serialization.serializers.serializedobject.queries.PublicFieldQuery;
+import de.quantummaid.mapmaid.mapper.serialization.serializers.serializedobject.queries.SerializationFieldQuery;
+import de.quantummaid.reflectmaid.resolvedtype.ClassType;
+import de.quantummaid.reflectmaid.resolvedtype.ResolvedType;
+import de.quantummaid.reflectmaid.resolvedtype.resolver.ResolvedField;
+import de.quantummaid.reflectmaid.resolvedtype.resolver.ResolvedMethod;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Optional;
+
+import static de.quantummaid.mapmaid.builder.detection.serializedobject.fields.GetterFieldQuery.getterFieldQuery;
+import static de.quantummaid.mapmaid.mapper.serialization.serializers.serializedobject.SerializationField.serializationField;
+import static de.quantummaid.mapmaid.mapper.serialization.serializers.serializedobject.queries.PublicFieldQuery.publicFieldQuery;
+import static de.quantummaid.mapmaid.snapshot.SnapshotFormat.field;
+import static de.quantummaid.mapmaid.snapshot.SnapshotFormat.method;
+import static java.util.Collections.emptyList;
+
+@ToString
+@EqualsAndHashCode
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+final class SnapshotField {
+    private static final int PUBLIC_FIELD = 0;
+    private static final int GETTER = 1;
+
+    private final String name;
+    private final int kind;
+    private final String member;
+
+    static Optional<SnapshotField> snapshotField(final SerializationField field) {
+        final SerializationFieldQuery query = field.getQuery();
+        if (query instanceof PublicFieldQuery) {
+            final String member = ((PublicFieldQuery) query).field().getName();
+            return Optional.of(new SnapshotField(field.name(), PUBLIC_FIELD, member));
+        }
+        if (query instanceof GetterFieldQuery) {
+            final String member = ((GetterFieldQuery) query).method().getMethod().getName();
+            return Optional.of(new SnapshotField(field.name(), GETTER, member));
+        }
+        return Optional.empty();
+    }
+
+    static SnapshotField readSnapshotField(final DataInputStream input) throws IOException {
+        final String name = input.readUTF();
+        final int kind = input.readUnsignedByte();
+        final String member = input.readUTF();
+        return new SnapshotField(name, kind, member);
+    }
+
+    void write(final DataOutputStream output) throws IOException {
+        output.writeUTF(name);
+        output.writeByte(kind);
+        output.writeUTF(member);
+    }
+
+    SerializationField resolve(final ClassType type) {
+        if (kind == GETTER) {
+            final ResolvedMethod getter = method(type, member, emptyList());
+            final ResolvedType returnType = getter.returnType().orElseThrow();
+            return serializationField(returnType, name, getterFieldQuery(getter));
+        }
+        final ResolvedField resolvedField = field(type, member);
+        return serializationField(resolvedField.getType(), name, publicFieldQuery(resolvedField));
+    }
+}
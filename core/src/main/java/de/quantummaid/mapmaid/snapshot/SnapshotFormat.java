@@ -0,0 +1,206 @@
+/*
+ * Copyright (c) 2020 Richard Hauswald - https://quantummaid.de/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package de.quantummaid.mapmaid.snapshot;
+
+import de.quantummaid.mapmaid.builder.MapMaidBuilder;
+import de.quantummaid.mapmaid.builder.RequiredCapabilities;
+import de.quantummaid.mapmaid.mapper.deserialization.deserializers.TypeDeserializer;
+import de.quantummaid.mapmaid.mapper.serialization.serializers.TypeSerializer;
+import de.quantummaid.reflectmaid.resolvedtype.ClassType;
+import de.quantummaid.reflectmaid.resolvedtype.ResolvedType;
+import de.quantummaid.reflectmaid.resolvedtype.resolver.ResolvedConstructor;
+import de.quantummaid.reflectmaid.resolvedtype.resolver.ResolvedField;
+import de.quantummaid.reflectmaid.resolvedtype.resolver.ResolvedMethod;
+import de.quantummaid.reflectmaid.typescanner.TypeIdentifier;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Executable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static de.quantummaid.mapmaid.builder.RequiredCapabilities.*;
+import static de.quantummaid.mapmaid.builder.customtypes.DeserializationOnlyType.deserializationOnlyType;
+import static de.quantummaid.mapmaid.builder.customtypes.DuplexType.duplexType;
+import static de.quantummaid.mapmaid.builder.customtypes.SerializationOnlyType.serializationOnlyType;
+import static de.quantummaid.mapmaid.debug.MapMaidException.mapMaidException;
+import static de.quantummaid.reflectmaid.GenericType.genericType;
+import static de.quantummaid.reflectmaid.typescanner.TypeIdentifier.typeIdentifierFor;
+import static java.lang.String.format;
+import static java.util.stream.Collectors.toList;
+
+final class SnapshotFormat {
+    static final int NONE = 0;
+    static final int BY_METHOD = 1;
+    static final int BY_CONSTRUCTOR = 2;
+    private static final int SERIALIZATION = 1;
+    private static final int DESERIALIZATION = 2;
+    private static final Map<String, Class<?>> PRIMITIVES = new HashMap<>(16);
+
+    static {
+        PRIMITIVES.put("boolean", boolean.class);
+        PRIMITIVES.put("byte", byte.class);
+        PRIMITIVES.put("char", char.class);
+        PRIMITIVES.put("short", short.class);
+        PRIMITIVES.put("int", int.class);
+        PRIMITIVES.put("long", long.class);
+        PRIMITIVES.put("float", float.class);
+        PRIMITIVES.put("double", double.class);
+    }
+
+    private SnapshotFormat() {
+    }
+
+    static void writeCapabilities(final RequiredCapabilities capabilities,
+                                  final DataOutputStream output) throws IOException {
+        int flags = 0;
+        if (capabilities.hasSerialization()) {
+            flags = flags | SERIALIZATION;
+        }
+        if (capabilities.hasDeserialization()) {
+            flags = flags | DESERIALIZATION;
+        }
+        output.writeByte(flags);
+    }
+
+    static RequiredCapabilities readCapabilities(final DataInputStream input) throws IOException {
+        final int flags = input.readUnsignedByte();
+        if (flags == (SERIALIZATION | DESERIALIZATION)) {
+            return duplex();
+        } else if (flags == SERIALIZATION) {
+            return serialization();
+        } else if (flags == DESERIALIZATION) {
+            return deserialization();
+        }
+        throw mapMaidException(format("Invalid capabilities %d in snapshot", flags));
+    }
+
+    static RequiredCapabilities capabilities(final boolean serialization,
+                                             final boolean deserialization) {
+        if (serialization && deserialization) {
+            return duplex();
+        } else if (serialization) {
+            return serialization();
+        }
+        return deserialization();
+    }
+
+    static void writeNames(final List<String> names,
+                           final DataOutputStream output) throws IOException {
+        output.writeShort(names.size());
+        for (final String name : names) {
+            output.writeUTF(name);
+        }
+    }
+
+    static List<String> readNames(final DataInputStream input) throws IOException {
+        final int size = input.readUnsignedShort();
+        final List<String> names = new ArrayList<>(size);
+        for (int i = 0; i < size; ++i) {
+            names.add(input.readUTF());
+        }
+        return names;
+    }
+
+    static List<String> parameterTypeNames(final Executable executable) {
+        final Class<?>[] parameterTypes = executable.getParameterTypes();
+        final List<String> names = new ArrayList<>(parameterTypes.length);
+        for (final Class<?> parameterType : parameterTypes) {
+            names.add(parameterType.getName());
+        }
+        return names;
+    }
+
+    static Class<?> loadClass(final String name) {
+        final Class<?> primitive = PRIMITIVES.get(name);
+        if (primitive != null) {
+            return primitive;
+        }
+        final ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+        final ClassLoader classLoader = contextClassLoader != null ? contextClassLoader : SnapshotFormat.class.getClassLoader();
+        try {
+            return Class.forName(name, false, classLoader);
+        } catch (final ClassNotFoundException e) {
+            throw mapMaidException(format("Snapshot references unknown class '%s'", name), e);
+        }
+    }
+
+    static ClassType classType(final MapMaidBuilder builder, final String name) {
+        final ResolvedType resolvedType = builder.reflectMaid().resolve(genericType(loadClass(name)));
+        if (!(resolvedType instanceof ClassType)) {
+            throw mapMaidException(format("Snapshot references '%s' which is not a class", name));
+        }
+        return (ClassType) resolvedType;
+    }
+
+    static ResolvedMethod method(final ClassType type,
+                                 final String name,
+                                 final List<String> parameterTypes) {
+        final List<ResolvedMethod> methods = type.methods().stream()
+                .filter(method -> method.getMethod().getName().equals(name))
+                .filter(method -> parameterTypeNames(method.getMethod()).equals(parameterTypes))
+                .collect(toList());
+        if (methods.size() != 1) {
+            throw memberNotFound(type, name);
+        }
+        return methods.get(0);
+    }
+
+    static ResolvedConstructor constructor(final ClassType type,
+                                           final List<String> parameterTypes) {
+        return type.constructors().stream()
+                .filter(constructor -> parameterTypeNames(constructor.getConstructor()).equals(parameterTypes))
+                .findFirst()
+                .orElseThrow(() -> memberNotFound(type, "constructor"));
+    }
+
+    static ResolvedField field(final ClassType type,
+                               final String name) {
+        return type.fields().stream()
+                .filter(field -> field.getName().equals(name))
+                .findFirst()
+                .orElseThrow(() -> memberNotFound(type, name));
+    }
+
+    static void registerCustomType(final MapMaidBuilder builder,
+                                   final ClassType type,
+                                   final TypeSerializer serializer,
+                                   final TypeDeserializer deserializer) {
+        final TypeIdentifier typeIdentifier = typeIdentifierFor(type);
+        if (serializer != null && deserializer != null) {
+            builder.withCustomType(duplex(), duplexType(typeIdentifier, serializer, deserializer));
+        } else if (serializer != null) {
+            builder.withCustomType(serialization(), serializationOnlyType(typeIdentifier, serializer));
+        } else {
+            builder.withCustomType(deserialization(), deserializationOnlyType(typeIdentifier, deserializer));
+        }
+    }
+
+    private static RuntimeException memberNotFound(final ClassType type, final String member) {
+        return mapMaidException(format("Snapshot references '%s' of type %s which could not be found",
+                member, type.description()));
+    }
+}
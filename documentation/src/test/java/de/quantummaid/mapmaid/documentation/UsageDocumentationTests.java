@@ -34,7 +34,7 @@ import de.quantummaid.mapmaid.documentation.quickstart.domain.Subject;
 import de.quantummaid.mapmaid.mapper.marshalling.MarshallingType;
 import org.junit.jupiter.api.Test;
 
-import java.util.Map;
+import java.util.LinkedHashMap;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -61,7 +61,7 @@ public final class UsageDocumentationTests {
         //Showcase start serializeToJson
         final String json = mapMaid.serializeToJson(EMAIL);
         //Showcase end serializeToJson
-        assertThat(json, is("{\"receiver\":\"receiver@example.com\",\"body\":\"Hello World!!!\",\"sender\":\"sender@example.com\",\"subject\":\"Hello\"}"));
+        assertThat(json, is("{\"sender\":\"sender@example.com\",\"receiver\":\"receiver@example.com\",\"subject\":\"Hello\",\"body\":\"Hello World!!!\"}"));
 
         //Showcase start deserializeJson
         final Email deserializedEmail = mapMaid.deserializeJson(json, Email.class);
@@ -85,10 +85,10 @@ public final class UsageDocumentationTests {
         System.out.println(yaml);
         //Showcase end serializeToYaml
         assertThat(yaml, is("---\n" +
-                "receiver: \"receiver@example.com\"\n" +
-                "body: \"Hello World!!!\"\n" +
                 "sender: \"sender@example.com\"\n" +
-                "subject: \"Hello\"\n"));
+                "receiver: \"receiver@example.com\"\n" +
+                "subject: \"Hello\"\n" +
+                "body: \"Hello World!!!\"\n"));
 
         //Showcase start deserializeYaml
         final Email deserializedEmail = mapMaid.deserializeYaml(yaml, Email.class);
@@ -100,7 +100,7 @@ public final class UsageDocumentationTests {
     public void usageWithXml() {
         //Showcase start xmlInstance
         final XStream xStream = new XStream(new DomDriver());
-        xStream.alias("root", Map.class);
+        xStream.alias("root", LinkedHashMap.class);
         final MapMaid mapMaid = MapMaid.aMapMaid()
                 .serializingAndDeserializing(Email.class)
                 .withAdvancedSettings(advancedBuilder -> advancedBuilder
@@ -114,21 +114,21 @@ public final class UsageDocumentationTests {
         assertThat(xml, is("" +
                 "<root>\n" +
                 "  <entry>\n" +
-                "    <string>receiver</string>\n" +
-                "    <string>receiver@example.com</string>\n" +
-                "  </entry>\n" +
-                "  <entry>\n" +
-                "    <string>body</string>\n" +
-                "    <string>Hello World!!!</string>\n" +
-                "  </entry>\n" +
-                "  <entry>\n" +
                 "    <string>sender</string>\n" +
                 "    <string>sender@example.com</string>\n" +
                 "  </entry>\n" +
                 "  <entry>\n" +
+                "    <string>receiver</string>\n" +
+                "    <string>receiver@example.com</string>\n" +
+                "  </entry>\n" +
+                "  <entry>\n" +
                 "    <string>subject</string>\n" +
                 "    <string>Hello</string>\n" +
                 "  </entry>\n" +
+                "  <entry>\n" +
+                "    <string>body</string>\n" +
+                "    <string>Hello World!!!</string>\n" +
+                "  </entry>\n" +
                 "</root>"));
 
         //Showcase start deserializeXml
@@ -156,7 +156,7 @@ public final class UsageDocumentationTests {
         //Showcase start serializeToCustomFormat
         final String customFormat = mapMaid.serializeTo(EMAIL, MarshallingType.marshallingType("YOUR_CUSTOM_FORMAT"));
         //Showcase end serializeToCustomFormat
-        assertThat(customFormat, is("{\"receiver\":\"receiver@example.com\",\"body\":\"Hello World!!!\",\"sender\":\"sender@example.com\",\"subject\":\"Hello\"}"));
+        assertThat(customFormat, is("{\"sender\":\"sender@example.com\",\"receiver\":\"receiver@example.com\",\"subject\":\"Hello\",\"body\":\"Hello World!!!\"}"));
 
         //Showcase start deserializeCustomFormat
         final Email deserializedEmail = mapMaid.deserialize(customFormat, Email.class, MarshallingType.marshallingType("YOUR_CUSTOM_FORMAT"));
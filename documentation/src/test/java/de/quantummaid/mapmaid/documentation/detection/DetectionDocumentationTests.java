@@ -35,7 +35,7 @@ public final class DetectionDocumentationTests {
                 .serializing(GettersExample.class)
                 .build();
         final String json = mapMaid.serializeToJson(new GettersExample());
-        assertThat(json, is("{\"value2\":\"value2\",\"value1\":\"value1\",\"value3\":\"value3\"}"));
+        assertThat(json, is("{\"value1\":\"value1\",\"value2\":\"value2\",\"value3\":\"value3\"}"));
     }
 
     @Test
@@ -44,7 +44,7 @@ public final class DetectionDocumentationTests {
                 .serializing(MixedGettersAndPublicFieldsExample.class)
                 .build();
         final String json = mapMaid.serializeToJson(new MixedGettersAndPublicFieldsExample());
-        assertThat(json, is("{\"value2\":\"value2 from getter method\",\"value1\":\"value1 from public field\",\"value3\":\"value3 from getter method\"}"));
+        assertThat(json, is("{\"value1\":\"value1 from public field\",\"value2\":\"value2 from getter method\",\"value3\":\"value3 from getter method\"}"));
     }
 
     @Test
@@ -53,6 +53,6 @@ public final class DetectionDocumentationTests {
                 .serializing(GettersAndPublicFieldsExample.class)
                 .build();
         final String json = mapMaid.serializeToJson(new GettersAndPublicFieldsExample());
-        assertThat(json, is("{\"value2\":\"value2 from public field\",\"value1\":\"value1 from public field\",\"value3\":\"value3 from public field\"}"));
+        assertThat(json, is("{\"value1\":\"value1 from public field\",\"value2\":\"value2 from public field\",\"value3\":\"value3 from public field\"}"));
     }
 }
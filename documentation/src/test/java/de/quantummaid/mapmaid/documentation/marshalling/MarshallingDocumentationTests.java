@@ -33,7 +33,7 @@ import de.quantummaid.mapmaid.dynamodb.attributevalue.AttributeValueMarshallerAn
 import org.junit.jupiter.api.Test;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
 
-import java.util.Map;
+import java.util.LinkedHashMap;
 
 import static de.quantummaid.mapmaid.builder.recipes.urlencoded.UrlEncodedMarshallerRecipe.urlEncoded;
 import static de.quantummaid.mapmaid.mapper.marshalling.MarshallingType.UNIVERSAL_OBJECT;
@@ -135,8 +135,8 @@ public final class MarshallingDocumentationTests {
                         Region.fromStringValue("Mississippi"),
                         Country.fromStringValue("USA")
                 ))));
-        assertThat(json, is("{\"addresses\":[{\"houseNumber\":\"7a\",\"zipCode\":\"423423\",\"country\":\"USA\"," +
-                "\"streetName\":\"Nulla Street\",\"region\":\"Mississippi\",\"city\":\"Mankato\"}],\"firstNames\":[\"Aaron\",\"Adam\"]}"));
+        assertThat(json, is("{\"firstNames\":[\"Aaron\",\"Adam\"],\"addresses\":[{\"streetName\":\"Nulla Street\",\"houseNumber\":\"7a\"," +
+                "\"zipCode\":\"423423\",\"city\":\"Mankato\",\"region\":\"Mississippi\",\"country\":\"USA\"}]}"));
     }
 
     @Test
@@ -159,15 +159,15 @@ public final class MarshallingDocumentationTests {
                         Region.fromStringValue("Mississippi"),
                         Country.fromStringValue("USA")
                 ))));
-        assertThat(json, is("{\"addresses\":[{\"houseNumber\":\"7a\",\"zipCode\":\"423423\",\"country\":\"USA\"," +
-                "\"streetName\":\"Nulla Street\",\"region\":\"Mississippi\",\"city\":\"Mankato\"}],\"firstNames\":[\"Aaron\",\"Adam\"]}"));
+        assertThat(json, is("{\"firstNames\":[\"Aaron\",\"Adam\"],\"addresses\":[{\"streetName\":\"Nulla Street\",\"houseNumber\":\"7a\"," +
+                "\"zipCode\":\"423423\",\"city\":\"Mankato\",\"region\":\"Mississippi\",\"country\":\"USA\"}]}"));
     }
 
     @Test
     public void xmlWithXStream() {
         //Showcase start xmlWithXStream
         final XStream xStream = new XStream(new DomDriver());
-        xStream.alias("root", Map.class);
+        xStream.alias("root", LinkedHashMap.class);
 
         final MapMaid mapMaid = MapMaid.aMapMaid()
                 .serializingAndDeserializing(ComplexPerson.class)
@@ -188,10 +188,21 @@ public final class MarshallingDocumentationTests {
         assertThat(xml, is("" +
                 "<root>\n" +
                 "  <entry>\n" +
+                "    <string>firstNames</string>\n" +
+                "    <list>\n" +
+                "      <string>Aaron</string>\n" +
+                "      <string>Adam</string>\n" +
+                "    </list>\n" +
+                "  </entry>\n" +
+                "  <entry>\n" +
                 "    <string>addresses</string>\n" +
                 "    <list>\n" +
                 "      <root>\n" +
                 "        <entry>\n" +
+                "          <string>streetName</string>\n" +
+                "          <string>Nulla Street</string>\n" +
+                "        </entry>\n" +
+                "        <entry>\n" +
                 "          <string>houseNumber</string>\n" +
                 "          <string>7a</string>\n" +
                 "        </entry>\n" +
@@ -200,31 +211,20 @@ public final class MarshallingDocumentationTests {
                 "          <string>423423</string>\n" +
                 "        </entry>\n" +
                 "        <entry>\n" +
-                "          <string>country</string>\n" +
-                "          <string>USA</string>\n" +
-                "        </entry>\n" +
-                "        <entry>\n" +
-                "          <string>streetName</string>\n" +
-                "          <string>Nulla Street</string>\n" +
+                "          <string>city</string>\n" +
+                "          <string>Mankato</string>\n" +
                 "        </entry>\n" +
                 "        <entry>\n" +
                 "          <string>region</string>\n" +
                 "          <string>Mississippi</string>\n" +
                 "        </entry>\n" +
                 "        <entry>\n" +
-                "          <string>city</string>\n" +
-                "          <string>Mankato</string>\n" +
+                "          <string>country</string>\n" +
+                "          <string>USA</string>\n" +
                 "        </entry>\n" +
                 "      </root>\n" +
                 "    </list>\n" +
                 "  </entry>\n" +
-                "  <entry>\n" +
-                "    <string>firstNames</string>\n" +
-                "    <list>\n" +
-                "      <string>Aaron</string>\n" +
-                "      <string>Adam</string>\n" +
-                "    </list>\n" +
-                "  </entry>\n" +
                 "</root>"));
     }
 
@@ -253,15 +253,15 @@ public final class MarshallingDocumentationTests {
                 ))));
         assertThat(yaml, is("" +
                 "---\n" +
+                "firstNames:\n" +
+                "- \"Aaron\"\n" +
+                "- \"Adam\"\n" +
                 "addresses:\n" +
-                "- houseNumber: \"7a\"\n" +
+                "- streetName: \"Nulla Street\"\n" +
+                "  houseNumber: \"7a\"\n" +
                 "  zipCode: \"423423\"\n" +
-                "  country: \"USA\"\n" +
-                "  streetName: \"Nulla Street\"\n" +
-                "  region: \"Mississippi\"\n" +
                 "  city: \"Mankato\"\n" +
-                "firstNames:\n" +
-                "- \"Aaron\"\n" +
-                "- \"Adam\"\n"));
+                "  region: \"Mississippi\"\n" +
+                "  country: \"USA\"\n"));
     }
 }
@@ -52,7 +52,7 @@ public final class QuickStartDocumentationTests {
         final String json = mapMaid.serializeToJson(email);
         //Showcase end serialization
 
-        assertThat(json, is("{\"receiver\":\"receiver@example.com\",\"body\":\"Hello World!!!\",\"sender\":\"sender@example.com\",\"subject\":\"Hello\"}"));
+        assertThat(json, is("{\"sender\":\"sender@example.com\",\"receiver\":\"receiver@example.com\",\"subject\":\"Hello\",\"body\":\"Hello World!!!\"}"));
 
         //Showcase start deserialization
         final Email deserializedEmail = mapMaid.deserializeJson(json, Email.class);
@@ -62,7 +62,7 @@ public final class RegisterCustomTypesDocumentationTests {
         final MySerializedObject instance = new MySerializedObject("a", "b", "c");
         final String json = mapMaid.serializeToJson(instance);
 
-        final String expectedJson = "{\"field3\":\"c\",\"field2\":\"b\",\"field1\":\"a\"}";
+        final String expectedJson = "{\"field1\":\"a\",\"field2\":\"b\",\"field3\":\"c\"}";
         assertThat(json, is(expectedJson));
 
         final MySerializedObject deserialized = mapMaid.deserializeJson(expectedJson, MySerializedObject.class);
@@ -97,7 +97,7 @@ public final class RegisterCustomTypesDocumentationTests {
 
         final MySerializedObject instance = new MySerializedObject("a", "b", "c");
         final String json = mapMaid.serializeToJson(instance);
-        final String expectedJson = "{\"field3\":\"c\",\"field2\":\"b\",\"field1\":\"a\"}";
+        final String expectedJson = "{\"field1\":\"a\",\"field2\":\"b\",\"field3\":\"c\"}";
         assertThat(json, is(expectedJson));
     }
 
@@ -129,7 +129,7 @@ public final class RegisterCustomTypesDocumentationTests {
         //Showcase end deserializationCustomSerializedObjectConfig
 
         final MySerializedObject instance = new MySerializedObject("a", "b", "c");
-        final String expectedJson = "{\"field3\":\"c\",\"field2\":\"b\",\"field1\":\"a\"}";
+        final String expectedJson = "{\"field1\":\"a\",\"field2\":\"b\",\"field3\":\"c\"}";
         final MySerializedObject deserialized = mapMaid.deserializeJson(expectedJson, MySerializedObject.class);
         assertThat(deserialized, is(instance));
     }
@@ -0,0 +1,281 @@
+/*
+ * Copyright (c) 2020 Richard Hauswald - https://quantummaid.de/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package de.quantummaid.mapmaid.processor;
+
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import static de.quantummaid.mapmaid.processor.DetectedCustomPrimitive.detectedCustomPrimitive;
+import static de.quantummaid.mapmaid.processor.DetectedField.detectedField;
+import static de.quantummaid.mapmaid.processor.DetectedSerializedObject.detectedSerializedObject;
+import static java.lang.Character.toLowerCase;
+import static java.util.Optional.empty;
+import static java.util.stream.Collectors.toList;
+import static javax.lang.model.element.ElementKind.CLASS;
+import static javax.lang.model.element.Modifier.ABSTRACT;
+import static javax.lang.model.element.Modifier.PUBLIC;
+import static javax.lang.model.element.Modifier.STATIC;
+import static javax.lang.model.element.Modifier.TRANSIENT;
+import static javax.lang.model.util.ElementFilter.fieldsIn;
+import static javax.lang.model.util.ElementFilter.methodsIn;
+
+final class DefinitionsDetector {
+    private static final String CUSTOM_PRIMITIVE_FACTORY_NAME = "fromStringValue";
+    private static final String CUSTOM_PRIMITIVE_SERIALIZATION_METHOD_NAME = "stringValue";
+    private static final String SERIALIZED_OBJECT_FACTORY_NAME = "deserialize";
+    private static final String GETTER_PREFIX = "get";
+    private static final int MAX_NUMBER_OF_FIELDS = 16;
+    private static final List<String> BUILT_IN_PACKAGES = List.of("java.", "javax.", "kotlin.");
+
+    private final Elements elements;
+    private final Types types;
+
+    private DefinitionsDetector(final Elements elements, final Types types) {
+        this.elements = elements;
+        this.types = types;
+    }
+
+    static DefinitionsDetector definitionsDetector(final Elements elements, final Types types) {
+        return new DefinitionsDetector(elements, types);
+    }
+
+    Map<String, DetectedType> detectReachable(final TypeElement root) {
+        final Map<String, DetectedType> detected = new LinkedHashMap<>();
+        final Set<String> visited = new HashSet<>();
+        final Queue<TypeElement> pending = new ArrayDeque<>();
+        pending.add(root);
+        while (!pending.isEmpty()) {
+            final TypeElement type = pending.remove();
+            final String name = type.getQualifiedName().toString();
+            if (isBuiltIn(name) || !visited.add(name)) {
+                continue;
+            }
+            detect(type).ifPresent(detectedType -> {
+                detected.put(name, detectedType);
+                pending.addAll(detectedType.dependencies());
+            });
+        }
+        return detected;
+    }
+
+    private Optional<DetectedType> detect(final TypeElement type) {
+        if (!isSupportedType(type)) {
+            return empty();
+        }
+        final Optional<DetectedType> customPrimitive = detectCustomPrimitive(type);
+        final Optional<DetectedType> serializedObject = detectSerializedObject(type);
+        if (customPrimitive.isPresent() == serializedObject.isPresent()) {
+            return empty();
+        }
+        if (customPrimitive.isPresent()) {
+            return customPrimitive;
+        }
+        return serializedObject;
+    }
+
+    private Optional<DetectedType> detectCustomPrimitive(final TypeElement type) {
+        final Optional<ExecutableElement> factory = uniqueMethod(type, CUSTOM_PRIMITIVE_FACTORY_NAME, method ->
+                isStatic(method) &&
+                        method.getParameters().size() == 1 &&
+                        isString(method.getParameters().get(0).asType()) &&
+                        types.isSameType(method.getReturnType(), type.asType()));
+        final Optional<ExecutableElement> serializationMethod = uniqueMethod(type, CUSTOM_PRIMITIVE_SERIALIZATION_METHOD_NAME, method ->
+                !isStatic(method) &&
+                        method.getParameters().isEmpty() &&
+                        isString(method.getReturnType()));
+        if (!factory.isPresent() || !serializationMethod.isPresent()) {
+            return empty();
+        }
+        final String typeName = type.getQualifiedName().toString();
+        return Optional.of(detectedCustomPrimitive(typeName, CUSTOM_PRIMITIVE_SERIALIZATION_METHOD_NAME, CUSTOM_PRIMITIVE_FACTORY_NAME));
+    }
+
+    private Optional<DetectedType> detectSerializedObject(final TypeElement type) {
+        final Optional<ExecutableElement> factory = uniqueMethod(type, SERIALIZED_OBJECT_FACTORY_NAME, method ->
+                isStatic(method) &&
+                        types.isSameType(method.getReturnType(), type.asType()));
+        if (!factory.isPresent()) {
+            return empty();
+        }
+        final List<? extends VariableElement> parameters = factory.get().getParameters();
+        final Optional<Map<String, Candidate>> candidates = serializationCandidates(type);
+        if (parameters.size() > MAX_NUMBER_OF_FIELDS ||
+                !candidates.isPresent() ||
+                candidates.get().size() != parameters.size()) {
+            return empty();
+        }
+        final List<DetectedField> fields = new ArrayList<>(parameters.size());
+        for (final VariableElement parameter : parameters) {
+            final String name = parameter.getSimpleName().toString();
+            final Candidate candidate = candidates.get().get(name);
+            if (candidate == null || !types.isSameType(candidate.type, parameter.asType())) {
+                return empty();
+            }
+            final Optional<DetectedField> field = detectField(name, candidate);
+            if (!field.isPresent()) {
+                return empty();
+            }
+            fields.add(field.get());
+        }
+        final String typeName = type.getQualifiedName().toString();
+        return Optional.of(detectedSerializedObject(typeName, fields, SERIALIZED_OBJECT_FACTORY_NAME));
+    }
+
+    private Optional<DetectedField> detectField(final String name, final Candidate candidate) {
+        final TypeMirror type = candidate.type;
+        if (type.getKind().isPrimitive()) {
+            return Optional.of(detectedField(name, type + ".class", candidate.accessor, null));
+        }
+        if (type.getKind() != TypeKind.DECLARED) {
+            return empty();
+        }
+        final DeclaredType declaredType = (DeclaredType) type;
+        if (!declaredType.getTypeArguments().isEmpty()) {
+            return empty();
+        }
+        final TypeElement dependency = (TypeElement) declaredType.asElement();
+        final String typeLiteral = dependency.getQualifiedName() + ".class";
+        return Optional.of(detectedField(name, typeLiteral, candidate.accessor, dependency));
+    }
+
+    private Optional<Map<String, Candidate>> serializationCandidates(final TypeElement type) {
+        final List<Candidate> candidates = new ArrayList<>();
+        fieldsIn(type.getEnclosedElements()).stream()
+                .filter(field -> isPublic(field) && !isStatic(field) && !field.getModifiers().contains(TRANSIENT))
+                .forEach(field -> {
+                    final String name = field.getSimpleName().toString();
+                    candidates.add(new Candidate(name, field.asType(), name));
+                });
+        methodsIn(type.getEnclosedElements()).stream()
+                .filter(method -> isPublic(method) && !isStatic(method))
+                .filter(method -> method.getParameters().isEmpty())
+                .filter(method -> method.getReturnType().getKind() != TypeKind.VOID)
+                .filter(method -> isGetterName(method.getSimpleName().toString()))
+                .forEach(method -> {
+                    final String methodName = method.getSimpleName().toString();
+                    final String name = toLowerCase(methodName.charAt(GETTER_PREFIX.length())) +
+                            methodName.substring(GETTER_PREFIX.length() + 1);
+                    candidates.add(new Candidate(name, method.getReturnType(), methodName + "()"));
+                });
+        final Map<String, Candidate> candidatesByName = new LinkedHashMap<>();
+        for (final Candidate candidate : candidates) {
+            if (candidatesByName.put(candidate.name, candidate) != null) {
+                return empty();
+            }
+        }
+        return Optional.of(candidatesByName);
+    }
+
+    private Optional<ExecutableElement> uniqueMethod(final TypeElement type,
+                                                     final String name,
+                                                     final Predicate<ExecutableElement> predicate) {
+        final List<ExecutableElement> methods = methodsIn(type.getEnclosedElements()).stream()
+                .filter(DefinitionsDetector::isPublic)
+                .filter(method -> method.getSimpleName().contentEquals(name))
+                .filter(predicate)
+                .collect(toList());
+        if (methods.size() != 1) {
+            return empty();
+        }
+        return Optional.of(methods.get(0));
+    }
+
+    private boolean isSupportedType(final TypeElement type) {
+        if (type.getKind() != CLASS ||
+                type.getModifiers().contains(ABSTRACT) ||
+                !type.getTypeParameters().isEmpty() ||
+                !isObject(type.getSuperclass())) {
+            return false;
+        }
+        Element current = type;
+        while (current instanceof TypeElement) {
+            final TypeElement currentType = (TypeElement) current;
+            if (!isPublic(currentType)) {
+                return false;
+            }
+            if (currentType.getNestingKind() == NestingKind.MEMBER && !isStatic(currentType)) {
+                return false;
+            }
+            current = currentType.getEnclosingElement();
+        }
+        return true;
+    }
+
+    private boolean isString(final TypeMirror type) {
+        return isType(type, String.class);
+    }
+
+    private boolean isObject(final TypeMirror type) {
+        return isType(type, Object.class);
+    }
+
+    private boolean isType(final TypeMirror type, final Class<?> expected) {
+        final TypeElement expectedElement = elements.getTypeElement(expected.getName());
+        return types.isSameType(type, expectedElement.asType());
+    }
+
+    private static boolean isGetterName(final String name) {
+        return name.startsWith(GETTER_PREFIX) && name.length() > GETTER_PREFIX.length();
+    }
+
+    private static boolean isBuiltIn(final String name) {
+        return BUILT_IN_PACKAGES.stream().anyMatch(name::startsWith);
+    }
+
+    private static boolean isPublic(final Element element) {
+        return element.getModifiers().contains(PUBLIC);
+    }
+
+    private static boolean isStatic(final Element element) {
+        return element.getModifiers().contains(STATIC);
+    }
+
+    private static final class Candidate {
+        private final String name;
+        private final TypeMirror type;
+        private final String accessor;
+
+        private Candidate(final String name, final TypeMirror type, final String accessor) {
+            this.name = name;
+            this.type = type;
+            this.accessor = accessor;
+        }
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2020 Richard Hauswald - https://quantummaid.de/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package de.quantummaid.mapmaid.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.Elements;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static de.quantummaid.mapmaid.processor.DefinitionsDetector.definitionsDetector;
+import static de.quantummaid.mapmaid.processor.DefinitionsWriter.generatedClassName;
+import static de.quantummaid.mapmaid.processor.DefinitionsWriter.generatedSource;
+import static java.lang.String.format;
+import static java.util.Collections.emptyList;
+import static javax.tools.Diagnostic.Kind.ERROR;
+import static javax.tools.Diagnostic.Kind.NOTE;
+
+@SupportedAnnotationTypes(DefinitionsProcessor.GENERATE_DEFINITIONS)
+public final class DefinitionsProcessor extends AbstractProcessor {
+    static final String GENERATE_DEFINITIONS = "de.quantummaid.mapmaid.builder.recipes.generated.GenerateDefinitions";
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(final Set<? extends TypeElement> annotations,
+                           final RoundEnvironment roundEnvironment) {
+        final DefinitionsDetector detector = definitionsDetector(processingEnv.getElementUtils(), processingEnv.getTypeUtils());
+        annotations.forEach(annotation -> roundEnvironment.getElementsAnnotatedWith(annotation)
+                .forEach(element -> generate((TypeElement) element, detector)));
+        return true;
+    }
+
+    private void generate(final TypeElement root,
+                          final DefinitionsDetector detector) {
+        final Messager messager = processingEnv.getMessager();
+        final String rootName = root.getQualifiedName().toString();
+        final Map<String, DetectedType> detectedTypes = detector.detectReachable(root);
+        final List<String> runtimeDetectedTypes;
+        if (detectedTypes.containsKey(rootName)) {
+            runtimeDetectedTypes = emptyList();
+        } else {
+            messager.printMessage(NOTE, format("MapMaid could not generate the definition of %s " +
+                    "and will detect it at runtime", rootName), root);
+            runtimeDetectedTypes = List.of(rootName);
+        }
+
+        final Elements elements = processingEnv.getElementUtils();
+        final String packageName = elements.getPackageOf(root).getQualifiedName().toString();
+        final String className = generatedClassName(nameWithinPackage(root, packageName));
+        final String qualifiedClassName = packageName.isEmpty() ? className : packageName + "." + className;
+        final String source = generatedSource(packageName, className, detectedTypes.values(), runtimeDetectedTypes);
+        try (Writer writer = processingEnv.getFiler().createSourceFile(qualifiedClassName, root).openWriter()) {
+            writer.write(source);
+        } catch (final IOException e) {
+            messager.printMessage(ERROR, format("Could not write %s: %s", qualifiedClassName, e.getMessage()), root);
+        }
+    }
+
+    private static String nameWithinPackage(final TypeElement root, final String packageName) {
+        final String qualifiedName = root.getQualifiedName().toString();
+        if (packageName.isEmpty()) {
+            return qualifiedName;
+        }
+        return qualifiedName.substring(packageName.length() + 1);
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2020 Richard Hauswald - https://quantummaid.de/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package de.quantummaid.mapmaid.processor;
+
+import java.util.Collection;
+
+final class DefinitionsWriter {
+    private static final String GENERATED_CLASS_SUFFIX = "MapMaidDefinitions";
+
+    private DefinitionsWriter() {
+    }
+
+    static String generatedClassName(final String rootName) {
+        return rootName.replace('.', '_') + GENERATED_CLASS_SUFFIX;
+    }
+
+    static String generatedSource(final String packageName,
+                                  final String className,
+                                  final Collection<DetectedType> detectedTypes,
+                                  final Collection<String> runtimeDetectedTypes) {
+        final StringBuilder builder = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            builder.append("package ").append(packageName).append(";\n\n");
+        }
+        builder.append("import de.quantummaid.mapmaid.builder.MapMaidBuilder;\n")
+                .append("import de.quantummaid.mapmaid.builder.recipes.Recipe;\n\n")
+                .append("import static de.quantummaid.reflectmaid.GenericType.genericType;\n\n")
+                .append("public final class ").append(className).append(" implements Recipe {\n\n")
+                .append("    private ").append(className).append("() {\n")
+                .append("    }\n\n")
+                .append("    public static Recipe ").append(factoryMethodName(className)).append("() {\n")
+                .append("        return new ").append(className).append("();\n")
+                .append("    }\n\n")
+                .append("    @Override\n")
+                .append("    public void apply(final MapMaidBuilder builder) {\n");
+        detectedTypes.forEach(detectedType -> builder
+                .append("        ").append(detectedType.registration()).append('\n'));
+        runtimeDetectedTypes.forEach(type -> builder
+                .append("        builder.serializingAndDeserializing(").append(type).append(".class);\n"));
+        builder.append("    }\n")
+                .append("}\n");
+        return builder.toString();
+    }
+
+    private static String factoryMethodName(final String className) {
+        return Character.toLowerCase(className.charAt(0)) + className.substring(1);
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2020 Richard Hauswald - https://quantummaid.de/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package de.quantummaid.mapmaid.processor;
+
+import javax.lang.model.element.TypeElement;
+import java.util.List;
+
+import static java.lang.String.format;
+import static java.util.Collections.emptyList;
+
+final class DetectedCustomPrimitive implements DetectedType {
+    private final String type;
+    private final String serializationMethod;
+    private final String factoryMethod;
+
+    private DetectedCustomPrimitive(final String type,
+                                    final String serializationMethod,
+                                    final String factoryMethod) {
+        this.type = type;
+        this.serializationMethod = serializationMethod;
+        this.factoryMethod = factoryMethod;
+    }
+
+    static DetectedType detectedCustomPrimitive(final String type,
+                                                final String serializationMethod,
+                                                final String factoryMethod) {
+        return new DetectedCustomPrimitive(type, serializationMethod, factoryMethod);
+    }
+
+    @Override
+    public String registration() {
+        return format("builder.serializingAndDeserializingCustomPrimitive(\n" +
+                        "                genericType(%s.class),\n" +
+                        "                String.class,\n" +
+                        "                %s::%s,\n" +
+                        "                %s::%s\n" +
+                        "        );",
+                type, type, serializationMethod, type, factoryMethod);
+    }
+
+    @Override
+    public List<TypeElement> dependencies() {
+        return emptyList();
+    }
+}
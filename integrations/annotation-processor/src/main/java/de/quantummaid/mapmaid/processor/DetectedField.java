@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2020 Richard Hauswald - https://quantummaid.de/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package de.quantummaid.mapmaid.processor;
+
+import javax.lang.model.element.TypeElement;
+import java.util.Optional;
+
+import static java.lang.String.format;
+import static java.util.Optional.ofNullable;
+
+final class DetectedField {
+    private final String name;
+    private final String typeLiteral;
+    private final String accessor;
+    private final TypeElement dependency;
+
+    private DetectedField(final String name,
+                          final String typeLiteral,
+                          final String accessor,
+                          final TypeElement dependency) {
+        this.name = name;
+        this.typeLiteral = typeLiteral;
+        this.accessor = accessor;
+        this.dependency = dependency;
+    }
+
+    static DetectedField detectedField(final String name,
+                                       final String typeLiteral,
+                                       final String accessor,
+                                       final TypeElement dependency) {
+        return new DetectedField(name, typeLiteral, accessor, dependency);
+    }
+
+    String name() {
+        return name;
+    }
+
+    String registration() {
+        return format("\"%s\", %s, object -> object.%s", name, typeLiteral, accessor);
+    }
+
+    Optional<TypeElement> dependency() {
+        return ofNullable(dependency);
+    }
+}
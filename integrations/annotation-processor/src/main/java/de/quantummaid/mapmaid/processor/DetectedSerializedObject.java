@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2020 Richard Hauswald - https://quantummaid.de/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package de.quantummaid.mapmaid.processor;
+
+import javax.lang.model.element.TypeElement;
+import java.util.List;
+import java.util.Optional;
+
+import static java.util.stream.Collectors.toList;
+
+final class DetectedSerializedObject implements DetectedType {
+    private final String type;
+    private final List<DetectedField> fields;
+    private final String factoryMethod;
+
+    private DetectedSerializedObject(final String type,
+                                     final List<DetectedField> fields,
+                                     final String factoryMethod) {
+        this.type = type;
+        this.fields = fields;
+        this.factoryMethod = factoryMethod;
+    }
+
+    static DetectedType detectedSerializedObject(final String type,
+                                                 final List<DetectedField> fields,
+                                                 final String factoryMethod) {
+        return new DetectedSerializedObject(type, fields, factoryMethod);
+    }
+
+    @Override
+    public String registration() {
+        final StringBuilder builder = new StringBuilder();
+        builder.append("builder.serializingAndDeserializingCustomObject(\n")
+                .append("                genericType(").append(type).append(".class),\n")
+                .append("                type -> type\n");
+        fields.forEach(field -> builder
+                .append("                        .withField(").append(field.registration()).append(")\n"));
+        builder.append("                        .deserializedUsing(").append(type).append("::").append(factoryMethod).append(")\n")
+                .append("        );");
+        return builder.toString();
+    }
+
+    @Override
+    public List<TypeElement> dependencies() {
+        return fields.stream()
+                .map(DetectedField::dependency)
+                .flatMap(Optional::stream)
+                .collect(toList());
+    }
+}
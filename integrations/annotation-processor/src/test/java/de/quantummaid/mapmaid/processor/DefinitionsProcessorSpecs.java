@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2020 Richard Hauswald - https://quantummaid.de/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package de.quantummaid.mapmaid.processor;
+
+import de.quantummaid.mapmaid.MapMaid;
+import de.quantummaid.mapmaid.builder.recipes.Recipe;
+import org.junit.jupiter.api.Test;
+
+import javax.tools.JavaCompiler;
+import javax.tools.StandardJavaFileManager;
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static de.quantummaid.mapmaid.MapMaid.aMapMaid;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static javax.tools.ToolProvider.getSystemJavaCompiler;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public final class DefinitionsProcessorSpecs {
+    private static final String NAME = "" +
+            "package example;\n" +
+            "public final class Name {\n" +
+            "    private final String value;\n" +
+            "    private Name(final String value) { this.value = value; }\n" +
+            "    public static Name fromStringValue(final String value) { return new Name(value); }\n" +
+            "    public String stringValue() { return value; }\n" +
+            "}\n";
+    private static final String ADDRESS = "" +
+            "package example;\n" +
+            "@de.quantummaid.mapmaid.builder.recipes.generated.GenerateDefinitions\n" +
+            "public final class Address {\n" +
+            "    public final Name street;\n" +
+            "    public final int number;\n" +
+            "    private Address(final Name street, final int number) { this.street = street; this.number = number; }\n" +
+            "    public static Address deserialize(final Name street, final int number) { return new Address(street, number); }\n" +
+            "}\n";
+    private static final String PERSON = "" +
+            "package example;\n" +
+            "import java.util.List;\n" +
+            "@de.quantummaid.mapmaid.builder.recipes.generated.GenerateDefinitions\n" +
+            "public final class Person {\n" +
+            "    private final List<Name> aliases;\n" +
+            "    private Person(final List<Name> aliases) { this.aliases = aliases; }\n" +
+            "    public static Person deserialize(final List<Name> aliases) { return new Person(aliases); }\n" +
+            "    public List<Name> getAliases() { return aliases; }\n" +
+            "}\n";
+
+    @Test
+    public void definitionsAreGeneratedForConventionalTypes() throws Exception {
+        final Path directory = compile("Address", ADDRESS);
+        final String generated = read(directory, "example/AddressMapMaidDefinitions.java");
+        assertTrue(generated.contains(".withField(\"street\", example.Name.class, object -> object.street)"));
+        assertTrue(generated.contains(".withField(\"number\", int.class, object -> object.number)"));
+        assertTrue(generated.contains(".deserializedUsing(example.Address::deserialize)"));
+        assertTrue(generated.contains("example.Name::fromStringValue"));
+        assertFalse(generated.contains("builder.serializingAndDeserializing(example.Address.class)"));
+
+        try (URLClassLoader classLoader = classLoader(directory)) {
+            final Class<?> recipeType = classLoader.loadClass("example.AddressMapMaidDefinitions");
+            final Recipe recipe = (Recipe) recipeType.getMethod("addressMapMaidDefinitions").invoke(null);
+            final MapMaid mapMaid = aMapMaid()
+                    .usingRecipe(recipe)
+                    .build();
+            final Class<?> nameType = classLoader.loadClass("example.Name");
+            final Class<?> addressType = classLoader.loadClass("example.Address");
+            final Object street = nameType.getMethod("fromStringValue", String.class).invoke(null, "Main Street");
+            final Object address = addressType.getMethod("deserialize", nameType, int.class).invoke(null, street, 5);
+            final Object universal = mapMaid.serializeToUniversalObject(address, addressType);
+            final Object deserialized = mapMaid.deserializeFromUniversalObject(universal, addressType);
+            assertEquals(universal, mapMaid.serializeToUniversalObject(deserialized, addressType));
+        }
+    }
+
+    @Test
+    public void generatedDefinitionsDoNotRequireATypeScan() throws Exception {
+        final Path directory = compile("Address", ADDRESS);
+        try (URLClassLoader classLoader = classLoader(directory)) {
+            final Class<?> recipeType = classLoader.loadClass("example.AddressMapMaidDefinitions");
+            final Recipe recipe = (Recipe) recipeType.getMethod("addressMapMaidDefinitions").invoke(null);
+            final MapMaid mapMaid = aMapMaid()
+                    .usingRecipe(recipe)
+                    .build();
+            assertFalse(mapMaid.debugInformation().isAvailable());
+
+            final Class<?> addressType = classLoader.loadClass("example.Address");
+            final Map<String, Object> universal = Map.of("street", "Main Street", "number", 5L);
+            final Object address = mapMaid.deserializeFromUniversalObject(universal, addressType);
+            assertEquals(universal, mapMaid.serializeToUniversalObject(address, addressType));
+        }
+    }
+
+    @Test
+    public void typesThatCannotBeGeneratedAreLeftToRuntimeDetection() throws Exception {
+        final Path directory = compile("Person", PERSON);
+        final String generated = read(directory, "example/PersonMapMaidDefinitions.java");
+        assertTrue(generated.contains("builder.serializingAndDeserializing(example.Person.class);"));
+        assertFalse(generated.contains("genericType(example.Person.class)"));
+    }
+
+    private static Path compile(final String className, final String source) throws IOException {
+        final Path directory = Files.createTempDirectory("mapmaid-processor");
+        final Path sources = Files.createDirectories(directory.resolve("example"));
+        final Path name = Files.write(sources.resolve("Name.java"), NAME.getBytes(UTF_8));
+        final Path annotated = Files.write(sources.resolve(className + ".java"), source.getBytes(UTF_8));
+        final JavaCompiler compiler = getSystemJavaCompiler();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, UTF_8)) {
+            final List<String> options = List.of(
+                    "-classpath", System.getProperty("java.class.path"),
+                    "-d", directory.toString(),
+                    "-s", directory.toString()
+            );
+            final List<File> files = List.of(name.toFile(), annotated.toFile());
+            final JavaCompiler.CompilationTask task = compiler.getTask(
+                    null, fileManager, null, options, null, fileManager.getJavaFileObjectsFromFiles(files));
+            task.setProcessors(List.of(new DefinitionsProcessor()));
+            assertTrue(task.call(), "compilation failed");
+        }
+        return directory;
+    }
+
+    private static String read(final Path directory, final String file) throws IOException {
+        return new String(Files.readAllBytes(directory.resolve(file)), UTF_8);
+    }
+
+    private static URLClassLoader classLoader(final Path directory) throws IOException {
+        final URL url = directory.toUri().toURL();
+        return new URLClassLoader(new URL[]{url}, DefinitionsProcessorSpecs.class.getClassLoader());
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2020 Richard Hauswald - https://quantummaid.de/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package de.quantummaid.mapmaid.fastjson;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.Arrays;
+
+final class CharOutput extends JsonOutput {
+    private static final int BUFFER_SIZE = 8192;
+
+    private final Writer writer;
+    private char[] buffer = new char[BUFFER_SIZE];
+    private int position;
+
+    private CharOutput(final Writer writer) {
+        this.writer = writer;
+    }
+
+    static CharOutput charOutput() {
+        return new CharOutput(null);
+    }
+
+    static CharOutput charOutput(final Writer writer) {
+        return new CharOutput(writer);
+    }
+
+    @Override
+    void write(final char character) {
+        if (position == buffer.length) {
+            makeRoom(1);
+        }
+        buffer[position] = character;
+        position = position + 1;
+    }
+
+    @Override
+    void write(final String string, final int offset, final int length) {
+        if (position + length > buffer.length) {
+            makeRoom(length);
+        }
+        if (length > buffer.length) {
+            writeThrough(string, offset, length);
+            return;
+        }
+        string.getChars(offset, offset + length, buffer, position);
+        position = position + length;
+    }
+
+    @Override
+    void flush() {
+        if (writer == null || position == 0) {
+            return;
+        }
+        try {
+            writer.write(buffer, 0, position);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        position = 0;
+    }
+
+    @Override
+    public String toString() {
+        return new String(buffer, 0, position);
+    }
+
+    private void makeRoom(final int length) {
+        if (writer != null) {
+            flush();
+        } else {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + length));
+        }
+    }
+
+    private void writeThrough(final String string, final int offset, final int length) {
+        try {
+            writer.write(string, offset, length);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
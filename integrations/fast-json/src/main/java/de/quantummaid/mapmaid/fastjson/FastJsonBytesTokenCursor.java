@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2020 Richard Hauswald - https://quantummaid.de/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package de.quantummaid.mapmaid.fastjson;
+
+import static de.quantummaid.mapmaid.shared.validators.NotNullValidator.validateNotNull;
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+
+final class FastJsonBytesTokenCursor extends JsonCursor {
+    private static final char REPLACEMENT = '\uFFFD';
+
+    private final byte[] input;
+    private final int limit;
+    private int position;
+
+    private FastJsonBytesTokenCursor(final byte[] input) {
+        this.input = input;
+        this.limit = input.length;
+    }
+
+    static FastJsonBytesTokenCursor fastJsonBytesTokenCursor(final byte[] input) {
+        validateNotNull(input, "input");
+        final FastJsonBytesTokenCursor cursor = new FastJsonBytesTokenCursor(input);
+        cursor.advance();
+        return cursor;
+    }
+
+    @Override
+    String readString() {
+        final int start = position;
+        boolean ascii = true;
+        for (int index = start; index < limit; ++index) {
+            final byte current = input[index];
+            if (current == '"') {
+                position = index + 1;
+                if (ascii) {
+                    return new String(input, start, index - start, ISO_8859_1);
+                }
+                builder.setLength(0);
+                appendUtf8(start, index);
+                return builder.toString();
+            }
+            if (current == '\\' || current >= 0 && current < 0x20) {
+                break;
+            }
+            if (current < 0) {
+                ascii = false;
+            }
+        }
+        return readStringSlowly();
+    }
+
+    private String readStringSlowly() {
+        builder.setLength(0);
+        while (true) {
+            final int start = position;
+            while (position < limit) {
+                final byte current = input[position];
+                if (current == '"' || current == '\\' || current >= 0 && current < 0x20) {
+                    break;
+                }
+                position = position + 1;
+            }
+            appendUtf8(start, position);
+            final int current = read();
+            if (current == '"') {
+                return builder.toString();
+            } else if (current == '\\') {
+                readEscape();
+            } else if (current == END) {
+                throw error("Unexpected end of input");
+            } else {
+                throw error("Expected valid string character");
+            }
+        }
+    }
+
+    private void appendUtf8(final int start, final int end) {
+        int index = start;
+        while (index < end) {
+            final int first = input[index];
+            if (first >= 0) {
+                builder.append((char) first);
+                index = index + 1;
+                continue;
+            }
+            final int sequenceLength = sequenceLength(first);
+            final int codePoint = decode(index, sequenceLength, end);
+            if (codePoint < 0) {
+                builder.append(REPLACEMENT);
+                index = index + 1;
+            } else {
+                builder.appendCodePoint(codePoint);
+                index = index + sequenceLength;
+            }
+        }
+    }
+
+    private static int sequenceLength(final int first) {
+        if ((first & 0xe0) == 0xc0) {
+            return 2;
+        }
+        if ((first & 0xf0) == 0xe0) {
+            return 3;
+        }
+        if ((first & 0xf8) == 0xf0) {
+            return 4;
+        }
+        return 0;
+    }
+
+    private int decode(final int index, final int sequenceLength, final int end) {
+        if (sequenceLength == 0 || index + sequenceLength > end) {
+            return -1;
+        }
+        int codePoint = input[index] & (0x7f >> sequenceLength);
+        for (int i = 1; i < sequenceLength; ++i) {
+            final int continuation = input[index + i];
+            if ((continuation & 0xc0) != 0x80) {
+                return -1;
+            }
+            codePoint = codePoint << 6 | continuation & 0x3f;
+        }
+        if (codePoint < minimumFor(sequenceLength) || codePoint > Character.MAX_CODE_POINT
+                || codePoint >= Character.MIN_SURROGATE && codePoint <= Character.MAX_SURROGATE) {
+            return -1;
+        }
+        return codePoint;
+    }
+
+    private static int minimumFor(final int sequenceLength) {
+        if (sequenceLength == 2) {
+            return 0x80;
+        }
+        if (sequenceLength == 3) {
+            return 0x800;
+        }
+        return Character.MIN_SUPPLEMENTARY_CODE_POINT;
+    }
+
+    @Override
+    int peek() {
+        if (position >= limit) {
+            return END;
+        }
+        return input[position] & 0xff;
+    }
+
+    @Override
+    int read() {
+        if (position >= limit) {
+            return END;
+        }
+        final int current = input[position] & 0xff;
+        position = position + 1;
+        return current;
+    }
+
+    @Override
+    long offset() {
+        return position;
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) 2020 Richard Hauswald - https://quantummaid.de/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package de.quantummaid.mapmaid.fastjson;
+
+import de.quantummaid.mapmaid.mapper.marshalling.streaming.SerializationSink;
+
+final class FastJsonSink implements SerializationSink {
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    private final JsonOutput output;
+    private boolean needsSeparator;
+    private int depth;
+
+    private FastJsonSink(final JsonOutput output) {
+        this.output = output;
+    }
+
+    static FastJsonSink fastJsonSink(final JsonOutput output) {
+        return new FastJsonSink(output);
+    }
+
+    @Override
+    public void startObject() {
+        beforeValue();
+        output.write('{');
+        needsSeparator = false;
+        depth = depth + 1;
+    }
+
+    @Override
+    public void field(final String name) {
+        beforeValue();
+        writeString(name);
+        output.write(':');
+        needsSeparator = false;
+    }
+
+    @Override
+    public void endObject() {
+        output.write('}');
+        depth = depth - 1;
+        afterValue();
+    }
+
+    @Override
+    public void startArray() {
+        beforeValue();
+        output.write('[');
+        needsSeparator = false;
+        depth = depth + 1;
+    }
+
+    @Override
+    public void endArray() {
+        output.write(']');
+        depth = depth - 1;
+        afterValue();
+    }
+
+    @Override
+    public void stringValue(final String value) {
+        beforeValue();
+        writeString(value);
+        afterValue();
+    }
+
+    @Override
+    public void longValue(final long value) {
+        beforeValue();
+        output.write(Long.toString(value));
+        afterValue();
+    }
+
+    @Override
+    public void doubleValue(final double value) {
+        if (Double.isInfinite(value) || Double.isNaN(value)) {
+            throw new IllegalArgumentException("Infinite and NaN values not permitted in JSON");
+        }
+        beforeValue();
+        final String string = Double.toString(value);
+        if (string.endsWith(".0")) {
+            output.write(string, 0, string.length() - 2);
+        } else {
+            output.write(string);
+        }
+        afterValue();
+    }
+
+    @Override
+    public void booleanValue(final boolean value) {
+        beforeValue();
+        output.write(value ? "true" : "false");
+        afterValue();
+    }
+
+    @Override
+    public void nullValue() {
+        beforeValue();
+        output.write("null");
+        afterValue();
+    }
+
+    private void beforeValue() {
+        if (needsSeparator) {
+            output.write(',');
+        }
+    }
+
+    private void afterValue() {
+        if (depth == 0) {
+            needsSeparator = false;
+            output.flush();
+        } else {
+            needsSeparator = true;
+        }
+    }
+
+    private void writeString(final String string) {
+        output.write('"');
+        final int length = string.length();
+        int start = 0;
+        for (int index = 0; index < length; index++) {
+            final char character = string.charAt(index);
+            if (needsEscaping(character)) {
+                output.write(string, start, index - start);
+                writeEscaped(character);
+                start = index + 1;
+            }
+        }
+        output.write(string, start, length - start);
+        output.write('"');
+    }
+
+    private static boolean needsEscaping(final char character) {
+        if (character > '\\') {
+            return character == '\u2028' || character == '\u2029';
+        }
+        return character == '\\' || character == '"' || character < 0x20;
+    }
+
+    private void writeEscaped(final char character) {
+        output.write('\\');
+        if (character == '\\' || character == '"') {
+            output.write(character);
+        } else if (character == '\n') {
+            output.write('n');
+        } else if (character == '\r') {
+            output.write('r');
+        } else if (character == '\t') {
+            output.write('t');
+        } else {
+            output.write('u');
+            output.write(HEX_DIGITS[character >> 12 & 0x000f]);
+            output.write(HEX_DIGITS[character >> 8 & 0x000f]);
+            output.write(HEX_DIGITS[character >> 4 & 0x000f]);
+            output.write(HEX_DIGITS[character & 0x000f]);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2020 Richard Hauswald - https://quantummaid.de/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package de.quantummaid.mapmaid.fastjson;
+
+import de.quantummaid.mapmaid.mapper.marshalling.streaming.ResettableTokenCursor;
+import de.quantummaid.mapmaid.mapper.marshalling.streaming.StreamingUnmarshaller;
+import de.quantummaid.mapmaid.mapper.marshalling.streaming.TokenCursor;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.io.Reader;
+
+import static de.quantummaid.mapmaid.fastjson.FastJsonTokenCursor.fastJsonTokenCursor;
+import static de.quantummaid.mapmaid.fastjson.FastJsonTokenCursor.resettableFastJsonTokenCursor;
+
+@ToString
+@EqualsAndHashCode
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class FastJsonStreamingUnmarshaller implements StreamingUnmarshaller {
+
+    public static FastJsonStreamingUnmarshaller fastJsonStreamingUnmarshaller() {
+        return new FastJsonStreamingUnmarshaller();
+    }
+
+    @Override
+    public TokenCursor cursor(final Reader reader) {
+        return fastJsonTokenCursor(reader);
+    }
+
+    @Override
+    public ResettableTokenCursor resettableCursor() {
+        return resettableFastJsonTokenCursor();
+    }
+}
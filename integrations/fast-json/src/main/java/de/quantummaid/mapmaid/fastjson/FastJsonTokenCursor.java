@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2020 Richard Hauswald - https://quantummaid.de/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package de.quantummaid.mapmaid.fastjson;
+
+import de.quantummaid.mapmaid.mapper.marshalling.streaming.ResettableTokenCursor;
+
+import java.io.IOException;
+import java.io.Reader;
+
+import static de.quantummaid.mapmaid.mapper.deserialization.InternalUnmarshallingException.internalUnmarshallingException;
+import static de.quantummaid.mapmaid.shared.validators.NotNullValidator.validateNotNull;
+
+public final class FastJsonTokenCursor extends JsonCursor implements ResettableTokenCursor {
+    private static final int BUFFER_SIZE = 8192;
+
+    private Reader reader;
+    private char[] buffer = new char[BUFFER_SIZE];
+    private int position;
+    private int limit;
+    private long bufferOffset;
+
+    private FastJsonTokenCursor(final Reader reader) {
+        this.reader = reader;
+    }
+
+    public static FastJsonTokenCursor fastJsonTokenCursor(final Reader reader) {
+        validateNotNull(reader, "reader");
+        final FastJsonTokenCursor cursor = new FastJsonTokenCursor(reader);
+        cursor.advance();
+        return cursor;
+    }
+
+    public static FastJsonTokenCursor resettableFastJsonTokenCursor() {
+        return new FastJsonTokenCursor(null);
+    }
+
+    @Override
+    public void reset(final CharSequence input) {
+        validateNotNull(input, "input");
+        final int length = input.length();
+        if (buffer.length < length) {
+            buffer = new char[length];
+        }
+        input.toString().getChars(0, length, buffer, 0);
+        reader = null;
+        position = 0;
+        limit = length;
+        bufferOffset = 0;
+        resetState();
+        advance();
+    }
+
+    @Override
+    String readString() {
+        final int start = position;
+        int index = start;
+        while (index < limit) {
+            final char current = buffer[index];
+            if (current == '"') {
+                position = index + 1;
+                return new String(buffer, start, index - start);
+            }
+            if (current == '\\' || current < 0x20) {
+                break;
+            }
+            index = index + 1;
+        }
+        return readStringSlowly();
+    }
+
+    private String readStringSlowly() {
+        builder.setLength(0);
+        while (true) {
+            if (position >= limit && !fill()) {
+                throw error("Unexpected end of input");
+            }
+            final int start = position;
+            while (position < limit) {
+                final char current = buffer[position];
+                if (current == '"' || current == '\\' || current < 0x20) {
+                    break;
+                }
+                position = position + 1;
+            }
+            builder.append(buffer, start, position - start);
+            if (position < limit) {
+                final int current = read();
+                if (current == '"') {
+                    return builder.toString();
+                } else if (current == '\\') {
+                    readEscape();
+                } else {
+                    throw error("Expected valid string character");
+                }
+            }
+        }
+    }
+
+    @Override
+    int peek() {
+        if (position >= limit && !fill()) {
+            return END;
+        }
+        return buffer[position];
+    }
+
+    @Override
+    int read() {
+        if (position >= limit && !fill()) {
+            return END;
+        }
+        final char current = buffer[position];
+        position = position + 1;
+        return current;
+    }
+
+    @Override
+    long offset() {
+        return bufferOffset + position;
+    }
+
+    private boolean fill() {
+        if (reader == null) {
+            return false;
+        }
+        final int read;
+        try {
+            read = reader.read(buffer, 0, buffer.length);
+        } catch (final IOException e) {
+            throw internalUnmarshallingException(offsetDescription(), e);
+        }
+        if (read <= 0) {
+            return false;
+        }
+        bufferOffset = bufferOffset + limit;
+        position = 0;
+        limit = read;
+        return true;
+    }
+}
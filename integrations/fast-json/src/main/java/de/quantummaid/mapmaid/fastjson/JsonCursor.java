@@ -0,0 +1,338 @@
+/*
+ * Copyright (c) 2020 Richard Hauswald - https://quantummaid.de/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package de.quantummaid.mapmaid.fastjson;
+
+import de.quantummaid.mapmaid.mapper.deserialization.InternalUnmarshallingException;
+import de.quantummaid.mapmaid.mapper.marshalling.streaming.JsonNumberParser;
+import de.quantummaid.mapmaid.mapper.marshalling.streaming.Token;
+import de.quantummaid.mapmaid.mapper.marshalling.streaming.TokenCursor;
+
+import java.util.Arrays;
+
+import static de.quantummaid.mapmaid.mapper.deserialization.InternalUnmarshallingException.internalUnmarshallingException;
+import static de.quantummaid.mapmaid.mapper.marshalling.streaming.JsonNumberParser.jsonNumberParser;
+import static de.quantummaid.mapmaid.mapper.marshalling.streaming.Token.*;
+import static java.lang.String.format;
+
+@SuppressWarnings("java:S1448")
+abstract class JsonCursor implements TokenCursor {
+    static final int END = -1;
+    private static final int MAX_EXACT_LONG_DIGITS = 18;
+
+    private static final int VALUE = 0;
+    private static final int VALUE_OR_END_ARRAY = 1;
+    private static final int FIELD_OR_END_OBJECT = 2;
+    private static final int AFTER_VALUE = 3;
+
+    final StringBuilder builder = new StringBuilder();
+    private final JsonNumberParser numberParser = jsonNumberParser();
+
+    private boolean[] objectStack = new boolean[16];
+    private int depth;
+    private int state = VALUE;
+
+    private Token token;
+    private String stringValue;
+    private long longValue;
+    private double doubleValue;
+    private boolean booleanValue;
+
+    abstract int read();
+
+    abstract int peek();
+
+    abstract String readString();
+
+    abstract long offset();
+
+    void resetState() {
+        depth = 0;
+        state = VALUE;
+    }
+
+    @Override
+    public Token currentToken() {
+        return token;
+    }
+
+    @Override
+    public void advance() {
+        final int next = nextNonWhitespace();
+        if (state == VALUE) {
+            readValue(next);
+        } else if (state == VALUE_OR_END_ARRAY) {
+            if (next == ']') {
+                closeContainer(END_ARRAY);
+            } else {
+                readValue(next);
+            }
+        } else if (state == FIELD_OR_END_OBJECT) {
+            if (next == '}') {
+                closeContainer(END_OBJECT);
+            } else {
+                readFieldName(next);
+            }
+        } else {
+            afterValue(next);
+        }
+    }
+
+    @Override
+    public String stringValue() {
+        return stringValue;
+    }
+
+    @Override
+    public long longValue() {
+        return longValue;
+    }
+
+    @Override
+    public double doubleValue() {
+        return doubleValue;
+    }
+
+    @Override
+    public boolean booleanValue() {
+        return booleanValue;
+    }
+
+    private void afterValue(final int next) {
+        if (depth == 0) {
+            if (next != END) {
+                throw error("Unexpected character after end of input");
+            }
+            token = END_OF_INPUT;
+            return;
+        }
+        final boolean inObject = objectStack[depth - 1];
+        if (next == ',') {
+            final int afterComma = nextNonWhitespace();
+            if (inObject) {
+                readFieldName(afterComma);
+            } else {
+                readValue(afterComma);
+            }
+        } else if (next == '}' && inObject) {
+            closeContainer(END_OBJECT);
+        } else if (next == ']' && !inObject) {
+            closeContainer(END_ARRAY);
+        } else {
+            throw error(inObject ? "Expected ',' or '}'" : "Expected ',' or ']'");
+        }
+    }
+
+    private void readFieldName(final int next) {
+        if (next != '"') {
+            throw error("Expected name");
+        }
+        stringValue = readString();
+        if (nextNonWhitespace() != ':') {
+            throw error("Expected ':'");
+        }
+        token = FIELD_NAME;
+        state = VALUE;
+    }
+
+    private void readValue(final int next) {
+        if (next == '{') {
+            openContainer(true);
+            token = START_OBJECT;
+            state = FIELD_OR_END_OBJECT;
+            return;
+        }
+        if (next == '[') {
+            openContainer(false);
+            token = START_ARRAY;
+            state = VALUE_OR_END_ARRAY;
+            return;
+        }
+        if (next == '"') {
+            stringValue = readString();
+            token = STRING;
+        } else if (next == 't') {
+            readLiteralRest("rue");
+            booleanValue = true;
+            token = BOOLEAN;
+        } else if (next == 'f') {
+            readLiteralRest("alse");
+            booleanValue = false;
+            token = BOOLEAN;
+        } else if (next == 'n') {
+            readLiteralRest("ull");
+            token = NULL;
+        } else if (next == '-' || isDigit(next)) {
+            readNumber(next);
+        } else if (next == END) {
+            throw error("Unexpected end of input");
+        } else {
+            throw error("Expected value");
+        }
+        state = AFTER_VALUE;
+    }
+
+    private void openContainer(final boolean isObject) {
+        if (depth == objectStack.length) {
+            objectStack = Arrays.copyOf(objectStack, depth * 2);
+        }
+        objectStack[depth] = isObject;
+        depth = depth + 1;
+    }
+
+    private void closeContainer(final Token closingToken) {
+        depth = depth - 1;
+        token = closingToken;
+        state = AFTER_VALUE;
+    }
+
+    private void readLiteralRest(final String rest) {
+        for (int i = 0; i < rest.length(); ++i) {
+            if (read() != rest.charAt(i)) {
+                throw error(format("Expected '%s'", rest.charAt(i)));
+            }
+        }
+    }
+
+    private void readNumber(final int first) {
+        builder.setLength(0);
+        builder.append((char) first);
+        final boolean negative = first == '-';
+        int leading = first;
+        if (negative) {
+            leading = readRequiredDigit();
+        }
+        long significand = leading - '0';
+        int digits = 1;
+        if (leading != '0') {
+            while (isDigit(peek())) {
+                final int digit = read();
+                builder.append((char) digit);
+                significand = significand * 10 + (digit - '0');
+                digits = digits + 1;
+            }
+        }
+        final int afterInteger = peek();
+        if (afterInteger != '.' && afterInteger != 'e' && afterInteger != 'E' && digits <= MAX_EXACT_LONG_DIGITS) {
+            longValue = negative ? -significand : significand;
+            token = LONG;
+            return;
+        }
+        if (afterInteger == '.') {
+            builder.append((char) read());
+            readRequiredDigit();
+            readDigits();
+        }
+        final int exponent = peek();
+        if (exponent == 'e' || exponent == 'E') {
+            builder.append((char) read());
+            final int sign = peek();
+            if (sign == '+' || sign == '-') {
+                builder.append((char) read());
+            }
+            readRequiredDigit();
+            readDigits();
+        }
+        if (numberParser.parse(builder)) {
+            longValue = numberParser.longValue();
+            token = LONG;
+        } else {
+            doubleValue = numberParser.doubleValue();
+            token = DOUBLE;
+        }
+    }
+
+    private int readRequiredDigit() {
+        final int digit = read();
+        if (!isDigit(digit)) {
+            throw error("Expected digit");
+        }
+        builder.append((char) digit);
+        return digit;
+    }
+
+    private void readDigits() {
+        while (isDigit(peek())) {
+            builder.append((char) read());
+        }
+    }
+
+    void readEscape() {
+        final int escaped = read();
+        switch (escaped) {
+            case '"':
+            case '/':
+            case '\\':
+                builder.append((char) escaped);
+                break;
+            case 'b':
+                builder.append('\b');
+                break;
+            case 'f':
+                builder.append('\f');
+                break;
+            case 'n':
+                builder.append('\n');
+                break;
+            case 'r':
+                builder.append('\r');
+                break;
+            case 't':
+                builder.append('\t');
+                break;
+            case 'u':
+                int value = 0;
+                for (int i = 0; i < 4; ++i) {
+                    final int digit = Character.digit(read(), 16);
+                    if (digit < 0) {
+                        throw error("Expected hexadecimal digit");
+                    }
+                    value = value * 16 + digit;
+                }
+                builder.append((char) value);
+                break;
+            default:
+                throw error("Expected valid escape sequence");
+        }
+    }
+
+    private int nextNonWhitespace() {
+        while (true) {
+            final int current = read();
+            if (current != ' ' && current != '\t' && current != '\n' && current != '\r') {
+                return current;
+            }
+        }
+    }
+
+    private static boolean isDigit(final int character) {
+        return character >= '0' && character <= '9';
+    }
+
+    InternalUnmarshallingException error(final String message) {
+        final String fullMessage = format("%s at offset %d", message, offset());
+        return internalUnmarshallingException(offsetDescription(), new IllegalArgumentException(fullMessage));
+    }
+
+    String offsetDescription() {
+        return format("json input at offset %d", offset());
+    }
+}
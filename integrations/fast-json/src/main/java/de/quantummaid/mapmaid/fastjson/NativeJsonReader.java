@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2020 Richard Hauswald - https://quantummaid.de/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package de.quantummaid.mapmaid.fastjson;
+
+import de.quantummaid.mapmaid.mapper.marshalling.streaming.Token;
+import de.quantummaid.mapmaid.mapper.marshalling.streaming.TokenCursor;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static de.quantummaid.mapmaid.debug.MapMaidException.mapMaidException;
+import static de.quantummaid.mapmaid.mapper.marshalling.streaming.Token.*;
+import static java.lang.String.format;
+
+final class NativeJsonReader {
+
+    private NativeJsonReader() {
+    }
+
+    static Object readDocument(final TokenCursor cursor) {
+        final Object value = readNative(cursor);
+        if (cursor.currentToken() != END_OF_INPUT) {
+            throw unexpectedToken(cursor.currentToken());
+        }
+        return value;
+    }
+
+    private static Object readNative(final TokenCursor cursor) {
+        final Token token = cursor.currentToken();
+        final Object value;
+        if (token == START_OBJECT) {
+            return readObject(cursor);
+        } else if (token == START_ARRAY) {
+            return readArray(cursor);
+        } else if (token == STRING) {
+            value = cursor.stringValue();
+        } else if (token == LONG) {
+            value = cursor.longValue();
+        } else if (token == DOUBLE) {
+            value = cursor.doubleValue();
+        } else if (token == BOOLEAN) {
+            value = cursor.booleanValue();
+        } else if (token == NULL) {
+            value = null;
+        } else {
+            throw unexpectedToken(token);
+        }
+        cursor.advance();
+        return value;
+    }
+
+    private static Map<String, Object> readObject(final TokenCursor cursor) {
+        cursor.advance();
+        final Map<String, Object> map = new LinkedHashMap<>();
+        while (cursor.currentToken() == FIELD_NAME) {
+            final String name = cursor.stringValue();
+            cursor.advance();
+            map.put(name, readNative(cursor));
+        }
+        cursor.advance();
+        return map;
+    }
+
+    private static List<Object> readArray(final TokenCursor cursor) {
+        cursor.advance();
+        final List<Object> list = new ArrayList<>();
+        while (cursor.currentToken() != END_ARRAY) {
+            list.add(readNative(cursor));
+        }
+        cursor.advance();
+        return list;
+    }
+
+    private static RuntimeException unexpectedToken(final Token token) {
+        return mapMaidException(format("Unexpected %s in input", token.describe()));
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2020 Richard Hauswald - https://quantummaid.de/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package de.quantummaid.mapmaid.fastjson;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+
+final class Utf8Output extends JsonOutput {
+    private static final int INITIAL_SIZE = 1024;
+    private static final int STREAMING_SIZE = 8192;
+    private static final int MAX_BYTES_PER_CHAR = 3;
+    private static final int MAX_BYTES_PER_CODE_POINT = 4;
+
+    private final OutputStream outputStream;
+    private byte[] buffer;
+    private int position;
+
+    private Utf8Output(final OutputStream outputStream, final int size) {
+        this.outputStream = outputStream;
+        this.buffer = new byte[size];
+    }
+
+    static Utf8Output utf8Output() {
+        return new Utf8Output(null, INITIAL_SIZE);
+    }
+
+    static Utf8Output utf8Output(final OutputStream outputStream) {
+        return new Utf8Output(outputStream, STREAMING_SIZE);
+    }
+
+    @Override
+    void write(final char character) {
+        ensureCapacity(MAX_BYTES_PER_CHAR);
+        if (character < 0x80) {
+            buffer[position] = (byte) character;
+            position = position + 1;
+        } else {
+            encode(character);
+        }
+    }
+
+    @Override
+    void write(final String string, final int offset, final int length) {
+        final int end = offset + length;
+        int index = offset;
+        while (index < end) {
+            ensureCapacity(MAX_BYTES_PER_CODE_POINT);
+            final byte[] bytes = buffer;
+            final int asciiEnd = Math.min(end, index + bytes.length - position);
+            int target = position;
+            while (index < asciiEnd) {
+                final char character = string.charAt(index);
+                if (character >= 0x80) {
+                    break;
+                }
+                bytes[target] = (byte) character;
+                target = target + 1;
+                index = index + 1;
+            }
+            position = target;
+            if (index < asciiEnd) {
+                ensureCapacity(MAX_BYTES_PER_CODE_POINT);
+                final char character = string.charAt(index);
+                if (Character.isHighSurrogate(character) && index + 1 < end
+                        && Character.isLowSurrogate(string.charAt(index + 1))) {
+                    encodeCodePoint(Character.toCodePoint(character, string.charAt(index + 1)));
+                    index = index + 2;
+                } else {
+                    encode(character);
+                    index = index + 1;
+                }
+            }
+        }
+    }
+
+    @Override
+    void flush() {
+        if (outputStream == null || position == 0) {
+            return;
+        }
+        try {
+            outputStream.write(buffer, 0, position);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        position = 0;
+    }
+
+    byte[] toByteArray() {
+        return Arrays.copyOf(buffer, position);
+    }
+
+    private void encode(final char character) {
+        if (character < 0x800) {
+            buffer[position] = (byte) (0xc0 | character >> 6);
+            buffer[position + 1] = (byte) (0x80 | character & 0x3f);
+            position = position + 2;
+        } else if (Character.isSurrogate(character)) {
+            buffer[position] = '?';
+            position = position + 1;
+        } else {
+            buffer[position] = (byte) (0xe0 | character >> 12);
+            buffer[position + 1] = (byte) (0x80 | character >> 6 & 0x3f);
+            buffer[position + 2] = (byte) (0x80 | character & 0x3f);
+            position = position + 3;
+        }
+    }
+
+    private void encodeCodePoint(final int codePoint) {
+        buffer[position] = (byte) (0xf0 | codePoint >> 18);
+        buffer[position + 1] = (byte) (0x80 | codePoint >> 12 & 0x3f);
+        buffer[position + 2] = (byte) (0x80 | codePoint >> 6 & 0x3f);
+        buffer[position + 3] = (byte) (0x80 | codePoint & 0x3f);
+        position = position + 4;
+    }
+
+    private void ensureCapacity(final int length) {
+        if (position + length <= buffer.length) {
+            return;
+        }
+        flush();
+        final int required = position + length;
+        if (required > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, required));
+        }
+    }
+}
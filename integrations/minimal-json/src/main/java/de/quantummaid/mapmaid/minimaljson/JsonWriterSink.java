@@ -0,0 +1,215 @@
+/*
+ * Copyright (c) 2020 Richard Hauswald - https://quantummaid.de/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package de.quantummaid.mapmaid.minimaljson;
+
+import de.quantummaid.mapmaid.mapper.marshalling.streaming.SerializationSink;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+
+import static de.quantummaid.mapmaid.shared.validators.NotNullValidator.validateNotNull;
+
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class JsonWriterSink implements SerializationSink {
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    private final Writer writer;
+    private boolean needsSeparator;
+    private int depth;
+
+    public static JsonWriterSink jsonWriterSink(final Writer writer) {
+        validateNotNull(writer, "writer");
+        return new JsonWriterSink(writer);
+    }
+
+    @Override
+    public void startObject() {
+        beforeValue();
+        write('{');
+        needsSeparator = false;
+        depth = depth + 1;
+    }
+
+    @Override
+    public void field(final String name) {
+        beforeValue();
+        writeString(name);
+        write(':');
+        needsSeparator = false;
+    }
+
+    @Override
+    public void endObject() {
+        write('}');
+        depth = depth - 1;
+        afterValue();
+    }
+
+    @Override
+    public void startArray() {
+        beforeValue();
+        write('[');
+        needsSeparator = false;
+        depth = depth + 1;
+    }
+
+    @Override
+    public void endArray() {
+        write(']');
+        depth = depth - 1;
+        afterValue();
+    }
+
+    @Override
+    public void stringValue(final String value) {
+        beforeValue();
+        writeString(value);
+        afterValue();
+    }
+
+    @Override
+    public void longValue(final long value) {
+        beforeValue();
+        write(Long.toString(value));
+        afterValue();
+    }
+
+    @Override
+    public void doubleValue(final double value) {
+        if (Double.isInfinite(value) || Double.isNaN(value)) {
+            throw new IllegalArgumentException("Infinite and NaN values not permitted in JSON");
+        }
+        beforeValue();
+        write(cutOffPointZero(Double.toString(value)));
+        afterValue();
+    }
+
+    @Override
+    public void booleanValue(final boolean value) {
+        beforeValue();
+        write(value ? "true" : "false");
+        afterValue();
+    }
+
+    @Override
+    public void nullValue() {
+        beforeValue();
+        write("null");
+        afterValue();
+    }
+
+    private void beforeValue() {
+        if (needsSeparator) {
+            write(',');
+        }
+    }
+
+    private void afterValue() {
+        needsSeparator = depth > 0;
+    }
+
+    private void writeString(final String string) {
+        write('"');
+        final int length = string.length();
+        int start = 0;
+        for (int index = 0; index < length; index++) {
+            final char character = string.charAt(index);
+            final String replacement = replacementFor(character);
+            if (replacement != null) {
+                write(string, start, index - start);
+                write(replacement);
+                start = index + 1;
+            }
+        }
+        write(string, start, length - start);
+        write('"');
+    }
+
+    @SuppressWarnings("java:S3776")
+    private static String replacementFor(final char character) {
+        if (character > '\\') {
+            if (character == '\u2028') {
+                return "\\u2028";
+            }
+            if (character == '\u2029') {
+                return "\\u2029";
+            }
+            return null;
+        }
+        if (character == '\\') {
+            return "\\\\";
+        }
+        if (character > '"') {
+            return null;
+        }
+        if (character == '"') {
+            return "\\\"";
+        }
+        if (character > 0x1f) {
+            return null;
+        }
+        if (character == '\n') {
+            return "\\n";
+        }
+        if (character == '\r') {
+            return "\\r";
+        }
+        if (character == '\t') {
+            return "\\t";
+        }
+        return new String(new char[]{'\\', 'u', '0', '0', HEX_DIGITS[character >> 4 & 0x000f], HEX_DIGITS[character & 0x000f]});
+    }
+
+    private static String cutOffPointZero(final String string) {
+        if (string.endsWith(".0")) {
+            return string.substring(0, string.length() - 2);
+        }
+        return string;
+    }
+
+    private void write(final char character) {
+        try {
+            writer.write(character);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void write(final String string) {
+        try {
+            writer.write(string);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void write(final String string, final int offset, final int length) {
+        try {
+            writer.write(string, offset, length);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -25,6 +25,10 @@ import de.quantummaid.mapmaid.builder.MarshallerAndUnmarshaller;
 import de.quantummaid.mapmaid.mapper.marshalling.Marshaller;
 import de.quantummaid.mapmaid.mapper.marshalling.MarshallingType;
 import de.quantummaid.mapmaid.mapper.marshalling.Unmarshaller;
+import de.quantummaid.mapmaid.mapper.marshalling.streaming.StreamingMarshaller;
+import de.quantummaid.mapmaid.mapper.marshalling.streaming.StreamingUnmarshaller;
+
+import java.util.Optional;
 
 public class MinimalJsonMarshallerAndUnmarshaller implements MarshallerAndUnmarshaller<String> {
     public static MinimalJsonMarshallerAndUnmarshaller minimalJsonMarshallerAndUnmarshaller() {
@@ -45,4 +49,14 @@ public class MinimalJsonMarshallerAndUnmarshaller implements MarshallerAndUnmars
     public Unmarshaller<String> unmarshaller() {
         return MinimalJsonUnmarshaller.minimalJsonUnmarshaller();
     }
+
+    @Override
+    public Optional<StreamingMarshaller> streamingMarshaller() {
+        return Optional.of(MinimalJsonStreamingMarshaller.minimalJsonStreamingMarshaller());
+    }
+
+    @Override
+    public Optional<StreamingUnmarshaller> streamingUnmarshaller() {
+        return Optional.of(MinimalJsonStreamingUnmarshaller.minimalJsonStreamingUnmarshaller());
+    }
 }
@@ -25,18 +25,20 @@ import com.eclipsesource.json.Json;
 import com.eclipsesource.json.JsonObject;
 import com.eclipsesource.json.JsonValue;
 import com.eclipsesource.json.WriterConfig;
+import de.quantummaid.mapmaid.mapper.marshalling.streaming.JsonNumberParser;
 import de.quantummaid.mapmaid.mapper.marshalling.string.StringUnmarshaller;
 import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 
-import java.math.BigDecimal;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
+import static de.quantummaid.mapmaid.mapper.marshalling.streaming.JsonNumberParser.jsonNumberParser;
+
 @ToString
 @EqualsAndHashCode
 @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
@@ -83,19 +85,15 @@ public final class MinimalJsonUnmarshaller implements StringUnmarshaller {
     }
 
     private Object unmarshalNumber(final JsonValue json) {
-        final BigDecimal number = new BigDecimal(json.toString());
-        if (asIntegerValue(number)) {
-            return number.longValue();
+        final JsonNumberParser parser = jsonNumberParser();
+        if (parser.parse(json.toString())) {
+            return parser.longValue();
         } else {
-            return number.doubleValue();
+            return parser.doubleValue();
         }
     }
 
     private Object unmarshalNull() {
         return null;
     }
-
-    private boolean asIntegerValue(final BigDecimal bd) {
-        return bd.stripTrailingZeros().scale() <= 0;
-    }
 }
@@ -36,10 +36,10 @@ import static org.hamcrest.MatcherAssert.assertThat;
 public final class ObjectMapperConventionalBuilderTest {
 
     public static final String EMAIL_JSON = "{" +
-            "\"receiver\":\"receiver@example.com\"," +
-            "\"body\":\"Hello World!!!\"," +
             "\"sender\":\"sender@example.com\"," +
-            "\"subject\":\"Hello\"" +
+            "\"receiver\":\"receiver@example.com\"," +
+            "\"subject\":\"Hello\"," +
+            "\"body\":\"Hello World!!!\"" +
             "}";
     public static final Email EMAIL = Email.deserialize(
             EmailAddress.fromStringValue("sender@example.com"),
@@ -30,7 +30,7 @@ import de.quantummaid.mapmaid.builder.models.conventional.EmailAddress;
 import de.quantummaid.mapmaid.builder.models.conventional.Subject;
 import org.junit.jupiter.api.Test;
 
-import java.util.Map;
+import java.util.LinkedHashMap;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -38,22 +38,22 @@ import static org.hamcrest.MatcherAssert.assertThat;
 public final class XmlBuilderTest {
 
     public static final String EMAIL_XML = "<root>\n" +
-            "  <entry>\n" +
-            "    <string>receiver</string>\n" +
-            "    <string>receiver@example.com</string>\n" +
-            "  </entry>\n" +
-            "  <entry>\n" +
-            "    <string>body</string>\n" +
-            "    <string>Hello World!!!</string>\n" +
-            "  </entry>\n" +
             "  <entry>\n" +
             "    <string>sender</string>\n" +
             "    <string>sender@example.com</string>\n" +
             "  </entry>\n" +
             "  <entry>\n" +
+            "    <string>receiver</string>\n" +
+            "    <string>receiver@example.com</string>\n" +
+            "  </entry>\n" +
+            "  <entry>\n" +
             "    <string>subject</string>\n" +
             "    <string>Hello</string>\n" +
             "  </entry>\n" +
+            "  <entry>\n" +
+            "    <string>body</string>\n" +
+            "    <string>Hello World!!!</string>\n" +
+            "  </entry>\n" +
             "</root>";
     public static final Email EMAIL = Email.deserialize(
             EmailAddress.fromStringValue("sender@example.com"),
@@ -64,7 +64,7 @@ public final class XmlBuilderTest {
 
     public static MapMaid theXmlMapMaidInstance() {
         final XStream xStream = new XStream(new DomDriver());
-        xStream.alias("root", Map.class);
+        xStream.alias("root", LinkedHashMap.class);
 
         return MapMaid.aMapMaid()
                 .serializingAndDeserializing(Email.class)
@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2020 Richard Hauswald - https://quantummaid.de/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package de.quantummaid.mapmaid.specs;
+
+import de.quantummaid.mapmaid.MapMaid;
+import de.quantummaid.mapmaid.debug.MapMaidException;
+import de.quantummaid.mapmaid.domain.AComplexTypeWithArray;
+import de.quantummaid.mapmaid.domain.exceptions.AnException;
+import de.quantummaid.mapmaid.mapper.deserialization.validation.AggregatedValidationException;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static de.quantummaid.mapmaid.MapMaid.aMapMaid;
+import static de.quantummaid.mapmaid.domain.Instances.theFullyInitializedExampleDtoWithCollections;
+import static de.quantummaid.mapmaid.mapper.marshalling.MarshallingType.JSON;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Arrays.asList;
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class BatchSpecs {
+    private static final String BATCH_JSON = "[{\"array\":[\"1\",\"2\"]},null,{\"array\":[\"1\",\"2\"]}]";
+
+    @Test
+    public void batchesCanBeSerialized() {
+        final MapMaid mapMaid = aMapMaid()
+                .serializingAndDeserializing(AComplexTypeWithArray.class)
+                .build();
+        final AComplexTypeWithArray element = (AComplexTypeWithArray) theFullyInitializedExampleDtoWithCollections();
+        final String json = mapMaid.serializeBatch(asList(element, null, element), AComplexTypeWithArray.class, JSON);
+        assertThat(json, is(BATCH_JSON));
+    }
+
+    @Test
+    public void batchesCanBeSerializedToAWriter() {
+        final MapMaid mapMaid = aMapMaid()
+                .serializingAndDeserializing(AComplexTypeWithArray.class)
+                .build();
+        final AComplexTypeWithArray element = (AComplexTypeWithArray) theFullyInitializedExampleDtoWithCollections();
+        final StringWriter writer = new StringWriter();
+        mapMaid.serializeBatchTo(asList(element, null, element).stream(), AComplexTypeWithArray.class, writer, JSON);
+        assertThat(writer.toString(), is(BATCH_JSON));
+    }
+
+    @Test
+    public void batchesCanBeSerializedToAnOutputStream() {
+        final MapMaid mapMaid = aMapMaid()
+                .serializingAndDeserializing(AComplexTypeWithArray.class)
+                .build();
+        final AComplexTypeWithArray element = (AComplexTypeWithArray) theFullyInitializedExampleDtoWithCollections();
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        mapMaid.serializeBatchTo(Stream.of(element, element), AComplexTypeWithArray.class, outputStream, JSON);
+        assertThat(outputStream.toString(UTF_8), is("[{\"array\":[\"1\",\"2\"]},{\"array\":[\"1\",\"2\"]}]"));
+    }
+
+    @Test
+    public void batchesCanBeDeserialized() {
+        final MapMaid mapMaid = aMapMaid()
+                .serializingAndDeserializing(AComplexTypeWithArray.class)
+                .build();
+        final List<AComplexTypeWithArray> batch = mapMaid.deserializeBatch(BATCH_JSON, AComplexTypeWithArray.class, JSON);
+        final AComplexTypeWithArray element = (AComplexTypeWithArray) theFullyInitializedExampleDtoWithCollections();
+        assertThat(batch, is(asList(element, null, element)));
+    }
+
+    @Test
+    public void batchesCanBeDeserializedLazily() {
+        final MapMaid mapMaid = aMapMaid()
+                .serializingAndDeserializing(AComplexTypeWithArray.class)
+                .build();
+        final Iterator<AComplexTypeWithArray> batch = mapMaid.deserializeBatchFrom(
+                new StringReader(BATCH_JSON + " ["), AComplexTypeWithArray.class, JSON).iterator();
+        final AComplexTypeWithArray element = (AComplexTypeWithArray) theFullyInitializedExampleDtoWithCollections();
+        assertThat(batch.next(), is(element));
+        assertThat(batch.next(), is(nullValue()));
+        assertThat(batch.next(), is(element));
+        assertThrows(MapMaidException.class, batch::hasNext);
+    }
+
+    @Test
+    public void batchesCanBeDeserializedFromAnInputStream() {
+        final MapMaid mapMaid = aMapMaid()
+                .serializingAndDeserializing(AComplexTypeWithArray.class)
+                .build();
+        final List<AComplexTypeWithArray> batch = mapMaid.deserializeBatchFrom(
+                new ByteArrayInputStream(BATCH_JSON.getBytes(UTF_8)), AComplexTypeWithArray.class, JSON)
+                .collect(toList());
+        final AComplexTypeWithArray element = (AComplexTypeWithArray) theFullyInitializedExampleDtoWithCollections();
+        assertThat(batch, is(asList(element, null, element)));
+    }
+
+    @Test
+    public void closingADeserializedBatchClosesItsInput() {
+        final MapMaid mapMaid = aMapMaid()
+                .serializingAndDeserializing(AComplexTypeWithArray.class)
+                .build();
+        final StringReader reader = new StringReader(BATCH_JSON);
+        final Stream<AComplexTypeWithArray> batch = mapMaid.deserializeBatchFrom(reader, AComplexTypeWithArray.class, JSON);
+        batch.close();
+        assertThrows(IOException.class, reader::read);
+    }
+
+    @Test
+    public void batchDeserializationRejectsInputThatIsNotACollection() {
+        final MapMaid mapMaid = aMapMaid()
+                .serializingAndDeserializing(AComplexTypeWithArray.class)
+                .build();
+        assertThrows(MapMaidException.class, () -> mapMaid.deserializeBatch("{\"array\":[]}", AComplexTypeWithArray.class, JSON));
+        assertThrows(MapMaidException.class, () -> mapMaid.deserializeBatchFrom(new StringReader("{\"array\":[]}"), AComplexTypeWithArray.class, JSON));
+    }
+
+    @Test
+    public void validationErrorsAreReportedPerElement() {
+        final MapMaid mapMaid = aMapMaid()
+                .serializingAndDeserializing(AComplexTypeWithArray.class)
+                .withExceptionIndicatingValidationError(AnException.class)
+                .build();
+        final Iterator<AComplexTypeWithArray> batch = mapMaid.deserializeBatchFrom(
+                new StringReader("[{\"array\":[\"1\"]},{\"array\":[\"1\",\"51\"]}]"), AComplexTypeWithArray.class, JSON).iterator();
+        assertThat(batch.next(), is(notNullValue()));
+        final AggregatedValidationException exception = assertThrows(AggregatedValidationException.class, batch::next);
+        final List<String> paths = exception.getValidationErrors().stream()
+                .map(validationError -> validationError.propertyPath)
+                .collect(toList());
+        assertThat(paths, contains("array.[1]"));
+    }
+}
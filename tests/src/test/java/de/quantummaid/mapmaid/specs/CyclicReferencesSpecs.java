@@ -21,12 +21,18 @@
 
 package de.quantummaid.mapmaid.specs;
 
+import de.quantummaid.mapmaid.MapMaid;
 import de.quantummaid.mapmaid.domain.*;
+import de.quantummaid.mapmaid.mapper.definitions.Definition;
+import de.quantummaid.mapmaid.mapper.definitions.Definitions;
 import de.quantummaid.mapmaid.mapper.marshalling.MarshallingType;
 import org.junit.jupiter.api.Test;
 
 import static de.quantummaid.mapmaid.MapMaid.aMapMaid;
 import static de.quantummaid.mapmaid.testsupport.givenwhenthen.Given.given;
+import static de.quantummaid.reflectmaid.typescanner.TypeIdentifier.typeIdentifierFor;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
 
 public final class CyclicReferencesSpecs {
 
@@ -47,6 +53,57 @@ public final class CyclicReferencesSpecs {
                         "of type de.quantummaid.mapmaid.domain.ACyclicType");
     }
 
+    @Test
+    public void givenCyclicType_whenSerializingWithCycleTrackingForAllTypes_thenThrowsError() {
+        final ACyclicType given1 = ACyclicType.deserialize(AString.fromStringValue("a"), null);
+        final ACyclicType given2 = ACyclicType.deserialize(AString.fromStringValue("b"), null);
+        given1.aCyclicType = given2;
+        given2.aCyclicType = given1;
+
+        given(
+                aMapMaid()
+                        .serializingAndDeserializing(ACyclicType.class)
+                        .withAdvancedSettings(advancedBuilder -> advancedBuilder.trackingCyclesForAllTypes())
+                        .build()
+        )
+                .when().mapMaidSerializes(given1).withMarshallingType(MarshallingType.JSON)
+                .anExceptionIsThrownWithAMessageContaining("a circular reference has been detected for objects " +
+                        "of type de.quantummaid.mapmaid.domain.ACyclicType");
+    }
+
+    @Test
+    public void givenDeepCyclicType_whenSerializing_thenThrowsError() {
+        final ACyclicType first = ACyclicType.deserialize(AString.fromStringValue("0"), null);
+        ACyclicType last = first;
+        for (int i = 1; i < 100; ++i) {
+            final ACyclicType next = ACyclicType.deserialize(AString.fromStringValue(String.valueOf(i)), null);
+            last.aCyclicType = next;
+            last = next;
+        }
+        last.aCyclicType = first;
+
+        given(
+                aMapMaid()
+                        .serializingAndDeserializing(ACyclicType.class)
+                        .build()
+        )
+                .when().mapMaidSerializes(first).withMarshallingType(MarshallingType.JSON)
+                .anExceptionIsThrownWithAMessageContaining("a circular reference has been detected for objects " +
+                        "of type de.quantummaid.mapmaid.domain.ACyclicType");
+    }
+
+    @Test
+    public void onlyTypesThatCanRecurseAreMarkedAsCyclic() {
+        final MapMaid mapMaid = aMapMaid()
+                .serializingAndDeserializing(ACyclicType.class)
+                .serializingAndDeserializing(AComplexNestedType.class)
+                .build();
+        final Definitions definitions = mapMaid.serializer().getDefinitions();
+        assertThat(definitionFor(mapMaid, definitions, ACyclicType.class).isCyclic(), is(true));
+        assertThat(definitionFor(mapMaid, definitions, AComplexNestedType.class).isCyclic(), is(false));
+        assertThat(definitionFor(mapMaid, definitions, AString.class).isCyclic(), is(false));
+    }
+
     @Test
     public void givenNonCyclicTypeWithMultipleReferencesToSameInstance_whenSerializing_thenPassesValidation() {
         final AComplexType complexType = AComplexType.deserialize(
@@ -65,18 +122,24 @@ public final class CyclicReferencesSpecs {
                 .noExceptionHasBeenThrown()
                 .theSerializationResultWas("" +
                         "{" +
-                        "\"complexType2\":{" +
-                        "\"number1\":\"42\"," +
-                        "\"number2\":\"21\"," +
-                        "\"stringA\":\"foo\"," +
-                        "\"stringB\":\"bar\"" +
-                        "}," +
                         "\"complexType1\":{" +
+                        "\"stringA\":\"foo\"," +
+                        "\"stringB\":\"bar\"," +
                         "\"number1\":\"42\"," +
-                        "\"number2\":\"21\"," +
+                        "\"number2\":\"21\"" +
+                        "}," +
+                        "\"complexType2\":{" +
                         "\"stringA\":\"foo\"," +
-                        "\"stringB\":\"bar\"" +
+                        "\"stringB\":\"bar\"," +
+                        "\"number1\":\"42\"," +
+                        "\"number2\":\"21\"" +
                         "}" +
                         "}");
     }
+
+    private static Definition definitionFor(final MapMaid mapMaid,
+                                            final Definitions definitions,
+                                            final Class<?> type) {
+        return definitions.getDefinitionForType(typeIdentifierFor(mapMaid.reflectMaid().resolve(type)));
+    }
 }
@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2020 Richard Hauswald - https://quantummaid.de/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package de.quantummaid.mapmaid.specs;
+
+import de.quantummaid.mapmaid.MapMaid;
+import de.quantummaid.mapmaid.debug.MapMaidException;
+import de.quantummaid.mapmaid.domain.AComplexType;
+import de.quantummaid.mapmaid.domain.AString;
+import org.junit.jupiter.api.Test;
+
+import static de.quantummaid.mapmaid.MapMaid.aMapMaid;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class DebugInformationSpecs {
+
+    @Test
+    public void lazyDebugInformationIsTheSameAsEagerDebugInformation() {
+        final MapMaid eager = aMapMaid()
+                .serializingAndDeserializing(AComplexType.class)
+                .build();
+        final MapMaid lazy = aMapMaid()
+                .serializingAndDeserializing(AComplexType.class)
+                .withAdvancedSettings(advancedBuilder -> advancedBuilder.computingDebugInformationLazily())
+                .build();
+        assertThat(lazy.debugInformation().scanInformationFor(AComplexType.class).render(),
+                is(eager.debugInformation().scanInformationFor(AComplexType.class).render()));
+    }
+
+    @Test
+    public void debugInformationCanBeDisabled() {
+        final MapMaid mapMaid = aMapMaid()
+                .serializingAndDeserializing(AString.class)
+                .withAdvancedSettings(advancedBuilder -> advancedBuilder.withoutDebugInformation())
+                .build();
+        assertThat(mapMaid.serializeToJson(AString.fromStringValue("foo")), is("\"foo\""));
+        assertThat(mapMaid.debugInformation().isAvailable(), is(false));
+        assertThat(mapMaid.debugInformation().scanInformationFor(AString.class).render(),
+                containsString("debug information has been disabled"));
+        assertThrows(MapMaidException.class, () -> mapMaid.debugInformation().stateLog());
+    }
+}
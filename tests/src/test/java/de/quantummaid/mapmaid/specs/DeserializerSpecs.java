@@ -286,4 +286,29 @@ public final class DeserializerSpecs {
                 .theDeserialiedObjectHas(AComplexTypeWithNestedCollections.class, result -> result.nestedMix1[0].get(0)[0].get(0).equals(AString.fromStringValue("mixed")))
                 .theDeserialiedObjectHas(AComplexTypeWithNestedCollections.class, result -> result.nestedMix2.get(0)[0].get(0)[0].equals(ANumber.fromInt(43)));
     }
+
+    @Test
+    public void givenJsonWithReorderedAndUnknownFields_whenDeserializing_thenFillsEveryParameterByName() {
+        given(
+                aMapMaid()
+                        .serializingAndDeserializing(AComplexNestedType.class)
+                        .build()
+        )
+                .when().mapMaidDeserializes("" +
+                "{" +
+                "\"unknown\":{\"complexType1\":[\"x\"]}," +
+                "\"complexType2\":" +
+                "{\"stringB\":\"d\",\"number2\":\"4\",\"unknown\":[{}],\"stringA\":\"c\",\"number1\":\"3\"}" +
+                "}")
+                .from(JSON).toTheType(AComplexNestedType.class)
+                .theDeserializedObjectIs(AComplexNestedType.deserialize(
+                        null,
+                        AComplexType.deserialize(
+                                AString.fromStringValue("c"),
+                                AString.fromStringValue("d"),
+                                ANumber.fromInt(3),
+                                ANumber.fromInt(4)
+                        )
+                ));
+    }
 }
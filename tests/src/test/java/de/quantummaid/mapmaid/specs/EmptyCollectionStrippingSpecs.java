@@ -21,17 +21,22 @@
 
 package de.quantummaid.mapmaid.specs;
 
+import de.quantummaid.mapmaid.MapMaid;
 import de.quantummaid.mapmaid.builder.AdvancedBuilder;
 import de.quantummaid.reflectmaid.GenericType;
 import de.quantummaid.reflectmaid.TypeToken;
 import org.junit.jupiter.api.Test;
 
 import java.io.InputStream;
+import java.io.StringWriter;
 import java.util.List;
 import java.util.Map;
 
 import static de.quantummaid.mapmaid.MapMaid.aMapMaid;
+import static de.quantummaid.mapmaid.mapper.marshalling.MarshallingType.JSON;
 import static de.quantummaid.mapmaid.testsupport.givenwhenthen.Given.given;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
 
 public final class EmptyCollectionStrippingSpecs {
 
@@ -84,4 +89,22 @@ public final class EmptyCollectionStrippingSpecs {
                 .when().mapMaidSerializesToUniversalObject("abc", String.class)
                 .theSerializationResultWas(null);
     }
+
+    @Test
+    public void emptyCollectionsAreStrippedWhenStreaming() {
+        final MapMaid mapMaid = aMapMaid()
+                .serializingCustomObject(String.class, builder -> builder
+                        .withField("field0", GenericType.genericType(new TypeToken<List<Integer>>() {
+                        }), object -> List.of())
+                        .withField("field1", Integer.class, object -> 1)
+                        .withField("field2", InputStream.class, object -> null)
+                )
+                .serializingCustomPrimitive(InputStream.class, object -> null)
+                .withAdvancedSettings(AdvancedBuilder::strippingEmptyCollectionsWhenMarshalling)
+                .build();
+        final StringWriter writer = new StringWriter();
+        mapMaid.serializeTo("abc", String.class, writer, JSON);
+        assertThat(writer.toString(), is("{\"field1\":1}"));
+        assertThat(mapMaid.serializeToJson("abc", String.class), is("{\"field1\":1}"));
+    }
 }
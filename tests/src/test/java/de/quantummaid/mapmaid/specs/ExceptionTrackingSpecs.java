@@ -21,22 +21,33 @@
 
 package de.quantummaid.mapmaid.specs;
 
+import de.quantummaid.mapmaid.MapMaid;
 import de.quantummaid.mapmaid.domain.AComplexNestedType;
 import de.quantummaid.mapmaid.domain.AComplexType;
 import de.quantummaid.mapmaid.domain.exceptions.AnException;
+import de.quantummaid.mapmaid.mapper.deserialization.validation.AggregatedValidationException;
+import de.quantummaid.mapmaid.mapper.deserialization.validation.ExceptionTracker;
 import de.quantummaid.mapmaid.mapper.deserialization.validation.UnexpectedExceptionThrownDuringDeserializationException;
+import de.quantummaid.mapmaid.mapper.deserialization.validation.ValidationError;
+import de.quantummaid.mapmaid.mapper.deserialization.validation.ValidationMappings;
 import de.quantummaid.mapmaid.mapper.marshalling.MarshallingType;
 import org.junit.jupiter.api.Test;
 
 import java.util.List;
 
 import static de.quantummaid.mapmaid.MapMaid.aMapMaid;
+import static de.quantummaid.mapmaid.domain.exceptions.AnException.anException;
+import static de.quantummaid.mapmaid.mapper.deserialization.validation.ExceptionTracker.emptyTracker;
 import static de.quantummaid.mapmaid.mapper.deserialization.validation.ValidationError.fromExceptionMessageAndPropertyPath;
 import static de.quantummaid.mapmaid.mapper.deserialization.validation.ValidationError.fromStringMessageAndPropertyPath;
+import static de.quantummaid.mapmaid.mapper.universal.UniversalNull.universalNull;
 import static de.quantummaid.mapmaid.testsupport.givenwhenthen.Given.given;
+import static java.util.stream.Collectors.toList;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.instanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public final class ExceptionTrackingSpecs {
 
@@ -205,4 +216,36 @@ public final class ExceptionTrackingSpecs {
                         "Validation error at 'a', value cannot be over 50; " +
                         "Validation error at 'a.b', foo; ");
     }
+
+    @Test
+    public void mappedExceptionsInSiblingObjectsAreTrackedWithTheirOwnPropertyPaths() {
+        final MapMaid mapMaid = aMapMaid()
+                .serializingAndDeserializing(AComplexNestedType.class)
+                .withExceptionIndicatingValidationError(AnException.class)
+                .build();
+        final AggregatedValidationException exception = assertThrows(AggregatedValidationException.class, () ->
+                mapMaid.deserializeJson("" +
+                        "{" +
+                        "\"complexType1\": {\"number1\": \"4000\", \"number2\": \"5\", \"stringA\": \"a\", \"stringB\": \"b\"}," +
+                        "\"complexType2\": {\"number1\": \"4\", \"number2\": \"5000\", \"stringA\": \"a\", \"stringB\": \"b\"}" +
+                        "}", AComplexNestedType.class));
+        final List<String> paths = exception.getValidationErrors().stream()
+                .map(validationError -> validationError.propertyPath)
+                .collect(toList());
+        assertThat(paths, containsInAnyOrder("complexType1.number1", "complexType2.number2"));
+    }
+
+    @Test
+    public void childTrackersKeepTheirOwnPositionAndReportToTheirParent() {
+        final ValidationMappings validationMappings = ValidationMappings.empty();
+        validationMappings.putOneToOne(AnException.class, ValidationError::fromExceptionMessageAndPropertyPath);
+        final ExceptionTracker root = emptyTracker(universalNull(), validationMappings);
+        final ExceptionTracker child = root.stepInto("a").stepIntoArray(0);
+        assertThat(child.getPosition(), equalTo("a.[0]"));
+        assertThat(root.getPosition(), equalTo(""));
+
+        child.track(anException("foo"), "", null);
+        assertThat(root.validationResult().validationErrors(),
+                equalTo(List.of(fromStringMessageAndPropertyPath("foo", "a.[0]"))));
+    }
 }
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2020 Richard Hauswald - https://quantummaid.de/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package de.quantummaid.mapmaid.specs;
+
+import de.quantummaid.mapmaid.MapMaid;
+import de.quantummaid.mapmaid.domain.AComplexNestedType;
+import de.quantummaid.mapmaid.domain.AComplexTypeWithArray;
+import de.quantummaid.mapmaid.domain.AComplexTypeWithGetters;
+import de.quantummaid.mapmaid.domain.AString;
+import de.quantummaid.mapmaid.domain.exceptions.AnException;
+import de.quantummaid.mapmaid.mapper.deserialization.validation.AggregatedValidationException;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+import java.util.List;
+
+import static de.quantummaid.mapmaid.MapMaid.aMapMaid;
+import static de.quantummaid.mapmaid.domain.Instances.theFullyInitializedNestedExampleDto;
+import static de.quantummaid.mapmaid.mapper.marshalling.MarshallingType.JSON;
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class GeneratedAccessorsSpecs {
+
+    @Test
+    public void generatedAccessorsProduceTheSameOutputAsReflection() {
+        final MapMaid reflective = aMapMaid()
+                .serializingAndDeserializing(AComplexNestedType.class)
+                .build();
+        final MapMaid generated = aMapMaid()
+                .serializingAndDeserializing(AComplexNestedType.class)
+                .withAdvancedSettings(advancedBuilder -> advancedBuilder.usingGeneratedAccessors())
+                .build();
+        final AComplexNestedType object = (AComplexNestedType) theFullyInitializedNestedExampleDto();
+        final String json = generated.serializeToJson(object);
+        assertThat(json, is(reflective.serializeToJson(object)));
+        assertThat(generated.deserializeJson(json, AComplexNestedType.class), is(object));
+        assertThat(generated.deserializeFrom(new StringReader(json), AComplexNestedType.class, JSON), is(object));
+    }
+
+    @Test
+    public void generatedAccessorsCanCallGetters() {
+        final MapMaid mapMaid = aMapMaid()
+                .serializingAndDeserializing(AComplexTypeWithGetters.class)
+                .withAdvancedSettings(advancedBuilder -> advancedBuilder.usingGeneratedAccessors())
+                .build();
+        final AComplexTypeWithGetters object = AComplexTypeWithGetters.deserialize(
+                AString.fromStringValue("a"), AString.fromStringValue("b"));
+        final String json = mapMaid.serializeToJson(object);
+        assertThat(json, is("{\"stringA\":\"a\",\"stringB\":\"b\"}"));
+        assertThat(mapMaid.deserializeJson(json, AComplexTypeWithGetters.class), is(object));
+    }
+
+    @Test
+    public void exceptionsThrownByGeneratedFactoriesAreStillAggregated() {
+        final MapMaid mapMaid = aMapMaid()
+                .serializingAndDeserializing(AComplexTypeWithArray.class)
+                .withExceptionIndicatingValidationError(AnException.class)
+                .withAdvancedSettings(advancedBuilder -> advancedBuilder.usingGeneratedAccessors())
+                .build();
+        final AggregatedValidationException exception = assertThrows(AggregatedValidationException.class, () ->
+                mapMaid.deserializeJson("{\"array\":[\"1\", \"51\", \"53\"]}", AComplexTypeWithArray.class));
+        final List<String> paths = exception.getValidationErrors().stream()
+                .map(validationError -> validationError.propertyPath)
+                .collect(toList());
+        assertThat(paths, contains("array.[1]", "array.[2]"));
+    }
+}
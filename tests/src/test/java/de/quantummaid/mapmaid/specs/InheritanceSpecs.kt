@@ -3,13 +3,18 @@ package de.quantummaid.mapmaid.specs
 import de.quantummaid.mapmaid.MapMaid.aMapMaid
 import de.quantummaid.mapmaid.debug.DebugInformation
 import de.quantummaid.mapmaid.mapper.serialization.SerializationCallback
+import de.quantummaid.mapmaid.builder.detection.serializedobject.fields.GetterFieldQuery.getterFieldQuery
 import de.quantummaid.mapmaid.mapper.serialization.serializers.TypeSerializer
+import de.quantummaid.mapmaid.mapper.serialization.serializers.serializedobject.SerializationField.serializationField
+import de.quantummaid.mapmaid.mapper.serialization.serializers.serializedobject.SerializationFields.serializationFields
+import de.quantummaid.mapmaid.mapper.serialization.serializers.serializedobject.SerializedObjectSerializer.serializedObjectSerializer
 import de.quantummaid.mapmaid.mapper.serialization.tracker.SerializationTracker
 import de.quantummaid.mapmaid.mapper.universal.Universal
 import de.quantummaid.mapmaid.mapper.universal.UniversalObject.universalObjectFromNativeMap
 import de.quantummaid.mapmaid.shared.mapping.CustomPrimitiveMappings
 import de.quantummaid.mapmaid.testsupport.givenwhenthen.Given.given
 import de.quantummaid.reflectmaid.ReflectMaid
+import de.quantummaid.reflectmaid.resolvedtype.ClassType
 import de.quantummaid.reflectmaid.typescanner.TypeIdentifier
 import de.quantummaid.reflectmaid.typescanner.TypeIdentifier.Companion.typeIdentifierFor
 import org.junit.jupiter.api.Test
@@ -154,4 +159,31 @@ class InheritanceSpecs {
                 )
             )
     }
-}
\ No newline at end of file
+
+    @Test
+    fun serializedObjectSupertypeSerializersArePreMerged() {
+        val reflectMaid = ReflectMaid.aReflectMaid()
+        val resolvedSuperClass = reflectMaid.resolve<SuperClass>() as ClassType
+        val fields = listOf("field0", "field1").map { name ->
+            val getter = resolvedSuperClass.methods().first { it.name() == "get" + name.capitalize() }
+            serializationField(getter.returnType().orElseThrow(), name, getterFieldQuery(getter))
+        }
+        val serializer = serializedObjectSerializer(serializationFields(fields))
+        given(
+            aMapMaid(reflectMaid)
+                .serializing(SubClass::class.java)
+                .withAdvancedSettings { it.withSuperTypeSerializer(typeIdentifierFor(resolvedSuperClass), serializer) }
+                .build()
+        )
+            .`when`().mapMaidSerializesToUniversalObject(SubClass("a", "b", "c", "d", "e"), SubClass::class.java)
+            .theSerializationResultWas(
+                mapOf(
+                    "field0" to "a",
+                    "field1" to "b",
+                    "subField0" to "c",
+                    "subField1" to "d",
+                    "subField2" to "e"
+                )
+            )
+    }
+}
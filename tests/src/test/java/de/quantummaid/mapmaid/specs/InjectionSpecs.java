@@ -245,4 +245,37 @@ public final class InjectionSpecs {
                                 new ANumber[]{ANumber.fromInt(42)}
                         ));
     }
+
+    @Test
+    public void theFirstInjectionForAPropertyPathWins() {
+        given(
+                aMapMaid()
+                        .serializingAndDeserializing(AComplexNestedType.class)
+                        .build()
+        )
+                .when().mapMaidDeserializesWithInjection("{" +
+                        "\"complexType1\":" +
+                        "{\"number1\":\"1\",\"number2\":\"2\",\"stringA\":\"a\",\"stringB\":\"b\"}," +
+                        "\"complexType2\":" +
+                        "{\"number1\":\"3\",\"number2\":\"4\",\"stringA\":\"c\",\"stringB\":\"d\"}" +
+                        "}",
+                injector -> injector
+                        .put("complexType1.stringB", AString.fromStringValue("first"))
+                        .put("complexType1.stringB", AString.fromStringValue("second")))
+                .from(JSON).toTheType(AComplexNestedType.class)
+                .theDeserializedObjectIs(AComplexNestedType.deserialize(
+                        AComplexType.deserialize(
+                                AString.fromStringValue("a"),
+                                AString.fromStringValue("first"),
+                                ANumber.fromInt(1),
+                                ANumber.fromInt(2)
+                        ),
+                        AComplexType.deserialize(
+                                AString.fromStringValue("c"),
+                                AString.fromStringValue("d"),
+                                ANumber.fromInt(3),
+                                ANumber.fromInt(4)
+                        )
+                ));
+    }
 }
@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2020 Richard Hauswald - https://quantummaid.de/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package de.quantummaid.mapmaid.specs;
+
+import de.quantummaid.mapmaid.MapMaid;
+import de.quantummaid.mapmaid.domain.AComplexTypeWithArray;
+import de.quantummaid.mapmaid.domain.ANumber;
+import de.quantummaid.mapmaid.domain.exceptions.AnException;
+import de.quantummaid.mapmaid.mapper.deserialization.UnexpectedExceptionThrownDuringUnmarshallingException;
+import de.quantummaid.mapmaid.mapper.deserialization.validation.AggregatedValidationException;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static de.quantummaid.mapmaid.MapMaid.aMapMaid;
+import static de.quantummaid.mapmaid.domain.Instances.theFullyInitializedExampleDtoWithCollections;
+import static de.quantummaid.mapmaid.mapper.marshalling.MarshallingType.JSON;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Arrays.asList;
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class LineDelimitedSpecs {
+    private static final String LINES = "{\"array\":[\"1\",\"2\"]}\nnull\n{\"array\":[\"1\",\"2\"]}\n";
+
+    @Test
+    public void recordsCanBeSerializedLineByLineToAWriter() {
+        final MapMaid mapMaid = aMapMaid()
+                .serializingAndDeserializing(AComplexTypeWithArray.class)
+                .build();
+        final AComplexTypeWithArray element = (AComplexTypeWithArray) theFullyInitializedExampleDtoWithCollections();
+        final StringWriter writer = new StringWriter();
+        mapMaid.serializeLinesTo(Stream.of(element, null, element), AComplexTypeWithArray.class, writer, JSON);
+        assertThat(writer.toString(), is(LINES));
+    }
+
+    @Test
+    public void recordsCanBeSerializedLineByLineToAnOutputStream() {
+        final MapMaid mapMaid = aMapMaid()
+                .serializingAndDeserializing(AComplexTypeWithArray.class)
+                .build();
+        final AComplexTypeWithArray element = (AComplexTypeWithArray) theFullyInitializedExampleDtoWithCollections();
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        mapMaid.serializeLinesTo(Stream.of(element, null, element), AComplexTypeWithArray.class, outputStream, JSON);
+        assertThat(outputStream.toString(UTF_8), is(LINES));
+    }
+
+    @Test
+    public void recordsCanBeDeserializedLineByLineFromAReader() {
+        final MapMaid mapMaid = aMapMaid()
+                .serializingAndDeserializing(AComplexTypeWithArray.class)
+                .build();
+        final AComplexTypeWithArray element = (AComplexTypeWithArray) theFullyInitializedExampleDtoWithCollections();
+        final List<AComplexTypeWithArray> records = mapMaid.deserializeLinesFrom(
+                new StringReader("\n" + LINES + "\r\n  \n{\"array\":[]}"), AComplexTypeWithArray.class, JSON)
+                .collect(toList());
+        assertThat(records, is(asList(element, null, element, AComplexTypeWithArray.deserialize(new ANumber[0]))));
+    }
+
+    @Test
+    public void recordsCanBeDeserializedLineByLineFromAnInputStream() {
+        final MapMaid mapMaid = aMapMaid()
+                .serializingAndDeserializing(AComplexTypeWithArray.class)
+                .build();
+        final AComplexTypeWithArray element = (AComplexTypeWithArray) theFullyInitializedExampleDtoWithCollections();
+        final List<AComplexTypeWithArray> records = mapMaid.deserializeLinesFrom(
+                new ByteArrayInputStream(LINES.getBytes(UTF_8)), AComplexTypeWithArray.class, JSON)
+                .collect(toList());
+        assertThat(records, is(asList(element, null, element)));
+    }
+
+    @Test
+    public void recordsCanBeDeserializedLineByLineFromAFile() throws IOException {
+        final MapMaid mapMaid = aMapMaid()
+                .serializingAndDeserializing(AComplexTypeWithArray.class)
+                .build();
+        final AComplexTypeWithArray element = (AComplexTypeWithArray) theFullyInitializedExampleDtoWithCollections();
+        final Path file = Files.createTempFile("records", ".ndjson");
+        try {
+            Files.writeString(file, LINES, UTF_8);
+            try (Stream<AComplexTypeWithArray> records = mapMaid.deserializeLinesFrom(file, AComplexTypeWithArray.class, JSON)) {
+                assertThat(records.collect(toList()), is(asList(element, null, element)));
+            }
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void malformedLinesAreReportedWhenTheyAreReached() {
+        final MapMaid mapMaid = aMapMaid()
+                .serializingAndDeserializing(AComplexTypeWithArray.class)
+                .build();
+        final Iterator<AComplexTypeWithArray> records = mapMaid.deserializeLinesFrom(
+                new StringReader("{\"array\":[\"1\"]}\n{\"array\":[\"1\"]} {}\n"), AComplexTypeWithArray.class, JSON).iterator();
+        assertThat(records.next(), is(notNullValue()));
+        assertThrows(UnexpectedExceptionThrownDuringUnmarshallingException.class, records::next);
+    }
+
+    @Test
+    public void validationErrorsAreReportedPerLine() {
+        final MapMaid mapMaid = aMapMaid()
+                .serializingAndDeserializing(AComplexTypeWithArray.class)
+                .withExceptionIndicatingValidationError(AnException.class)
+                .build();
+        final Iterator<AComplexTypeWithArray> records = mapMaid.deserializeLinesFrom(
+                new StringReader("{\"array\":[\"1\",\"51\"]}\n{\"array\":[\"1\"]}\n"), AComplexTypeWithArray.class, JSON).iterator();
+        final AggregatedValidationException exception = assertThrows(AggregatedValidationException.class, records::next);
+        final List<String> paths = exception.getValidationErrors().stream()
+                .map(validationError -> validationError.propertyPath)
+                .collect(toList());
+        assertThat(paths, contains("array.[1]"));
+        assertThat(records.next(), is(notNullValue()));
+    }
+}
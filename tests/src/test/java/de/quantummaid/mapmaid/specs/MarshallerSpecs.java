@@ -60,7 +60,7 @@ public final class MarshallerSpecs {
                         .build()
         )
                 .when().mapMaidSerializes(theFullyInitializedExampleDto()).withMarshallingType(JSON)
-                .theSerializationResultWas("{\"number1\":\"1\",\"number2\":\"5\",\"stringA\":\"asdf\",\"stringB\":\"qwer\"}");
+                .theSerializationResultWas("{\"stringA\":\"asdf\",\"stringB\":\"qwer\",\"number1\":\"1\",\"number2\":\"5\"}");
     }
 
     @Test
@@ -85,12 +85,12 @@ public final class MarshallerSpecs {
         )
                 .when().mapMaidSerializes(theFullyInitializedExampleDto()).withMarshallingType(XML)
                 .theSerializationResultWas("" +
-                        "<HashMap>\n" +
-                        "  <number1>1</number1>\n" +
-                        "  <number2>5</number2>\n" +
+                        "<LinkedHashMap>\n" +
                         "  <stringA>asdf</stringA>\n" +
                         "  <stringB>qwer</stringB>\n" +
-                        "</HashMap>\n");
+                        "  <number1>1</number1>\n" +
+                        "  <number2>5</number2>\n" +
+                        "</LinkedHashMap>\n");
     }
 
     @Test
@@ -103,10 +103,10 @@ public final class MarshallerSpecs {
         )
                 .when().mapMaidSerializes(theFullyInitializedExampleDto()).withMarshallingType(YAML)
                 .theSerializationResultWas("" +
-                        "number1: '1'\n" +
-                        "number2: '5'\n" +
                         "stringA: asdf\n" +
-                        "stringB: qwer\n");
+                        "stringB: qwer\n" +
+                        "number1: '1'\n" +
+                        "number2: '5'\n");
     }
 
     @Test
@@ -118,7 +118,7 @@ public final class MarshallerSpecs {
                         .build()
         )
                 .when().mapMaidSerializes(theFullyInitializedExampleDto()).withMarshallingType(urlEncoded())
-                .theSerializationResultWas("number1=1&number2=5&stringA=asdf&stringB=qwer");
+                .theSerializationResultWas("stringA=asdf&stringB=qwer&number1=1&number2=5");
     }
 
     @Test
@@ -143,14 +143,14 @@ public final class MarshallerSpecs {
         )
                 .when().mapMaidSerializes(Instances.theFullyInitializedNestedExampleDto()).withMarshallingType(urlEncoded())
                 .theSerializationResultWas("" +
-                        "complexType2[number1]=3&" +
-                        "complexType2[number2]=4&" +
-                        "complexType2[stringA]=c&" +
-                        "complexType2[stringB]=d&" +
+                        "complexType1[stringA]=a&" +
+                        "complexType1[stringB]=b&" +
                         "complexType1[number1]=1&" +
                         "complexType1[number2]=2&" +
-                        "complexType1[stringA]=a&" +
-                        "complexType1[stringB]=b");
+                        "complexType2[stringA]=c&" +
+                        "complexType2[stringB]=d&" +
+                        "complexType2[number1]=3&" +
+                        "complexType2[number2]=4");
     }
 
     @Test
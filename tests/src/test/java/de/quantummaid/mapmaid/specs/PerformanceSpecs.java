@@ -52,7 +52,7 @@ public final class PerformanceSpecs {
                                 ANumber.fromInt(1),
                                 ANumber.fromInt(5)))
                         .withMarshallingType(MarshallingType.JSON)
-                        .theSerializationResultWas("{\"number1\":\"1\",\"number2\":\"5\",\"stringA\":\"asdf\",\"stringB\":\"qwer\"}");
+                        .theSerializationResultWas("{\"stringA\":\"asdf\",\"stringB\":\"qwer\",\"number1\":\"1\",\"number2\":\"5\"}");
             }
         } else {
             out.println("Skipping this test, since system property testMode is not set to RELEASE");
@@ -28,10 +28,13 @@ import org.junit.jupiter.api.Test;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 import static de.quantummaid.mapmaid.MapMaid.aMapMaid;
 import static de.quantummaid.mapmaid.testsupport.givenwhenthen.Given.given;
 import static java.util.Collections.singletonList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
 
 public final class SerializerSpecs {
 
@@ -48,7 +51,7 @@ public final class SerializerSpecs {
                         AString.fromStringValue("qwer"),
                         ANumber.fromInt(1),
                         ANumber.fromInt(5555))).withMarshallingType(MarshallingType.JSON)
-                .theSerializationResultWas("{\"number1\":\"1\",\"number2\":\"5555\",\"stringA\":\"asdf\",\"stringB\":\"qwer\"}");
+                .theSerializationResultWas("{\"stringA\":\"asdf\",\"stringB\":\"qwer\",\"number1\":\"1\",\"number2\":\"5555\"}");
     }
 
     @Test
@@ -87,7 +90,7 @@ public final class SerializerSpecs {
                         ANumber.fromInt(1),
                         ANumber.fromInt(2)))
                 .withMarshallingType(MarshallingType.JSON)
-                .theSerializationResultWas("{\"number1\":\"1\",\"number2\":\"2\",\"stringA\":\"a\",\"stringB\":\"b\"}");
+                .theSerializationResultWas("{\"stringA\":\"a\",\"stringB\":\"b\",\"number1\":\"1\",\"number2\":\"2\"}");
     }
 
     @Test
@@ -108,7 +111,7 @@ public final class SerializerSpecs {
                 }))
                 .withMarshallingType(MarshallingType.JSON)
                 .noExceptionHasBeenThrown()
-                .theSerializationResultWas("{\"array\":[\"1\",\"2\",\"3\"],\"arrayList\":[\"a\",\"b\",\"c\"]}");
+                .theSerializationResultWas("{\"arrayList\":[\"a\",\"b\",\"c\"],\"array\":[\"1\",\"2\",\"3\"]}");
     }
 
     @Test
@@ -131,17 +134,17 @@ public final class SerializerSpecs {
                         ANumber.fromInt(4)))).withMarshallingType(MarshallingType.JSON)
                 .theSerializationResultWas("" +
                         "{" +
-                        "\"complexType2\":{" +
-                        "\"number1\":\"3\"," +
-                        "\"number2\":\"4\"," +
-                        "\"stringA\":\"c\"," +
-                        "\"stringB\":\"d\"" +
-                        "}," +
                         "\"complexType1\":{" +
-                        "\"number1\":\"1\"," +
-                        "\"number2\":\"2\"," +
                         "\"stringA\":\"a\"," +
-                        "\"stringB\":\"b\"" +
+                        "\"stringB\":\"b\"," +
+                        "\"number1\":\"1\"," +
+                        "\"number2\":\"2\"" +
+                        "}," +
+                        "\"complexType2\":{" +
+                        "\"stringA\":\"c\"," +
+                        "\"stringB\":\"d\"," +
+                        "\"number1\":\"3\"," +
+                        "\"number2\":\"4\"" +
                         "}" +
                         "}");
     }
@@ -197,7 +200,7 @@ public final class SerializerSpecs {
                         ANumber.fromInt(1),
                         null)).withMarshallingType(MarshallingType.JSON)
                 .noExceptionHasBeenThrown()
-                .theSerializationResultWas("{\"number1\":\"1\",\"number2\":null,\"stringA\":\"a\",\"stringB\":null}");
+                .theSerializationResultWas("{\"stringA\":\"a\",\"stringB\":null,\"number1\":\"1\",\"number2\":null}");
     }
 
     @Test
@@ -218,7 +221,7 @@ public final class SerializerSpecs {
                     return input;
                 })
                 .withMarshallingType(MarshallingType.JSON)
-                .theSerializationResultWas("{\"number1\":\"1\",\"number2\":\"2\",\"stringA\":\"test\",\"stringB\":\"b\"}");
+                .theSerializationResultWas("{\"stringA\":\"test\",\"stringB\":\"b\",\"number1\":\"1\",\"number2\":\"2\"}");
     }
 
     @SuppressWarnings({"unchecked", "rawtypes"})
@@ -239,9 +242,68 @@ public final class SerializerSpecs {
                 .when().mapMaidSerializes(typeWithNestedCollections)
                 .withMarshallingType(MarshallingType.JSON)
                 .noExceptionHasBeenThrown()
-                .theSerializationResultWas("{\"nestedList\":[[[[\"42\"]]]],\"nestedArray\":[[[[\"arrays\"]]]],\"nestedMix2\":[[[[\"43\"]]]],\"nestedMix1\":[[[[\"mixed\"]]]]}");
+                .theSerializationResultWas("{\"nestedArray\":[[[[\"arrays\"]]]],\"nestedList\":[[[[\"42\"]]]],\"nestedMix1\":[[[[\"mixed\"]]]],\"nestedMix2\":[[[[\"43\"]]]]}");
+    }
+
+    @Test
+    public void fieldsAreSerializedInDeclarationOrder() {
+        given(
+                aMapMaid()
+                        .serializingAndDeserializing(AComplexType.class)
+                        .build()
+        )
+                .when().mapMaidSerializes(
+                AComplexType.deserialize(
+                        AString.fromStringValue("asdf"),
+                        AString.fromStringValue("qwer"),
+                        ANumber.fromInt(1),
+                        ANumber.fromInt(5555))).withMarshallingType(MarshallingType.JSON)
+                .theSerializationResultWas("{\"stringA\":\"asdf\",\"stringB\":\"qwer\",\"number1\":\"1\",\"number2\":\"5555\"}");
+    }
+
+    @Test
+    public void typesReachedThroughFieldsAreSerializedLikeTopLevelTypes() {
+        final AComplexType complexType1 = AComplexType.deserialize(
+                AString.fromStringValue("a"),
+                AString.fromStringValue("b"),
+                ANumber.fromInt(1),
+                ANumber.fromInt(2));
+        final AComplexType complexType2 = AComplexType.deserialize(
+                AString.fromStringValue("c"),
+                null,
+                ANumber.fromInt(3),
+                null);
+        final MapMaid mapMaid = aMapMaid()
+                .serializing(AComplexNestedType.class)
+                .build();
+        final Map<?, ?> nested = (Map<?, ?>) mapMaid.serializeToUniversalObject(
+                AComplexNestedType.deserialize(complexType1, complexType2), AComplexNestedType.class);
+        assertThat(nested.get("complexType1"), is(mapMaid.serializeToUniversalObject(complexType1, AComplexType.class)));
+        assertThat(nested.get("complexType2"), is(mapMaid.serializeToUniversalObject(complexType2, AComplexType.class)));
+    }
+
+    @Test
+    public void fieldsDeclaredWithASupertypeAreSerializedByTheirRuntimeType() {
+        final MapMaid mapMaid = aMapMaid()
+                .serializing(AnInterfaceHolder.class)
+                .serializingSubtypes(AnInterface.class, AnImplementation1.class, AnImplementation2.class)
+                .build();
+        final Object serialized = mapMaid.serializeToUniversalObject(
+                new AnInterfaceHolder(new AnImplementation2("c", "d")), AnInterfaceHolder.class);
+        assertThat(serialized, is(Map.of("value", Map.of(
+                "type", "de.quantummaid.mapmaid.domain.AnImplementation2",
+                "c", "c",
+                "d", "d"))));
     }
 
     public static class ANonConfiguredDomain {
     }
+
+    public static final class AnInterfaceHolder {
+        public final AnInterface value;
+
+        public AnInterfaceHolder(final AnInterface value) {
+            this.value = value;
+        }
+    }
 }
@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2020 Richard Hauswald - https://quantummaid.de/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package de.quantummaid.mapmaid.specs;
+
+import de.quantummaid.mapmaid.MapMaid;
+import de.quantummaid.mapmaid.debug.MapMaidException;
+import de.quantummaid.mapmaid.domain.AComplexNestedType;
+import de.quantummaid.mapmaid.domain.AComplexTypeWithGetters;
+import de.quantummaid.mapmaid.domain.AString;
+import de.quantummaid.mapmaid.domain.AnImplementation1;
+import de.quantummaid.mapmaid.domain.AnInterface;
+import de.quantummaid.mapmaid.snapshot.DefinitionsSnapshot;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+
+import static de.quantummaid.mapmaid.MapMaid.aMapMaid;
+import static de.quantummaid.mapmaid.domain.Instances.theFullyInitializedNestedExampleDto;
+import static de.quantummaid.mapmaid.snapshot.DefinitionsSnapshot.readSnapshot;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class SnapshotSpecs {
+
+    @Test
+    public void aSnapshotCanBeUsedToRebuildMapMaid() {
+        final MapMaid original = aMapMaid()
+                .serializingAndDeserializing(AComplexNestedType.class)
+                .serializingAndDeserializing(AComplexTypeWithGetters.class)
+                .build();
+        final MapMaid rehydrated = aMapMaid()
+                .fromSnapshot(new ByteArrayInputStream(export(original)))
+                .build();
+
+        final AComplexNestedType nested = (AComplexNestedType) theFullyInitializedNestedExampleDto();
+        final String nestedJson = original.serializeToJson(nested);
+        assertThat(rehydrated.serializeToJson(nested), is(nestedJson));
+        assertThat(rehydrated.deserializeJson(nestedJson, AComplexNestedType.class), is(nested));
+
+        final AComplexTypeWithGetters withGetters = AComplexTypeWithGetters.deserialize(
+                AString.fromStringValue("a"), AString.fromStringValue("b"));
+        final String withGettersJson = original.serializeToJson(withGetters);
+        assertThat(rehydrated.serializeToJson(withGetters), is(withGettersJson));
+        assertThat(rehydrated.deserializeJson(withGettersJson, AComplexTypeWithGetters.class), is(withGetters));
+    }
+
+    @Test
+    public void snapshotsContainSubtypes() {
+        final MapMaid original = aMapMaid()
+                .serializingAndDeserializingSubtypes(AnInterface.class, AnImplementation1.class)
+                .build();
+        final MapMaid rehydrated = aMapMaid()
+                .fromSnapshot(new ByteArrayInputStream(export(original)))
+                .build();
+        final AnInterface object = new AnImplementation1("foo", "bar");
+        final String json = original.serializeToJson(object, AnInterface.class);
+        assertThat(rehydrated.serializeToJson(object, AnInterface.class), is(json));
+        assertThat(rehydrated.deserializeJson(json, AnInterface.class), is(object));
+    }
+
+    @Test
+    public void aReadSnapshotIsUpToDateIfTheClassesDidNotChange() {
+        final MapMaid mapMaid = aMapMaid()
+                .serializingAndDeserializing(AComplexNestedType.class)
+                .build();
+        final DefinitionsSnapshot snapshot = readSnapshot(new ByteArrayInputStream(export(mapMaid)));
+        assertThat(snapshot.isUpToDate(), is(true));
+        assertThat(snapshot, is(mapMaid.snapshot()));
+    }
+
+    @Test
+    public void invalidSnapshotsAreRejected() {
+        final byte[] bytes = "{\"not\": \"a snapshot\"}".getBytes(UTF_8);
+        assertThrows(MapMaidException.class, () -> readSnapshot(new ByteArrayInputStream(bytes)));
+    }
+
+    @Test
+    public void truncatedSnapshotsAreRejected() {
+        final MapMaid mapMaid = aMapMaid()
+                .serializingAndDeserializing(AComplexNestedType.class)
+                .build();
+        final byte[] bytes = export(mapMaid);
+        final byte[] truncated = Arrays.copyOf(bytes, bytes.length / 2);
+        assertThrows(MapMaidException.class, () -> readSnapshot(new ByteArrayInputStream(truncated)));
+    }
+
+    @Test
+    public void customTypesFromASnapshotAreNotDetectedAgain() {
+        final MapMaid original = aMapMaid()
+                .serializingAndDeserializingCustomPrimitive(AString.class, AString::stringValue, AString::fromStringValue)
+                .build();
+        final MapMaid rehydrated = aMapMaid()
+                .serializingAndDeserializingCustomPrimitive(AString.class, AString::stringValue, AString::fromStringValue)
+                .fromSnapshot(new ByteArrayInputStream(export(original)))
+                .build();
+        assertThat(rehydrated.debugInformation().isAvailable(), is(false));
+
+        final AString aString = AString.fromStringValue("foo");
+        final String json = original.serializeToJson(aString);
+        assertThat(rehydrated.serializeToJson(aString), is(json));
+        assertThat(rehydrated.deserializeJson(json, AString.class), is(aString));
+    }
+
+    private static byte[] export(final MapMaid mapMaid) {
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        mapMaid.exportSnapshot(outputStream);
+        return outputStream.toByteArray();
+    }
+}
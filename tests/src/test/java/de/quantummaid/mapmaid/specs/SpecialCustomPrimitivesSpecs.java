@@ -77,7 +77,7 @@ public final class SpecialCustomPrimitivesSpecs {
                 .when().mapMaidSerializes(new AComplexTypeWithDoublesDto(new APrimitiveDouble(1.0), new AWrapperDouble(2.0)))
                 .withMarshallingType(JSON)
                 .noExceptionHasBeenThrown()
-                .theSerializationResultWas("{\"doubleB\":2,\"doubleA\":1}");
+                .theSerializationResultWas("{\"doubleA\":1,\"doubleB\":2}");
     }
 
     @Test
@@ -175,7 +175,7 @@ public final class SpecialCustomPrimitivesSpecs {
                 .when().mapMaidSerializes(new AComplexTypeWithBooleansDto(new APrimitiveBoolean(true), new AWrapperBoolean(false)))
                 .withMarshallingType(JSON)
                 .noExceptionHasBeenThrown()
-                .theSerializationResultWas("{\"booleanB\":false,\"booleanA\":true}");
+                .theSerializationResultWas("{\"booleanA\":true,\"booleanB\":false}");
     }
 
     @Test
@@ -212,7 +212,7 @@ public final class SpecialCustomPrimitivesSpecs {
                 .when().mapMaidSerializes(new AComplexTypeWithLongsDto(new APrimitiveLong(1), new AWrapperLong(2L)))
                 .withMarshallingType(JSON)
                 .noExceptionHasBeenThrown()
-                .theSerializationResultWas("{\"longB\":2,\"longA\":1}");
+                .theSerializationResultWas("{\"longA\":1,\"longB\":2}");
     }
 
     @Test
@@ -249,7 +249,7 @@ public final class SpecialCustomPrimitivesSpecs {
                 .when().mapMaidSerializes(new AComplexTypeWithIntegersDto(new APrimitiveInteger(1), new AWrapperInteger(2)))
                 .withMarshallingType(JSON)
                 .noExceptionHasBeenThrown()
-                .theSerializationResultWas("{\"intB\":2,\"intA\":1}");
+                .theSerializationResultWas("{\"intA\":1,\"intB\":2}");
     }
 
     @Test
@@ -286,7 +286,7 @@ public final class SpecialCustomPrimitivesSpecs {
                 .when().mapMaidSerializes(new AComplexTypeWithShortsDto(new APrimitiveShort((short) 1), new AWrapperShort((short) 2)))
                 .withMarshallingType(JSON)
                 .noExceptionHasBeenThrown()
-                .theSerializationResultWas("{\"shortB\":2,\"shortA\":1}");
+                .theSerializationResultWas("{\"shortA\":1,\"shortB\":2}");
     }
 
     @Test
@@ -0,0 +1,264 @@
+/*
+ * Copyright (c) 2020 Richard Hauswald - https://quantummaid.de/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package de.quantummaid.mapmaid.specs;
+
+import de.quantummaid.mapmaid.MapMaid;
+import de.quantummaid.mapmaid.domain.*;
+import de.quantummaid.mapmaid.domain.exceptions.AnException;
+import de.quantummaid.mapmaid.mapper.deserialization.UnexpectedExceptionThrownDuringUnmarshallingException;
+import de.quantummaid.mapmaid.mapper.deserialization.validation.AggregatedValidationException;
+import de.quantummaid.mapmaid.mapper.marshalling.streaming.Token;
+import de.quantummaid.mapmaid.mapper.marshalling.streaming.TokenCursor;
+import de.quantummaid.reflectmaid.ReflectMaid;
+import de.quantummaid.reflectmaid.typescanner.TypeIdentifier;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.StringReader;
+import java.util.List;
+
+import static de.quantummaid.mapmaid.MapMaid.aMapMaid;
+import static de.quantummaid.mapmaid.domain.Instances.theFullyInitializedNestedExampleDto;
+import static de.quantummaid.mapmaid.mapper.marshalling.MarshallingType.JSON;
+import static de.quantummaid.mapmaid.mapper.marshalling.MarshallingType.YAML;
+import static de.quantummaid.mapmaid.mapper.marshalling.streaming.Token.END_ARRAY;
+import static de.quantummaid.mapmaid.mapper.marshalling.streaming.Token.END_OF_INPUT;
+import static de.quantummaid.mapmaid.mapper.marshalling.streaming.Token.FIELD_NAME;
+import static de.quantummaid.mapmaid.mapper.marshalling.streaming.Token.START_OBJECT;
+import static de.quantummaid.mapmaid.mapper.marshalling.streaming.Token.STRING;
+import static de.quantummaid.mapmaid.snakeyaml.SnakeYamlMarshallerAndUnmarshaller.snakeYamlMarshallerAndUnmarshaller;
+import static de.quantummaid.reflectmaid.GenericType.genericType;
+import static de.quantummaid.reflectmaid.typescanner.TypeIdentifier.typeIdentifierFor;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class StreamingDeserializationSpecs {
+
+    @Test
+    public void streamingDeserializationProducesTheSameObjectAsRegularDeserialization() {
+        final MapMaid mapMaid = aMapMaid()
+                .serializingAndDeserializing(AComplexNestedType.class)
+                .build();
+        final String json = mapMaid.serializeToJson(theFullyInitializedNestedExampleDto());
+        final AComplexNestedType deserialized = mapMaid.deserializeFrom(new StringReader(json), AComplexNestedType.class, JSON);
+        assertThat(deserialized, is(mapMaid.deserializeJson(json, AComplexNestedType.class)));
+    }
+
+    @Test
+    public void streamingDeserializationOfCollectionsIsPossible() {
+        final MapMaid mapMaid = aMapMaid()
+                .serializingAndDeserializing(AComplexTypeWithArray.class)
+                .build();
+        final AComplexTypeWithArray deserialized = mapMaid.deserializeFrom(
+                new StringReader("{\"array\": [\"1\", \"2\"]}"), AComplexTypeWithArray.class, JSON);
+        assertThat(deserialized, is(mapMaid.deserializeJson("{\"array\":[\"1\",\"2\"]}", AComplexTypeWithArray.class)));
+    }
+
+    @Test
+    public void streamingDeserializationFromInputStreamIsPossible() {
+        final MapMaid mapMaid = aMapMaid()
+                .serializingAndDeserializing(AComplexTypeWithArray.class)
+                .build();
+        final byte[] bytes = "{\"array\":[\"1\",\"2\"]}".getBytes(UTF_8);
+        final AComplexTypeWithArray deserialized = mapMaid.deserializeFrom(
+                new ByteArrayInputStream(bytes), AComplexTypeWithArray.class, JSON);
+        assertThat(deserialized, is(mapMaid.deserializeJson("{\"array\":[\"1\",\"2\"]}", AComplexTypeWithArray.class)));
+    }
+
+    @Test
+    public void streamingDeserializationSkipsUnknownFields() {
+        final MapMaid mapMaid = aMapMaid()
+                .serializingAndDeserializing(AComplexType.class)
+                .build();
+        final String json = "{\"unknown\":{\"a\":[1,2,{\"b\":null}]},\"number1\":\"1\",\"number2\":\"2\"," +
+                "\"stringA\":\"a\",\"stringB\":\"b\",\"last\":true}";
+        final AComplexType deserialized = mapMaid.deserializeFrom(new StringReader(json), AComplexType.class, JSON);
+        assertThat(deserialized, is(AComplexType.deserialize(
+                AString.fromStringValue("a"),
+                AString.fromStringValue("b"),
+                ANumber.fromInt(1),
+                ANumber.fromInt(2)
+        )));
+    }
+
+    @Test
+    public void streamingDeserializationSupportsInjections() {
+        final ReflectMaid reflectMaid = ReflectMaid.aReflectMaid();
+        final MapMaid mapMaid = aMapMaid(reflectMaid)
+                .serializingAndDeserializing(AComplexType.class)
+                .build();
+        final String json = "{\"number1\":\"1\",\"number2\":\"2\",\"stringA\":\"a\",\"stringB\":\"b\"}";
+        final TypeIdentifier type = typeIdentifierFor(reflectMaid.resolve(genericType(AComplexType.class)));
+        final AComplexType deserialized = mapMaid.deserializeFrom(new StringReader(json), type, JSON,
+                injector -> injector.put("stringB", AString.fromStringValue("injected")));
+        assertThat(deserialized, is(AComplexType.deserialize(
+                AString.fromStringValue("a"),
+                AString.fromStringValue("injected"),
+                ANumber.fromInt(1),
+                ANumber.fromInt(2)
+        )));
+    }
+
+    @Test
+    public void streamingDeserializationAggregatesValidationErrors() {
+        final MapMaid mapMaid = aMapMaid()
+                .serializingAndDeserializing(AComplexTypeWithArray.class)
+                .withExceptionIndicatingValidationError(AnException.class)
+                .build();
+        final AggregatedValidationException exception = assertThrows(AggregatedValidationException.class, () ->
+                mapMaid.deserializeFrom(new StringReader("{\"array\":[\"1\", \"51\", \"53\"]}"), AComplexTypeWithArray.class, JSON));
+        final List<String> paths = exception.getValidationErrors().stream()
+                .map(validationError -> validationError.propertyPath)
+                .collect(toList());
+        assertThat(paths, contains("array.[1]", "array.[2]"));
+    }
+
+    @Test
+    public void malformedInputIsReportedDuringStreamingDeserialization() {
+        final MapMaid mapMaid = aMapMaid()
+                .serializingAndDeserializing(AComplexTypeWithArray.class)
+                .build();
+        assertThrows(UnexpectedExceptionThrownDuringUnmarshallingException.class, () ->
+                mapMaid.deserializeFrom(new StringReader("{\"array\":[\"1\" \"2\"]}"), AComplexTypeWithArray.class, JSON));
+        assertThrows(UnexpectedExceptionThrownDuringUnmarshallingException.class, () ->
+                mapMaid.deserializeFrom(new StringReader("{\"array\":[]} {}"), AComplexTypeWithArray.class, JSON));
+    }
+
+    @Test
+    public void streamingDeserializationFallsBackToRegularUnmarshallersIfNoStreamingUnmarshallerIsAvailable() {
+        final MapMaid mapMaid = aMapMaid()
+                .serializingAndDeserializing(AComplexTypeWithArray.class)
+                .withAdvancedSettings(advancedBuilder -> advancedBuilder.usingMarshaller(snakeYamlMarshallerAndUnmarshaller()))
+                .build();
+        final AComplexTypeWithArray deserialized = mapMaid.deserializeFrom(
+                new StringReader("array:\n- '1'\n- '2'\n"), AComplexTypeWithArray.class, YAML);
+        assertThat(deserialized, is(mapMaid.deserializeJson("{\"array\":[\"1\",\"2\"]}", AComplexTypeWithArray.class)));
+    }
+
+    @Test
+    public void builtInPrimitivesCanBeDeserializedFromAStream() {
+        final MapMaid mapMaid = aMapMaid()
+                .serializingAndDeserializing(long.class)
+                .serializingAndDeserializing(int.class)
+                .serializingAndDeserializing(double.class)
+                .serializingAndDeserializing(boolean.class)
+                .serializingAndDeserializing(String.class)
+                .build();
+        assertThat(mapMaid.deserializeFrom(new StringReader("42"), long.class, JSON), is(42L));
+        assertThat(mapMaid.deserializeFrom(new StringReader("7"), int.class, JSON), is(7));
+        assertThat(mapMaid.deserializeFrom(new StringReader("2.5"), double.class, JSON), is(2.5));
+        assertThat(mapMaid.deserializeFrom(new StringReader("true"), boolean.class, JSON), is(true));
+        assertThat(mapMaid.deserializeFrom(new StringReader("\"a\""), String.class, JSON), is("a"));
+        assertThat(mapMaid.deserializeFrom(new StringReader("\"43\""), long.class, JSON), is(43L));
+    }
+
+    @Test
+    public void polymorphicTypesCanBeDeserializedFromAStreamWhereverTheTypeFieldIs() {
+        final MapMaid mapMaid = aMapMaid()
+                .deserializingSubtypes(AnInterface.class, AnImplementation1.class, AnImplementation2.class)
+                .build();
+        final AnInterface typeFieldFirst = mapMaid.deserializeFrom(new StringReader(
+                "{\"type\":\"de.quantummaid.mapmaid.domain.AnImplementation2\",\"c\":\"foo\",\"d\":\"bar\"}"),
+                AnInterface.class, JSON);
+        assertThat(typeFieldFirst, is(new AnImplementation2("foo", "bar")));
+        final AnInterface typeFieldLast = mapMaid.deserializeFrom(new StringReader(
+                "{\"a\":\"foo\",\"b\":\"bar\",\"type\":\"de.quantummaid.mapmaid.domain.AnImplementation1\"}"),
+                AnInterface.class, JSON);
+        assertThat(typeFieldLast, is(new AnImplementation1("foo", "bar")));
+    }
+
+    @Test
+    public void nestedPolymorphicTypesCanBeDeserializedFromAStream() {
+        final MapMaid mapMaid = aMapMaid()
+                .deserializingSubtypes(AnInterface.class, SubInterface.class)
+                .deserializingSubtypes(SubInterface.class, SubImplementation1.class)
+                .build();
+        final AnInterface deserialized = mapMaid.deserializeFrom(new StringReader("{" +
+                "\"_type\":\"de.quantummaid.mapmaid.domain.SubInterface\"," +
+                "\"type\":\"de.quantummaid.mapmaid.domain.SubImplementation1\"," +
+                "\"a\":\"a\",\"b\":\"b\"" +
+                "}"), AnInterface.class, JSON);
+        assertThat(deserialized, is(new SubImplementation1("a", "b")));
+    }
+
+    @Test
+    public void theLongestTypeFieldWinsWhenPolymorphicTypesAreDeserializedFromAStream() {
+        final MapMaid mapMaid = aMapMaid()
+                .deserializingSubtypes(AnInterface.class, AnImplementation1.class, AnImplementationWithATypeField.class)
+                .build();
+        final AnInterface deserialized = mapMaid.deserializeFrom(new StringReader("{" +
+                "\"type\":\"de.quantummaid.mapmaid.domain.AnImplementation1\"," +
+                "\"a\":\"foo\"," +
+                "\"_type\":\"de.quantummaid.mapmaid.domain.AnImplementationWithATypeField\"" +
+                "}"), AnInterface.class, JSON);
+        final AnInterface expected = new AnImplementationWithATypeField("de.quantummaid.mapmaid.domain.AnImplementation1", "foo");
+        assertThat(deserialized, is(expected));
+    }
+
+    @Test
+    public void serializedObjectsMustBeClosedWithAnEndOfObjectToken() {
+        final List<Token> tokens = List.of(START_OBJECT, FIELD_NAME, STRING, END_ARRAY, END_OF_INPUT);
+        final MapMaid mapMaid = aMapMaid()
+                .deserializing(AComplexType.class)
+                .withAdvancedSettings(advancedBuilder -> advancedBuilder.usingStreamingUnmarshaller(JSON, reader -> new TokenCursor() {
+                    private int position = 0;
+
+                    @Override
+                    public Token currentToken() {
+                        return tokens.get(position);
+                    }
+
+                    @Override
+                    public void advance() {
+                        position++;
+                    }
+
+                    @Override
+                    public String stringValue() {
+                        return "unknown";
+                    }
+
+                    @Override
+                    public long longValue() {
+                        throw new UnsupportedOperationException();
+                    }
+
+                    @Override
+                    public double doubleValue() {
+                        throw new UnsupportedOperationException();
+                    }
+
+                    @Override
+                    public boolean booleanValue() {
+                        throw new UnsupportedOperationException();
+                    }
+                }))
+                .build();
+        final UnexpectedExceptionThrownDuringUnmarshallingException exception = assertThrows(
+                UnexpectedExceptionThrownDuringUnmarshallingException.class,
+                () -> mapMaid.deserializeFrom(new StringReader("ignored"), AComplexType.class, JSON));
+        assertThat(exception.exception().getMessage(), containsString("expected end of object"));
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2020 Richard Hauswald - https://quantummaid.de/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package de.quantummaid.mapmaid.specs;
+
+import com.google.gson.Gson;
+import de.quantummaid.mapmaid.MapMaid;
+import de.quantummaid.mapmaid.builder.AdvancedBuilder;
+import de.quantummaid.mapmaid.debug.MapMaidException;
+import de.quantummaid.mapmaid.domain.AComplexNestedType;
+import de.quantummaid.mapmaid.domain.AComplexType;
+import de.quantummaid.mapmaid.domain.AComplexTypeWithArray;
+import de.quantummaid.mapmaid.domain.AString;
+import de.quantummaid.reflectmaid.GenericType;
+import de.quantummaid.reflectmaid.TypeToken;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Map;
+
+import static de.quantummaid.mapmaid.MapMaid.aMapMaid;
+import static de.quantummaid.mapmaid.domain.Instances.*;
+import static de.quantummaid.mapmaid.mapper.marshalling.MarshallingType.JSON;
+import static de.quantummaid.mapmaid.mapper.marshalling.MarshallingType.JSON_BYTES;
+import static de.quantummaid.mapmaid.mapper.marshalling.MarshallingType.YAML;
+import static de.quantummaid.mapmaid.snakeyaml.SnakeYamlMarshallerAndUnmarshaller.snakeYamlMarshallerAndUnmarshaller;
+import static de.quantummaid.reflectmaid.GenericType.genericType;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class StreamingSerializationSpecs {
+
+    @Test
+    public void streamingSerializationProducesTheSameJsonAsRegularSerialization() {
+        final MapMaid mapMaid = aMapMaid()
+                .serializingAndDeserializing(AComplexNestedType.class)
+                .build();
+        final Object object = theFullyInitializedNestedExampleDto();
+        final StringWriter writer = new StringWriter();
+        mapMaid.serializeTo(object, AComplexNestedType.class, writer, JSON);
+        assertThat(parse(writer.toString()), is(parse(mapMaid.serializeToJson(object))));
+    }
+
+    @Test
+    public void streamingSerializationOfCollectionsIsPossible() {
+        final MapMaid mapMaid = aMapMaid()
+                .serializingAndDeserializing(AComplexTypeWithArray.class)
+                .build();
+        final StringWriter writer = new StringWriter();
+        mapMaid.serializeTo(theFullyInitializedExampleDtoWithCollections(), AComplexTypeWithArray.class, writer, JSON);
+        assertThat(writer.toString(), is("{\"array\":[\"1\",\"2\"]}"));
+    }
+
+    @Test
+    public void streamingSerializationToOutputStreamIsPossible() {
+        final MapMaid mapMaid = aMapMaid()
+                .serializingAndDeserializing(AComplexTypeWithArray.class)
+                .build();
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        mapMaid.serializeTo(theFullyInitializedExampleDtoWithCollections(), AComplexTypeWithArray.class, outputStream, JSON);
+        assertThat(outputStream.toString(UTF_8), is("{\"array\":[\"1\",\"2\"]}"));
+    }
+
+    @Test
+    public void jsonCanBeSerializedToAndDeserializedFromBytes() {
+        final MapMaid mapMaid = aMapMaid()
+                .serializingAndDeserializing(AComplexTypeWithArray.class)
+                .build();
+        final byte[] json = mapMaid.serializeToJsonBytes(theFullyInitializedExampleDtoWithCollections());
+        assertThat(new String(json, UTF_8), is("{\"array\":[\"1\",\"2\"]}"));
+        assertThat(mapMaid.deserializeJson(json, AComplexTypeWithArray.class), is(theFullyInitializedExampleDtoWithCollections()));
+    }
+
+    @Test
+    public void jsonCanBeDeserializedFromADirectByteBuffer() {
+        final MapMaid mapMaid = aMapMaid()
+                .serializingAndDeserializing(AComplexTypeWithArray.class)
+                .build();
+        final byte[] json = "{\"array\":[\"1\",\"2\"]}".getBytes(UTF_8);
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(json.length);
+        buffer.put(json).flip();
+        assertThat(mapMaid.deserialize(buffer, AComplexTypeWithArray.class, JSON_BYTES), is(theFullyInitializedExampleDtoWithCollections()));
+        assertThat(buffer.remaining(), is(json.length));
+    }
+
+    @Test
+    public void streamingSerializationAppliesMarshallingModifiers() {
+        final MapMaid mapMaid = aMapMaid()
+                .serializingCustomObject(String.class, builder -> builder
+                        .withField("field0", GenericType.genericType(new TypeToken<List<Integer>>() {
+                        }), object -> List.of())
+                        .withField("field1", Integer.class, object -> 1)
+                )
+                .withAdvancedSettings(AdvancedBuilder::strippingEmptyCollectionsWhenMarshalling)
+                .build();
+        final StringWriter writer = new StringWriter();
+        mapMaid.serializeTo("abc", String.class, writer, JSON);
+        assertThat(writer.toString(), is("{\"field1\":1}"));
+    }
+
+    @Test
+    public void streamingSerializationFallsBackToRegularMarshallersWithoutStreamingSupport() {
+        final MapMaid mapMaid = aMapMaid()
+                .withAdvancedSettings(advancedBuilder -> advancedBuilder.usingMarshaller(snakeYamlMarshallerAndUnmarshaller()))
+                .serializingAndDeserializing(AComplexType.class)
+                .build();
+        final StringWriter writer = new StringWriter();
+        mapMaid.serializeTo(theFullyInitializedExampleDto(), AComplexType.class, writer, YAML);
+        assertThat(writer.toString(), is(mapMaid.serializeToYaml(theFullyInitializedExampleDto())));
+    }
+
+    @Test
+    public void mapKeysThatAreNotSerializedToStringsAreRejected() {
+        final GenericType<Map> mapType = genericType(Map.class, AComplexTypeWithArray.class, AString.class);
+        final MapMaid mapMaid = aMapMaid()
+                .serializing(mapType)
+                .build();
+        final Map<Object, AString> map = Map.of(theFullyInitializedExampleDtoWithCollections(), AString.fromStringValue("a"));
+        final MapMaidException exception = assertThrows(MapMaidException.class, () -> mapMaid.serializeToJson(map, mapType));
+        assertThat(exception.getMessage(), containsString("map keys need to be serialized to strings"));
+        assertThrows(MapMaidException.class, () -> mapMaid.serializeTo(map, mapType, new StringWriter(), JSON));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> parse(final String json) {
+        return new Gson().fromJson(json, Map.class);
+    }
+}
@@ -118,6 +118,6 @@ public final class TypeVariableSpecs {
                         ANumber.fromInt(21)))
                 .withMarshallingType(MarshallingType.JSON)
                 .noExceptionHasBeenThrown()
-                .theSerializationResultWas("{\"number1\":\"42\",\"number2\":\"21\",\"stringA\":\"foo\",\"stringB\":\"bar\"}");
+                .theSerializationResultWas("{\"stringA\":\"foo\",\"stringB\":\"bar\",\"number1\":\"42\",\"number2\":\"21\"}");
     }
 }
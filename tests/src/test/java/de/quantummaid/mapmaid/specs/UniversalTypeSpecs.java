@@ -21,6 +21,8 @@
 
 package de.quantummaid.mapmaid.specs;
 
+import de.quantummaid.mapmaid.MapMaid;
+import de.quantummaid.mapmaid.domain.AComplexTypeWithArray;
 import de.quantummaid.mapmaid.domain.ANumber;
 import de.quantummaid.mapmaid.mapper.marshalling.MarshallingType;
 import de.quantummaid.mapmaid.specs.examples.customprimitives.success.tostring.MyCustomPrimitive;
@@ -31,6 +33,8 @@ import java.util.Map;
 
 import static de.quantummaid.mapmaid.MapMaid.aMapMaid;
 import static de.quantummaid.mapmaid.testsupport.givenwhenthen.Given.given;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
 
 public final class UniversalTypeSpecs {
 
@@ -65,4 +69,20 @@ public final class UniversalTypeSpecs {
                 .noExceptionHasBeenThrown()
                 .theDeserializedObjectIs(null);
     }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void serializedUniversalObjectsAreMutableCopies() {
+        final MapMaid mapMaid = aMapMaid()
+                .serializing(AComplexTypeWithArray.class)
+                .build();
+        final Map<String, Object> serialized = (Map<String, Object>) mapMaid.serializeToUniversalObject(
+                AComplexTypeWithArray.deserialize(new ANumber[]{ANumber.fromInt(1), ANumber.fromInt(2)}),
+                AComplexTypeWithArray.class);
+        assertThat(serialized, is(Map.of("array", List.of("1", "2"))));
+        final List<Object> array = (List<Object>) serialized.get("array");
+        array.add("3");
+        serialized.put("other", "value");
+        assertThat(serialized, is(Map.of("array", List.of("1", "2", "3"), "other", "value")));
+    }
 }
@@ -103,6 +103,6 @@ public final class ChangingStructureSpecs {
                 ))
                 .withMarshallingType(JSON)
                 .noExceptionHasBeenThrown()
-                .theSerializationResultWas("{\"zip\":\"a\",\"number\":\"d\",\"city\":\"b\",\"street\":\"c\"}");
+                .theSerializationResultWas("{\"zip\":\"a\",\"city\":\"b\",\"street\":\"c\",\"number\":\"d\"}");
     }
 }
@@ -21,7 +21,9 @@
 
 package de.quantummaid.mapmaid.specs.polymorphy;
 
+import de.quantummaid.mapmaid.MapMaid;
 import de.quantummaid.mapmaid.domain.*;
+import de.quantummaid.mapmaid.mapper.serialization.tracker.CircularReferenceException;
 import de.quantummaid.mapmaid.polymorphy.MissingPolymorphicTypeFieldException;
 import de.quantummaid.mapmaid.polymorphy.UnknownPolymorphicSubtypeException;
 import de.quantummaid.reflectmaid.TypeToken;
@@ -32,12 +34,15 @@ import java.util.Map;
 
 import static de.quantummaid.mapmaid.MapMaid.aMapMaid;
 import static de.quantummaid.mapmaid.mapper.marshalling.MarshallingType.JSON;
+import static de.quantummaid.mapmaid.specs.polymorphy.LinkedSubtype.linkedSubtype;
 import static de.quantummaid.mapmaid.specs.polymorphy.PrimitiveSubtype.primitiveSubtype;
 import static de.quantummaid.mapmaid.testsupport.givenwhenthen.Given.given;
 import static de.quantummaid.reflectmaid.GenericType.genericType;
 import static java.util.Collections.emptyMap;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public final class PolymorphySpecs {
 
@@ -188,6 +193,51 @@ public final class PolymorphySpecs {
                 ));
     }
 
+    @Test
+    public void subtypesAreResolvedCorrectlyWhenSerializedAlternately() {
+        final MapMaid mapMaid = aMapMaid()
+                .serializingSubtypes(AnInterface.class, AnImplementation1.class, AnImplementation2.class)
+                .build();
+        for (int i = 0; i < 3; ++i) {
+            assertThat(mapMaid.serializeToUniversalObject(new AnImplementation1("a", "b"), AnInterface.class), equalTo(Map.of(
+                    "a", "a",
+                    "b", "b",
+                    "type", "de.quantummaid.mapmaid.domain.AnImplementation1"
+            )));
+            assertThat(mapMaid.serializeToUniversalObject(new AnImplementation2("c", "d"), AnInterface.class), equalTo(Map.of(
+                    "c", "c",
+                    "d", "d",
+                    "type", "de.quantummaid.mapmaid.domain.AnImplementation2"
+            )));
+        }
+    }
+
+    @Test
+    public void theTypeFieldComesFirst() {
+        given(
+                aMapMaid()
+                        .serializingSubtypes(AnInterface.class, AnImplementation1.class, AnImplementation2.class)
+                        .build()
+        )
+                .when().mapMaidSerializes(new AnImplementation1("foo", "bar"), AnInterface.class).withMarshallingType(JSON)
+                .theSerializationResultWas("{\"type\":\"de.quantummaid.mapmaid.domain.AnImplementation1\",\"a\":\"foo\",\"b\":\"bar\"}");
+    }
+
+    @Test
+    public void circularReferencesThroughPolymorphicTypesAreDetected() {
+        final LinkedSubtype first = linkedSubtype("a");
+        final LinkedSubtype second = linkedSubtype("b");
+        first.next = second;
+        second.next = first;
+        final MapMaid mapMaid = aMapMaid()
+                .serializingSubtypes(Supertype.class, LinkedSubtype.class)
+                .build();
+        final CircularReferenceException exception = assertThrows(CircularReferenceException.class,
+                () -> mapMaid.serializeToJson(first, Supertype.class));
+        assertThat(exception.getMessage(), containsString("a circular reference has been detected for objects " +
+                "of type de.quantummaid.mapmaid.specs.polymorphy.LinkedSubtype"));
+    }
+
     @Test
     public void serializationFailsAtBuildTimeIfTypeCannotBeDeterminedAtRuntime() {
         given(() ->